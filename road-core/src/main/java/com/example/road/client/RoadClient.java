@@ -0,0 +1,280 @@
+package com.example.road.client;
+
+import com.example.road.common.CircuitBreaker;
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.common.RoundRobinStrategy;
+import com.example.road.common.SnapshotLoadBalancer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * road 서버를 컨트롤 플레인으로 사용하여 프로세스 안에서 직접 서버를 선택하는 클라이언트입니다.
+ *
+ * <p>road 서버의 스냅샷 API로 건강한 서버 목록을 받아 로컬 {@link SnapshotLoadBalancer}에 적용하고,
+ * 이후에는 롱 폴링({@code GET /api/snapshot/poll})으로 멤버십이 바뀔 때만 갱신합니다.
+ * 선택은 네트워크 호출 없이 로컬 스냅샷에서 이루어지므로 요청마다 {@code /api/dispatch}를 호출하는 비용이 없습니다.
+ * 동기화가 실패하면 마지막 스냅샷으로 계속 선택하며, 재시도 대기 시간을 늘려 가며 전체 스냅샷부터 다시 받습니다.
+ * 롱 폴링에는 스냅샷의 에포크를 함께 보내므로, 요청 사이에 road 서버가 재시작되어 버전이 처음부터 다시 시작해도
+ * road 서버가 에포크 차이를 보고 바로 전체 스냅샷을 돌려줍니다.</p>
+ *
+ * <p>road 서버의 헬스 체크 결과에 더해, {@link #reportOutcome(RoadServer, boolean)}로 보고한 요청 결과로 서버별 로컬 서킷 브레이커를 운영합니다.
+ * 요청 수 제한, 슬로우 스타트, 드레이닝 대기처럼 road 서버가 전체 트래픽을 보고 판단하는 기능은 적용되지 않습니다
+ * (드레이닝 중인 서버는 스냅샷에서 빠지므로 새 선택만 멈춥니다).
+ * 이 클래스는 Spring에 의존하지 않으며 스레드에 안전합니다.</p>
+ */
+@Slf4j
+public class RoadClient implements AutoCloseable {
+
+    private final URI roadUrl;
+    private final RoadClientOptions options;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final SnapshotLoadBalancer<RoadServer> balancer;
+
+    // key: 서버 ID, value: 보고된 요청 결과로 상태가 바뀌는 로컬 서킷 브레이커
+    private final Map<Long, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    // 마지막으로 적용한 스냅샷 버전. -1이면 전체 스냅샷을 다시 받아야 합니다.
+    private volatile long version = -1;
+    // 마지막으로 적용한 스냅샷의 에포크. 이전 버전의 road 서버가 보낸 스냅샷이면 null.
+    private volatile String epoch;
+    // 마지막으로 적용한 스냅샷의 이 풀 서버 목록
+    private volatile List<RoadServer> servers = List.of();
+    private volatile boolean running;
+    private Thread syncThread;
+
+    /**
+     * 기본 설정과 라운드 로빈 전략으로 클라이언트를 만듭니다.
+     * @param roadUrl road 서버의 기본 URL (예: {@code http://road:8080})
+     */
+    public RoadClient(URI roadUrl) {
+        this(roadUrl, new RoadClientOptions());
+    }
+
+    /**
+     * 라운드 로빈 전략으로 클라이언트를 만듭니다.
+     * @param roadUrl road 서버의 기본 URL
+     * @param options 클라이언트 설정
+     */
+    public RoadClient(URI roadUrl, RoadClientOptions options) {
+        this(roadUrl, options, new RoundRobinStrategy<>());
+    }
+
+    /**
+     * @param roadUrl road 서버의 기본 URL
+     * @param options 클라이언트 설정
+     * @param strategy 선택 전략 (이 클라이언트 전용 인스턴스)
+     */
+    public RoadClient(URI roadUrl, RoadClientOptions options, LoadBalancingStrategy<RoadServer> strategy) {
+        this.roadUrl = roadUrl;
+        this.options = options;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(options.getConnectTimeoutMs()))
+                .build();
+        // 선택은 로컬 스냅샷에서만 이루어지므로 빈 스냅샷을 기다리지 않습니다 (타임아웃 0).
+        this.balancer = new SnapshotLoadBalancer<>("RoadClient[" + options.getPool() + "]", 0, RoadServer::isActive, strategy);
+        this.balancer.setSelectionFilter(this::isSelectable);
+    }
+
+    /**
+     * 전체 스냅샷을 한 번 받아 적용한 뒤, 백그라운드 가상 스레드에서 변경을 계속 동기화합니다.
+     * 첫 동기화가 실패해도 예외를 던지지 않으며, 백그라운드에서 다시 시도합니다.
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        try {
+            syncOnce();
+        } catch (IOException | RuntimeException e) {
+            log.warn("road 서버({})에서 스냅샷을 받지 못했습니다. 백그라운드에서 다시 시도합니다: {}", roadUrl, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        syncThread = Thread.ofVirtual().name("road-client-sync").start(this::syncLoop);
+    }
+
+    /**
+     * 다음 서버를 선택합니다. 네트워크 호출이나 대기 없이 로컬 스냅샷에서 선택합니다.
+     * @return 선택된 서버. 선택 가능한 서버가 없으면 빈 Optional.
+     */
+    public Optional<RoadServer> pick() {
+        return pick(server -> true);
+    }
+
+    /**
+     * 다음 서버를 선택하되, 이번 선택에만 적용할 조건을 추가로 검사합니다 (예: 재시도에서 이미 시도한 서버 제외).
+     * @param extraFilter 이번 선택에만 적용할 조건
+     * @return 선택된 서버. 선택 가능한 서버가 없으면 빈 Optional.
+     */
+    public Optional<RoadServer> pick(Predicate<RoadServer> extraFilter) {
+        try {
+            return balancer.next(extraFilter);
+        } catch (InterruptedException e) { // 타임아웃이 0이므로 대기하지 않지만, 인터럽트 상태는 보존합니다.
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 선택한 서버로 보낸 요청의 결과를 로컬 서킷 브레이커와 선택 전략에 기록합니다.
+     * 서킷이 HALF_OPEN이면 선택마다 시험 요청 허용을 사용하므로, 선택한 서버의 결과는 모두 보고해야 합니다.
+     *
+     * @param server 요청을 보낸 서버
+     * @param success 요청 성공 여부
+     */
+    public void reportOutcome(RoadServer server, boolean success) {
+        reportOutcome(server, success, -1);
+    }
+
+    /**
+     * 선택한 서버로 보낸 요청의 결과와 지연 시간을 로컬 서킷 브레이커와 선택 전략에 기록합니다.
+     *
+     * @param server 요청을 보낸 서버
+     * @param success 요청 성공 여부
+     * @param latencyNanos 요청 지연 시간 (나노초). 알 수 없으면 -1.
+     */
+    public void reportOutcome(RoadServer server, boolean success, long latencyNanos) {
+        CircuitBreaker breaker = circuitBreakers.computeIfAbsent(server.getId(), id -> new CircuitBreaker(
+                options.getFailureThreshold(), options.getOpenDurationMs(), options.getHalfOpenTrialCalls()));
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+        balancer.getStrategy().onOutcome(server, success, latencyNanos);
+    }
+
+    /**
+     * 마지막으로 적용한 스냅샷 버전을 반환합니다. 아직 스냅샷을 받지 못했으면 -1.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 마지막으로 적용한 스냅샷의 에포크를 반환합니다. 아직 스냅샷을 받지 못했으면 null.
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 마지막으로 적용한 스냅샷에서 이 풀의 서버 목록을 반환합니다.
+     */
+    public List<RoadServer> getServers() {
+        return servers;
+    }
+
+    /**
+     * 서버의 로컬 서킷 브레이커 상태를 반환합니다. 보고된 결과가 없으면 CLOSED.
+     * @param serverId 서버 ID
+     */
+    public CircuitBreaker.State circuitStateOf(Long serverId) {
+        CircuitBreaker breaker = circuitBreakers.get(serverId);
+        return breaker != null ? breaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * 백그라운드 동기화를 멈춥니다. 마지막 스냅샷으로는 계속 선택할 수 있습니다.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (syncThread != null) {
+            syncThread.interrupt();
+            syncThread = null;
+        }
+    }
+
+    private boolean isSelectable(RoadServer server) {
+        CircuitBreaker breaker = circuitBreakers.get(server.getId());
+        return breaker == null || breaker.tryAcquirePermission();
+    }
+
+    // 실패하면 재시도 대기 시간을 두 배씩 늘리며, 성공하면 처음 값으로 되돌립니다.
+    private void syncLoop() {
+        long backoffMs = options.getRetryBackoffMs();
+        while (running) {
+            try {
+                syncOnce();
+                backoffMs = options.getRetryBackoffMs();
+            } catch (InterruptedException e) {
+                return; // close()
+            } catch (IOException | RuntimeException e) {
+                version = -1; // road 서버가 재시작되었을 수 있으므로 전체 스냅샷부터 다시 받습니다.
+                log.warn("road 서버({}) 스냅샷 동기화에 실패했습니다. {}ms 후 다시 시도합니다: {}", roadUrl, backoffMs, e.getMessage());
+                try {
+                    Thread.sleep(backoffMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, options.getMaxRetryBackoffMs());
+            }
+        }
+    }
+
+    // 스냅샷이 없으면 전체 스냅샷을, 있으면 그보다 새로운 스냅샷을 롱 폴링으로 받아 적용합니다.
+    private void syncOnce() throws IOException, InterruptedException {
+        long current = version;
+        String currentEpoch = epoch;
+        HttpRequest request;
+        if (current < 0) {
+            request = HttpRequest.newBuilder(roadUrl.resolve("/api/snapshot"))
+                    .timeout(Duration.ofMillis(options.getConnectTimeoutMs() + options.getPollTimeoutMs()))
+                    .GET()
+                    .build();
+        } else {
+            String epochParam = currentEpoch != null ? "&epoch=" + URLEncoder.encode(currentEpoch, StandardCharsets.UTF_8) : "";
+            request = HttpRequest.newBuilder(roadUrl.resolve("/api/snapshot/poll?version=" + current + epochParam + "&timeoutMs=" + options.getPollTimeoutMs()))
+                    // 서버가 대기 시간을 모두 채운 뒤 304로 응답할 때까지 기다립니다.
+                    .timeout(Duration.ofMillis(options.getConnectTimeoutMs() * 2 + options.getPollTimeoutMs()))
+                    .GET()
+                    .build();
+        }
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() == 304) {
+            return;
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("예상하지 못한 응답 상태 코드: " + response.statusCode());
+        }
+        apply(objectMapper.readValue(response.body(), RoadSnapshot.class));
+    }
+
+    private void apply(RoadSnapshot snapshot) {
+        List<RoadServer> poolServers = snapshot.getServers() == null ? List.of() : snapshot.getServers().stream()
+                .filter(server -> options.getPool().equals(server.getPool()))
+                .toList();
+        if (epoch != null && !epoch.equals(snapshot.getEpoch())) {
+            log.info("road 서버({})의 에포크가 바뀌어 전체 스냅샷을 다시 적용합니다. 버전 {} -> {}", roadUrl, version, snapshot.getVersion());
+        }
+        balancer.refreshItems(poolServers);
+        servers = poolServers;
+        epoch = snapshot.getEpoch();
+        version = snapshot.getVersion();
+        // 스냅샷에서 빠진 서버의 로컬 서킷 브레이커는 정리합니다 (다시 추가되면 CLOSED에서 시작).
+        Set<Long> ids = poolServers.stream().map(RoadServer::getId).collect(Collectors.toSet());
+        circuitBreakers.keySet().removeIf(id -> !ids.contains(id));
+        log.debug("road 스냅샷 버전 {}을(를) 적용했습니다. 풀 '{}' 서버 {}개", snapshot.getVersion(), options.getPool(), poolServers.size());
+    }
+}
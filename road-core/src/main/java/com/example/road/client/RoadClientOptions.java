@@ -0,0 +1,28 @@
+package com.example.road.client;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * {@link RoadClient} 설정입니다. 기본값은 road 서버의 기본 설정과 맞춥니다.
+ */
+@Getter
+@Setter
+public class RoadClientOptions {
+    // 서버를 선택할 풀
+    private String pool = "default";
+    // 롱 폴링 한 번의 최대 대기 시간 (밀리초). road 서버의 road.snapshot.max-poll-timeout-ms를 넘으면 서버 값으로 제한됩니다.
+    private long pollTimeoutMs = 30000;
+    // road 서버 연결 타임아웃 (밀리초)
+    private long connectTimeoutMs = 2000;
+    // 동기화 실패 후 다시 시도하기까지의 첫 대기 시간 (밀리초). 실패가 이어지면 두 배씩 늘립니다.
+    private long retryBackoffMs = 500;
+    // 동기화 재시도 대기 시간의 상한 (밀리초)
+    private long maxRetryBackoffMs = 30000;
+    // 서버별 로컬 서킷을 여는 연속 실패 수 (reportOutcome으로 보고된 결과 기준)
+    private int failureThreshold = 5;
+    // 로컬 서킷이 열린 뒤 시험 요청을 허용하기까지의 시간 (밀리초)
+    private long openDurationMs = 10000;
+    // HALF_OPEN 상태에서 허용하는 시험 요청 수
+    private int halfOpenTrialCalls = 3;
+}
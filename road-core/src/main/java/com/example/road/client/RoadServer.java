@@ -0,0 +1,29 @@
+package com.example.road.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * road 서버의 스냅샷 API({@code /api/snapshot})가 내려주는 서버 정보 중 클라이언트 측 선택에 필요한 필드입니다.
+ * 헬스 체크 설정처럼 선택에 쓰이지 않는 필드는 무시합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RoadServer {
+    // 서버 ID
+    private Long id;
+    // 서버 이름
+    private String name;
+    // 서버 URL
+    private String url;
+    // 활성 여부
+    private boolean active;
+    // 서버가 속한 풀
+    private String pool;
+    // 서버가 위치한 가용 영역 (없으면 null)
+    private String zone;
+}
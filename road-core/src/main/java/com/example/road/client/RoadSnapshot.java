@@ -0,0 +1,26 @@
+package com.example.road.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * road 서버의 건강 서버 스냅샷입니다 ({@code GET /api/snapshot}, {@code GET /api/snapshot/poll}의 응답 본문).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RoadSnapshot {
+    // 스냅샷을 만든 road 프로세스의 에포크. road 서버가 재시작되면 바뀝니다.
+    private String epoch;
+    // 스냅샷 버전 (멤버십 변경 시마다 1씩 증가)
+    private long version;
+    // 스냅샷이 생성된 시각 (epoch millis)
+    private long timestamp;
+    // 모든 풀의 건강한 서버 목록
+    private List<RoadServer> servers;
+}
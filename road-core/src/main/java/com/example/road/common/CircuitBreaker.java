@@ -0,0 +1,204 @@
+package com.example.road.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 요청 결과로 상태가 바뀌는 락 프리 서킷 브레이커입니다.
+ *
+ * <ul>
+ *     <li>{@link State#CLOSED}: 모든 요청을 허용합니다. 연속 실패가 {@code failureThreshold}에 도달하면 OPEN으로 전환합니다.</li>
+ *     <li>{@link State#OPEN}: 모든 요청을 거부합니다. {@code openDurationMillis}가 지나면 HALF_OPEN으로 전환합니다.</li>
+ *     <li>{@link State#HALF_OPEN}: 최대 {@code halfOpenTrialCalls}개의 시험 요청만 허용합니다. 시험 요청이 모두 성공하면 CLOSED로,
+ *     하나라도 실패하면 다시 OPEN으로 전환합니다. 결과가 보고되지 않은 시험 요청(취소되었거나 결과를 잃어버린 요청)이 허용을 계속
+ *     차지하지 않도록, HALF_OPEN이 된 지 {@code openDurationMillis}가 지나도록 결과가 나지 않으면 시험 요청 허용을 새로 시작합니다.</li>
+ * </ul>
+ *
+ * <p>능동 헬스 체크가 성공하면 {@link #onHealthyProbe()}로 알려, 시험 요청을 기다리는 서킷을 바로 닫을 수 있습니다.</p>
+ *
+ * <p>상태 전환을 알아야 하는 쪽(예: 조회 결과의 캐시 버전)은 생성자에 전환 리스너를 넘길 수 있습니다. 리스너는 상태 CAS에 성공한
+ * 스레드에서 전환마다 한 번 호출되므로, 가볍고 블로킹하지 않아야 합니다.</p>
+ *
+ * <p>{@link #tryAcquirePermission()}는 선택 경로에서 호출되므로 CLOSED 상태에서는 volatile 읽기 한 번으로 끝나며,
+ * 상태 전환도 CAS로만 수행하여 락이나 할당이 없습니다. 이 클래스는 스레드에 안전합니다.</p>
+ */
+public class CircuitBreaker {
+
+    /**
+     * 서킷 브레이커 상태
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenTrialCalls;
+    private final Runnable onTransition;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    // CLOSED 상태의 연속 실패 수
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // OPEN 상태로 전환된 시각 (System.nanoTime)
+    private final AtomicLong openedAtNanos = new AtomicLong();
+    // 현재 시험 요청 허용을 시작한 시각 (System.nanoTime). HALF_OPEN 전환 또는 시험 요청 허용을 새로 시작할 때 갱신합니다.
+    private final AtomicLong trialStartedAtNanos = new AtomicLong();
+    // HALF_OPEN 상태에서 허용한 시험 요청 수와 성공한 시험 요청 수
+    private final AtomicInteger trialPermits = new AtomicInteger();
+    private final AtomicInteger trialSuccesses = new AtomicInteger();
+
+    /**
+     * @param failureThreshold OPEN으로 전환되는 연속 실패 수 (1 이상)
+     * @param openDurationMillis OPEN 상태를 유지하는 시간 (밀리초)
+     * @param halfOpenTrialCalls HALF_OPEN 상태에서 허용하는 시험 요청 수 (1 이상)
+     */
+    public CircuitBreaker(int failureThreshold, long openDurationMillis, int halfOpenTrialCalls) {
+        this(failureThreshold, openDurationMillis, halfOpenTrialCalls, () -> { });
+    }
+
+    /**
+     * @param failureThreshold OPEN으로 전환되는 연속 실패 수 (1 이상)
+     * @param openDurationMillis OPEN 상태를 유지하는 시간 (밀리초)
+     * @param halfOpenTrialCalls HALF_OPEN 상태에서 허용하는 시험 요청 수 (1 이상)
+     * @param onTransition 상태가 바뀔 때마다 호출되는 리스너
+     */
+    public CircuitBreaker(int failureThreshold, long openDurationMillis, int halfOpenTrialCalls, Runnable onTransition) {
+        if (failureThreshold < 1 || halfOpenTrialCalls < 1) {
+            throw new IllegalArgumentException("failureThreshold와 halfOpenTrialCalls는 1 이상이어야 합니다.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMillis);
+        this.halfOpenTrialCalls = halfOpenTrialCalls;
+        this.onTransition = onTransition;
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인합니다. HALF_OPEN 상태에서는 시험 요청 허용 수를 하나 사용합니다.
+     * 허용을 모두 사용한 채 {@code openDurationMillis}가 지나면, 보고되지 않은 시험 요청의 허용을 버리고 새로 시작합니다.
+     * @return 요청을 보내도 되면 true
+     */
+    public boolean tryAcquirePermission() {
+        return tryAcquirePermission(System.nanoTime());
+    }
+
+    boolean tryAcquirePermission(long nowNanos) {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (nowNanos - openedAtNanos.get() < openDurationNanos) {
+                return false;
+            }
+            trialStartedAtNanos.set(nowNanos); // 다른 스레드가 먼저 전환했더라도 거의 같은 시각이므로 덮어써도 됩니다.
+            if (state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+                onTransition.run();
+            }
+            current = state.get();
+        }
+        if (current != State.HALF_OPEN) {
+            return current == State.CLOSED;
+        }
+        if (trialPermits.incrementAndGet() <= halfOpenTrialCalls) {
+            return true;
+        }
+        trialPermits.decrementAndGet();
+        return restartTrialsIfExpired(nowNanos);
+    }
+
+    // 시험 요청 허용을 모두 사용한 지 오래되었으면 허용을 새로 시작하고, 호출한 요청이 첫 허용을 사용합니다.
+    // 시작 시각의 CAS에 성공한 스레드 하나만 새로 시작하므로, 동시에 만료를 발견해도 허용이 한 번만 초기화됩니다.
+    private boolean restartTrialsIfExpired(long nowNanos) {
+        long startedAt = trialStartedAtNanos.get();
+        if (state.get() != State.HALF_OPEN || nowNanos - startedAt < openDurationNanos || !trialStartedAtNanos.compareAndSet(startedAt, nowNanos)) {
+            return false;
+        }
+        trialSuccesses.set(0);
+        trialPermits.set(1);
+        return true;
+    }
+
+    /**
+     * {@link #tryAcquirePermission()}로 얻은 허용을 요청을 보내지 않고 반납합니다 (예: 다른 조건으로 선택이 취소된 경우).
+     */
+    public void releasePermission() {
+        if (state.get() == State.HALF_OPEN) {
+            trialPermits.updateAndGet(permits -> Math.max(0, permits - 1));
+        }
+    }
+
+    /**
+     * 요청 성공을 기록합니다.
+     */
+    public void onSuccess() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            if (consecutiveFailures.get() != 0) {
+                consecutiveFailures.set(0);
+            }
+        } else if (current == State.HALF_OPEN && trialSuccesses.incrementAndGet() >= halfOpenTrialCalls) {
+            if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                consecutiveFailures.set(0);
+                onTransition.run();
+            }
+        }
+    }
+
+    /**
+     * 능동 헬스 체크가 성공했음을 기록합니다.
+     * HALF_OPEN이거나 OPEN 유지 시간이 지난 OPEN 상태이면 시험 요청을 기다리지 않고 CLOSED로 전환합니다.
+     * OPEN 유지 시간 안에는 요청 실패가 헬스 체크보다 구체적인 신호이므로 상태를 바꾸지 않습니다.
+     */
+    public void onHealthyProbe() {
+        onHealthyProbe(System.nanoTime());
+    }
+
+    void onHealthyProbe(long nowNanos) {
+        State current = state.get();
+        if (current == State.CLOSED || (current == State.OPEN && nowNanos - openedAtNanos.get() < openDurationNanos)) {
+            return;
+        }
+        if (state.compareAndSet(current, State.CLOSED)) {
+            consecutiveFailures.set(0);
+            onTransition.run();
+        }
+    }
+
+    /**
+     * 요청 실패를 기록합니다.
+     */
+    public void onFailure() {
+        onFailure(System.nanoTime());
+    }
+
+    void onFailure(long nowNanos) {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+                transitionToOpen(State.CLOSED, nowNanos);
+            }
+        } else if (current == State.HALF_OPEN) {
+            transitionToOpen(State.HALF_OPEN, nowNanos);
+        }
+    }
+
+    /**
+     * 현재 상태를 반환합니다. OPEN 유지 시간이 지났더라도 다음 요청 허용 확인 전까지는 OPEN으로 표시됩니다.
+     * @return 현재 상태
+     */
+    public State getState() {
+        return state.get();
+    }
+
+    // 시험 요청 집계는 OPEN으로 전환할 때 초기화하여, HALF_OPEN 전환 직후에는 이미 0인 상태가 되도록 합니다.
+    private void transitionToOpen(State from, long nowNanos) {
+        openedAtNanos.set(nowNanos);
+        trialPermits.set(0);
+        trialSuccesses.set(0);
+        if (state.compareAndSet(from, State.OPEN)) {
+            onTransition.run();
+        }
+    }
+}
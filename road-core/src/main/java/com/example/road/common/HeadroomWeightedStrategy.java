@@ -0,0 +1,210 @@
+package com.example.road.common;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * 아이템의 여유 용량(headroom)에 비례하는 확률로 고르는 가중 무작위 선택 전략입니다.
+ *
+ * <p>여유 용량은 선택마다 읽지 않고, 스냅샷이 교체될 때({@link #onRefresh(List)})와 아이템이 부하를 보고할 때({@link #onLoadReport(Object)})
+ * {@code headroom} 함수로 읽어 가중치 배열로 미리 계산해 둡니다. 따라서 보고 경과에 따른 감쇠({@link LoadHeadroom})는 다음 새로고침이나 보고 때 반영되며,
+ * 선택은 발행된 가중치 배열만 읽으므로 락을 잡거나 배열을 할당하지 않습니다. 가중치는 {@code minWeight} 아래로 내려가지 않아
+ * 여유가 없다고 보고한 아이템도 완전히 제외되지는 않습니다.</p>
+ *
+ * <p>부하 보고는 주기적으로만 오므로, 보고된 여유 용량만으로 고르면 보고 사이에 가장 한가하다고 보고한 아이템으로 요청이 몰렸다가
+ * 다음 보고에서 다른 아이템으로 몰리기를 반복합니다. 이를 막기 위해 이 전략으로 고른 뒤 결과({@link #onOutcome})가 아직 오지 않은 요청 수를
+ * 아이템별로 세어, 가중치를 {@code 1 + 처리 중인 요청 수 / pendingScale}로 나눕니다. 보고된 부하에도 같은 요청이 들어 있어 두 번 세게 되지만,
+ * 보고 때 수를 되돌리면 그 전에 고른 요청의 결과가 나중에 도착하여 수가 실제보다 작아지므로 보수적인 쪽을 택합니다.
+ * 수는 스냅샷이 교체될 때(주기적인 스윕마다)만 모두 0에서 다시 시작하므로, 결과가 보고되지 않은 요청도 다음 새로고침까지만 가중치를 낮춥니다.</p>
+ *
+ * <p>고른 후보가 적격하지 않으면 그 후보를 빼고 남은 가중치로 다시 고르므로, 한 선택에서 한 후보에 적격성을 두 번 묻지 않습니다.
+ * 아이템이 {@value Long#SIZE}개보다 많으면 제외한 후보를 비트로 기록할 수 없으므로, 그 뒤로는 거절된 후보 다음부터 순서대로 묻습니다.</p>
+ *
+ * @param <T> 로드 밸런싱 대상 객체의 타입
+ */
+public class HeadroomWeightedStrategy<T> implements LoadBalancingStrategy<T> {
+
+    public static final String NAME = "headroom";
+
+    private final ToDoubleFunction<T> headroom;
+    private final double minWeight;
+    private final double pendingScale;
+    private final Supplier<? extends RandomGenerator> random;
+
+    // 마지막으로 발행한 스냅샷과 가중치. 선택은 이 참조 하나만 읽습니다.
+    private volatile Weights<T> weights;
+
+    /**
+     * @param headroom 아이템의 현재 여유 용량 (0 이상 1 이하)을 반환하는 함수. 새로고침과 부하 보고 때만 호출됩니다.
+     * @param minWeight 최소 가중치 (0 초과)
+     * @param pendingScale 가중치를 절반으로 줄이는 처리 중인 요청 수 (0 초과)
+     */
+    public HeadroomWeightedStrategy(ToDoubleFunction<T> headroom, double minWeight, double pendingScale) {
+        this(headroom, minWeight, pendingScale, ThreadLocalRandom::current);
+    }
+
+    /**
+     * 선택에 사용할 난수 생성기를 지정합니다. 시뮬레이터처럼 시드로 결과를 재현해야 할 때 사용합니다.
+     *
+     * @param headroom 아이템의 현재 여유 용량 (0 이상 1 이하)을 반환하는 함수
+     * @param minWeight 최소 가중치 (0 초과)
+     * @param pendingScale 가중치를 절반으로 줄이는 처리 중인 요청 수 (0 초과)
+     * @param random 선택마다 호출되는 난수 생성기 공급자. 스레드에 안전하지 않은 생성기를 반환하면 한 스레드에서만 선택해야 합니다.
+     */
+    public HeadroomWeightedStrategy(ToDoubleFunction<T> headroom, double minWeight, double pendingScale,
+                                    Supplier<? extends RandomGenerator> random) {
+        if (minWeight <= 0) {
+            throw new IllegalArgumentException("최소 가중치는 0보다 커야 합니다: " + minWeight);
+        }
+        if (pendingScale <= 0) {
+            throw new IllegalArgumentException("pendingScale은 0보다 커야 합니다: " + pendingScale);
+        }
+        this.headroom = headroom;
+        this.minWeight = minWeight;
+        this.pendingScale = pendingScale;
+        this.random = random;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Optional<T> pick(List<T> snapshot, Predicate<T> eligible) {
+        Weights<T> current = weights;
+        // 발행되지 않은 스냅샷(새로고침과 겹친 선택)은 가중치 없이 균등하게 고릅니다.
+        Weights<T> published = current != null && current.snapshot == snapshot ? current : null;
+        int size = snapshot.size();
+        RandomGenerator generator = random.get();
+        long rejected = 0;
+        int chosen = draw(published, size, rejected, generator);
+        while (true) {
+            T candidate = snapshot.get(chosen);
+            if (eligible.test(candidate)) {
+                if (published != null) {
+                    published.pending.incrementAndGet(chosen);
+                }
+                return Optional.of(candidate);
+            }
+            if (size > Long.SIZE) {
+                return scanAfter(snapshot, published, chosen, eligible);
+            }
+            rejected |= 1L << chosen;
+            if (Long.bitCount(rejected) == size) {
+                return Optional.empty();
+            }
+            chosen = draw(published, size, rejected, generator);
+        }
+    }
+
+    @Override
+    public synchronized void onRefresh(List<T> snapshot) {
+        double[] base = new double[snapshot.size()];
+        for (int i = 0; i < base.length; i++) {
+            base[i] = weightOf(snapshot.get(i));
+        }
+        weights = new Weights<>(snapshot, base, new AtomicIntegerArray(base.length));
+    }
+
+    /**
+     * 아이템의 가중치를 새로 보고된 여유 용량으로 다시 계산합니다. 처리 중인 요청 수는 그대로 둡니다.
+     * 가중치 배열은 복사하여 교체하므로 진행 중인 선택에는 영향을 주지 않습니다.
+     */
+    @Override
+    public synchronized void onLoadReport(T item) {
+        Weights<T> current = weights;
+        if (current == null) {
+            return;
+        }
+        int index = current.snapshot.indexOf(item);
+        if (index < 0) {
+            return;
+        }
+        double[] base = current.base.clone();
+        base[index] = weightOf(current.snapshot.get(index));
+        weights = new Weights<>(current.snapshot, base, current.pending);
+    }
+
+    @Override
+    public void onOutcome(T item, boolean success, long latencyNanos) {
+        Weights<T> current = weights;
+        if (current == null) {
+            return;
+        }
+        int index = current.snapshot.indexOf(item);
+        if (index < 0) {
+            return;
+        }
+        // 이전 스냅샷에서 고른 요청의 결과가 새로고침 뒤에 도착해도 음수로 세지 않습니다.
+        int pending;
+        do {
+            pending = current.pending.get(index);
+        } while (pending > 0 && !current.pending.compareAndSet(index, pending, pending - 1));
+    }
+
+    private double weightOf(T item) {
+        return Math.max(minWeight, headroom.applyAsDouble(item));
+    }
+
+    // 처리 중인 요청 수로 낮춘 현재 가중치. 발행된 가중치가 없으면 모든 아이템이 같은 가중치입니다.
+    private double effectiveWeight(Weights<T> published, int index) {
+        if (published == null) {
+            return 1.0;
+        }
+        return published.base[index] / (1.0 + published.pending.get(index) / pendingScale);
+    }
+
+    // 제외하지 않은 아이템 중 현재 가중치에 비례하여 하나를 고릅니다. 부동소수점 오차로 끝까지 넘지 않으면 제외하지 않은 마지막 위치를 반환합니다.
+    private int draw(Weights<T> published, int size, long rejected, RandomGenerator generator) {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            if (!isRejected(rejected, i)) {
+                total += effectiveWeight(published, i);
+            }
+        }
+        double target = generator.nextDouble() * total;
+        int last = -1;
+        for (int i = 0; i < size; i++) {
+            if (!isRejected(rejected, i)) {
+                last = i;
+                target -= effectiveWeight(published, i);
+                if (target < 0) {
+                    return i;
+                }
+            }
+        }
+        return last;
+    }
+
+    private Optional<T> scanAfter(List<T> snapshot, Weights<T> published, int rejectedIndex, Predicate<T> eligible) {
+        int size = snapshot.size();
+        for (int offset = 1; offset < size; offset++) {
+            int index = (rejectedIndex + offset) % size;
+            T candidate = snapshot.get(index);
+            if (eligible.test(candidate)) {
+                if (published != null) {
+                    published.pending.incrementAndGet(index);
+                }
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isRejected(long rejected, int index) {
+        return index < Long.SIZE && (rejected & (1L << index)) != 0;
+    }
+
+    /**
+     * 스냅샷과 함께 발행하는 가중치입니다. {@code base}는 발행 후 바꾸지 않으며, {@code pending}은 같은 스냅샷의 가중치끼리 공유합니다.
+     */
+    private record Weights<T>(List<T> snapshot, double[] base, AtomicIntegerArray pending) {
+    }
+}
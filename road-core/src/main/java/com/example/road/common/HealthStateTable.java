@@ -0,0 +1,501 @@
+package com.example.road.common;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+
+/**
+ * 기본형 long ID를 키로 하는 헬스 상태 테이블입니다.
+ *
+ * <p>상태는 구조체 배열이 아니라 필드별 배열(struct-of-arrays)에 빈틈없이 저장되며, ID에서 배열 위치로의 색인은
+ * 선형 탐사 개방 주소법 해시 테이블({@code long[]} 키, {@code int[]} 위치)로 찾습니다. 헬스 체크 결과 기록은 제자리에서 배열 값만 바꾸므로
+ * ID 박싱이나 상태 객체 할당이 없으며, 할당은 용량을 늘릴 때만 일어납니다. 삭제는 마지막 항목을 빈자리로 옮기므로 순회 순서는 보장하지 않습니다.</p>
+ *
+ * <p>항목이 보고한 부하(CPU 사용률, 대기열 길이, 처리 중인 요청 수)와 그 여유 용량, 보고 시각도 같은 방식으로 저장합니다 ({@link #recordLoad}).
+ * 부하 보고는 헬스 체크 결과를 기록해도 지워지지 않으며, 보고 경과에 따른 감쇠는 읽을 때 {@link LoadHeadroom}으로 계산합니다.</p>
+ *
+ * <p>내용을 바꾸는 모든 쓰기(기록, 부하 보고, 제거, 비우기)는 버전({@link #version()})을 1씩 올립니다.
+ * 조회 결과를 캐시하는 쪽은 버전이 같으면 테이블 내용도 같다고 볼 수 있습니다. 부하 보고를 제외한 쓰기(기록, 제거, 비우기)는
+ * 상태 버전({@link #statusVersion()})도 올리므로, 부하 필드를 쓰지 않는 조회는 상태 버전으로 캐시하여 부하 보고마다 무효화되지 않게 할 수 있습니다.</p>
+ *
+ * <p>읽기와 쓰기는 {@link ReentrantReadWriteLock}으로 보호됩니다. {@link #forEach(Consumer)}에 전달되는 {@link Cursor}는
+ * 순회 동안 재사용되므로 순회 밖으로 보관하면 안 되며, 방문 함수에서 이 테이블을 변경하면 안 됩니다.</p>
+ *
+ * @param <T> 항목 타입 (예: 서버 인스턴스)
+ */
+public class HealthStateTable<T> {
+
+    /** {@link #record}의 반환값: 기록 전에 이미 항목이 있었음 */
+    public static final int EXISTED = 1;
+    /** {@link #record}의 반환값: 기록 전 상태가 정상이었음 */
+    public static final int WAS_HEALTHY = 1 << 1;
+    /** {@link #record}의 반환값: 기록 전 항목과 정보가 달라졌음 */
+    public static final int ITEM_CHANGED = 1 << 2;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private final BiPredicate<T, T> sameItem;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ID → 배열 위치 색인 (용량은 2의 거듭제곱, 사용률 50% 이하). indexSlots 값은 위치 + 1이며 0은 빈 칸입니다.
+    private long[] indexKeys = new long[MIN_CAPACITY * 2];
+    private int[] indexSlots = new int[MIN_CAPACITY * 2];
+
+    // 필드별 배열. [0, size) 구간만 유효합니다.
+    private long[] ids = new long[MIN_CAPACITY];
+    private Object[] items = new Object[MIN_CAPACITY];
+    private boolean[] healthy = new boolean[MIN_CAPACITY];
+    private long[] lastCheckedMillis = new long[MIN_CAPACITY];
+    // 마지막 직접 헬스 체크의 지연 시간 (마이크로초). 직접 헬스 체크한 적이 없으면 -1
+    private int[] latencyMicros = new int[MIN_CAPACITY];
+    private int[] successCounts = new int[MIN_CAPACITY];
+    private int[] failureCounts = new int[MIN_CAPACITY];
+    // 마지막 부하 보고. 보고 시각이 0이면 보고가 없으며, CPU 사용률이 NaN이면 CPU 사용률은 보고되지 않았습니다.
+    private float[] loadCpuUtilizations = new float[MIN_CAPACITY];
+    private int[] loadQueueDepths = new int[MIN_CAPACITY];
+    private int[] loadInFlights = new int[MIN_CAPACITY];
+    private float[] loadHeadrooms = new float[MIN_CAPACITY];
+    private long[] loadReportedAtMillis = new long[MIN_CAPACITY];
+    private int size;
+    // 쓰기마다 증가하는 버전 (쓰기 락 안에서만 증가하며, 락 없이 읽을 수 있도록 volatile)
+    private volatile long version;
+    // 부하 보고를 제외한 쓰기마다 증가하는 버전 (항목 구성과 헬스 체크 결과)
+    private volatile long statusVersion;
+
+    /**
+     * @param sameItem 기록할 항목이 기존 항목과 같은 정보인지 비교하는 함수 ({@link #ITEM_CHANGED} 판단용)
+     */
+    public HealthStateTable(BiPredicate<T, T> sameItem) {
+        this.sameItem = sameItem;
+    }
+
+    /**
+     * 헬스 체크 결과를 기록합니다. 없는 ID면 추가하고, 있으면 제자리에서 갱신합니다.
+     *
+     * @param id 항목 ID
+     * @param item 항목 (정보가 바뀌었을 수 있으므로 항상 교체합니다)
+     * @param isHealthy 정상 여부
+     * @param checkedAtMillis 확인 시각 (epoch 밀리초)
+     * @param latencyNanos 직접 헬스 체크한 지연 시간 (나노초). 음수면 다른 노드의 결과나 복원된 결과로 보고 지연 시간과 횟수를 갱신하지 않습니다.
+     * @return 기록 전 상태 ({@link #EXISTED}, {@link #WAS_HEALTHY}, {@link #ITEM_CHANGED}의 조합). 새 항목이면 0.
+     */
+    @SuppressWarnings("unchecked")
+    public int record(long id, T item, boolean isHealthy, long checkedAtMillis, long latencyNanos) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(id);
+            int previous = 0;
+            if (slot < 0) {
+                slot = append(id);
+            } else {
+                previous = EXISTED | (healthy[slot] ? WAS_HEALTHY : 0) | (sameItem.test((T) items[slot], item) ? 0 : ITEM_CHANGED);
+            }
+            items[slot] = item;
+            healthy[slot] = isHealthy;
+            lastCheckedMillis[slot] = checkedAtMillis;
+            if (latencyNanos >= 0) {
+                latencyMicros[slot] = (int) Math.min(Integer.MAX_VALUE, latencyNanos / 1000);
+                if (isHealthy) {
+                    successCounts[slot]++;
+                } else {
+                    failureCounts[slot]++;
+                }
+            }
+            version++;
+            statusVersion++;
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 항목이 보고한 부하를 기록합니다. 추적 중이 아닌 ID의 보고는 기록하지 않습니다.
+     *
+     * @param id 항목 ID
+     * @param cpuUtilization CPU 사용률. 보고되지 않았으면 {@link Float#NaN}.
+     * @param queueDepth 대기열 길이
+     * @param inFlight 처리 중인 요청 수
+     * @param headroom 보고 시점의 여유 용량 ({@link LoadHeadroom#headroom})
+     * @param reportedAtMillis 보고 시각 (epoch 밀리초, 0 초과)
+     * @return 기록했으면 true, 추적 중이 아닌 ID면 false
+     */
+    public boolean recordLoad(long id, float cpuUtilization, int queueDepth, int inFlight, float headroom, long reportedAtMillis) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(id);
+            if (slot < 0) {
+                return false;
+            }
+            loadCpuUtilizations[slot] = cpuUtilization;
+            loadQueueDepths[slot] = queueDepth;
+            loadInFlights[slot] = inFlight;
+            loadHeadrooms[slot] = headroom;
+            loadReportedAtMillis[slot] = reportedAtMillis;
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 보고 경과에 따라 감쇠한 항목의 현재 여유 용량을 반환합니다.
+     *
+     * @param id 항목 ID
+     * @param nowMillis 현재 시각 (epoch 밀리초)
+     * @param model 감쇠 모델
+     * @return 여유 용량. 없는 ID이거나 보고가 없으면 중립값.
+     */
+    public double headroomOf(long id, long nowMillis, LoadHeadroom model) {
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(id);
+            if (slot < 0 || loadReportedAtMillis[slot] == 0) {
+                return model.neutral();
+            }
+            return model.decayed(loadHeadrooms[slot], nowMillis - loadReportedAtMillis[slot]);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID의 항목이 있는지 확인합니다.
+     */
+    public boolean contains(long id) {
+        lock.readLock().lock();
+        try {
+            return slotOf(id) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID의 항목을 반환합니다.
+     * @return 항목. 없으면 null.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(id);
+            return slot >= 0 ? (T) items[slot] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * ID의 항목이 정상인지 반환합니다.
+     * @return 정상이면 true. 없거나 비정상이면 false.
+     */
+    public boolean isHealthy(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slotOf(id);
+            return slot >= 0 && healthy[slot];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 테이블 내용의 버전을 반환합니다. 내용을 바꾸는 쓰기마다 1씩 증가하며, 락을 잡지 않습니다.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 항목 구성과 헬스 체크 결과의 버전을 반환합니다. 기록, 제거, 비우기마다 1씩 증가하고 부하 보고에는 증가하지 않으며, 락을 잡지 않습니다.
+     */
+    public long statusVersion() {
+        return statusVersion;
+    }
+
+    /**
+     * 현재 항목 수를 반환합니다.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 모든 항목을 읽기 락을 잡은 채 순회합니다. 커서 하나를 재사용하므로 순회당 할당은 커서 하나뿐입니다.
+     * @param visitor 각 항목을 가리키는 커서를 받는 함수 (커서를 보관하거나 이 테이블을 변경하면 안 됩니다)
+     */
+    public void forEach(Consumer<? super Cursor<T>> visitor) {
+        lock.readLock().lock();
+        try {
+            Cursor<T> cursor = new Cursor<>(this);
+            for (int slot = 0; slot < size; slot++) {
+                cursor.slot = slot;
+                visitor.accept(cursor);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 항목을 모두 제거합니다. 제거된 ID는 락을 푼 뒤 {@code onRemoved}로 전달됩니다.
+     * @param filter 제거할 항목이면 true를 반환하는 함수
+     * @param onRemoved 제거된 ID를 받는 함수
+     * @return 제거된 항목 수
+     */
+    public int removeIf(Predicate<? super Cursor<T>> filter, LongConsumer onRemoved) {
+        long[] removed = null;
+        int removedCount = 0;
+        lock.writeLock().lock();
+        try {
+            Cursor<T> cursor = new Cursor<>(this);
+            // 뒤에서부터 검사하므로 빈자리로 옮겨지는 마지막 항목은 이미 검사한 항목입니다.
+            for (int slot = size - 1; slot >= 0; slot--) {
+                cursor.slot = slot;
+                if (filter.test(cursor)) {
+                    if (removed == null) {
+                        removed = new long[Math.min(size, 16)];
+                    } else if (removedCount == removed.length) {
+                        removed = Arrays.copyOf(removed, removedCount * 2);
+                    }
+                    removed[removedCount++] = ids[slot];
+                    removeSlot(slot);
+                }
+            }
+            if (removedCount > 0) {
+                version++;
+                statusVersion++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (int i = 0; i < removedCount; i++) {
+            onRemoved.accept(removed[i]);
+        }
+        return removedCount;
+    }
+
+    /**
+     * 모든 항목을 제거하고 용량을 처음으로 되돌립니다.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            indexKeys = new long[MIN_CAPACITY * 2];
+            indexSlots = new int[MIN_CAPACITY * 2];
+            ids = new long[MIN_CAPACITY];
+            items = new Object[MIN_CAPACITY];
+            healthy = new boolean[MIN_CAPACITY];
+            lastCheckedMillis = new long[MIN_CAPACITY];
+            latencyMicros = new int[MIN_CAPACITY];
+            successCounts = new int[MIN_CAPACITY];
+            failureCounts = new int[MIN_CAPACITY];
+            loadCpuUtilizations = new float[MIN_CAPACITY];
+            loadQueueDepths = new int[MIN_CAPACITY];
+            loadInFlights = new int[MIN_CAPACITY];
+            loadHeadrooms = new float[MIN_CAPACITY];
+            loadReportedAtMillis = new long[MIN_CAPACITY];
+            size = 0;
+            version++;
+            statusVersion++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int append(long id) {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            items = Arrays.copyOf(items, capacity);
+            healthy = Arrays.copyOf(healthy, capacity);
+            lastCheckedMillis = Arrays.copyOf(lastCheckedMillis, capacity);
+            latencyMicros = Arrays.copyOf(latencyMicros, capacity);
+            successCounts = Arrays.copyOf(successCounts, capacity);
+            failureCounts = Arrays.copyOf(failureCounts, capacity);
+            loadCpuUtilizations = Arrays.copyOf(loadCpuUtilizations, capacity);
+            loadQueueDepths = Arrays.copyOf(loadQueueDepths, capacity);
+            loadInFlights = Arrays.copyOf(loadInFlights, capacity);
+            loadHeadrooms = Arrays.copyOf(loadHeadrooms, capacity);
+            loadReportedAtMillis = Arrays.copyOf(loadReportedAtMillis, capacity);
+        }
+        int slot = size++;
+        ids[slot] = id;
+        latencyMicros[slot] = -1;
+        successCounts[slot] = 0;
+        failureCounts[slot] = 0;
+        loadReportedAtMillis[slot] = 0;
+        if (size * 2 > indexKeys.length) {
+            rebuildIndex(indexKeys.length * 2);
+        } else {
+            indexPut(id, slot);
+        }
+        return slot;
+    }
+
+    // 마지막 항목을 빈자리로 옮기고 색인을 갱신합니다.
+    private void removeSlot(int slot) {
+        indexRemove(ids[slot]);
+        int last = --size;
+        if (slot != last) {
+            ids[slot] = ids[last];
+            items[slot] = items[last];
+            healthy[slot] = healthy[last];
+            lastCheckedMillis[slot] = lastCheckedMillis[last];
+            latencyMicros[slot] = latencyMicros[last];
+            successCounts[slot] = successCounts[last];
+            failureCounts[slot] = failureCounts[last];
+            loadCpuUtilizations[slot] = loadCpuUtilizations[last];
+            loadQueueDepths[slot] = loadQueueDepths[last];
+            loadInFlights[slot] = loadInFlights[last];
+            loadHeadrooms[slot] = loadHeadrooms[last];
+            loadReportedAtMillis[slot] = loadReportedAtMillis[last];
+            indexSlots[indexPosition(ids[slot])] = slot + 1;
+        }
+        items[last] = null; // 삭제된 항목을 참조하지 않도록 비웁니다.
+    }
+
+    private int slotOf(long id) {
+        int mask = indexKeys.length - 1;
+        for (int i = hash(id) & mask; ; i = (i + 1) & mask) {
+            int slot = indexSlots[i];
+            if (slot == 0) {
+                return -1;
+            }
+            if (indexKeys[i] == id) {
+                return slot - 1;
+            }
+        }
+    }
+
+    // 색인에 있는 ID의 색인 위치를 반환합니다.
+    private int indexPosition(long id) {
+        int mask = indexKeys.length - 1;
+        int i = hash(id) & mask;
+        while (indexKeys[i] != id || indexSlots[i] == 0) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void indexPut(long id, int slot) {
+        int mask = indexKeys.length - 1;
+        int i = hash(id) & mask;
+        while (indexSlots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        indexKeys[i] = id;
+        indexSlots[i] = slot + 1;
+    }
+
+    // 선형 탐사에서 빈 칸을 만들지 않도록, 뒤따르는 항목 중 원래 위치가 빈 칸 이전인 항목을 당겨 옵니다 (backward shift deletion).
+    private void indexRemove(long id) {
+        int mask = indexKeys.length - 1;
+        int hole = indexPosition(id);
+        for (int i = (hole + 1) & mask; indexSlots[i] != 0; i = (i + 1) & mask) {
+            int home = hash(indexKeys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                indexKeys[hole] = indexKeys[i];
+                indexSlots[hole] = indexSlots[i];
+                hole = i;
+            }
+        }
+        indexSlots[hole] = 0;
+    }
+
+    private void rebuildIndex(int capacity) {
+        indexKeys = new long[capacity];
+        indexSlots = new int[capacity];
+        for (int slot = 0; slot < size; slot++) {
+            indexPut(ids[slot], slot);
+        }
+    }
+
+    private static int hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * 순회 중인 항목을 가리키는 커서입니다. 순회 동안만 유효합니다.
+     */
+    public static final class Cursor<T> {
+        private final HealthStateTable<T> table;
+        private int slot;
+
+        private Cursor(HealthStateTable<T> table) {
+            this.table = table;
+        }
+
+        public long id() {
+            return table.ids[slot];
+        }
+
+        @SuppressWarnings("unchecked")
+        public T item() {
+            return (T) table.items[slot];
+        }
+
+        public boolean healthy() {
+            return table.healthy[slot];
+        }
+
+        public long lastCheckedMillis() {
+            return table.lastCheckedMillis[slot];
+        }
+
+        /**
+         * 마지막 직접 헬스 체크의 지연 시간 (마이크로초). 직접 헬스 체크한 적이 없으면 -1.
+         */
+        public int latencyMicros() {
+            return table.latencyMicros[slot];
+        }
+
+        public int successCount() {
+            return table.successCounts[slot];
+        }
+
+        public int failureCount() {
+            return table.failureCounts[slot];
+        }
+
+        /**
+         * 마지막 부하 보고 시각 (epoch 밀리초). 보고가 없으면 0이며, 이때 다른 부하 값은 의미가 없습니다.
+         */
+        public long loadReportedAtMillis() {
+            return table.loadReportedAtMillis[slot];
+        }
+
+        /**
+         * 마지막으로 보고된 CPU 사용률. 보고되지 않았으면 {@link Float#NaN}.
+         */
+        public float loadCpuUtilization() {
+            return table.loadCpuUtilizations[slot];
+        }
+
+        public int loadQueueDepth() {
+            return table.loadQueueDepths[slot];
+        }
+
+        public int loadInFlight() {
+            return table.loadInFlights[slot];
+        }
+
+        /**
+         * 마지막 보고 시점의 여유 용량 (감쇠 전).
+         */
+        public float loadHeadroom() {
+            return table.loadHeadrooms[slot];
+        }
+    }
+}
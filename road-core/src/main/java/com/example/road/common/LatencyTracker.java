@@ -0,0 +1,76 @@
+package com.example.road.common;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 {@code capacity}개의 응답 시간을 링 버퍼에 보관하고 백분위수를 계산하는 클래스입니다.
+ *
+ * <p>기록은 락 없이 슬롯 하나를 덮어쓰는 것으로 끝납니다. 백분위수는 최대 {@code refreshIntervalMillis}마다 한 번만
+ * 다시 계산하여 캐시하므로, 요청마다 정렬하지 않습니다. 이 클래스는 스레드에 안전합니다.</p>
+ */
+public class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong cursor = new AtomicLong();
+    private final long refreshIntervalNanos;
+
+    // 마지막으로 계산한 p95 (밀리초)와 계산 시각
+    private volatile long cachedP95Millis;
+    private volatile long cachedAtNanos;
+
+    /**
+     * @param capacity 보관할 최근 응답 시간 수
+     * @param refreshIntervalMillis 백분위수를 다시 계산하는 최소 간격 (밀리초)
+     */
+    public LatencyTracker(int capacity, long refreshIntervalMillis) {
+        this.samples = new AtomicLongArray(capacity);
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+        this.cachedAtNanos = System.nanoTime() - refreshIntervalNanos;
+    }
+
+    /**
+     * 응답 시간을 기록합니다.
+     * @param latencyMillis 응답 시간 (밀리초)
+     */
+    public void record(long latencyMillis) {
+        long index = cursor.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyMillis);
+    }
+
+    /**
+     * 기록된 응답 시간 수를 반환합니다 (최대 capacity).
+     * @return 기록된 응답 시간 수
+     */
+    public int getSampleCount() {
+        return (int) Math.min(cursor.get(), samples.length());
+    }
+
+    /**
+     * 최근 응답 시간의 95 백분위수를 반환합니다. 기록이 없으면 0입니다.
+     * @return p95 응답 시간 (밀리초)
+     */
+    public long p95Millis() {
+        long now = System.nanoTime();
+        if (now - cachedAtNanos >= refreshIntervalNanos) {
+            cachedP95Millis = percentile(0.95);
+            cachedAtNanos = now;
+        }
+        return cachedP95Millis;
+    }
+
+    private long percentile(double percentile) {
+        int count = getSampleCount();
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = new long[count];
+        for (int i = 0; i < count; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(percentile * count) - 1)];
+    }
+}
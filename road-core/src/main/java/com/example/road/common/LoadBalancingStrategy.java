@@ -0,0 +1,90 @@
+package com.example.road.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * 정상 아이템 스냅샷에서 다음 아이템을 고르는 선택 전략입니다. {@link SnapshotLoadBalancer}가 선택마다 호출합니다.
+ *
+ * <p>전략은 불변 스냅샷과 후보 적격성 검사({@code eligible})만 받으며, 스냅샷 교체, 대기, 선택 필터와 선호 필터는
+ * {@link SnapshotLoadBalancer}가 처리합니다. 선택은 여러 스레드에서 동시에 호출되므로 구현은 스레드에 안전해야 하며,
+ * 선택마다 호출되므로 락 없이 빠르게 동작해야 합니다.</p>
+ *
+ * <p>전략 인스턴스는 로드 밸런서 하나에서만 사용되므로 순환 위치나 통계 같은 상태를 가질 수 있습니다.
+ * 실행 중 전략을 바꾸면 새 인스턴스가 만들어지며, 이미 이전 전략으로 선택 중인 요청은 이전 인스턴스로 끝까지 선택합니다.</p>
+ *
+ * @param <T> 로드 밸런싱 대상 객체의 타입
+ */
+public interface LoadBalancingStrategy<T> {
+
+    /**
+     * 전략 이름을 반환합니다 (설정의 {@code strategy} 값과 관리 API에서 사용).
+     */
+    String name();
+
+    /**
+     * 스냅샷에서 아이템 하나를 고릅니다.
+     * 후보를 선택 순서대로 {@code eligible}에 물어 처음으로 true를 반환한 후보를 반환해야 합니다.
+     * {@code eligible}이 true를 반환하면 요청 수 제한 토큰이나 서킷 브레이커 시험 요청 허용이 사용되므로,
+     * 고르지 않을 후보에는 호출하지 않아야 하며 같은 선택에서 한 후보에 두 번 호출하지 않아야 합니다.
+     *
+     * @param snapshot 정상 아이템의 불변 스냅샷 (비어 있지 않음)
+     * @param eligible 후보를 선택해도 되는지 판단하는 조건
+     * @return 고른 아이템. 적격한 후보가 없으면 빈 Optional.
+     */
+    Optional<T> pick(List<T> snapshot, Predicate<T> eligible);
+
+    /**
+     * 스냅샷에서 아이템을 최대 {@code count}개 한 번에 고릅니다 ({@link SnapshotLoadBalancer#next(int)}).
+     * 자리마다 {@link #pick(List, Predicate)}와 같은 규칙으로 {@code eligible}에 물으며, 적격한 후보가 없는 자리에서 멈추고
+     * 그때까지 고른 아이템을 반환합니다. 라운드 로빈처럼 순서가 있는 전략은 배치 전체의 위치를 한 번에 확보하여,
+     * 동시에 실행되는 다른 선택이 배치 중간에 끼어들지 않도록 재정의해야 합니다.
+     * 기본 구현은 {@link #pick(List, Predicate)}를 {@code count}번 호출합니다.
+     *
+     * @param snapshot 정상 아이템의 불변 스냅샷 (비어 있지 않음)
+     * @param count 고를 아이템 수 (1 이상)
+     * @param eligible 후보를 선택해도 되는지 판단하는 조건
+     * @return 고른 아이템 목록 (선택 순서). 첫 자리부터 적격한 후보가 없으면 빈 목록.
+     */
+    default List<T> pickBatch(List<T> snapshot, int count, Predicate<T> eligible) {
+        List<T> picked = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Optional<T> item = pick(snapshot, eligible);
+            if (item.isEmpty()) {
+                break;
+            }
+            picked.add(item.get());
+        }
+        return picked;
+    }
+
+    /**
+     * 스냅샷이 교체되었을 때 호출됩니다 (전략이 로드 밸런서에 설정될 때 현재 스냅샷으로도 한 번 호출됩니다).
+     * 스냅샷 교체는 직렬화되지만 선택과는 동시에 실행될 수 있습니다.
+     *
+     * @param snapshot 새 스냅샷
+     */
+    default void onRefresh(List<T> snapshot) {
+    }
+
+    /**
+     * 아이템이 새 부하를 보고했을 때 호출됩니다 (부하 보고 API 또는 헬스 체크 응답 헤더).
+     * 보고된 부하로 가중치를 미리 계산하는 전략은 여기서 그 아이템의 가중치를 다시 계산합니다. 선택과 동시에 실행될 수 있습니다.
+     *
+     * @param item 부하를 보고한 아이템
+     */
+    default void onLoadReport(T item) {
+    }
+
+    /**
+     * 이 전략으로 선택한 아이템에 보낸 요청의 결과를 전달받습니다 (클라이언트 보고 또는 프록시 응답).
+     *
+     * @param item 요청을 보낸 아이템
+     * @param success 요청 성공 여부
+     * @param latencyNanos 요청 지연 시간 (나노초). 알 수 없으면 -1.
+     */
+    default void onOutcome(T item, boolean success, long latencyNanos) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.road.common;
+
+/**
+ * 백엔드가 보고한 부하(CPU 사용률, 대기열 길이, 처리 중인 요청 수)에서 여유 용량(headroom)을 계산하고,
+ * 보고가 오래될수록 중립값으로 되돌리는 모델입니다.
+ *
+ * <p>여유 용량은 0 이상 1 이하이며, {@code (1 - CPU 사용률) / (1 + (대기열 길이 + 처리 중인 요청 수) / pendingScale)}로 계산합니다.
+ * 보고 시각부터 {@code halfLifeMillis}가 지날 때마다 중립값과의 차이가 절반으로 줄고, {@code maxAgeMillis}가 지나면 중립값이 됩니다.
+ * 보고가 없는 아이템도 중립값을 사용하므로, 보고하는 아이템과 보고하지 않는 아이템이 섞여 있어도 한쪽으로 몰리지 않습니다.</p>
+ */
+public final class LoadHeadroom {
+
+    private final double pendingScale;
+    private final long halfLifeMillis;
+    private final long maxAgeMillis;
+    private final double neutral;
+
+    /**
+     * @param pendingScale 여유 용량을 절반으로 줄이는 대기열 길이와 처리 중인 요청 수의 합 (0 초과)
+     * @param halfLifeMillis 보고된 여유 용량과 중립값의 차이가 절반으로 줄어드는 시간 (밀리초, 0 초과)
+     * @param maxAgeMillis 보고를 무시하고 중립값을 사용하는 보고 경과 시간 (밀리초, 0 초과)
+     * @param neutral 보고가 없거나 오래된 아이템의 여유 용량 (0 이상 1 이하)
+     */
+    public LoadHeadroom(double pendingScale, long halfLifeMillis, long maxAgeMillis, double neutral) {
+        if (pendingScale <= 0 || halfLifeMillis <= 0 || maxAgeMillis <= 0) {
+            throw new IllegalArgumentException("pendingScale, halfLifeMillis, maxAgeMillis는 0보다 커야 합니다.");
+        }
+        if (neutral < 0 || neutral > 1) {
+            throw new IllegalArgumentException("중립 여유 용량은 0 이상 1 이하여야 합니다: " + neutral);
+        }
+        this.pendingScale = pendingScale;
+        this.halfLifeMillis = halfLifeMillis;
+        this.maxAgeMillis = maxAgeMillis;
+        this.neutral = neutral;
+    }
+
+    /**
+     * 보고된 부하에서 여유 용량을 계산합니다.
+     *
+     * @param cpuUtilization CPU 사용률 (0 이상 1 이하로 잘라 사용). 보고되지 않았으면 {@link Double#NaN}.
+     * @param queueDepth 대기열 길이 (보고되지 않았으면 0)
+     * @param inFlight 처리 중인 요청 수 (보고되지 않았으면 0)
+     * @return 여유 용량 (0 이상 1 이하)
+     */
+    public double headroom(double cpuUtilization, int queueDepth, int inFlight) {
+        double cpuHeadroom = Double.isNaN(cpuUtilization) ? 1.0 : 1.0 - Math.min(1.0, Math.max(0.0, cpuUtilization));
+        long pending = Math.max(0, queueDepth) + (long) Math.max(0, inFlight);
+        return cpuHeadroom / (1.0 + pending / pendingScale);
+    }
+
+    /**
+     * 보고 경과 시간을 반영한 여유 용량을 반환합니다.
+     *
+     * @param reported 보고 시점에 계산한 여유 용량
+     * @param ageMillis 보고 경과 시간 (밀리초). 음수(시계 차이)는 0으로 봅니다.
+     * @return 중립값 쪽으로 감쇠한 여유 용량
+     */
+    public double decayed(double reported, long ageMillis) {
+        long age = Math.max(0, ageMillis);
+        if (age >= maxAgeMillis) {
+            return neutral;
+        }
+        return neutral + (reported - neutral) * Math.pow(0.5, (double) age / halfLifeMillis);
+    }
+
+    /**
+     * 보고가 없거나 오래된 아이템의 여유 용량을 반환합니다.
+     */
+    public double neutral() {
+        return neutral;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.road.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도와 헤징 요청이 장애를 증폭시키지 않도록 추가 요청 수를 원 요청 수의 일정 비율로 제한하는 예산입니다.
+ *
+ * <p>원 요청마다 {@code ratio}만큼 예산이 적립되고, 추가 요청마다 1만큼 차감됩니다. 적립액은 {@code maxBalance}를 넘지 않습니다.
+ * 트래픽이 적을 때도 최소한의 재시도는 가능하도록, 적립액이 부족하면 초당 {@code minPerSecond}개까지는 별도의 {@link TokenBucket}으로 허용합니다.
+ * 모든 연산은 CAS로 수행되며 이 클래스는 스레드에 안전합니다.</p>
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1000; // 적립액을 1/1000 단위 정수로 저장합니다.
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final TokenBucket minimumBucket;
+    private final AtomicLong balance = new AtomicLong();
+
+    /**
+     * @param ratio 원 요청 하나당 허용하는 추가 요청 비율 (예: 0.1 = 10%)
+     * @param minPerSecond 적립액과 관계없이 허용하는 초당 추가 요청 수 (0이면 없음)
+     * @param maxBalance 적립할 수 있는 최대 추가 요청 수
+     */
+    public RetryBudget(double ratio, int minPerSecond, int maxBalance) {
+        this.depositPerRequest = Math.round(ratio * SCALE);
+        this.maxBalance = maxBalance * SCALE;
+        this.minimumBucket = minPerSecond > 0 ? new TokenBucket(minPerSecond, minPerSecond) : null;
+    }
+
+    /**
+     * 원 요청 하나에 대한 예산을 적립합니다.
+     */
+    public void deposit() {
+        balance.getAndUpdate(current -> Math.min(maxBalance, current + depositPerRequest));
+    }
+
+    /**
+     * 추가 요청(재시도 또는 헤징) 하나를 위한 예산을 사용합니다.
+     * @return 예산이 있으면 true
+     */
+    public boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < SCALE) {
+                return minimumBucket != null && minimumBucket.tryAcquire();
+            }
+            if (balance.compareAndSet(current, current - SCALE)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.road.common;
+
+import com.example.road.jfr.BalancerRefreshEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 제네릭 라운드 로빈 로드 밸런서 구현체입니다.
+ * 로드 밸런싱 대상 객체에 대해 로드 밸런싱을 수행할 수 있습니다.
+ * 이 클래스는 스레드에 안전합니다.
+ *
+ * @param <T> 로드 밸런싱 대상 객체의 타입
+ */
+@Slf4j
+public class RoundRobinLoadBalancer<T> {
+
+    private final BlockingQueue<T> itemQueue = new LinkedBlockingQueue<>();
+    private final String name;
+    private final long timeoutSeconds;
+    private final Predicate<T> activePredicate;
+    private final Function<T, Long> idFunction;
+    // 선택 시점에 아이템을 건너뛸지 판단하는 필터 (예: 요청 수 제한 초과). 기본값은 모든 아이템 허용.
+    private volatile Predicate<T> selectionFilter = t -> true;
+    // 선택 확률을 낮추기 위한 선호 필터 (예: 슬로우 스타트). 선택 필터와 달리, 이 필터만 통과하지 못한 아이템밖에 없으면 무시됩니다.
+    private volatile Predicate<T> preferenceFilter = t -> true;
+    // 새로고침할 때마다 증가하는 세대와 마지막 새로고침의 활성 아이템. 배치 선택이 꺼내 둔 아이템을 되돌려 놓을 때 사용합니다.
+    private volatile long generation;
+    private Set<T> activeItemSet = Set.of();
+
+    /**
+     * 지정된 이름으로 라운드 로빈 로드 밸런서를 생성합니다.
+     * @param name 로드 밸런서의 이름 (로깅에 사용)
+     */
+    public RoundRobinLoadBalancer(String name) {
+        this(name, 5, t -> true, t -> null); // Default: accept all items, id extractor returns null
+    }
+
+    /**
+     * 지정된 이름과 타임아웃으로 라운드 로빈 로드 밸런서를 생성합니다.
+     * @param name 로드 밸런서의 이름 (로깅에 사용)
+     * @param timeoutSeconds 다음 아이템을 기다릴 최대 시간 (초)
+     */
+    public RoundRobinLoadBalancer(String name, long timeoutSeconds) {
+        this(name, timeoutSeconds, t -> true, t -> null);
+    }
+
+    /**
+     * 지정된 이름, 타임아웃, 활성 판별자 및 ID 추출기를 사용하여 라운드 로빈 로드 밸런서를 생성합니다.
+     */
+    public RoundRobinLoadBalancer(String name, long timeoutSeconds, Predicate<T> activePredicate, Function<T, Long> idFunction) {
+        this.name = name;
+        this.timeoutSeconds = timeoutSeconds;
+        this.activePredicate = activePredicate;
+        this.idFunction = idFunction;
+        log.info("[{}] 라운드 로빈 로드 밸런서가 생성되었습니다. 타임아웃: {}초", name, timeoutSeconds);
+    }
+
+    /**
+     * 로드 밸런서의 아이템 목록을 새로고침합니다.
+     * 활성 상태인 아이템만 큐에 추가됩니다.
+     * 동시에 여러 새로고침이 실행되어 아이템이 중복 적재되지 않도록 새로고침끼리는 직렬화됩니다.
+     * 새로고침 전후 크기와 소요 시간은 {@link BalancerRefreshEvent} JFR 이벤트로 기록됩니다.
+     *
+     * @param allItems 전체 아이템 목록
+     */
+    public synchronized void refreshItems(List<T> allItems) { // 여기는 이미 수정됨
+        log.info("[{}] 아이템 목록 새로고침을 시작합니다...", name);
+        BalancerRefreshEvent event = new BalancerRefreshEvent();
+        event.begin();
+        int oldSize = itemQueue.size();
+        itemQueue.clear();
+        List<T> activeItems = allItems.stream() // 여기를 수정
+                .filter(activePredicate)
+                .collect(Collectors.toList());
+        itemQueue.addAll(activeItems);
+        activeItemSet = new HashSet<>(activeItems);
+        generation++;
+        event.end();
+        if (event.shouldCommit()) { // 기록 중인 JFR 레코딩이 없으면 false이므로 필드를 채우지 않습니다.
+            event.balancer = name;
+            event.oldSize = oldSize;
+            event.newSize = activeItems.size();
+            event.commit();
+        }
+        log.info("[{}] {}개의 활성 아이템을 로드했습니다. (전체: {}개)", name, activeItems.size(), allItems.size());
+    }
+
+    /**
+     * 선택 시점에 아이템을 건너뛸지 판단하는 필터를 설정합니다.
+     * 필터가 false를 반환한 아이템은 순환 순서는 유지한 채 건너뛰고 다음 아이템을 검사합니다.
+     * 필터는 선택마다 호출되므로 락이나 할당 없이 빠르게 판단해야 합니다.
+     *
+     * @param selectionFilter 선택 가능하면 true를 반환하는 필터
+     */
+    public void setSelectionFilter(Predicate<T> selectionFilter) {
+        this.selectionFilter = selectionFilter;
+    }
+
+    /**
+     * 선택 시점에 아이템을 선호하지 않을 조건을 설정합니다 (예: 워밍업 중인 서버를 확률적으로 건너뛰기).
+     * 선호 필터를 통과하지 못한 아이템은 다른 선택 가능한 아이템이 있을 때만 건너뛰며, 그런 아이템이 없으면 선호 필터를 무시하고 선택합니다.
+     * 선호 필터는 선택 필터보다 먼저, 부수 효과 없이 판단해야 합니다.
+     *
+     * @param preferenceFilter 선호하면 true를 반환하는 필터
+     */
+    public void setPreferenceFilter(Predicate<T> preferenceFilter) {
+        this.preferenceFilter = preferenceFilter;
+    }
+
+    /**
+     * 라운드 로빈 방식으로 다음 아이템을 가져옵니다.
+     * 큐에서 아이템을 하나 꺼내고, 즉시 다시 큐의 끝에 추가하여 순환 구조를 유지합니다.
+     * 큐가 비어있으면, 지정된 시간 동안 아이템이 추가될 때까지 대기합니다.
+     * 선택 필터를 통과하지 못한 아이템은 건너뛰며, 한 바퀴를 돌아도 선택 가능한 아이템이 없으면 빈 Optional을 반환합니다.
+     *
+     * @return 다음 아이템을 포함하는 Optional. 아이템을 가져올 수 없으면 빈 Optional 반환.
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<T> next() throws InterruptedException {
+        return next(t -> true);
+    }
+
+    /**
+     * 라운드 로빈 방식으로 다음 아이템을 가져오되, 이번 선택에만 적용할 조건을 추가로 검사합니다 (예: 이미 시도한 아이템 제외).
+     * 추가 조건은 선택 필터보다 먼저 검사되므로, 추가 조건으로 제외된 아이템은 선택 필터의 부수 효과(토큰 사용 등)를 일으키지 않습니다.
+     *
+     * @param extraFilter 이번 선택에만 적용할 조건
+     * @return 다음 아이템을 포함하는 Optional. 아이템을 가져올 수 없으면 빈 Optional 반환.
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<T> next(Predicate<T> extraFilter) throws InterruptedException {
+        log.debug("[{}] 다음 아이템을 요청합니다. (타임아웃: {}초)", name, timeoutSeconds);
+        T item = itemQueue.poll(timeoutSeconds, TimeUnit.SECONDS);
+
+        if (item == null) {
+            log.warn("[{}] {}초 동안 다음 아이템을 가져오지 못했습니다. 큐가 비어 있거나 사용 가능한 아이템이 없습니다.", name, timeoutSeconds);
+            return Optional.empty();
+        }
+
+        Predicate<T> filter = selectionFilter;
+        Predicate<T> preference = preferenceFilter;
+        boolean preferenceRejected = false;
+        int remaining = itemQueue.size(); // 건너뛸 경우 추가로 검사할 수 있는 아이템 수 (한 바퀴)
+        while (true) {
+            itemQueue.put(item);
+            Long id = idFunction != null ? idFunction.apply(item) : null;
+            if (extraFilter.test(item)) {
+                if (!preference.test(item)) {
+                    preferenceRejected = true;
+                } else if (filter.test(item)) {
+                    log.debug("[{}] 아이템 '{}'를 선택했습니다.", name, id);
+                    return Optional.of(item);
+                }
+            }
+            log.debug("[{}] 아이템 '{}'가 선택 필터를 통과하지 못해 건너뜁니다.", name, id);
+            if (remaining-- <= 0 || (item = itemQueue.poll()) == null) {
+                break;
+            }
+        }
+        if (preferenceRejected) {
+            // 선호 필터 때문에만 건너뛴 아이템이 있으면, 선호 필터를 무시하고 한 바퀴 더 검사합니다.
+            for (int i = itemQueue.size(); i > 0 && (item = itemQueue.poll()) != null; i--) {
+                itemQueue.put(item);
+                if (extraFilter.test(item) && filter.test(item)) {
+                    log.debug("[{}] 선호하는 아이템이 없어 아이템 '{}'를 선택했습니다.", name, idFunction != null ? idFunction.apply(item) : null);
+                    return Optional.of(item);
+                }
+            }
+        }
+        log.debug("[{}] 선택 가능한 아이템이 없습니다.", name);
+        return Optional.empty();
+    }
+
+    /**
+     * 라운드 로빈 순서대로 연속된 {@code count}개의 아이템을 한 번에 가져옵니다.
+     * 첫 아이템은 {@link #next()}와 동일하게 타임아웃까지 대기하며, 나머지 아이템은 큐 전체를 drainTo로 한 번에 꺼내
+     * 순환 선택한 뒤, 다음 선택 순서가 이어지도록 회전된 순서로 큐에 다시 넣습니다.
+     * 따라서 결과는 {@code next()}를 {@code count}번 연속 호출한 것과 같으며, 아이템을 꺼내 둔 동안 다른 스레드의 선택은
+     * 아이템이 되돌아올 때까지 대기하므로 배치 중간에 끼어들지 않습니다.
+     * 아이템을 꺼내 둔 동안 새로고침이 실행되었으면, 새로고침의 활성 아이템 중 큐에 없는 아이템만 되돌려 놓으므로
+     * 제거된 아이템이 다시 들어가거나 아이템이 중복되지 않습니다.
+     * 선택 필터를 통과하지 못한 아이템은 건너뛰며, 한 바퀴를 돌아도 선택 가능한 아이템이 없으면 그때까지 선택한 아이템만 반환합니다.
+     *
+     * @param count 가져올 아이템 수 (1 이상)
+     * @return 선택된 아이템 목록. 아이템을 가져올 수 없으면 빈 목록 반환.
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public List<T> next(int count) throws InterruptedException {
+        if (count < 1) {
+            throw new IllegalArgumentException("count는 1 이상이어야 합니다: " + count);
+        }
+        log.debug("[{}] 다음 아이템 {}개를 요청합니다. (타임아웃: {}초)", name, count, timeoutSeconds);
+        long drainedGeneration = generation; // 첫 아이템을 꺼내기 전에 읽어야 그 사이의 새로고침도 감지합니다.
+        T first = itemQueue.poll(timeoutSeconds, TimeUnit.SECONDS);
+
+        if (first == null) {
+            log.warn("[{}] {}초 동안 다음 아이템을 가져오지 못했습니다. 큐가 비어 있거나 사용 가능한 아이템이 없습니다.", name, timeoutSeconds);
+            return List.of();
+        }
+
+        // 첫 아이템 뒤에 대기 중인 아이템을 모두 꺼내 현재 순환 순서를 확보합니다.
+        List<T> cycle = new ArrayList<>(itemQueue.size() + 1);
+        cycle.add(first);
+        itemQueue.drainTo(cycle);
+
+        int size = cycle.size();
+        Predicate<T> filter = selectionFilter;
+        Predicate<T> preference = preferenceFilter;
+        List<T> selected = new ArrayList<>(count);
+        int position = 0;
+        try {
+            for (int i = 0; i < count; i++) {
+                T chosen = null;
+                // 첫 번째 검사에서는 선호 필터를 적용하고, 선호 필터 때문에만 건너뛴 아이템이 있으면 선호 필터 없이 다시 검사합니다.
+                for (int pass = 0; pass < 2 && chosen == null; pass++) {
+                    boolean preferenceRejected = false;
+                    for (int tries = 0; tries < size; tries++) {
+                        T candidate = cycle.get((position + tries) % size);
+                        if (pass == 0 && !preference.test(candidate)) {
+                            preferenceRejected = true;
+                        } else if (filter.test(candidate)) {
+                            chosen = candidate;
+                            position += tries + 1;
+                            break;
+                        }
+                    }
+                    if (!preferenceRejected) {
+                        break;
+                    }
+                }
+                if (chosen == null) {
+                    log.debug("[{}] 선택 가능한 아이템이 없어 {}개만 선택했습니다.", name, selected.size());
+                    break;
+                }
+                selected.add(chosen);
+            }
+        } finally {
+            putBack(cycle, position % size, drainedGeneration);
+        }
+        log.debug("[{}] 아이템 {}개를 선택하고 {}개의 아이템을 큐에 다시 추가했습니다.", name, selected.size(), size);
+        return selected;
+    }
+
+    // 배치의 마지막 선택 다음 아이템이 큐의 맨 앞에 오도록 회전하여 되돌려 놓습니다.
+    // 아이템을 꺼낸 뒤 새로고침이 실행되었으면 큐는 이미 새 활성 아이템으로 채워져 있으므로, 그중 큐에 없는 아이템만 되돌려 놓습니다.
+    private synchronized void putBack(List<T> cycle, int offset, long drainedGeneration) throws InterruptedException {
+        int size = cycle.size();
+        if (drainedGeneration == generation) {
+            for (int i = 0; i < size; i++) {
+                itemQueue.put(cycle.get((offset + i) % size));
+            }
+            return;
+        }
+        Set<T> present = new HashSet<>(itemQueue);
+        int dropped = 0;
+        for (int i = 0; i < size; i++) {
+            T item = cycle.get((offset + i) % size);
+            if (activeItemSet.contains(item) && present.add(item)) {
+                itemQueue.put(item);
+            } else {
+                dropped++;
+            }
+        }
+        log.debug("[{}] 배치 선택 중 새로고침되어 {}개의 아이템을 되돌려 놓지 않았습니다.", name, dropped);
+    }
+
+    /**
+     * 현재 큐에 있는 아이템의 개수를 반환합니다.
+     * @return 활성 아이템의 개수
+     */
+    public int getActiveItemCount() {
+        return itemQueue.size();
+    }
+}
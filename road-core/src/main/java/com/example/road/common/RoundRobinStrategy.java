@@ -0,0 +1,78 @@
+package com.example.road.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 스냅샷의 아이템을 순서대로 돌아가며 고르는 라운드 로빈 선택 전략입니다.
+ *
+ * <p>원자적 순환 위치 하나로 선택 시작 위치를 정하며, 적격하지 않은 후보는 건너뛰고 다음 후보를 검사합니다.
+ * 건너뛴 만큼 순환 위치도 앞으로 옮겨 다음 선택이 고른 후보 다음부터 시작하도록 하며, 적격한 후보가 없으면 순환 위치를 되돌립니다.
+ * 스냅샷이 바뀌어도 순환 위치는 유지하므로, 새로고침마다 앞쪽 아이템으로 선택이 몰리지 않습니다.</p>
+ *
+ * <p>배치 선택은 순환 위치를 {@code count}칸 한 번에 옮겨 연속된 위치를 확보하므로, 건너뛴 후보가 없으면 동시 선택이 있어도
+ * 결과는 {@link #pick(List, Predicate)}를 {@code count}번 연속 호출한 것과 같습니다.</p>
+ *
+ * @param <T> 로드 밸런싱 대상 객체의 타입
+ */
+public class RoundRobinStrategy<T> implements LoadBalancingStrategy<T> {
+
+    public static final String NAME = "round-robin";
+
+    private final AtomicInteger position = new AtomicInteger();
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Optional<T> pick(List<T> snapshot, Predicate<T> eligible) {
+        int size = snapshot.size();
+        int start = position.getAndIncrement();
+        for (int i = 0; i < size; i++) {
+            T candidate = snapshot.get(Math.floorMod(start + i, size));
+            if (eligible.test(candidate)) {
+                if (i > 0) {
+                    position.addAndGet(i);
+                }
+                return Optional.of(candidate);
+            }
+        }
+        // 고르지 못한 선택은 순환 위치를 소비하지 않습니다. 선호 필터 없이 다시 고를 때 같은 위치에서 시작해야
+        // 다시 고르는 선택이 매번 한 칸씩 밀려 같은 아이템에 몰리지 않습니다.
+        position.decrementAndGet();
+        return Optional.empty();
+    }
+
+    @Override
+    public List<T> pickBatch(List<T> snapshot, int count, Predicate<T> eligible) {
+        int size = snapshot.size();
+        int start = position.getAndAdd(count);
+        List<T> picked = new ArrayList<>(count);
+        int offset = 0; // 확보한 시작 위치부터 소비한 칸 수
+        while (picked.size() < count) {
+            T chosen = null;
+            for (int i = 0; i < size; i++) {
+                T candidate = snapshot.get(Math.floorMod(start + offset + i, size));
+                if (eligible.test(candidate)) {
+                    chosen = candidate;
+                    offset += i + 1;
+                    break;
+                }
+            }
+            if (chosen == null) {
+                break;
+            }
+            picked.add(chosen);
+        }
+        // pick과 같이 건너뛴 칸만큼 순환 위치를 더 옮기고, 고르지 못한 자리의 칸은 되돌립니다.
+        if (offset != count) {
+            position.addAndGet(offset - count);
+        }
+        return picked;
+    }
+}
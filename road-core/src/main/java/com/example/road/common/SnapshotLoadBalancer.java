@@ -0,0 +1,291 @@
+package com.example.road.common;
+
+import com.example.road.jfr.BalancerRefreshEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 정상 아이템의 불변 스냅샷과 교체 가능한 선택 전략({@link LoadBalancingStrategy})으로 로드 밸런싱하는 로드 밸런서입니다.
+ *
+ * <p>새로고침은 스냅샷을 통째로 교체하며, 선택은 락 없이 현재 스냅샷과 현재 전략을 읽어 전략에 선택을 맡깁니다.
+ * 전략은 {@link #setStrategy(LoadBalancingStrategy)}로 실행 중에 바꿀 수 있고, 이미 이전 전략을 읽은 선택은 이전 전략으로 끝까지 진행하므로
+ * 전략을 바꾸는 동안에도 선택이 실패하거나 중단되지 않습니다.</p>
+ *
+ * <p>스냅샷이 비어 있으면 선택은 타임아웃까지 새로고침을 기다립니다. 선택 필터와 선호 필터는
+ * {@link RoundRobinLoadBalancer}와 같은 의미이며, 전략과 관계없이 이 클래스가 적용합니다.
+ * 이 클래스는 스레드에 안전합니다.</p>
+ *
+ * @param <T> 로드 밸런싱 대상 객체의 타입
+ */
+@Slf4j
+public class SnapshotLoadBalancer<T> {
+
+    private final String name;
+    private final long timeoutNanos;
+    private final Predicate<T> activePredicate;
+    // 새로고침과 전략 교체를 직렬화하고, 빈 스냅샷을 기다리는 선택을 깨우는 데 사용합니다 (선택 자체는 락을 잡지 않습니다).
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition refreshed = lock.newCondition();
+
+    private volatile List<T> snapshot = List.of();
+    private volatile LoadBalancingStrategy<T> strategy;
+    // 선택 시점에 아이템을 건너뛸지 판단하는 필터 (예: 요청 수 제한 초과). 기본값은 모든 아이템 허용.
+    private volatile Predicate<T> selectionFilter = t -> true;
+    // 선택 확률을 낮추기 위한 선호 필터 (예: 슬로우 스타트). 선택 필터와 달리, 이 필터만 통과하지 못한 아이템밖에 없으면 무시됩니다.
+    private volatile Predicate<T> preferenceFilter = t -> true;
+
+    /**
+     * @param name 로드 밸런서의 이름 (로깅과 JFR 이벤트에 사용)
+     * @param timeoutSeconds 스냅샷이 비어 있을 때 새로고침을 기다릴 최대 시간 (초). 0이면 기다리지 않습니다.
+     * @param activePredicate 스냅샷에 넣을 아이템을 판별하는 조건
+     * @param strategy 처음 사용할 선택 전략
+     */
+    public SnapshotLoadBalancer(String name, long timeoutSeconds, Predicate<T> activePredicate, LoadBalancingStrategy<T> strategy) {
+        this.name = name;
+        this.timeoutNanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        this.activePredicate = activePredicate;
+        this.strategy = strategy;
+        log.info("[{}] 로드 밸런서가 생성되었습니다. 전략: {}, 타임아웃: {}초", name, strategy.name(), timeoutSeconds);
+    }
+
+    /**
+     * 활성 아이템으로 새 스냅샷을 만들어 교체하고, 빈 스냅샷을 기다리던 선택을 깨웁니다.
+     * 새로고침 전후 크기와 소요 시간은 {@link BalancerRefreshEvent} JFR 이벤트로 기록됩니다.
+     *
+     * @param allItems 전체 아이템 목록
+     */
+    public void refreshItems(List<T> allItems) {
+        BalancerRefreshEvent event = new BalancerRefreshEvent();
+        event.begin();
+        List<T> activeItems = allItems.stream().filter(activePredicate).toList();
+        int oldSize;
+        lock.lock();
+        try {
+            oldSize = snapshot.size();
+            snapshot = activeItems;
+            strategy.onRefresh(activeItems);
+            refreshed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        event.end();
+        if (event.shouldCommit()) { // 기록 중인 JFR 레코딩이 없으면 false이므로 필드를 채우지 않습니다.
+            event.balancer = name;
+            event.oldSize = oldSize;
+            event.newSize = activeItems.size();
+            event.commit();
+        }
+        log.info("[{}] {}개의 활성 아이템을 로드했습니다. (전체: {}개)", name, activeItems.size(), allItems.size());
+    }
+
+    /**
+     * 선택 전략을 바꿉니다. 새 전략은 현재 스냅샷을 받은 뒤 이후 선택부터 사용됩니다.
+     *
+     * @param newStrategy 새 선택 전략 (이 로드 밸런서 전용 인스턴스)
+     * @return 이전 선택 전략
+     */
+    public LoadBalancingStrategy<T> setStrategy(LoadBalancingStrategy<T> newStrategy) {
+        lock.lock();
+        try {
+            newStrategy.onRefresh(snapshot);
+            LoadBalancingStrategy<T> previous = strategy;
+            strategy = newStrategy;
+            log.info("[{}] 선택 전략을 변경했습니다: {} -> {}", name, previous.name(), newStrategy.name());
+            return previous;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 현재 선택 전략을 반환합니다.
+     */
+    public LoadBalancingStrategy<T> getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * 선택 시점에 아이템을 건너뛸지 판단하는 필터를 설정합니다.
+     * 필터는 전략이 고르려는 후보에만 호출되며, 선택마다 호출되므로 락이나 할당 없이 빠르게 판단해야 합니다.
+     *
+     * @param selectionFilter 선택 가능하면 true를 반환하는 필터
+     */
+    public void setSelectionFilter(Predicate<T> selectionFilter) {
+        this.selectionFilter = selectionFilter;
+    }
+
+    /**
+     * 선택 시점에 아이템을 선호하지 않을 조건을 설정합니다 (예: 워밍업 중인 서버를 확률적으로 건너뛰기).
+     * 선호 필터를 통과하지 못한 아이템은 다른 선택 가능한 아이템이 있을 때만 건너뛰며, 그런 아이템이 없으면 선호 필터를 무시하고 다시 선택합니다.
+     * 선호 필터는 선택 필터보다 먼저, 부수 효과 없이 판단해야 합니다.
+     *
+     * @param preferenceFilter 선호하면 true를 반환하는 필터
+     */
+    public void setPreferenceFilter(Predicate<T> preferenceFilter) {
+        this.preferenceFilter = preferenceFilter;
+    }
+
+    /**
+     * 현재 전략으로 다음 아이템을 가져옵니다. 스냅샷이 비어 있으면 타임아웃까지 새로고침을 기다립니다.
+     *
+     * @return 다음 아이템을 포함하는 Optional. 아이템을 가져올 수 없으면 빈 Optional 반환.
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<T> next() throws InterruptedException {
+        return next(t -> true);
+    }
+
+    /**
+     * 현재 전략으로 다음 아이템을 가져오되, 이번 선택에만 적용할 조건을 추가로 검사합니다 (예: 이미 시도한 아이템 제외).
+     * 추가 조건은 선택 필터보다 먼저 검사되므로, 추가 조건으로 제외된 아이템은 선택 필터의 부수 효과(토큰 사용 등)를 일으키지 않습니다.
+     *
+     * @param extraFilter 이번 선택에만 적용할 조건
+     * @return 다음 아이템을 포함하는 Optional. 아이템을 가져올 수 없으면 빈 Optional 반환.
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<T> next(Predicate<T> extraFilter) throws InterruptedException {
+        List<T> items = awaitSnapshot();
+        if (items.isEmpty()) {
+            return Optional.empty();
+        }
+        return select(strategy, items, extraFilter);
+    }
+
+    /**
+     * 스냅샷이 비어 있어도 새로고침을 기다리지 않고 현재 전략으로 다음 아이템을 가져옵니다.
+     * 네트워크 이벤트 루프처럼 블로킹하면 안 되는 스레드에서 사용합니다.
+     *
+     * @return 다음 아이템을 포함하는 Optional. 스냅샷이 비어 있거나 선택 가능한 아이템이 없으면 빈 Optional 반환.
+     */
+    public Optional<T> tryNext() {
+        List<T> items = snapshot;
+        if (items.isEmpty()) {
+            return Optional.empty();
+        }
+        return select(strategy, items, t -> true);
+    }
+
+    /**
+     * 현재 전략으로 {@code count}개의 아이템을 한 번에 가져옵니다 ({@link LoadBalancingStrategy#pickBatch(List, int, Predicate)}).
+     * 모든 선택은 같은 스냅샷과 같은 전략으로 이루어지며, 라운드 로빈 전략은 배치 전체의 순환 위치를 한 번에 확보하므로
+     * 동시 선택이 있어도 배치 중간에 끼어들지 않습니다. 선호 필터 때문에 자리를 채우지 못하면 {@link #next()}와 같이
+     * 그 자리만 선호 필터 없이 다시 고르고 이어서 선택합니다.
+     * 선택 가능한 아이템이 없어지면 그때까지 선택한 아이템만 반환합니다.
+     *
+     * @param count 가져올 아이템 수 (1 이상)
+     * @return 선택된 아이템 목록. 아이템을 가져올 수 없으면 빈 목록 반환.
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public List<T> next(int count) throws InterruptedException {
+        if (count < 1) {
+            throw new IllegalArgumentException("count는 1 이상이어야 합니다: " + count);
+        }
+        List<T> items = awaitSnapshot();
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        LoadBalancingStrategy<T> current = strategy;
+        Predicate<T> preference = preferenceFilter;
+        Eligibility<T> eligibility = new Eligibility<>(t -> true, selectionFilter, preference);
+        List<T> selected = new ArrayList<>(count);
+        while (selected.size() < count) {
+            selected.addAll(current.pickBatch(items, count - selected.size(), eligibility));
+            if (selected.size() == count || !eligibility.preferenceRejected) {
+                break;
+            }
+            // 선호 필터 때문에만 채우지 못했을 수 있으므로 한 자리만 선호 필터 없이 고른 뒤 다시 선호 필터를 적용합니다.
+            eligibility.preference = null;
+            List<T> fallback = current.pickBatch(items, 1, eligibility);
+            if (fallback.isEmpty()) {
+                break;
+            }
+            selected.addAll(fallback);
+            eligibility.preference = preference;
+            eligibility.preferenceRejected = false;
+        }
+        if (selected.size() < count) {
+            log.debug("[{}] 선택 가능한 아이템이 없어 {}개만 선택했습니다.", name, selected.size());
+        }
+        return selected;
+    }
+
+    /**
+     * 현재 스냅샷의 아이템 개수를 반환합니다.
+     * @return 활성 아이템의 개수
+     */
+    public int getActiveItemCount() {
+        return snapshot.size();
+    }
+
+    // 선호 필터를 적용하여 고르고, 선호 필터 때문에만 건너뛴 후보가 있으면 선호 필터 없이 한 번 더 고릅니다.
+    private Optional<T> select(LoadBalancingStrategy<T> current, List<T> items, Predicate<T> extraFilter) {
+        Eligibility<T> eligibility = new Eligibility<>(extraFilter, selectionFilter, preferenceFilter);
+        Optional<T> picked = current.pick(items, eligibility);
+        if (picked.isEmpty() && eligibility.preferenceRejected) {
+            eligibility.preference = null;
+            picked = current.pick(items, eligibility);
+            if (picked.isPresent()) {
+                log.debug("[{}] 선호하는 아이템이 없어 선호 필터 없이 선택했습니다.", name);
+            }
+        }
+        return picked;
+    }
+
+    // 스냅샷이 비어 있으면 타임아웃까지 새로고침을 기다립니다. 기다려도 비어 있으면 빈 스냅샷을 반환합니다.
+    private List<T> awaitSnapshot() throws InterruptedException {
+        List<T> items = snapshot;
+        if (!items.isEmpty() || timeoutNanos <= 0) {
+            return items;
+        }
+        lock.lockInterruptibly();
+        try {
+            long remaining = timeoutNanos;
+            while ((items = snapshot).isEmpty()) {
+                if (remaining <= 0) {
+                    log.warn("[{}] {}초 동안 다음 아이템을 가져오지 못했습니다. 사용 가능한 아이템이 없습니다.", name, TimeUnit.NANOSECONDS.toSeconds(timeoutNanos));
+                    return items;
+                }
+                remaining = refreshed.awaitNanos(remaining);
+            }
+            return items;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 한 번의 선택에서 후보의 적격성을 판단합니다. 추가 조건, 선호 필터, 선택 필터 순으로 검사하며,
+     * 선택 필터(부수 효과 있음)는 앞의 조건을 모두 통과한 후보에만 호출합니다.
+     */
+    private static final class Eligibility<T> implements Predicate<T> {
+        private final Predicate<T> extraFilter;
+        private final Predicate<T> selectionFilter;
+        private Predicate<T> preference;
+        private boolean preferenceRejected;
+
+        private Eligibility(Predicate<T> extraFilter, Predicate<T> selectionFilter, Predicate<T> preference) {
+            this.extraFilter = extraFilter;
+            this.selectionFilter = selectionFilter;
+            this.preference = preference;
+        }
+
+        @Override
+        public boolean test(T candidate) {
+            if (!extraFilter.test(candidate)) {
+                return false;
+            }
+            if (preference != null && !preference.test(candidate)) {
+                preferenceRejected = true;
+                return false;
+            }
+            return selectionFilter.test(candidate);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.road.common;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 논블로킹 {@link SocketChannel}과 하나의 {@link Selector} 스레드로 TCP 연결 가능 여부만 확인하는 프로버입니다.
+ *
+ * <p>연결 시도는 요청 스레드에서 시작하고(논블로킹 connect), 완료와 타임아웃은 셀렉터 스레드가 처리합니다.
+ * 진행 중인 프로브는 스레드를 점유하지 않으므로 수천 개의 프로브를 스레드 하나로 동시에 처리할 수 있습니다.
+ * 연결이 성립하면 데이터를 주고받지 않고 바로 닫습니다.
+ * 결과 Future는 셀렉터 스레드에서 완료되므로, 후속 작업은 WebClient 응답 처리와 마찬가지로 가벼워야 합니다.</p>
+ */
+@Slf4j
+public class TcpConnectProber implements AutoCloseable {
+
+    // 가장 가까운 타임아웃이 없을 때의 최대 대기 시간 (밀리초)
+    private static final long MAX_SELECT_MILLIS = 1000;
+
+    private final Selector selector;
+    private final Thread selectorThread;
+    private final Queue<PendingProbe> registrations = new ConcurrentLinkedQueue<>();
+    private volatile boolean running = true;
+
+    public TcpConnectProber(String threadName) {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new IllegalStateException("TCP 프로브용 셀렉터를 열 수 없습니다.", e);
+        }
+        this.selectorThread = Thread.ofPlatform().name(threadName).daemon().start(this::runLoop);
+    }
+
+    /**
+     * 주소로 TCP 연결을 시도합니다.
+     * @param address 연결할 주소 (해석되지 않은 주소면 즉시 false)
+     * @param timeoutMillis 연결 타임아웃 (밀리초)
+     * @return 타임아웃 안에 연결이 성립하면 true로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> probe(InetSocketAddress address, long timeoutMillis) {
+        if (!running || address.isUnresolved()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(address)) {
+                channel.close();
+                return CompletableFuture.completedFuture(true);
+            }
+        } catch (IOException e) {
+            closeQuietly(channel);
+            return CompletableFuture.completedFuture(false);
+        }
+        PendingProbe pending = new PendingProbe(channel, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+        registrations.add(pending);
+        selector.wakeup();
+        return pending.result;
+    }
+
+    /**
+     * 현재 진행 중인 프로브 수를 반환합니다.
+     */
+    public int getInFlightCount() {
+        return selector.keys().size() + registrations.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        try {
+            while (running) {
+                registerPending();
+                selector.select(selectTimeoutMillis());
+                Iterator<SelectionKey> selected = selector.selectedKeys().iterator();
+                while (selected.hasNext()) {
+                    SelectionKey key = selected.next();
+                    selected.remove();
+                    finishConnect(key);
+                }
+                expireTimedOut(System.nanoTime());
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("TCP 프로브 셀렉터가 비정상 종료되었습니다: {}", e.getMessage(), e);
+        } finally {
+            running = false;
+            shutdown();
+        }
+    }
+
+    private void registerPending() {
+        PendingProbe pending;
+        while ((pending = registrations.poll()) != null) {
+            try {
+                pending.channel.register(selector, SelectionKey.OP_CONNECT, pending);
+            } catch (IOException e) {
+                pending.complete(false);
+            }
+        }
+    }
+
+    // 가장 가까운 타임아웃까지만 대기합니다. 0은 무한 대기이므로 최소 1밀리초를 사용합니다.
+    private long selectTimeoutMillis() {
+        long now = System.nanoTime();
+        long nearest = MAX_SELECT_MILLIS;
+        for (SelectionKey key : selector.keys()) {
+            PendingProbe pending = (PendingProbe) key.attachment();
+            nearest = Math.min(nearest, TimeUnit.NANOSECONDS.toMillis(pending.deadlineNanos - now));
+        }
+        return Math.max(1, nearest);
+    }
+
+    private void finishConnect(SelectionKey key) {
+        PendingProbe pending = (PendingProbe) key.attachment();
+        boolean connected;
+        try {
+            connected = key.isValid() && key.isConnectable() && pending.channel.finishConnect();
+        } catch (IOException e) {
+            connected = false;
+        }
+        key.cancel();
+        pending.complete(connected);
+    }
+
+    private void expireTimedOut(long nowNanos) {
+        for (SelectionKey key : selector.keys()) {
+            PendingProbe pending = (PendingProbe) key.attachment();
+            if (key.isValid() && nowNanos - pending.deadlineNanos >= 0) {
+                key.cancel();
+                pending.complete(false);
+            }
+        }
+    }
+
+    private void shutdown() {
+        registerPending();
+        for (SelectionKey key : selector.keys()) {
+            ((PendingProbe) key.attachment()).complete(false);
+        }
+        PendingProbe pending;
+        while ((pending = registrations.poll()) != null) {
+            pending.complete(false);
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("TCP 프로브 셀렉터를 닫는 중 오류가 발생했습니다: {}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(SocketChannel channel) {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // 이미 실패한 프로브이므로 무시합니다.
+        }
+    }
+
+    private static final class PendingProbe {
+        private final SocketChannel channel;
+        private final long deadlineNanos;
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        private PendingProbe(SocketChannel channel, long deadlineNanos) {
+            this.channel = channel;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private void complete(boolean connected) {
+            closeQuietly(channel);
+            result.complete(connected);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.road.common;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락을 사용하지 않는 토큰 버킷 구현체입니다.
+ * 초당 {@code ratePerSecond}개의 토큰이 채워지며, 최대 {@code capacity}개까지 한 번에 사용할 수 있습니다.
+ *
+ * <p>토큰 수 대신 "다음 토큰이 이론상 도착하는 시각" 하나만 {@link AtomicLong}에 저장하고 CAS로 갱신합니다 (GCRA 방식).
+ * 따라서 토큰 획득은 할당 없이 CAS 한 번으로 끝나며, 여러 스레드가 동시에 호출해도 락 경합이 없습니다.
+ * 이 클래스는 스레드에 안전합니다.</p>
+ */
+public class TokenBucket {
+
+    private final int ratePerSecond;
+    // 토큰 하나가 채워지는 간격 (나노초)
+    private final long emissionIntervalNanos;
+    // 이론 도착 시각이 현재보다 앞서도 허용되는 최대 간격 (버킷 용량 - 1개 분량)
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    /**
+     * 초당 토큰 수와 버킷 용량을 지정하여 토큰 버킷을 생성합니다. 생성 직후 버킷은 가득 찬 상태입니다.
+     * @param ratePerSecond 초당 채워지는 토큰 수 (1 이상)
+     * @param capacity 한 번에 사용할 수 있는 최대 토큰 수 (1 이상)
+     */
+    public TokenBucket(int ratePerSecond, int capacity) {
+        if (ratePerSecond < 1 || capacity < 1) {
+            throw new IllegalArgumentException("ratePerSecond와 capacity는 1 이상이어야 합니다: " + ratePerSecond + ", " + capacity);
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.emissionIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+        this.theoreticalArrivalNanos = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * 토큰 하나를 획득합니다. 대기하지 않으며, 토큰이 없으면 즉시 false를 반환합니다.
+     * @return 토큰을 획득했으면 true
+     */
+    public boolean tryAcquire() {
+        return tryAcquire(System.nanoTime());
+    }
+
+    // 테스트에서 시각을 지정할 수 있도록 분리한 구현입니다.
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long arrival = theoreticalArrivalNanos.get();
+            long base = Math.max(arrival, nowNanos);
+            if (base - nowNanos > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(arrival, base + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 초당 채워지는 토큰 수를 반환합니다.
+     * @return 초당 토큰 수
+     */
+    public int getRatePerSecond() {
+        return ratePerSecond;
+    }
+}
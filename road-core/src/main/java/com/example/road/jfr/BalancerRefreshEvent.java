@@ -0,0 +1,28 @@
+package com.example.road.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 로드 밸런서의 아이템 목록 새로고침을 기록하는 JFR 이벤트입니다.
+ * 이벤트의 지속 시간은 새로고침 락을 잡은 뒤 큐를 다시 채울 때까지의 시간입니다.
+ */
+@Name("com.example.road.BalancerRefresh")
+@Label("Balancer Refresh")
+@Category({"Road", "Balancer"})
+@Description("로드 밸런서 아이템 목록 새로고침 전후 크기와 소요 시간")
+@StackTrace(false)
+public class BalancerRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Balancer")
+    public String balancer;
+
+    @Label("Old Size")
+    public int oldSize;
+
+    @Label("New Size")
+    public int newSize;
+}
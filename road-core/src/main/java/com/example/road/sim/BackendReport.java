@@ -0,0 +1,39 @@
+package com.example.road.sim;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 시뮬레이션 백엔드 하나의 결과입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class BackendReport {
+    // 백엔드 이름
+    private String name;
+    // 이 백엔드로 보낸 요청 수
+    private long routed;
+    // 성공한 요청 수
+    private long succeeded;
+    // 처리를 마쳤지만 실패 응답으로 끝난 요청 수 (errorRate)
+    private long errors;
+    // 대기열이 가득 차 거절된 요청 수
+    private long rejected;
+    // 장애 중에 도착했거나 장애가 시작될 때 처리 중/대기 중이어서 실패한 요청 수
+    private long failedDown;
+    // 사용률: 처리 시간 합 / (동시 처리 수 x 시뮬레이션 시간)
+    private double utilization;
+    // 시뮬레이션 시간 중 장애 상태였던 비율
+    private double downFraction;
+    // 처리를 시작하기까지 대기열에서 기다린 시간
+    private LatencySummary queueWait;
+    // 성공한 요청의 도착부터 완료까지의 지연 시간
+    private LatencySummary latency;
+
+    /**
+     * 이 백엔드로 보낸 요청 중 실패한 요청(실패 응답, 거절, 장애)의 비율을 반환합니다.
+     */
+    public double getErrorRate() {
+        return routed == 0 ? 0 : (double) (errors + rejected + failedDown) / routed;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.road.sim;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시뮬레이션 백엔드 하나의 설정입니다.
+ *
+ * <p>백엔드는 동시에 {@code capacity}개의 요청을 처리하고, 나머지는 도착 순서대로 최대 {@code maxQueue}개까지 대기시킵니다.
+ * 대기열이 가득 차면 요청을 바로 거절합니다. 장애 중인 백엔드로 보낸 요청은 바로 실패하며, 장애가 시작되는 순간
+ * 처리 중이거나 대기 중인 요청도 모두 실패합니다. 장애는 {@code outages}로 정한 구간과, {@code meanTimeBetweenFailuresMs}가
+ * 0보다 크면 평균 고장 간격과 평균 복구 시간을 따르는 지수 분포로 무작위로 발생합니다.</p>
+ */
+@Getter
+@Setter
+public class BackendSpec {
+    // 백엔드 이름 (보고서에 사용)
+    private String name;
+    // 동시에 처리할 수 있는 요청 수
+    private int capacity = 8;
+    // 처리를 기다릴 수 있는 요청 수. 넘으면 요청을 거절합니다.
+    private int maxQueue = 1000;
+    // 요청 하나의 서비스 시간 분포
+    private ServiceTimeDistribution serviceTime = ServiceTimeDistribution.exponential(5);
+    // 처리를 마친 요청이 실패 응답으로 끝날 확률 (0 이상 1 이하)
+    private double errorRate;
+    // 무작위 장애의 평균 발생 간격 (밀리초). 0이면 무작위 장애가 없습니다.
+    private long meanTimeBetweenFailuresMs;
+    // 무작위 장애의 평균 복구 시간 (밀리초)
+    private long meanTimeToRecoveryMs = 10000;
+    // 정해진 장애 구간
+    private List<Outage> outages = new ArrayList<>();
+
+    public BackendSpec(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 정해진 장애 구간입니다.
+     *
+     * @param startMs 장애가 시작되는 시뮬레이션 시각 (밀리초)
+     * @param durationMs 장애 지속 시간 (밀리초)
+     */
+    public record Outage(long startMs, long durationMs) {
+    }
+}
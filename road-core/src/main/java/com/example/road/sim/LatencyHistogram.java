@@ -0,0 +1,91 @@
+package com.example.road.sim;
+
+/**
+ * 수백만 개의 지연 시간을 고정 크기 메모리로 기록하고 백분위수를 계산하는 로그-선형 히스토그램입니다.
+ *
+ * <p>값(나노초)을 최상위 비트 위치로 나눈 구간마다 {@value #SUB_BUCKETS}개의 균등한 하위 구간을 두므로,
+ * 백분위수의 상대 오차는 1% 미만입니다. 128 미만의 값은 정확히 기록합니다. 최댓값과 평균은 정확한 값을 보관합니다.</p>
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // 최상위 비트 위치 7~62마다 하위 구간 128개, 그리고 128 미만의 값 128개
+    private static final int BUCKETS = (63 - SUB_BUCKET_BITS) * SUB_BUCKETS + SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long max;
+
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        max = Math.max(max, value);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long max() {
+        return max;
+    }
+
+    double mean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * 백분위수를 반환합니다. 기록된 값이 없으면 0을 반환합니다.
+     *
+     * @param quantile 0 초과 1 이하 (예: 0.99)
+     * @return 해당 백분위수가 속한 하위 구간의 중간값 (나노초, 최댓값을 넘지 않음)
+     */
+    long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return Math.min(max, midpointOf(i));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 지연 시간 요약(밀리초)을 만듭니다.
+     */
+    LatencySummary summary() {
+        return new LatencySummary(toMillis(percentile(0.5)), toMillis(percentile(0.9)), toMillis(percentile(0.99)),
+                toMillis(percentile(0.999)), toMillis(max), mean() / 1_000_000.0);
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(value);
+        int shift = msb - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    static long midpointOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lower = (long) (index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lower + ((1L << shift) >>> 1);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
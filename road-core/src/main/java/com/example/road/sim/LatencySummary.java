@@ -0,0 +1,18 @@
+package com.example.road.sim;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지연 시간 분포의 요약입니다 (밀리초). 백분위수의 상대 오차는 1% 미만입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class LatencySummary {
+    private double p50;
+    private double p90;
+    private double p99;
+    private double p999;
+    private double max;
+    private double mean;
+}
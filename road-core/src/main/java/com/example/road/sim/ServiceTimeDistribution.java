@@ -0,0 +1,91 @@
+package com.example.road.sim;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 시뮬레이션 백엔드가 요청 하나를 처리하는 데 걸리는 시간(서비스 시간)의 분포입니다.
+ *
+ * <p>{@link #parse(String)}로 {@code 종류:인자} 형식의 문자열에서 만들 수 있으며, 인자는 밀리초 단위입니다.</p>
+ * <ul>
+ *     <li>{@code const:5} - 항상 5ms</li>
+ *     <li>{@code exp:5} - 평균 5ms인 지수 분포</li>
+ *     <li>{@code uniform:2:8} - 2ms 이상 8ms 미만의 균등 분포</li>
+ *     <li>{@code lognormal:5:0.8} - 중앙값 5ms, 로그 표준편차 0.8인 로그 정규 분포 (꼬리가 긴 서비스 시간)</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface ServiceTimeDistribution {
+
+    /**
+     * 서비스 시간 하나를 뽑습니다.
+     *
+     * @param random 시뮬레이터가 백엔드마다 주는 난수 생성기
+     * @return 서비스 시간 (나노초, 0 이상)
+     */
+    long sampleNanos(RandomGenerator random);
+
+    static ServiceTimeDistribution constant(double millis) {
+        long nanos = (long) toNanos(requirePositive(millis, "서비스 시간"));
+        return random -> nanos;
+    }
+
+    static ServiceTimeDistribution exponential(double meanMillis) {
+        double mean = toNanos(requirePositive(meanMillis, "평균 서비스 시간"));
+        return random -> (long) (-mean * Math.log(1.0 - random.nextDouble()));
+    }
+
+    static ServiceTimeDistribution uniform(double minMillis, double maxMillis) {
+        if (minMillis < 0 || maxMillis <= minMillis) {
+            throw new IllegalArgumentException("균등 분포는 0 <= 최소 < 최대여야 합니다: " + minMillis + ", " + maxMillis);
+        }
+        double min = toNanos(minMillis);
+        double span = toNanos(maxMillis) - min;
+        return random -> (long) (min + span * random.nextDouble());
+    }
+
+    static ServiceTimeDistribution logNormal(double medianMillis, double sigma) {
+        double mu = Math.log(toNanos(requirePositive(medianMillis, "중앙 서비스 시간")));
+        double s = requirePositive(sigma, "로그 표준편차");
+        return random -> (long) Math.exp(mu + s * random.nextGaussian());
+    }
+
+    /**
+     * {@code 종류:인자} 형식의 문자열에서 분포를 만듭니다.
+     *
+     * @param spec 분포 문자열 (예: {@code exp:5})
+     * @return 서비스 시간 분포
+     * @throws IllegalArgumentException 지원하지 않는 종류이거나 인자가 잘못된 경우
+     */
+    static ServiceTimeDistribution parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        try {
+            return switch (parts[0]) {
+                case "const" -> constant(argument(parts, 1, 2));
+                case "exp" -> exponential(argument(parts, 1, 2));
+                case "uniform" -> uniform(argument(parts, 1, 3), argument(parts, 2, 3));
+                case "lognormal" -> logNormal(argument(parts, 1, 3), argument(parts, 2, 3));
+                default -> throw new IllegalArgumentException("지원하지 않는 서비스 시간 분포입니다: " + spec);
+            };
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("서비스 시간 분포의 인자가 숫자가 아닙니다: " + spec, e);
+        }
+    }
+
+    private static double argument(String[] parts, int index, int expectedLength) {
+        if (parts.length != expectedLength) {
+            throw new IllegalArgumentException("서비스 시간 분포 '" + parts[0] + "'의 인자 수가 맞지 않습니다: " + String.join(":", parts));
+        }
+        return Double.parseDouble(parts[index]);
+    }
+
+    private static double requirePositive(double value, String name) {
+        if (!(value > 0)) {
+            throw new IllegalArgumentException(name + "은(는) 0보다 커야 합니다: " + value);
+        }
+        return value;
+    }
+
+    private static double toNanos(double millis) {
+        return millis * 1_000_000;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.road.sim;
+
+import com.example.road.common.LoadHeadroom;
+
+import java.util.SplittableRandom;
+
+/**
+ * 시뮬레이션 백엔드입니다. 선택 전략이 고르는 아이템이며, 전략이 읽을 수 있는 현재 상태(처리 중인 요청 수, 대기열 길이,
+ * 마지막 부하 보고의 여유 용량)를 제공합니다. 상태는 {@link StrategySimulator}만 바꿉니다.
+ */
+public final class SimulatedBackend {
+
+    private final int index;
+    private final BackendSpec spec;
+    private final VirtualClock clock;
+    private final LoadHeadroom loadHeadroom;
+
+    // 서비스 시간과 실패 응답을 뽑는 난수 생성기, 무작위 장애 시각을 뽑는 난수 생성기.
+    // 장애 일정은 라우팅과 관계없이 같도록 따로 둡니다.
+    final SplittableRandom serviceRandom;
+    final SplittableRandom failureRandom;
+
+    // 처리 중인 요청 수와, 처리 중인 요청들의 시작 시각 합 (장애 시 처리 시간을 한 번에 계산하기 위함)
+    int busy;
+    long busyStartSum;
+    // 처리를 기다리는 요청들의 도착 시각 (원형 버퍼)
+    private long[] queue = new long[16];
+    private int queueHead;
+    private int queueSize;
+    // 장애 중첩 수 (정해진 장애와 무작위 장애가 겹칠 수 있음)와, 장애가 날 때마다 증가하는 세대.
+    // 세대가 다른 완료 이벤트는 장애로 이미 실패한 요청의 것이므로 무시합니다.
+    int downDepth;
+    long downSinceNanos;
+    int epoch;
+    // 마지막 부하 보고
+    private double reportedHeadroom;
+    private long reportedAtMillis = -1;
+
+    final Stats stats = new Stats();
+
+    SimulatedBackend(int index, BackendSpec spec, VirtualClock clock, LoadHeadroom loadHeadroom,
+                     SplittableRandom serviceRandom, SplittableRandom failureRandom) {
+        this.index = index;
+        this.spec = spec;
+        this.clock = clock;
+        this.loadHeadroom = loadHeadroom;
+        this.serviceRandom = serviceRandom;
+        this.failureRandom = failureRandom;
+    }
+
+    /**
+     * 설정 순서의 위치를 반환합니다.
+     */
+    public int index() {
+        return index;
+    }
+
+    public String name() {
+        return spec.getName();
+    }
+
+    public int capacity() {
+        return spec.getCapacity();
+    }
+
+    /**
+     * 현재 처리 중인 요청 수를 반환합니다.
+     */
+    public int inFlight() {
+        return busy;
+    }
+
+    /**
+     * 현재 처리를 기다리는 요청 수를 반환합니다.
+     */
+    public int queueDepth() {
+        return queueSize;
+    }
+
+    /**
+     * 장애 중이면 true를 반환합니다. 로드 밸런서는 다음 헬스 체크 전까지 이 상태를 알지 못합니다.
+     */
+    public boolean isDown() {
+        return downDepth > 0;
+    }
+
+    /**
+     * 마지막 부하 보고로 계산한 현재 여유 용량을 가상 시각 기준의 보고 경과만큼 감쇠하여 반환합니다.
+     * 보고가 없으면 중립값을 반환합니다.
+     */
+    public double headroom() {
+        if (reportedAtMillis < 0) {
+            return loadHeadroom.neutral();
+        }
+        return loadHeadroom.decayed(reportedHeadroom, clock.millis() - reportedAtMillis);
+    }
+
+    @Override
+    public String toString() {
+        return spec.getName();
+    }
+
+    BackendSpec spec() {
+        return spec;
+    }
+
+    // 현재 처리 중인 요청 수와 대기열 길이로 부하를 보고합니다.
+    void reportLoad() {
+        reportedHeadroom = loadHeadroom.headroom((double) busy / spec.getCapacity(), queueSize, busy);
+        reportedAtMillis = clock.millis();
+    }
+
+    void enqueue(long arrivalNanos) {
+        if (queueSize == queue.length) {
+            long[] grown = new long[queue.length * 2];
+            for (int i = 0; i < queueSize; i++) {
+                grown[i] = queue[(queueHead + i) % queue.length];
+            }
+            queue = grown;
+            queueHead = 0;
+        }
+        queue[(queueHead + queueSize) % queue.length] = arrivalNanos;
+        queueSize++;
+    }
+
+    long dequeue() {
+        long arrivalNanos = queue[queueHead];
+        queueHead = (queueHead + 1) % queue.length;
+        queueSize--;
+        return arrivalNanos;
+    }
+
+    void clearQueue() {
+        queueHead = 0;
+        queueSize = 0;
+    }
+
+    /**
+     * 백엔드별 집계입니다.
+     */
+    static final class Stats {
+        long routed;
+        long succeeded;
+        long errors;
+        long rejected;
+        long failedDown;
+        long busyNanos;
+        long downNanos;
+        final LatencyHistogram queueWait = new LatencyHistogram();
+        final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.road.sim;
+
+import com.example.road.common.HeadroomWeightedStrategy;
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.common.RoundRobinLoadBalancer;
+import com.example.road.common.RoundRobinStrategy;
+import com.example.road.common.SnapshotLoadBalancer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.random.RandomGenerator;
+
+/**
+ * 시뮬레이터가 요청마다 백엔드를 고르는 데 사용하는 로드 밸런서입니다.
+ * road 서버와 같은 로드 밸런서 구현({@link SnapshotLoadBalancer}와 선택 전략, 또는 {@link RoundRobinLoadBalancer})을 감싸며,
+ * 시뮬레이션은 한 스레드에서 진행되므로 선택은 기다리지 않습니다.
+ */
+public interface SimulatedSelector {
+
+    /**
+     * 헬스 체크로 판정한 정상 백엔드 목록이 바뀌었을 때 호출됩니다.
+     *
+     * @param healthy 정상 백엔드 (설정 순서)
+     */
+    void refresh(List<SimulatedBackend> healthy);
+
+    /**
+     * 요청을 보낼 백엔드를 고릅니다.
+     *
+     * @return 고른 백엔드. 정상 백엔드가 없으면 빈 Optional.
+     */
+    Optional<SimulatedBackend> pick();
+
+    /**
+     * 고른 백엔드로 보낸 요청의 결과를 전달받습니다.
+     *
+     * @param backend 요청을 보낸 백엔드
+     * @param success 요청 성공 여부
+     * @param latencyNanos 도착부터 완료까지의 가상 시간 (나노초). 알 수 없으면 -1.
+     */
+    default void onOutcome(SimulatedBackend backend, boolean success, long latencyNanos) {
+    }
+
+    /**
+     * 백엔드가 부하를 보고했을 때 호출됩니다.
+     *
+     * @param backend 부하를 보고한 백엔드
+     */
+    default void onLoadReport(SimulatedBackend backend) {
+    }
+
+    /**
+     * 선택 전략으로 고르는 {@link SnapshotLoadBalancer}를 사용합니다. 요청 결과와 부하 보고는 전략의 {@link LoadBalancingStrategy#onOutcome}과
+     * {@link LoadBalancingStrategy#onLoadReport}로 전달됩니다.
+     *
+     * @param strategy 선택 전략 (이 시뮬레이션 전용 인스턴스)
+     */
+    static SimulatedSelector of(LoadBalancingStrategy<SimulatedBackend> strategy) {
+        SnapshotLoadBalancer<SimulatedBackend> balancer = new SnapshotLoadBalancer<>("simulation", 0, backend -> true, strategy);
+        return new SimulatedSelector() {
+            @Override
+            public void refresh(List<SimulatedBackend> healthy) {
+                balancer.refreshItems(healthy);
+            }
+
+            @Override
+            public Optional<SimulatedBackend> pick() {
+                return balancer.tryNext();
+            }
+
+            @Override
+            public void onOutcome(SimulatedBackend backend, boolean success, long latencyNanos) {
+                strategy.onOutcome(backend, success, latencyNanos);
+            }
+
+            @Override
+            public void onLoadReport(SimulatedBackend backend) {
+                strategy.onLoadReport(backend);
+            }
+        };
+    }
+
+    /**
+     * 큐 기반 {@link RoundRobinLoadBalancer}를 사용합니다. 새로고침마다 선택 순서가 처음부터 다시 시작합니다.
+     */
+    static SimulatedSelector roundRobinQueue() {
+        RoundRobinLoadBalancer<SimulatedBackend> balancer = new RoundRobinLoadBalancer<>("simulation", 0, backend -> true,
+                backend -> (long) backend.index());
+        return new SimulatedSelector() {
+            @Override
+            public void refresh(List<SimulatedBackend> healthy) {
+                balancer.refreshItems(healthy);
+            }
+
+            @Override
+            public Optional<SimulatedBackend> pick() {
+                try {
+                    return balancer.next(); // 타임아웃이 0이므로 기다리지 않습니다.
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("시뮬레이션이 인터럽트되었습니다.", e);
+                }
+            }
+        };
+    }
+
+    /**
+     * 이름으로 선택기를 만듭니다. road 서버의 전략 이름({@code round-robin}, {@code headroom})과,
+     * 큐 기반 라운드 로빈 로드 밸런서({@code round-robin-queue})를 지원합니다.
+     *
+     * @param name 전략 이름
+     * @param options 시뮬레이션 설정 ({@code headroom} 전략의 최소 가중치와 pendingScale)
+     * @param random 무작위로 고르는 전략이 사용할 난수 생성기 (시드에서 파생)
+     * @throws IllegalArgumentException 지원하지 않는 전략인 경우
+     */
+    static SimulatedSelector named(String name, SimulationOptions options, RandomGenerator random) {
+        return switch (name) {
+            case RoundRobinStrategy.NAME -> of(new RoundRobinStrategy<>());
+            case HeadroomWeightedStrategy.NAME -> of(new HeadroomWeightedStrategy<>(SimulatedBackend::headroom, options.getMinWeight(),
+                    options.getPendingScale(), () -> random));
+            case "round-robin-queue" -> roundRobinQueue();
+            default -> throw new IllegalArgumentException("지원하지 않는 선택 전략입니다: " + name);
+        };
+    }
+}
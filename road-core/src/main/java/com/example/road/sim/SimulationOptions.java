@@ -0,0 +1,33 @@
+package com.example.road.sim;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link StrategySimulator} 설정입니다. 헬스 체크와 부하 보고 관련 기본값은 road 서버의 기본 설정과 맞춥니다.
+ */
+@Getter
+@Setter
+public class SimulationOptions {
+    // 난수 시드. 같은 시드와 같은 설정이면 결과가 같습니다.
+    private long seed = 1;
+    // 시뮬레이션할 요청 수
+    private long requests = 1_000_000;
+    // 요청 도착률 (초당 요청 수). 도착 간격은 지수 분포(포아송 도착)를 따릅니다.
+    private double arrivalRatePerSecond = 10_000;
+    // 헬스 체크 주기 (밀리초, server.healthcheck.interval-ms). 헬스 체크는 장애 중이 아닌 백엔드를 정상으로 판정합니다.
+    private long healthCheckIntervalMs = 10000;
+    // 백엔드가 부하(사용률, 대기열 길이, 처리 중인 요청 수)를 보고하는 주기 (밀리초). 0이면 보고하지 않습니다.
+    private long loadReportIntervalMs = 1000;
+    // 부하 보고에서 여유 용량을 계산하는 설정 (road.load-report.*)
+    private double pendingScale = 10;
+    private long halfLifeMs = 5000;
+    private long maxAgeMs = 30000;
+    private double neutralHeadroom = 0.5;
+    private double minWeight = 0.02;
+    // 백엔드 설정 (한 개 이상)
+    private List<BackendSpec> backends = new ArrayList<>();
+}
@@ -0,0 +1,68 @@
+package com.example.road.sim;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 선택 전략 하나로 실행한 시뮬레이션의 결과입니다. {@code wallMillis}를 빼면 같은 시드와 설정에서 항상 같습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class SimulationReport {
+    // 선택 전략 이름
+    private String strategy;
+    // 난수 시드
+    private long seed;
+    // 시뮬레이션한 요청 수
+    private long requests;
+    // 성공한 요청 수
+    private long succeeded;
+    // 실패한 요청 수 (백엔드별 실패와 라우팅하지 못한 요청의 합)
+    private long failed;
+    // 정상 백엔드가 없어 라우팅하지 못한 요청 수
+    private long unrouted;
+    // 마지막 요청이 끝난 가상 시각 (밀리초)
+    private long simulatedMillis;
+    // 시뮬레이션에 걸린 실제 시간 (밀리초)
+    private long wallMillis;
+    // 전체 대기열 대기 시간
+    private LatencySummary queueWait;
+    // 성공한 요청 전체의 지연 시간
+    private LatencySummary latency;
+    // 백엔드별 결과 (설정 순서)
+    private List<BackendReport> backends;
+
+    /**
+     * 실패한 요청의 비율을 반환합니다.
+     */
+    public double getErrorRate() {
+        return requests == 0 ? 0 : (double) failed / requests;
+    }
+
+    /**
+     * 결과를 사람이 읽을 수 있는 표로 만듭니다.
+     */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "strategy=%s seed=%d requests=%d simulated=%.1fs wall=%dms (%.0f req/s)%n",
+                strategy, seed, requests, simulatedMillis / 1000.0, wallMillis, wallMillis == 0 ? 0 : requests * 1000.0 / wallMillis));
+        out.append(String.format(Locale.ROOT, "succeeded=%d failed=%d (%.4f%%) unrouted=%d%n",
+                succeeded, failed, getErrorRate() * 100, unrouted));
+        out.append(String.format(Locale.ROOT, "queue wait ms  p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                queueWait.getP50(), queueWait.getP90(), queueWait.getP99(), queueWait.getP999(), queueWait.getMax()));
+        out.append(String.format(Locale.ROOT, "latency ms     p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f max=%.3f%n",
+                latency.getP50(), latency.getP90(), latency.getP99(), latency.getP999(), latency.getMax()));
+        out.append(String.format(Locale.ROOT, "%-12s %10s %7s %6s %9s %9s %9s %9s %9s %9s%n",
+                "backend", "routed", "util", "down", "errors", "rejected", "failDown", "err%", "wait p99", "lat p99"));
+        for (BackendReport backend : backends) {
+            out.append(String.format(Locale.ROOT, "%-12s %10d %6.1f%% %5.1f%% %9d %9d %9d %8.3f%% %9.3f %9.3f%n",
+                    backend.getName(), backend.getRouted(), backend.getUtilization() * 100, backend.getDownFraction() * 100,
+                    backend.getErrors(), backend.getRejected(), backend.getFailedDown(), backend.getErrorRate() * 100,
+                    backend.getQueueWait().getP99(), backend.getLatency().getP99()));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.road.sim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 명령줄에서 선택 전략을 시뮬레이션하고 결과를 출력합니다 ({@code ./gradlew :road-core:simulate --args="..."}).
+ *
+ * <pre>
+ * --strategy=round-robin,headroom   비교할 전략 (쉼표로 구분, 전략마다 같은 시드로 실행)
+ * --seed=1 --requests=1000000 --rate=4000 --health-interval-ms=10000 --load-report-interval-ms=1000
+ * --backend=이름,capacity=8,queue=1000,service=exp:5,error-rate=0,mtbf-ms=0,mttr-ms=10000,outage=시작ms+지속ms
+ * </pre>
+ *
+ * {@code --backend}는 백엔드마다 한 번씩 지정하며, 생략하면 느린 백엔드 하나와 장애가 한 번 나는 백엔드 하나를 포함한 기본 구성을 사용합니다.
+ */
+public final class SimulatorMain {
+
+    private static final List<String> DEFAULT_BACKENDS = List.of(
+            "b1,service=exp:5",
+            "b2,service=exp:5,outage=65000+20000",
+            "b3,service=exp:5",
+            "b4,service=lognormal:6:0.6");
+
+    private SimulatorMain() {
+    }
+
+    public static void main(String[] args) {
+        SimulationOptions options = new SimulationOptions();
+        options.setArrivalRatePerSecond(4000);
+        List<String> strategies = List.of("round-robin", "headroom");
+        List<String> backendSpecs = new ArrayList<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+            }
+            String value = arg.substring(eq + 1);
+            switch (arg.substring(2, eq)) {
+                case "strategy" -> strategies = Arrays.asList(value.split(","));
+                case "seed" -> options.setSeed(Long.parseLong(value));
+                case "requests" -> options.setRequests(Long.parseLong(value));
+                case "rate" -> options.setArrivalRatePerSecond(Double.parseDouble(value));
+                case "health-interval-ms" -> options.setHealthCheckIntervalMs(Long.parseLong(value));
+                case "load-report-interval-ms" -> options.setLoadReportIntervalMs(Long.parseLong(value));
+                case "backend" -> backendSpecs.add(value);
+                default -> throw new IllegalArgumentException("알 수 없는 옵션입니다: " + arg);
+            }
+        }
+        for (String spec : backendSpecs.isEmpty() ? DEFAULT_BACKENDS : backendSpecs) {
+            options.getBackends().add(parseBackend(spec));
+        }
+
+        StrategySimulator simulator = new StrategySimulator(options);
+        for (String strategy : strategies) {
+            System.out.println(simulator.run(strategy.trim()).format());
+        }
+    }
+
+    /**
+     * {@code 이름,키=값,...} 형식의 백엔드 설정을 읽습니다.
+     */
+    static BackendSpec parseBackend(String spec) {
+        String[] parts = spec.split(",");
+        BackendSpec backend = new BackendSpec(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            int eq = parts[i].indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("백엔드 설정은 키=값 형식이어야 합니다: " + parts[i]);
+            }
+            String value = parts[i].substring(eq + 1);
+            switch (parts[i].substring(0, eq)) {
+                case "capacity" -> backend.setCapacity(Integer.parseInt(value));
+                case "queue" -> backend.setMaxQueue(Integer.parseInt(value));
+                case "service" -> backend.setServiceTime(ServiceTimeDistribution.parse(value));
+                case "error-rate" -> backend.setErrorRate(Double.parseDouble(value));
+                case "mtbf-ms" -> backend.setMeanTimeBetweenFailuresMs(Long.parseLong(value));
+                case "mttr-ms" -> backend.setMeanTimeToRecoveryMs(Long.parseLong(value));
+                case "outage" -> {
+                    String[] window = value.split("\\+");
+                    if (window.length != 2) {
+                        throw new IllegalArgumentException("장애 구간은 시작ms+지속ms 형식이어야 합니다: " + value);
+                    }
+                    backend.getOutages().add(new BackendSpec.Outage(Long.parseLong(window[0]), Long.parseLong(window[1])));
+                }
+                default -> throw new IllegalArgumentException("알 수 없는 백엔드 설정입니다: " + parts[i]);
+            }
+        }
+        return backend;
+    }
+}
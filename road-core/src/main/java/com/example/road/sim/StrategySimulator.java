@@ -0,0 +1,333 @@
+package com.example.road.sim;
+
+import com.example.road.common.LoadHeadroom;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가상 시계와 합성 백엔드로 선택 전략을 오프라인에서 비교하는 이산 사건 시뮬레이터입니다.
+ *
+ * <p>요청은 포아송 과정으로 도착하며, 요청마다 {@link SimulatedSelector}가 백엔드를 고릅니다. 백엔드는 {@link BackendSpec}에 따라
+ * 서비스 시간을 뽑아 동시에 정해진 수만큼 처리하고 나머지는 대기열에 둡니다. 헬스 체크는 가상 시각으로 정해진 주기마다 실행되어
+ * 장애 중이 아닌 백엔드를 정상으로 판정하고, 정상 백엔드 목록이 바뀐 경우에만 로드 밸런서를 새로고침합니다.
+ * 따라서 장애가 시작된 뒤 다음 헬스 체크까지 그 백엔드로 보낸 요청은 실패하며, 헬스 체크 주기의 영향을 결과에서 볼 수 있습니다.
+ * 부하 보고 주기가 0보다 크면 백엔드는 그 주기마다 현재 사용률과 대기열 길이를 보고하고, {@code headroom} 전략은 보고 때마다 이를 가상 시각 기준으로 감쇠한 가중치를 다시 계산합니다.</p>
+ *
+ * <p>시뮬레이터는 한 스레드에서 사건을 시각 순서대로 처리하며, 같은 시각의 사건은 예약한 순서대로 처리합니다.
+ * 도착, 전략, 백엔드별 서비스 시간, 백엔드별 장애 일정은 시드에서 나눈 별도 난수 생성기를 사용하므로, 같은 시드와 설정이면
+ * 결과가 항상 같고, 전략만 바꾼 실행끼리도 도착 과정과 장애 일정은 같습니다. 서킷 브레이커, 슬로우 스타트, 요청 수 제한은 시뮬레이션하지 않습니다.</p>
+ */
+public final class StrategySimulator {
+
+    private static final int ARRIVAL = 0;
+    private static final int COMPLETION = 1;
+    private static final int HEALTH_CHECK = 2;
+    private static final int LOAD_REPORT = 3;
+    private static final int FAIL = 4;
+    private static final int RECOVER = 5;
+    private static final int RANDOM_FAIL = 6;
+    private static final int RANDOM_RECOVER = 7;
+
+    private final SimulationOptions options;
+
+    /**
+     * @param options 시뮬레이션 설정
+     * @throws IllegalArgumentException 설정 값이 잘못된 경우
+     */
+    public StrategySimulator(SimulationOptions options) {
+        if (options.getBackends().isEmpty()) {
+            throw new IllegalArgumentException("백엔드를 하나 이상 설정해야 합니다.");
+        }
+        if (options.getRequests() <= 0 || !(options.getArrivalRatePerSecond() > 0) || options.getHealthCheckIntervalMs() <= 0
+                || options.getLoadReportIntervalMs() < 0) {
+            throw new IllegalArgumentException("요청 수, 도착률, 헬스 체크 주기는 0보다 커야 하며 부하 보고 주기는 0 이상이어야 합니다.");
+        }
+        for (BackendSpec backend : options.getBackends()) {
+            if (backend.getCapacity() <= 0 || backend.getMaxQueue() < 0 || backend.getErrorRate() < 0 || backend.getErrorRate() > 1
+                    || backend.getMeanTimeBetweenFailuresMs() < 0 || backend.getMeanTimeToRecoveryMs() <= 0) {
+                throw new IllegalArgumentException("백엔드 '" + backend.getName() + "'의 설정이 잘못되었습니다.");
+            }
+        }
+        this.options = options;
+    }
+
+    /**
+     * 이름으로 정한 선택 전략으로 시뮬레이션합니다 ({@link SimulatedSelector#named}).
+     *
+     * @param strategy 전략 이름
+     * @return 시뮬레이션 결과
+     */
+    public SimulationReport run(String strategy) {
+        return run(strategy, random -> SimulatedSelector.named(strategy, options, random));
+    }
+
+    /**
+     * 주어진 선택기로 시뮬레이션합니다. 새 선택 정책은 {@link SimulatedSelector#of}로 감싸 전달하면 됩니다.
+     *
+     * @param label 결과에 기록할 전략 이름
+     * @param selectorFactory 시드에서 나눈 난수 생성기를 받아 이 실행 전용 선택기를 만드는 함수
+     * @return 시뮬레이션 결과
+     */
+    public SimulationReport run(String label, Function<RandomGenerator, SimulatedSelector> selectorFactory) {
+        return new Run(label, selectorFactory).execute();
+    }
+
+    // 한 번의 시뮬레이션 실행 상태
+    private final class Run {
+
+        private final String label;
+        private final VirtualClock clock = new VirtualClock();
+        private final PriorityQueue<Event> events = new PriorityQueue<>();
+        private final SplittableRandom arrivalRandom;
+        private final SimulatedSelector selector;
+        private final List<SimulatedBackend> backends = new ArrayList<>();
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final double meanInterArrivalNanos = 1e9 / options.getArrivalRatePerSecond();
+
+        private List<SimulatedBackend> healthy;
+        private long sequence;
+        private long arrived;
+        private long outstanding;
+        private long unrouted;
+
+        private Run(String label, Function<RandomGenerator, SimulatedSelector> selectorFactory) {
+            this.label = label;
+            SplittableRandom seed = new SplittableRandom(options.getSeed());
+            this.arrivalRandom = seed.split();
+            SplittableRandom strategyRandom = seed.split();
+            LoadHeadroom loadHeadroom = new LoadHeadroom(options.getPendingScale(), options.getHalfLifeMs(), options.getMaxAgeMs(),
+                    options.getNeutralHeadroom());
+            List<BackendSpec> specs = options.getBackends();
+            for (int i = 0; i < specs.size(); i++) {
+                backends.add(new SimulatedBackend(i, specs.get(i), clock, loadHeadroom, seed.split(), seed.split()));
+            }
+            this.selector = selectorFactory.apply(strategyRandom);
+        }
+
+        private SimulationReport execute() {
+            long wallStart = System.nanoTime();
+            schedule(0, HEALTH_CHECK, null, 0, 0);
+            if (options.getLoadReportIntervalMs() > 0) {
+                schedule(0, LOAD_REPORT, null, 0, 0);
+            }
+            for (SimulatedBackend backend : backends) {
+                for (BackendSpec.Outage outage : backend.spec().getOutages()) {
+                    schedule(millisToNanos(outage.startMs()), FAIL, backend, 0, 0);
+                    schedule(millisToNanos(outage.startMs() + outage.durationMs()), RECOVER, backend, 0, 0);
+                }
+                if (backend.spec().getMeanTimeBetweenFailuresMs() > 0) {
+                    schedule(exponential(backend.failureRandom, millisToNanos(backend.spec().getMeanTimeBetweenFailuresMs())), RANDOM_FAIL, backend, 0, 0);
+                }
+            }
+            scheduleNextArrival();
+
+            while (arrived < options.getRequests() || outstanding > 0) {
+                Event event = events.poll();
+                clock.advanceTo(event.time);
+                switch (event.type) {
+                    case ARRIVAL -> arrive();
+                    case COMPLETION -> complete(event);
+                    case HEALTH_CHECK -> checkHealth();
+                    case LOAD_REPORT -> reportLoad();
+                    case FAIL -> fail(event.backend);
+                    case RECOVER -> recover(event.backend);
+                    case RANDOM_FAIL -> {
+                        fail(event.backend);
+                        schedule(clock.nanos() + exponential(event.backend.failureRandom, millisToNanos(event.backend.spec().getMeanTimeToRecoveryMs())),
+                                RANDOM_RECOVER, event.backend, 0, 0);
+                    }
+                    case RANDOM_RECOVER -> {
+                        recover(event.backend);
+                        schedule(clock.nanos() + exponential(event.backend.failureRandom, millisToNanos(event.backend.spec().getMeanTimeBetweenFailuresMs())),
+                                RANDOM_FAIL, event.backend, 0, 0);
+                    }
+                    default -> throw new IllegalStateException("알 수 없는 사건입니다: " + event.type);
+                }
+            }
+            return report(System.nanoTime() - wallStart);
+        }
+
+        private void arrive() {
+            arrived++;
+            if (arrived < options.getRequests()) {
+                scheduleNextArrival();
+            }
+            Optional<SimulatedBackend> picked = selector.pick();
+            if (picked.isEmpty()) {
+                unrouted++;
+                return;
+            }
+            SimulatedBackend backend = picked.get();
+            backend.stats.routed++;
+            if (backend.isDown()) {
+                backend.stats.failedDown++;
+                selector.onOutcome(backend, false, 0);
+            } else if (backend.busy < backend.capacity()) {
+                outstanding++;
+                startService(backend, clock.nanos());
+            } else if (backend.queueDepth() < backend.spec().getMaxQueue()) {
+                outstanding++;
+                backend.enqueue(clock.nanos());
+            } else {
+                backend.stats.rejected++;
+                selector.onOutcome(backend, false, 0);
+            }
+        }
+
+        private void startService(SimulatedBackend backend, long arrivalNanos) {
+            long now = clock.nanos();
+            backend.busy++;
+            backend.busyStartSum += now;
+            backend.stats.queueWait.record(now - arrivalNanos);
+            queueWait.record(now - arrivalNanos);
+            long serviceNanos = backend.spec().getServiceTime().sampleNanos(backend.serviceRandom);
+            schedule(now + serviceNanos, COMPLETION, backend, arrivalNanos, now).epoch = backend.epoch;
+        }
+
+        private void complete(Event event) {
+            SimulatedBackend backend = event.backend;
+            if (event.epoch != backend.epoch) {
+                return; // 장애로 이미 실패 처리된 요청
+            }
+            long now = clock.nanos();
+            backend.busy--;
+            backend.busyStartSum -= event.startNanos;
+            backend.stats.busyNanos += now - event.startNanos;
+            outstanding--;
+            double errorRate = backend.spec().getErrorRate();
+            boolean success = errorRate == 0 || backend.serviceRandom.nextDouble() >= errorRate;
+            long latencyNanos = now - event.arrivalNanos;
+            if (success) {
+                backend.stats.succeeded++;
+                backend.stats.latency.record(latencyNanos);
+                latency.record(latencyNanos);
+            } else {
+                backend.stats.errors++;
+            }
+            selector.onOutcome(backend, success, latencyNanos);
+            if (backend.queueDepth() > 0) {
+                startService(backend, backend.dequeue());
+            }
+        }
+
+        // 장애가 시작되면 처리 중이거나 대기 중인 요청이 모두 실패합니다.
+        private void fail(SimulatedBackend backend) {
+            if (backend.downDepth++ > 0) {
+                return;
+            }
+            long now = clock.nanos();
+            backend.downSinceNanos = now;
+            backend.epoch++;
+            backend.stats.busyNanos += backend.busy * now - backend.busyStartSum;
+            int killed = backend.busy + backend.queueDepth();
+            backend.stats.failedDown += killed;
+            outstanding -= killed;
+            backend.busy = 0;
+            backend.busyStartSum = 0;
+            backend.clearQueue();
+            for (int i = 0; i < killed; i++) {
+                selector.onOutcome(backend, false, -1);
+            }
+        }
+
+        private void recover(SimulatedBackend backend) {
+            if (--backend.downDepth == 0) {
+                backend.stats.downNanos += clock.nanos() - backend.downSinceNanos;
+            }
+        }
+
+        private void checkHealth() {
+            List<SimulatedBackend> current = new ArrayList<>(backends.size());
+            for (SimulatedBackend backend : backends) {
+                if (!backend.isDown()) {
+                    current.add(backend);
+                }
+            }
+            if (!current.equals(healthy)) {
+                healthy = List.copyOf(current);
+                selector.refresh(healthy);
+            }
+            schedule(clock.nanos() + millisToNanos(options.getHealthCheckIntervalMs()), HEALTH_CHECK, null, 0, 0);
+        }
+
+        private void reportLoad() {
+            for (SimulatedBackend backend : backends) {
+                if (!backend.isDown()) {
+                    backend.reportLoad();
+                    selector.onLoadReport(backend);
+                }
+            }
+            schedule(clock.nanos() + millisToNanos(options.getLoadReportIntervalMs()), LOAD_REPORT, null, 0, 0);
+        }
+
+        private void scheduleNextArrival() {
+            schedule(clock.nanos() + Math.max(1, exponential(arrivalRandom, meanInterArrivalNanos)), ARRIVAL, null, 0, 0);
+        }
+
+        private Event schedule(long time, int type, SimulatedBackend backend, long arrivalNanos, long startNanos) {
+            Event event = new Event(time, sequence++, type, backend, arrivalNanos, startNanos);
+            events.add(event);
+            return event;
+        }
+
+        private SimulationReport report(long wallNanos) {
+            long end = clock.nanos();
+            long succeeded = 0;
+            long failed = unrouted;
+            List<BackendReport> reports = new ArrayList<>(backends.size());
+            for (SimulatedBackend backend : backends) {
+                SimulatedBackend.Stats stats = backend.stats;
+                long downNanos = stats.downNanos + (backend.isDown() ? end - backend.downSinceNanos : 0);
+                succeeded += stats.succeeded;
+                failed += stats.errors + stats.rejected + stats.failedDown;
+                reports.add(new BackendReport(backend.name(), stats.routed, stats.succeeded, stats.errors, stats.rejected, stats.failedDown,
+                        end == 0 ? 0 : (double) stats.busyNanos / ((double) backend.capacity() * end),
+                        end == 0 ? 0 : (double) downNanos / end,
+                        stats.queueWait.summary(), stats.latency.summary()));
+            }
+            return new SimulationReport(label, options.getSeed(), options.getRequests(), succeeded, failed, unrouted,
+                    end / 1_000_000, wallNanos / 1_000_000, queueWait.summary(), latency.summary(), reports);
+        }
+    }
+
+    private static long exponential(RandomGenerator random, double meanNanos) {
+        return (long) (-meanNanos * Math.log(1.0 - random.nextDouble()));
+    }
+
+    private static long millisToNanos(long millis) {
+        return millis * 1_000_000;
+    }
+
+    // 시각 순서, 같은 시각이면 예약 순서로 처리되는 사건
+    private static final class Event implements Comparable<Event> {
+        private final long time;
+        private final long sequence;
+        private final int type;
+        private final SimulatedBackend backend;
+        private final long arrivalNanos;
+        private final long startNanos;
+        private int epoch;
+
+        private Event(long time, long sequence, int type, SimulatedBackend backend, long arrivalNanos, long startNanos) {
+            this.time = time;
+            this.sequence = sequence;
+            this.type = type;
+            this.backend = backend;
+            this.arrivalNanos = arrivalNanos;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.road.sim;
+
+/**
+ * 시뮬레이션의 가상 시계입니다. 시뮬레이터가 이벤트를 처리할 때마다 그 이벤트 시각으로 옮기며, 실제 시간과 관계없이 앞으로만 흐릅니다.
+ *
+ * <p>시각에 의존하는 선택 전략(예: 부하 보고 경과에 따른 여유 용량 감쇠)은 {@link System#currentTimeMillis()} 대신
+ * 이 시계를 읽어야 시뮬레이션 결과가 실행 속도와 관계없이 재현됩니다. 시뮬레이션은 한 스레드에서만 진행되므로 동기화하지 않습니다.</p>
+ */
+public final class VirtualClock {
+
+    private long nowNanos;
+
+    /**
+     * 시뮬레이션 시작부터 지난 시간 (나노초)을 반환합니다.
+     */
+    public long nanos() {
+        return nowNanos;
+    }
+
+    /**
+     * 시뮬레이션 시작부터 지난 시간 (밀리초)을 반환합니다.
+     */
+    public long millis() {
+        return nowNanos / 1_000_000;
+    }
+
+    void advanceTo(long nanos) {
+        if (nanos < nowNanos) {
+            throw new IllegalStateException("가상 시계를 되돌릴 수 없습니다: " + nowNanos + " -> " + nanos);
+        }
+        nowNanos = nanos;
+    }
+}
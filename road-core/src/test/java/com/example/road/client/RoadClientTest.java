@@ -0,0 +1,199 @@
+package com.example.road.client;
+
+import com.example.road.common.CircuitBreaker;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoadClientTest {
+
+    private static final String SNAPSHOT_V1 = """
+            {"epoch":"a","version":1,"timestamp":0,"servers":[
+              {"id":1,"name":"A","url":"http://a","active":true,"pool":"default","probeType":"HTTP"},
+              {"id":2,"name":"B","url":"http://b","active":true,"pool":"default"},
+              {"id":3,"name":"C","url":"http://c","active":true,"pool":"payments"}]}
+            """;
+    private static final String SNAPSHOT_V2 = """
+            {"epoch":"a","version":2,"timestamp":0,"servers":[
+              {"id":2,"name":"B","url":"http://b","active":true,"pool":"default"}]}
+            """;
+    // 재시작한 road 서버의 스냅샷. 에포크가 바뀌고 버전은 처음부터 다시 시작합니다.
+    private static final String SNAPSHOT_RESTARTED = """
+            {"epoch":"b","version":1,"timestamp":0,"servers":[
+              {"id":4,"name":"D","url":"http://d","active":true,"pool":"default"}]}
+            """;
+
+    private HttpServer road;
+    private final AtomicReference<String> snapshot = new AtomicReference<>(SNAPSHOT_V1);
+    private final AtomicReference<String> epoch = new AtomicReference<>("a");
+    // 롱 폴링 요청에 보낼 응답 본문. 비어 있으면 잠시 기다린 뒤 304로 응답합니다.
+    private final BlockingQueue<String> pollResponses = new LinkedBlockingQueue<>();
+    private RoadClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        road = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        road.createContext("/api/snapshot", exchange -> respond(exchange, snapshot.get()));
+        road.createContext("/api/snapshot/poll", exchange -> {
+            // road 서버와 같이 에포크가 다르면 기다리지 않고 전체 스냅샷을 반환합니다.
+            if (!exchange.getRequestURI().getQuery().contains("epoch=" + epoch.get() + "&")) {
+                respond(exchange, snapshot.get());
+                return;
+            }
+            try {
+                respond(exchange, pollResponses.poll(100, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        road.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (client != null) {
+            client.close();
+        }
+        road.stop(0);
+    }
+
+    @Test
+    @DisplayName("시작하면 스냅샷에서 설정한 풀의 서버만 받아 로컬에서 순서대로 선택하는지 테스트")
+    void startLoadsSnapshotAndPicksWithinPool() {
+        client = newClient();
+
+        client.start();
+
+        assertThat(client.getVersion()).isEqualTo(1);
+        assertThat(client.getServers()).extracting(RoadServer::getName).containsExactly("A", "B");
+        List<String> picked = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            picked.add(client.pick().map(RoadServer::getName).orElseThrow());
+        }
+        assertThat(picked).containsExactly("A", "B", "A", "B");
+        assertThat(client.pick(server -> !server.getName().equals("A"))).get().extracting(RoadServer::getName).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("롱 폴링으로 받은 새 스냅샷이 이후 선택에 반영되는지 테스트")
+    void pollAppliesNewSnapshot() {
+        client = newClient();
+        client.start();
+
+        pollResponses.add(SNAPSHOT_V2);
+
+        await(() -> client.getVersion() == 2);
+        assertThat(client.pick()).get().extracting(RoadServer::getName).isEqualTo("B");
+        assertThat(client.pick()).get().extracting(RoadServer::getName).isEqualTo("B");
+    }
+
+    @Test
+    @DisplayName("road 서버가 재시작되어 버전이 처음부터 다시 시작해도 에포크가 바뀐 전체 스냅샷을 적용하는지 테스트")
+    void pollResyncsAfterRoadRestart() {
+        client = newClient();
+        client.start();
+        pollResponses.add(SNAPSHOT_V2);
+        await(() -> client.getVersion() == 2);
+
+        // 재시작한 road 서버의 버전(1)은 클라이언트의 버전(2)보다 작아 버전만으로는 변경을 알 수 없습니다.
+        snapshot.set(SNAPSHOT_RESTARTED);
+        epoch.set("b");
+
+        await(() -> "b".equals(client.getEpoch()));
+        assertThat(client.getVersion()).isEqualTo(1);
+        assertThat(client.getServers()).extracting(RoadServer::getName).containsExactly("D");
+        assertThat(client.pick()).get().extracting(RoadServer::getName).isEqualTo("D");
+    }
+
+    @Test
+    @DisplayName("보고된 실패가 이어지면 로컬 서킷이 열려 해당 서버를 건너뛰는지 테스트")
+    void reportedFailuresOpenLocalCircuit() {
+        client = newClient();
+        client.start();
+        RoadServer a = client.getServers().get(0);
+
+        client.reportOutcome(a, false);
+        client.reportOutcome(a, false);
+
+        assertThat(client.circuitStateOf(a.getId())).isEqualTo(CircuitBreaker.State.OPEN);
+        for (int i = 0; i < 4; i++) {
+            assertThat(client.pick()).get().extracting(RoadServer::getName).isEqualTo("B");
+        }
+    }
+
+    @Test
+    @DisplayName("road 서버에 연결할 수 없어도 시작은 실패하지 않고, 서버가 살아나면 동기화되는지 테스트")
+    void startToleratesUnreachableRoad() throws IOException {
+        int port = road.getAddress().getPort();
+        road.stop(0);
+        RoadClientOptions options = options();
+        client = new RoadClient(URI.create("http://127.0.0.1:" + port), options);
+
+        client.start();
+
+        assertThat(client.getVersion()).isEqualTo(-1);
+        assertThat(client.pick()).isEmpty();
+
+        // 같은 포트로 road 서버를 다시 시작하면 전체 스냅샷부터 다시 받습니다.
+        road = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        road.createContext("/api/snapshot", exchange -> respond(exchange, snapshot.get()));
+        road.start();
+        await(() -> client.getVersion() == 1);
+        assertThat(client.pick()).isPresent();
+    }
+
+    private RoadClient newClient() {
+        return new RoadClient(URI.create("http://127.0.0.1:" + road.getAddress().getPort()), options());
+    }
+
+    private static RoadClientOptions options() {
+        RoadClientOptions options = new RoadClientOptions();
+        options.setPollTimeoutMs(100);
+        options.setRetryBackoffMs(50);
+        options.setMaxRetryBackoffMs(200);
+        options.setFailureThreshold(2);
+        return options;
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(304, -1);
+        } else {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+        exchange.close();
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건을 만족할 때까지 기다리는 시간 초과").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_DURATION_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    @Test
+    @DisplayName("연속 실패로 열리고, 유지 시간 후 제한된 시험 요청이 모두 성공하면 닫히는지 테스트")
+    void opensOnConsecutiveFailuresAndClosesAfterSuccessfulTrials() {
+        CircuitBreaker breaker = new CircuitBreaker(3, 1000, 2);
+        long now = System.nanoTime();
+
+        // 중간에 성공이 있으면 연속 실패 수가 초기화됩니다.
+        breaker.onFailure(now);
+        breaker.onFailure(now);
+        breaker.onSuccess();
+        breaker.onFailure(now);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(now);
+        breaker.onFailure(now);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission(now)).isFalse();
+
+        // 유지 시간이 지나면 시험 요청을 2개까지만 허용합니다.
+        long afterOpen = now + OPEN_DURATION_NANOS;
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isFalse();
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 상태의 시험 요청이 실패하면 다시 열리는지 테스트")
+    void reopensWhenTrialFails() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000, 2);
+        long now = System.nanoTime();
+        breaker.onFailure(now);
+
+        long afterOpen = now + OPEN_DURATION_NANOS;
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        breaker.onFailure(afterOpen);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission(afterOpen + 1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반납한 시험 요청 허용은 다른 요청이 다시 사용할 수 있는지 테스트")
+    void releasedTrialPermitCanBeReused() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000, 1);
+        long now = System.nanoTime();
+        breaker.onFailure(now);
+
+        long afterOpen = now + OPEN_DURATION_NANOS;
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isFalse();
+        breaker.releasePermission();
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+    }
+
+    @Test
+    @DisplayName("결과가 보고되지 않은 시험 요청 허용은 유지 시간이 지나면 새로 시작되는지 테스트")
+    void unreportedTrialPermitsExpire() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000, 2);
+        long now = System.nanoTime();
+        breaker.onFailure(now);
+
+        // 두 시험 요청이 결과를 보고하지 않고 사라집니다 (예: 취소된 요청).
+        long afterOpen = now + OPEN_DURATION_NANOS;
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterOpen + OPEN_DURATION_NANOS - 1)).isFalse();
+
+        // 유지 시간이 다시 지나면 시험 요청 허용을 새로 시작합니다.
+        long afterTrials = afterOpen + OPEN_DURATION_NANOS;
+        assertThat(breaker.tryAcquirePermission(afterTrials)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterTrials)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterTrials)).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("능동 헬스 체크 성공은 유지 시간이 지난 서킷만 닫는지 테스트")
+    void healthyProbeClosesBreakerAfterOpenDuration() {
+        CircuitBreaker breaker = new CircuitBreaker(1, 1000, 1);
+        long now = System.nanoTime();
+        breaker.onFailure(now);
+
+        // OPEN 유지 시간 안에는 헬스 체크가 성공해도 열린 상태를 유지합니다.
+        breaker.onHealthyProbe(now + 1);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 허용을 모두 사용한 HALF_OPEN 상태에서 헬스 체크가 성공하면 시험 요청 결과를 기다리지 않고 닫습니다.
+        long afterOpen = now + OPEN_DURATION_NANOS;
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isFalse();
+        breaker.onHealthyProbe(afterOpen);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquirePermission(afterOpen)).isTrue();
+
+        // 유지 시간이 지난 OPEN 상태도 닫습니다.
+        breaker.onFailure(afterOpen);
+        breaker.onHealthyProbe(afterOpen + OPEN_DURATION_NANOS);
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class HeadroomWeightedStrategyTest {
+
+    @Test
+    @DisplayName("발행된 여유 용량에 비례하여 선택하고, 최소 가중치 아래로는 내려가지 않는지 테스트")
+    void picksProportionallyToHeadroom() {
+        Map<String, Double> headroom = Map.of("A", 0.6, "B", 0.2, "C", 0.0);
+        HeadroomWeightedStrategy<String> strategy = new HeadroomWeightedStrategy<>(headroom::get, 0.2, 10);
+        List<String> snapshot = List.of("A", "B", "C");
+        strategy.onRefresh(snapshot);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            strategy.pick(snapshot, item -> true).ifPresent(item -> {
+                counts.merge(item, 1, Integer::sum);
+                strategy.onOutcome(item, true, -1); // 처리 중인 요청이 쌓이지 않도록 바로 결과를 보고합니다.
+            });
+        }
+
+        // 가중치 0.6 : 0.2 : 0.2 (C는 최소 가중치)
+        assertThat(counts.get("A") / 100_000.0).isCloseTo(0.6, offset(0.01));
+        assertThat(counts.get("B") / 100_000.0).isCloseTo(0.2, offset(0.01));
+        assertThat(counts.get("C") / 100_000.0).isCloseTo(0.2, offset(0.01));
+    }
+
+    @Test
+    @DisplayName("선택은 미리 계산한 가중치만 사용하고, 여유 용량은 새로고침과 부하 보고 때만 읽는지 테스트")
+    void readsHeadroomOnlyOnRefreshAndLoadReport() {
+        Map<String, Double> headroom = new HashMap<>(Map.of("A", 0.5, "B", 0.5));
+        AtomicInteger reads = new AtomicInteger();
+        HeadroomWeightedStrategy<String> strategy = new HeadroomWeightedStrategy<>(item -> {
+            reads.incrementAndGet();
+            return headroom.get(item);
+        }, 0.01, 10);
+        List<String> snapshot = List.of("A", "B");
+        strategy.onRefresh(snapshot);
+        assertThat(reads.get()).isEqualTo(2);
+
+        // B가 여유가 없다고 보고하면 B의 가중치만 다시 계산하며, 이후 선택은 거의 A를 고릅니다.
+        headroom.put("B", 0.0);
+        strategy.onLoadReport("B");
+        assertThat(reads.get()).isEqualTo(3);
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            strategy.pick(snapshot, item -> true).ifPresent(item -> {
+                counts.merge(item, 1, Integer::sum);
+                strategy.onOutcome(item, true, -1);
+            });
+        }
+        assertThat(reads.get()).isEqualTo(3);
+        assertThat(counts.get("A") / 10_000.0).isCloseTo(0.5 / 0.51, offset(0.01));
+    }
+
+    @Test
+    @DisplayName("결과가 오지 않은 요청이 쌓인 아이템은 부하를 보고해도 덜 고르고, 스냅샷이 새로고침되면 다시 보고된 가중치로 고르는지 테스트")
+    void pendingPicksLowerWeightUntilRefresh() {
+        HeadroomWeightedStrategy<String> strategy = new HeadroomWeightedStrategy<>(item -> 0.5, 0.01, 10);
+        List<String> snapshot = List.of("A", "B");
+        strategy.onRefresh(snapshot);
+
+        // A로 보낸 요청 30개의 결과가 아직 오지 않았으면 A의 가중치는 1 / (1 + 30 / 10) = 1/4로 줄어듭니다.
+        int pendingOnA = 0;
+        while (pendingOnA < 30) {
+            String picked = strategy.pick(snapshot, item -> true).orElseThrow();
+            if (picked.equals("A")) {
+                pendingOnA++;
+            } else {
+                strategy.onOutcome(picked, true, -1);
+            }
+        }
+        assertThat(shareOf("A", strategy, snapshot)).isCloseTo(0.2, offset(0.02));
+
+        // 부하 보고는 가중치만 다시 계산하고 처리 중인 요청 수는 그대로 둡니다.
+        strategy.onLoadReport("A");
+        assertThat(shareOf("A", strategy, snapshot)).isCloseTo(0.2, offset(0.02));
+
+        // 결과가 끝내 보고되지 않아도 새로고침하면 모두 0에서 다시 셉니다.
+        strategy.onRefresh(snapshot);
+        assertThat(shareOf("A", strategy, snapshot)).isCloseTo(0.5, offset(0.02));
+    }
+
+    @Test
+    @DisplayName("보고된 부하로 여유 용량을 계산하고, 보고가 오래될수록 중립값으로 돌아가는지 테스트")
+    void loadHeadroomDecaysToNeutral() {
+        LoadHeadroom model = new LoadHeadroom(10, 1000, 4000, 0.5);
+
+        assertThat(model.headroom(0.25, 0, 0)).isEqualTo(0.75);
+        assertThat(model.headroom(0.5, 6, 4)).isEqualTo(0.25); // 대기 중인 요청 10개는 여유 용량을 절반으로 줄입니다.
+        assertThat(model.headroom(Double.NaN, 0, 0)).isEqualTo(1.0);
+        assertThat(model.headroom(1.5, 0, 0)).isEqualTo(0.0);
+
+        assertThat(model.decayed(0.9, 0)).isEqualTo(0.9);
+        assertThat(model.decayed(0.9, 1000)).isCloseTo(0.7, offset(1e-9));
+        assertThat(model.decayed(0.1, 2000)).isCloseTo(0.4, offset(1e-9));
+        assertThat(model.decayed(0.1, 4000)).isEqualTo(0.5);
+        assertThat(model.decayed(0.1, -50)).isCloseTo(0.1, offset(1e-9)); // 시계 차이로 보고 시각이 미래인 경우
+    }
+
+    // 결과를 바로 보고하며 고른 비율. 처리 중인 요청 수는 바뀌지 않습니다.
+    private static double shareOf(String item, HeadroomWeightedStrategy<String> strategy, List<String> snapshot) {
+        int count = 0;
+        for (int i = 0; i < 20_000; i++) {
+            String picked = strategy.pick(snapshot, candidate -> true).orElseThrow();
+            strategy.onOutcome(picked, true, -1);
+            if (picked.equals(item)) {
+                count++;
+            }
+        }
+        return count / 20_000.0;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class HealthStateTableTest {
+
+    @Test
+    @DisplayName("기록 결과로 이전 상태(존재, 정상 여부, 정보 변경)를 반환하고, 직접 헬스 체크한 결과만 지연 시간과 횟수에 반영하는지 테스트")
+    void recordReportsPreviousState() {
+        HealthStateTable<String> table = new HealthStateTable<>(String::equals);
+
+        assertThat(table.record(7L, "a", true, 1000L, 2_000_000L)).isZero();
+        assertThat(table.record(7L, "a", false, 2000L, 3_000_000L))
+                .isEqualTo(HealthStateTable.EXISTED | HealthStateTable.WAS_HEALTHY);
+        assertThat(table.record(7L, "b", false, 3000L, -1))
+                .isEqualTo(HealthStateTable.EXISTED | HealthStateTable.ITEM_CHANGED);
+
+        List<String> visited = new ArrayList<>();
+        table.forEach(state -> {
+            visited.add(state.item());
+            assertThat(state.healthy()).isFalse();
+            assertThat(state.lastCheckedMillis()).isEqualTo(3000L);
+            assertThat(state.latencyMicros()).isEqualTo(3000); // 다른 노드의 결과(-1)는 지연 시간을 바꾸지 않습니다.
+            assertThat(state.successCount()).isEqualTo(1);
+            assertThat(state.failureCount()).isEqualTo(1);
+        });
+        assertThat(visited).containsExactly("b");
+        assertThat(table.isHealthy(7L)).isFalse();
+        assertThat(table.isHealthy(8L)).isFalse();
+        assertThat(table.get(8L)).isNull();
+    }
+
+    @Test
+    @DisplayName("부하 보고가 헬스 체크 기록 후에도 유지되고, 보고 경과에 따라 중립값으로 감쇠하며, 삭제 후 재배치에도 따라가는지 테스트")
+    void recordLoadKeepsReportAndDecays() {
+        HealthStateTable<String> table = new HealthStateTable<>(String::equals);
+        LoadHeadroom model = new LoadHeadroom(10, 1000, 5000, 0.5);
+        table.record(1L, "a", true, 1000L, -1);
+        table.record(2L, "b", true, 1000L, -1);
+
+        assertThat(table.recordLoad(3L, 0.5f, 0, 0, 0.5f, 10_000L)).isFalse(); // 추적 중이 아닌 ID
+        assertThat(table.recordLoad(2L, 0.9f, 2, 3, 0.1f, 10_000L)).isTrue();
+        table.record(2L, "b", true, 11_000L, -1);
+
+        assertThat(table.headroomOf(1L, 10_000L, model)).isEqualTo(0.5); // 보고 없음
+        assertThat(table.headroomOf(2L, 10_000L, model)).isCloseTo(0.1, offset(1e-6));
+        assertThat(table.headroomOf(2L, 11_000L, model)).isCloseTo(0.3, offset(1e-6)); // 반감기 한 번
+        assertThat(table.headroomOf(2L, 15_000L, model)).isEqualTo(0.5); // 최대 경과 시간 초과
+
+        // 1번을 삭제하면 2번이 빈자리로 옮겨지며 부하 보고도 함께 옮겨집니다.
+        table.removeIf(state -> state.id() == 1L, id -> { });
+        table.forEach(state -> {
+            assertThat(state.id()).isEqualTo(2L);
+            assertThat(state.loadReportedAtMillis()).isEqualTo(10_000L);
+            assertThat(state.loadCpuUtilization()).isEqualTo(0.9f);
+            assertThat(state.loadQueueDepth()).isEqualTo(2);
+            assertThat(state.loadInFlight()).isEqualTo(3);
+        });
+        assertThat(table.headroomOf(2L, 10_000L, model)).isCloseTo(0.1, offset(1e-6));
+    }
+
+    @Test
+    @DisplayName("내용을 바꾸는 쓰기에서만 버전이 증가하는지 테스트")
+    void versionAdvancesOnlyOnWrites() {
+        HealthStateTable<String> table = new HealthStateTable<>(String::equals);
+        long initial = table.version();
+
+        table.record(1L, "a", true, 1000L, -1);
+        assertThat(table.version()).isEqualTo(initial + 1);
+
+        table.recordLoad(2L, 0.5f, 0, 0, 0.5f, 1000L); // 추적 중이 아닌 ID
+        table.removeIf(state -> false, id -> { });
+        table.forEach(state -> { });
+        table.isHealthy(1L);
+        assertThat(table.version()).isEqualTo(initial + 1);
+
+        table.recordLoad(1L, 0.5f, 0, 0, 0.5f, 1000L);
+        table.removeIf(state -> state.id() == 1L, id -> { });
+        table.clear();
+        assertThat(table.version()).isEqualTo(initial + 4);
+    }
+
+    @Test
+    @DisplayName("상태 버전은 기록, 제거, 비우기에서만 증가하고 부하 보고에는 증가하지 않는지 테스트")
+    void statusVersionIgnoresLoadReports() {
+        HealthStateTable<String> table = new HealthStateTable<>(String::equals);
+        long initial = table.statusVersion();
+
+        table.record(1L, "a", true, 1000L, -1);
+        table.recordLoad(1L, 0.5f, 0, 0, 0.5f, 1000L);
+        table.recordLoad(1L, 0.9f, 4, 2, 0.1f, 2000L);
+        assertThat(table.statusVersion()).isEqualTo(initial + 1);
+
+        table.removeIf(state -> state.id() == 1L, id -> { });
+        table.clear();
+        assertThat(table.statusVersion()).isEqualTo(initial + 3);
+    }
+
+    @Test
+    @DisplayName("무작위 추가/갱신/삭제 후에도 모든 ID의 조회 결과가 기준 맵과 같은지 테스트 (색인 확장과 삭제 후 재배치 검증)")
+    void matchesReferenceMapUnderRandomOperations() {
+        HealthStateTable<Long> table = new HealthStateTable<>(Long::equals);
+        Map<Long, Boolean> reference = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            long id = random.nextInt(2_000) + 1;
+            if (random.nextInt(3) == 0) {
+                List<Long> removed = new ArrayList<>();
+                table.removeIf(state -> state.id() == id, removed::add);
+                assertThat(removed).isEqualTo(reference.remove(id) != null ? List.of(id) : List.of());
+            } else {
+                boolean healthy = random.nextBoolean();
+                table.record(id, id, healthy, i, 1000);
+                reference.put(id, healthy);
+            }
+        }
+
+        assertThat(table.size()).isEqualTo(reference.size());
+        for (long id = 1; id <= 2_000; id++) {
+            assertThat(table.contains(id)).isEqualTo(reference.containsKey(id));
+            assertThat(table.isHealthy(id)).isEqualTo(reference.getOrDefault(id, false));
+            if (reference.containsKey(id)) {
+                assertThat(table.get(id)).isEqualTo(id);
+            }
+        }
+        Map<Long, Boolean> iterated = new HashMap<>();
+        table.forEach(state -> iterated.put(state.id(), state.healthy()));
+        assertThat(iterated).isEqualTo(reference);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+
+    @Test
+    @DisplayName("추가 요청이 원 요청 수의 비율로 제한되는지 테스트")
+    void limitsExtraRequestsToRatioOfOriginalRequests() {
+        RetryBudget budget = new RetryBudget(0.1, 0, 100);
+
+        assertThat(budget.tryWithdraw()).isFalse();
+
+        for (int i = 0; i < 20; i++) {
+            budget.deposit();
+        }
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+
+    @Test
+    @DisplayName("적립액이 없어도 초당 최소 허용량까지는 추가 요청을 허용하는지 테스트")
+    void allowsMinimumPerSecondWithoutDeposits() {
+        RetryBudget budget = new RetryBudget(0.1, 2, 100);
+
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isTrue();
+        assertThat(budget.tryWithdraw()).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoundRobinLoadBalancerTest {
+
+    @Test
+    @DisplayName("next(count)는 next()를 count번 연속 호출한 것과 같은 순서로 아이템을 반환하는지 테스트")
+    void batchNextFollowsRoundRobinOrder() throws InterruptedException {
+        // given: A, B, C 세 개의 아이템
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("Test", 1);
+        balancer.refreshItems(List.of("A", "B", "C"));
+
+        // when: 5개를 한 번에 가져옵니다.
+        List<String> batch = balancer.next(5);
+
+        // then: 순환 순서대로 반환되고, 다음 선택은 배치가 끝난 지점에서 이어집니다.
+        assertThat(batch).containsExactly("A", "B", "C", "A", "B");
+        assertThat(balancer.next()).contains("C");
+        assertThat(balancer.next()).contains("A");
+        assertThat(balancer.getActiveItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("아이템이 없으면 next(count)가 빈 목록을 반환하는지 테스트")
+    void batchNextReturnsEmptyListWhenNoItems() throws InterruptedException {
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("Test", 0);
+
+        assertThat(balancer.next(3)).isEmpty();
+        assertThat(balancer.next()).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("선택 필터를 통과하지 못한 아이템은 건너뛰고, 모두 통과하지 못하면 빈 결과를 반환하는지 테스트")
+    void selectionFilterSkipsIneligibleItems() throws InterruptedException {
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("Test", 1);
+        balancer.refreshItems(List.of("A", "B", "C"));
+        Set<String> blocked = new HashSet<>(Set.of("B"));
+        balancer.setSelectionFilter(item -> !blocked.contains(item));
+
+        // B는 건너뛰지만 순환 순서는 유지됩니다.
+        assertThat(balancer.next()).contains("A");
+        assertThat(balancer.next()).contains("C");
+        assertThat(balancer.next(4)).containsExactly("A", "C", "A", "C");
+
+        // 모든 아이템이 필터를 통과하지 못하면 빈 결과를 반환하고, 아이템은 큐에 그대로 남습니다.
+        blocked.addAll(Set.of("A", "C"));
+        assertThat(balancer.next()).isEmpty();
+        assertThat(balancer.next(2)).isEmpty();
+        assertThat(balancer.getActiveItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("선호 필터를 통과하지 못한 아이템은 다른 아이템이 있을 때만 건너뛰는지 테스트")
+    void preferenceFilterFallsBackWhenNoOtherItem() throws InterruptedException {
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("Test", 1);
+        balancer.refreshItems(List.of("A", "B"));
+        balancer.setPreferenceFilter(item -> !item.equals("A"));
+
+        assertThat(balancer.next()).contains("B");
+        assertThat(balancer.next(2)).containsExactly("B", "B");
+
+        // 선호하는 아이템이 선택 필터에 막히면, 선호하지 않는 아이템이라도 선택합니다.
+        balancer.setSelectionFilter(item -> !item.equals("B"));
+        assertThat(balancer.next()).contains("A");
+        assertThat(balancer.next(2)).containsExactly("A", "A");
+    }
+
+    @Test
+    @DisplayName("배치 선택 중 새로고침되면 제거된 아이템을 되돌려 놓지 않고 아이템이 중복되지 않는지 테스트")
+    void batchNextDropsItemsRemovedWhileDrained() throws InterruptedException {
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("Test", 1);
+        balancer.refreshItems(List.of("A", "B", "C"));
+        // 배치가 아이템을 꺼내 둔 동안(선택 필터 호출 중) B를 제거하는 새로고침을 실행합니다.
+        boolean[] refreshed = {false};
+        balancer.setSelectionFilter(item -> {
+            if (!refreshed[0]) {
+                refreshed[0] = true;
+                balancer.refreshItems(List.of("A", "C"));
+            }
+            return true;
+        });
+
+        balancer.next(2);
+
+        assertThat(balancer.getActiveItemCount()).isEqualTo(2);
+        Set<String> remaining = new HashSet<>();
+        for (int i = 0; i < 4; i++) {
+            remaining.add(balancer.next().orElseThrow());
+        }
+        assertThat(remaining).containsExactlyInAnyOrder("A", "C");
+    }
+
+    @Test
+    @DisplayName("count가 1보다 작으면 IllegalArgumentException이 발생하는지 테스트")
+    void batchNextRejectsNonPositiveCount() {
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("Test", 0);
+
+        assertThatThrownBy(() -> balancer.next(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotLoadBalancerTest {
+
+    @Test
+    @DisplayName("라운드 로빈 전략은 선택 필터를 통과하지 못한 아이템을 건너뛰며 순환 순서를 유지하는지 테스트")
+    void roundRobinSkipsIneligibleItems() throws InterruptedException {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B", "C"));
+
+        assertThat(balancer.next(5)).containsExactly("A", "B", "C", "A", "B");
+        assertThat(balancer.next()).contains("C");
+
+        Set<String> blocked = new HashSet<>(Set.of("B"));
+        balancer.setSelectionFilter(item -> !blocked.contains(item));
+        assertThat(balancer.next(4)).containsExactly("A", "C", "A", "C");
+
+        // 모든 아이템이 필터를 통과하지 못하면 빈 결과를 반환하고, 스냅샷은 그대로 남습니다.
+        blocked.addAll(Set.of("A", "C"));
+        assertThat(balancer.next()).isEmpty();
+        assertThat(balancer.next(2)).isEmpty();
+        assertThat(balancer.getActiveItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("라운드 로빈 배치 선택 도중 다른 스레드가 선택해도 배치는 연속된 순서를 유지하는지 테스트")
+    void roundRobinBatchIsNotInterleaved() throws Exception {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B", "C", "D"));
+        CountDownLatch paused = new CountDownLatch(1);
+        CountDownLatch resume = new CountDownLatch(1);
+        AtomicReference<Thread> batcher = new AtomicReference<>();
+        // 배치 선택이 B를 검사하는 동안 멈춰 두고, 그 사이 다른 스레드가 선택합니다.
+        balancer.setSelectionFilter(item -> {
+            if (Thread.currentThread() == batcher.get() && item.equals("B")) {
+                paused.countDown();
+                try {
+                    resume.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return true;
+        });
+
+        CompletableFuture<List<String>> batch = CompletableFuture.supplyAsync(() -> {
+            batcher.set(Thread.currentThread());
+            try {
+                return balancer.next(4);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(paused.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 배치가 네 자리를 먼저 확보했으므로 끼어든 선택은 배치 다음 순서를 받습니다.
+        assertThat(balancer.next()).contains("A");
+        resume.countDown();
+        assertThat(batch.get(5, TimeUnit.SECONDS)).containsExactly("A", "B", "C", "D");
+        assertThat(balancer.next()).contains("B");
+    }
+
+    @Test
+    @DisplayName("선호 필터를 통과하지 못한 아이템은 다른 아이템이 있을 때만 건너뛰는지 테스트")
+    void preferenceFilterFallsBackWhenNoOtherItem() throws InterruptedException {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B"));
+        balancer.setPreferenceFilter(item -> !item.equals("A"));
+
+        assertThat(balancer.next(3)).containsExactly("B", "B", "B");
+
+        balancer.setSelectionFilter(item -> !item.equals("B"));
+        assertThat(balancer.next(2)).containsExactly("A", "A");
+    }
+
+    @Test
+    @DisplayName("모든 아이템이 선호 필터를 통과하지 못해도 다시 고르는 선택이 순환 순서를 유지하는지 테스트")
+    void preferenceFallbackKeepsRoundRobinOrder() throws InterruptedException {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B"));
+        balancer.setPreferenceFilter(item -> false);
+
+        assertThat(balancer.next(4)).containsExactly("A", "B", "A", "B");
+    }
+
+    @Test
+    @DisplayName("선택 필터는 전략이 고른 후보에만 호출되는지 테스트")
+    void selectionFilterIsCalledOnlyForPickedCandidates() throws InterruptedException {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B", "C"));
+        List<String> checked = new ArrayList<>();
+        balancer.setSelectionFilter(item -> checked.add(item));
+
+        // 추가 조건으로 제외된 A에는 선택 필터(부수 효과)가 호출되지 않습니다.
+        assertThat(balancer.next(item -> !item.equals("A"))).contains("B");
+        assertThat(checked).containsExactly("B");
+    }
+
+    @Test
+    @DisplayName("전략을 바꾸면 이후 선택부터 새 전략을 사용하고, 새 전략은 현재 스냅샷을 전달받는지 테스트")
+    void setStrategySwapsStrategy() throws InterruptedException {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B", "C"));
+        LastItemStrategy lastItem = new LastItemStrategy();
+
+        LoadBalancingStrategy<String> previous = balancer.setStrategy(lastItem);
+
+        assertThat(previous.name()).isEqualTo(RoundRobinStrategy.NAME);
+        assertThat(balancer.getStrategy()).isSameAs(lastItem);
+        assertThat(lastItem.refreshedSnapshot).containsExactly("A", "B", "C");
+        assertThat(balancer.next(2)).containsExactly("C", "C");
+
+        balancer.refreshItems(List.of("A", "B"));
+        assertThat(lastItem.refreshedSnapshot).containsExactly("A", "B");
+        assertThat(balancer.next()).contains("B");
+    }
+
+    @Test
+    @DisplayName("부하 중에 전략을 계속 바꿔도 선택이 실패하지 않는지 테스트")
+    void strategySwapDoesNotDropSelectionsUnderLoad() throws Exception {
+        SnapshotLoadBalancer<String> balancer = newBalancer(1, new RoundRobinStrategy<>());
+        balancer.refreshItems(List.of("A", "B", "C"));
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger selections = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    while (running.get()) {
+                        try {
+                            if (balancer.next().isPresent()) {
+                                selections.incrementAndGet();
+                            } else {
+                                failures.incrementAndGet();
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }, executor));
+            }
+
+            for (int i = 0; i < 200; i++) {
+                balancer.setStrategy(i % 2 == 0 ? new LastItemStrategy() : new RoundRobinStrategy<>());
+            }
+            running.set(false);
+            CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(failures.get()).isZero();
+        assertThat(selections.get()).isPositive();
+    }
+
+    @Test
+    @DisplayName("스냅샷이 비어 있으면 새로고침될 때까지 기다렸다가 선택하는지 테스트")
+    void nextWaitsForRefreshWhenSnapshotIsEmpty() throws Exception {
+        SnapshotLoadBalancer<String> balancer = newBalancer(5, new RoundRobinStrategy<>());
+
+        CompletableFuture<Optional<String>> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return balancer.next();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(waiting).isNotDone();
+
+        balancer.refreshItems(List.of("A"));
+
+        assertThat(waiting.get(2, TimeUnit.SECONDS)).contains("A");
+    }
+
+    @Test
+    @DisplayName("타임아웃이 0이고 스냅샷이 비어 있으면 기다리지 않고 빈 결과를 반환하는지 테스트")
+    void nextReturnsEmptyWithoutWaitingWhenTimeoutIsZero() throws InterruptedException {
+        SnapshotLoadBalancer<String> balancer = newBalancer(0, new RoundRobinStrategy<>());
+
+        assertThat(balancer.next()).isEmpty();
+        assertThat(balancer.next(3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("tryNext는 타임아웃이 있어도 빈 스냅샷을 기다리지 않고, 스냅샷이 있으면 next와 같은 순서로 선택하는지 테스트")
+    void tryNextNeverWaits() {
+        SnapshotLoadBalancer<String> balancer = newBalancer(5, new RoundRobinStrategy<>());
+
+        long start = System.nanoTime();
+        assertThat(balancer.tryNext()).isEmpty();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+
+        balancer.refreshItems(List.of("A", "B"));
+        assertThat(balancer.tryNext()).contains("A");
+        assertThat(balancer.tryNext()).contains("B");
+    }
+
+    private static SnapshotLoadBalancer<String> newBalancer(long timeoutSeconds, LoadBalancingStrategy<String> strategy) {
+        return new SnapshotLoadBalancer<>("Test", timeoutSeconds, item -> true, strategy);
+    }
+
+    // 스냅샷의 마지막 아이템부터 거꾸로 고르는 테스트용 전략
+    private static class LastItemStrategy implements LoadBalancingStrategy<String> {
+
+        private volatile List<String> refreshedSnapshot;
+
+        @Override
+        public String name() {
+            return "last-item";
+        }
+
+        @Override
+        public Optional<String> pick(List<String> snapshot, Predicate<String> eligible) {
+            for (int i = snapshot.size() - 1; i >= 0; i--) {
+                if (eligible.test(snapshot.get(i))) {
+                    return Optional.of(snapshot.get(i));
+                }
+            }
+            return Optional.empty();
+        }
+
+        @Override
+        public void onRefresh(List<String> snapshot) {
+            this.refreshedSnapshot = snapshot;
+        }
+    }
+}
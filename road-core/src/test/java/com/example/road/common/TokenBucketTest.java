@@ -0,0 +1,36 @@
+package com.example.road.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("용량만큼 연속으로 획득한 뒤에는 거부되고, 시간이 지나면 초당 토큰 수만큼 다시 채워지는지 테스트")
+    void refillsAtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 10);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryAcquire(now)).isTrue();
+        }
+        assertThat(bucket.tryAcquire(now)).isFalse();
+
+        // 100ms 후에는 토큰 하나가 채워집니다.
+        long later = now + TimeUnit.MILLISECONDS.toNanos(100);
+        assertThat(bucket.tryAcquire(later)).isTrue();
+        assertThat(bucket.tryAcquire(later)).isFalse();
+
+        // 오래 쉬어도 용량 이상은 쌓이지 않습니다.
+        long muchLater = now + TimeUnit.SECONDS.toNanos(10);
+        int acquired = 0;
+        while (bucket.tryAcquire(muchLater)) {
+            acquired++;
+        }
+        assertThat(acquired).isEqualTo(10);
+    }
+}
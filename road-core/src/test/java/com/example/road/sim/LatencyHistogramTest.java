@@ -0,0 +1,50 @@
+package com.example.road.sim;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위수의 상대 오차가 1% 미만이고, 작은 값과 최댓값, 평균은 정확한지 테스트")
+    void percentilesWithinOnePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        for (double quantile : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            double expected = quantile * 1_000_000 * 1000;
+            assertThat((double) histogram.percentile(quantile)).as("p%s", quantile).isCloseTo(expected, within(expected * 0.01));
+        }
+        assertThat(histogram.max()).isEqualTo(1_000_000_000L);
+        assertThat(histogram.mean()).isEqualTo(500_000.5 * 1000);
+        assertThat(histogram.count()).isEqualTo(1_000_000);
+
+        LatencyHistogram small = new LatencyHistogram();
+        small.record(3);
+        small.record(100);
+        small.record(-5); // 음수는 0으로 기록합니다.
+        assertThat(small.percentile(0.5)).isEqualTo(3);
+        assertThat(small.percentile(1.0)).isEqualTo(100);
+        assertThat(new LatencyHistogram().percentile(0.99)).isZero();
+    }
+
+    @Test
+    @DisplayName("구간 색인이 값의 순서를 보존하고, 각 구간의 중간값이 다시 같은 구간에 속하는지 테스트")
+    void bucketIndexIsMonotonic() {
+        int previous = -1;
+        for (int shift = 0; shift < 62; shift++) {
+            for (long value : new long[]{1L << shift, (1L << shift) + (1L << shift) / 3, (1L << (shift + 1)) - 1}) {
+                int index = LatencyHistogram.indexOf(value);
+                assertThat(index).isGreaterThanOrEqualTo(previous);
+                assertThat(LatencyHistogram.indexOf(LatencyHistogram.midpointOf(index))).isEqualTo(index);
+                previous = index;
+            }
+        }
+        assertThat(LatencyHistogram.indexOf(Long.MAX_VALUE)).isGreaterThanOrEqualTo(previous);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.road.sim;
+
+import com.example.road.common.LoadBalancingStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class StrategySimulatorTest {
+
+    @Test
+    @DisplayName("같은 시드와 설정이면 전략마다 결과가 같고, 시드가 다르면 결과가 달라지는지 테스트")
+    void sameSeedReproducesReport() {
+        for (String strategy : List.of("round-robin", "headroom", "round-robin-queue")) {
+            String first = fingerprint(new StrategySimulator(mixedOptions(7)).run(strategy));
+            String second = fingerprint(new StrategySimulator(mixedOptions(7)).run(strategy));
+            String otherSeed = fingerprint(new StrategySimulator(mixedOptions(8)).run(strategy));
+
+            assertThat(second).as(strategy).isEqualTo(first);
+            assertThat(otherSeed).as(strategy).isNotEqualTo(first);
+        }
+    }
+
+    @Test
+    @DisplayName("장애가 시작된 뒤 다음 헬스 체크까지 장애 백엔드로 보낸 요청만 실패하고, 복구 후 다시 선택되는지 테스트")
+    void failuresLastUntilNextHealthCheck() {
+        SimulationOptions options = new SimulationOptions();
+        options.setRequests(20_000);
+        options.setArrivalRatePerSecond(1000);
+        options.setHealthCheckIntervalMs(1000);
+        BackendSpec a = backend("a", "const:1");
+        a.setCapacity(100);
+        BackendSpec b = backend("b", "const:1");
+        b.setCapacity(100);
+        b.getOutages().add(new BackendSpec.Outage(5500, 3000));
+        options.setBackends(List.of(a, b));
+
+        SimulationReport report = new StrategySimulator(options).run("round-robin");
+
+        BackendReport down = report.getBackends().get(1);
+        // 5.5초에 장애가 나고 6초 헬스 체크에서 빠지므로, 0.5초 동안 도착한 요청의 절반 정도가 실패합니다.
+        assertThat(down.getFailedDown()).isBetween(180L, 320L);
+        assertThat(report.getFailed()).isEqualTo(down.getFailedDown());
+        assertThat(report.getUnrouted()).isZero();
+        assertThat(down.getDownFraction()).isCloseTo(3000.0 / report.getSimulatedMillis(), offset(0.001));
+        // 장애 중 빠진 동안(6초~9초)의 요청은 a가 받습니다.
+        assertThat(report.getBackends().get(0).getRouted() - down.getRouted()).isBetween(2000L, 3600L);
+    }
+
+    @Test
+    @DisplayName("사용률과 대기 시간이 M/D/1 대기열의 이론값과 맞는지 테스트")
+    void utilizationAndQueueingMatchTheory() {
+        SimulationOptions options = new SimulationOptions();
+        options.setRequests(200_000);
+        options.setArrivalRatePerSecond(100);
+        BackendSpec single = backend("single", "const:2");
+        single.setCapacity(1);
+        options.setBackends(List.of(single));
+
+        SimulationReport report = new StrategySimulator(options).run("round-robin");
+
+        // 사용률 = 도착률 x 서비스 시간 = 0.2, 평균 대기 시간 = 사용률 x 서비스 시간 / (2 x (1 - 사용률)) = 0.25ms
+        BackendReport backend = report.getBackends().get(0);
+        assertThat(backend.getUtilization()).isCloseTo(0.2, offset(0.005));
+        assertThat(backend.getQueueWait().getMean()).isCloseTo(0.25, offset(0.02));
+        assertThat(backend.getLatency().getP50()).isCloseTo(2.0, offset(0.05));
+        assertThat(report.getSucceeded()).isEqualTo(200_000);
+    }
+
+    @Test
+    @DisplayName("직접 만든 선택 정책을 시뮬레이션하고, 대기열 초과 거절과 실패 응답을 백엔드별로 집계하는지 테스트")
+    void simulatesCustomPolicyWithRejectionsAndErrors() {
+        SimulationOptions options = new SimulationOptions();
+        options.setRequests(50_000);
+        options.setArrivalRatePerSecond(400);
+        BackendSpec first = backend("first", "const:5");
+        first.setCapacity(1);
+        first.setMaxQueue(10);
+        first.setErrorRate(0.1);
+        options.setBackends(List.of(first, backend("second", "exp:5")));
+
+        SimulationReport report = new StrategySimulator(options).run("first-eligible", random -> SimulatedSelector.of(new FirstEligible()));
+
+        BackendReport overloaded = report.getBackends().get(0);
+        assertThat(report.getStrategy()).isEqualTo("first-eligible");
+        assertThat(report.getBackends().get(1).getRouted()).isZero();
+        // 처리 능력(초당 200개)의 두 배가 도착하므로 절반 정도가 거절되고, 처리한 요청의 10%가 실패 응답입니다.
+        assertThat((double) overloaded.getRejected() / overloaded.getRouted()).isCloseTo(0.5, offset(0.02));
+        assertThat((double) overloaded.getErrors() / (overloaded.getErrors() + overloaded.getSucceeded())).isCloseTo(0.1, offset(0.01));
+        assertThat(overloaded.getUtilization()).isGreaterThan(0.99);
+        assertThat(report.getErrorRate()).isCloseTo((double) report.getFailed() / 50_000, offset(1e-12));
+    }
+
+    @Test
+    @DisplayName("백엔드가 없거나 잘못된 설정과 지원하지 않는 전략을 거부하는지 테스트")
+    void rejectsInvalidOptions() {
+        assertThatThrownBy(() -> new StrategySimulator(new SimulationOptions())).isInstanceOf(IllegalArgumentException.class);
+
+        SimulationOptions options = new SimulationOptions();
+        BackendSpec invalid = backend("invalid", "exp:5");
+        invalid.setErrorRate(1.5);
+        options.setBackends(List.of(invalid));
+        assertThatThrownBy(() -> new StrategySimulator(options)).isInstanceOf(IllegalArgumentException.class);
+
+        invalid.setErrorRate(0);
+        assertThatThrownBy(() -> new StrategySimulator(options).run("unknown")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ServiceTimeDistribution.parse("uniform:5")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // 무작위 장애, 실패 응답, 느린 백엔드를 섞은 구성
+    private static SimulationOptions mixedOptions(long seed) {
+        SimulationOptions options = new SimulationOptions();
+        options.setSeed(seed);
+        options.setRequests(100_000);
+        options.setArrivalRatePerSecond(2000);
+        options.setHealthCheckIntervalMs(2000);
+        BackendSpec flaky = backend("flaky", "exp:4");
+        flaky.setMeanTimeBetweenFailuresMs(10_000);
+        flaky.setMeanTimeToRecoveryMs(3000);
+        flaky.setErrorRate(0.01);
+        options.setBackends(List.of(backend("steady", "uniform:2:6"), flaky, backend("slow", "lognormal:6:0.8")));
+        return options;
+    }
+
+    private static BackendSpec backend(String name, String serviceTime) {
+        BackendSpec backend = new BackendSpec(name);
+        backend.setServiceTime(ServiceTimeDistribution.parse(serviceTime));
+        return backend;
+    }
+
+    // 실제 시간에 따라 달라지는 값을 뺀 결과
+    private static String fingerprint(SimulationReport report) {
+        return report.format().replaceFirst("wall=\\d+ms \\([^)]*\\)", "");
+    }
+
+    // 항상 스냅샷의 첫 번째 적격 백엔드를 고르는 정책
+    private static final class FirstEligible implements LoadBalancingStrategy<SimulatedBackend> {
+        @Override
+        public String name() {
+            return "first-eligible";
+        }
+
+        @Override
+        public Optional<SimulatedBackend> pick(List<SimulatedBackend> snapshot, Predicate<SimulatedBackend> eligible) {
+            return snapshot.stream().filter(eligible).findFirst();
+        }
+    }
+}
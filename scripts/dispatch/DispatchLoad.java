@@ -0,0 +1,167 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 디스패치 부하 생성기입니다 (scripts/dispatch/benchmark.sh에서 사용).
+ *
+ * <pre>
+ * java scripts/dispatch/DispatchLoad.java http BASE_URL POOL CONNECTIONS DURATION_SECONDS
+ * java scripts/dispatch/DispatchLoad.java tcp HOST:PORT POOL CONNECTIONS DURATION_SECONDS PIPELINE_DEPTH
+ * </pre>
+ *
+ * http: CONNECTIONS개의 가상 스레드가 DURATION_SECONDS 동안 쉬지 않고 GET /api/dispatch/{POOL}을 보냅니다.
+ * tcp: CONNECTIONS개의 연결마다 응답을 기다리지 않는 요청을 PIPELINE_DEPTH개씩 유지하며 바이너리 디스패치 요청을 보냅니다
+ * (응답 하나를 받을 때마다 요청 하나를 더 보내고, 받을 응답이 더 없을 때 모아서 플러시합니다).
+ * 지연 시간은 요청을 쓴 시점부터 응답을 읽은 시점까지입니다. 200 또는 OK가 아닌 응답은 오류로 셉니다.
+ * 결과를 {@code requests,errors,throughput,p50_us,p99_us} 형식의 CSV 한 줄로 출력합니다.
+ */
+public class DispatchLoad {
+
+    public static void main(String[] args) throws Exception {
+        String mode = args[0];
+        String target = args[1];
+        String pool = args[2];
+        int connections = Integer.parseInt(args[3]);
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[4])).toNanos();
+        int depth = args.length > 5 ? Integer.parseInt(args[5]) : 1;
+
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latenciesPerWorker = new ArrayList<>();
+        int[] counts = new int[connections];
+        long deadline = System.nanoTime() + durationNanos;
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < connections; w++) {
+                latenciesPerWorker.add(new long[1 << 16]);
+                int worker = w;
+                executor.submit(() -> {
+                    Recorder recorder = new Recorder(latenciesPerWorker, counts, worker);
+                    if (mode.equals("tcp")) {
+                        runTcp(target, pool, depth, deadline, recorder, errors);
+                    } else {
+                        runHttp(client, URI.create(target + "/api/dispatch/" + pool), deadline, recorder, errors);
+                    }
+                    return null;
+                });
+            }
+        }
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int w = 0; w < connections; w++) {
+            System.arraycopy(latenciesPerWorker.get(w), 0, all, offset, counts[w]);
+            offset += counts[w];
+        }
+        Arrays.sort(all);
+        double seconds = durationNanos / 1e9;
+        System.out.printf("%d,%d,%.1f,%.1f,%.1f%n", total, errors.get(), total / seconds,
+                percentile(all, 0.50) / 1e3, percentile(all, 0.99) / 1e3);
+    }
+
+    private static void runHttp(HttpClient client, URI uri, long deadline, Recorder recorder, AtomicLong errors) {
+        HttpRequest request = HttpRequest.newBuilder(uri).build();
+        while (System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+            recorder.record(System.nanoTime() - start);
+        }
+    }
+
+    private static void runTcp(String target, String pool, int depth, long deadline, Recorder recorder, AtomicLong errors) throws IOException {
+        int colon = target.lastIndexOf(':');
+        byte[] poolBytes = pool.getBytes(StandardCharsets.UTF_8);
+        try (Socket socket = new Socket(target.substring(0, colon), Integer.parseInt(target.substring(colon + 1)))) {
+            socket.setTcpNoDelay(true);
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream(), 64 * 1024));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream(), 64 * 1024));
+            // 요청 ID를 depth로 나눈 나머지 위치에 보낸 시각을 기록합니다 (진행 중인 요청은 최대 depth개).
+            long[] sentAt = new long[depth];
+            int nextId = 0;
+            for (; nextId < depth; nextId++) {
+                sentAt[nextId % depth] = System.nanoTime();
+                writeRequest(out, nextId, poolBytes);
+            }
+            out.flush();
+            int outstanding = depth;
+            while (outstanding > 0) {
+                int length = in.readInt();
+                int requestId = in.readInt();
+                byte status = in.readByte();
+                in.skipNBytes(length - 5);
+                long now = System.nanoTime();
+                recorder.record(now - sentAt[Integer.remainderUnsigned(requestId, depth)]);
+                if (status != 0) {
+                    errors.incrementAndGet();
+                }
+                outstanding--;
+                if (now < deadline) {
+                    sentAt[Integer.remainderUnsigned(nextId, depth)] = System.nanoTime();
+                    writeRequest(out, nextId++, poolBytes);
+                    outstanding++;
+                }
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        }
+    }
+
+    private static void writeRequest(DataOutputStream out, int requestId, byte[] pool) throws IOException {
+        out.writeInt(4 + 1 + pool.length + 1);
+        out.writeInt(requestId);
+        out.writeByte(pool.length);
+        out.write(pool);
+        out.writeByte(0);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+
+    // 작업자 하나의 지연 시간 기록. 배열이 차면 두 배로 늘려 목록의 항목을 바꿉니다.
+    private static final class Recorder {
+        private final List<long[]> latenciesPerWorker;
+        private final int[] counts;
+        private final int worker;
+        private long[] recorded;
+
+        private Recorder(List<long[]> latenciesPerWorker, int[] counts, int worker) {
+            this.latenciesPerWorker = latenciesPerWorker;
+            this.counts = counts;
+            this.worker = worker;
+            this.recorded = latenciesPerWorker.get(worker);
+        }
+
+        private void record(long nanos) {
+            if (counts[worker] == recorded.length) {
+                recorded = Arrays.copyOf(recorded, recorded.length * 2);
+                latenciesPerWorker.set(worker, recorded);
+            }
+            recorded[counts[worker]++] = nanos;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+#!/usr/bin/env bash
+# HTTP 디스패치(GET /api/dispatch/{pool})와 바이너리 디스패치 리스너(road.dispatch-listener)의 처리량과 지연 시간을 비교합니다.
+#
+#   scripts/dispatch/benchmark.sh [CONNECTIONS...]
+#
+# 애플리케이션을 바이너리 디스패치 리스너를 켜고 한 번 띄운 뒤, 동시 연결 수(기본 1 16 64)마다 scripts/dispatch/DispatchLoad.java로
+# DURATION_SECONDS(기본 20초) 동안 http, tcp(파이프라이닝 없음), tcp-pipelined(연결당 PIPELINE_DEPTH개, 기본 32) 순으로 측정합니다.
+# 측정 전에 WARMUP_SECONDS(기본 10초) 동안 각 방식으로 JIT를 데웁니다. 먼저 ./gradlew startupDist 를 실행하세요.
+#
+# 재현성을 위해 JDK의 jwebserver를 로컬 백엔드로 띄우고 서버 목록을 그 백엔드를 가리키는 BENCH_SERVERS(기본 4)개 서버로 바꾸며,
+# 헬스 스냅샷은 빈 임시 경로를 사용합니다. 요청별 INFO 로그가 측정에 끼어들지 않도록 com.example.road 로그 레벨을 WARN으로 낮춥니다.
+# 결과는 build/dispatch-benchmark.csv (mode,connections,requests,errors,throughput,p50_us,p99_us)에 기록합니다.
+#
+# 환경 변수: JAVA_HOME (기본: PATH의 java), APP_PORT (기본 18080), LISTENER_PORT (기본 17070), BACKEND_PORT (기본 18081),
+#           BENCH_SERVERS, DURATION_SECONDS, WARMUP_SECONDS, PIPELINE_DEPTH, TIMEOUT_SECONDS (기동 최대 대기, 기본 120),
+#           JAVA_OPTS (애플리케이션 JVM 옵션)
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+if [ $# -gt 0 ]; then CONNECTIONS=("$@"); else CONNECTIONS=(1 16 64); fi
+JAVA_BIN=${JAVA_HOME:+$JAVA_HOME/bin/}
+APP_PORT=${APP_PORT:-18080}
+LISTENER_PORT=${LISTENER_PORT:-17070}
+BACKEND_PORT=${BACKEND_PORT:-18081}
+BENCH_SERVERS=${BENCH_SERVERS:-4}
+DURATION_SECONDS=${DURATION_SECONDS:-20}
+WARMUP_SECONDS=${WARMUP_SECONDS:-10}
+PIPELINE_DEPTH=${PIPELINE_DEPTH:-32}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+DIST=$ROOT/build/startup
+LOAD=$ROOT/scripts/dispatch/DispatchLoad.java
+RESULT=$ROOT/build/dispatch-benchmark.csv
+
+if [ ! -f "$DIST/road.jar" ]; then
+    echo "$DIST/road.jar 가 없습니다. 먼저 ./gradlew startupDist 를 실행하세요." >&2
+    exit 1
+fi
+
+WORK=$(mktemp -d)
+BACKEND_PID=
+APP_PID=
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null && wait "$APP_PID" 2>/dev/null
+    [ -n "$BACKEND_PID" ] && kill "$BACKEND_PID" 2>/dev/null && wait "$BACKEND_PID" 2>/dev/null
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+# 로컬 백엔드와, 그 백엔드를 가리키는 서버 목록
+mkdir -p "$WORK/backend"
+echo ok > "$WORK/backend/index.html"
+"${JAVA_BIN}jwebserver" -b 127.0.0.1 -p "$BACKEND_PORT" -d "$WORK/backend" -o NONE > "$WORK/backend.log" 2>&1 &
+BACKEND_PID=$!
+for i in $(seq 1 "$BENCH_SERVERS"); do
+    echo "INSERT INTO servers (name, url, active) VALUES ('Bench $i', 'http://127.0.0.1:$BACKEND_PORT/?server=$i', true);"
+done > "$WORK/bench-data.sql"
+
+(cd "$DIST" && exec "${JAVA_BIN}java" ${JAVA_OPTS:-} -jar road.jar \
+    --server.port="$APP_PORT" \
+    --spring.sql.init.data-locations="file:$WORK/bench-data.sql" \
+    --road.warm-start.snapshot-path="$WORK/health.snapshot" \
+    --road.dispatch-listener.enabled=true \
+    --road.dispatch-listener.host=127.0.0.1 \
+    --road.dispatch-listener.port="$LISTENER_PORT" \
+    --logging.level.com.example.road=WARN) > "$WORK/app.log" 2>&1 &
+APP_PID=$!
+deadline=$(( $(date +%s) + TIMEOUT_SECONDS ))
+until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://127.0.0.1:$APP_PORT/api/dispatch" || true)" = "200" ]; do
+    if ! kill -0 "$APP_PID" 2>/dev/null || [ "$(date +%s)" -ge "$deadline" ]; then
+        echo "애플리케이션이 ${TIMEOUT_SECONDS}초 안에 디스패치할 수 있는 상태가 되지 않았습니다. 로그: $WORK/app.log" >&2
+        tail -20 "$WORK/app.log" >&2
+        exit 1
+    fi
+    sleep 0.2
+done
+
+# 방식 이름과 연결 수, 측정 시간을 받아 DispatchLoad를 실행합니다.
+run_load() {
+    case "$1" in
+        http) "${JAVA_BIN}java" "$LOAD" http "http://127.0.0.1:$APP_PORT" default "$2" "$3" ;;
+        tcp) "${JAVA_BIN}java" "$LOAD" tcp "127.0.0.1:$LISTENER_PORT" default "$2" "$3" 1 ;;
+        tcp-pipelined) "${JAVA_BIN}java" "$LOAD" tcp "127.0.0.1:$LISTENER_PORT" default "$2" "$3" "$PIPELINE_DEPTH" ;;
+    esac
+}
+
+mkdir -p "$ROOT/build"
+echo "mode,connections,requests,errors,throughput,p50_us,p99_us" > "$RESULT"
+for mode in http tcp tcp-pipelined; do
+    run_load "$mode" "${CONNECTIONS[-1]}" "$WARMUP_SECONDS" > /dev/null
+    for connections in "${CONNECTIONS[@]}"; do
+        line=$(run_load "$mode" "$connections" "$DURATION_SECONDS")
+        echo "$mode,$connections,$line" >> "$RESULT"
+        IFS=, read -r requests errors throughput p50 p99 <<< "$line"
+        printf '%-13s 연결 %4d: %10s req/s  p50 %8s us  p99 %8s us  오류 %s\n' \
+            "$mode" "$connections" "$throughput" "$p50" "$p99" "$errors"
+    done
+done
+echo "결과: $RESULT"
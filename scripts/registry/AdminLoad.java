@@ -0,0 +1,95 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리 API 부하 생성기입니다 (scripts/registry/benchmark.sh에서 사용).
+ *
+ * <pre>
+ * java scripts/registry/AdminLoad.java BASE_URL CONCURRENCY DURATION_SECONDS WRITE_PERCENT
+ * </pre>
+ *
+ * CONCURRENCY개의 가상 스레드가 DURATION_SECONDS 동안 쉬지 않고 요청을 보냅니다. 요청의 WRITE_PERCENT%는
+ * PUT /api/admin/servers/{id} (기존 서버를 같은 값으로 수정), 나머지는 GET /api/admin/servers 입니다.
+ * 결과를 {@code requests,errors,throughput,p50_ms,p99_ms} 형식의 CSV 한 줄로 출력합니다.
+ */
+public class AdminLoad {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args[0];
+        int concurrency = Integer.parseInt(args[1]);
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[2])).toNanos();
+        int writePercent = Integer.parseInt(args[3]);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        URI listUri = URI.create(baseUrl + "/api/admin/servers");
+        // 수정 요청에 사용할 서버 (첫 번째 서버를 같은 값으로 다시 저장합니다)
+        String servers = client.send(HttpRequest.newBuilder(listUri).build(), HttpResponse.BodyHandlers.ofString()).body();
+        String firstServer = servers.substring(servers.indexOf('{'), servers.indexOf('}') + 1);
+        String firstId = firstServer.replaceAll("(?s).*\"id\":(\\d+).*", "$1");
+        URI updateUri = URI.create(baseUrl + "/api/admin/servers/" + firstId);
+
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latenciesPerWorker = new ArrayList<>();
+        int[] counts = new int[concurrency];
+        long deadline = System.nanoTime() + durationNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                long[] latencies = new long[1 << 16];
+                latenciesPerWorker.add(latencies);
+                int worker = w;
+                executor.submit(() -> {
+                    long[] recorded = latencies;
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = ThreadLocalRandom.current().nextInt(100) < writePercent
+                                ? HttpRequest.newBuilder(updateUri)
+                                        .header("Content-Type", "application/json")
+                                        .PUT(HttpRequest.BodyPublishers.ofString(firstServer))
+                                        .build()
+                                : HttpRequest.newBuilder(listUri).build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        if (counts[worker] == recorded.length) {
+                            recorded = Arrays.copyOf(recorded, recorded.length * 2);
+                            latenciesPerWorker.set(worker, recorded);
+                        }
+                        recorded[counts[worker]++] = System.nanoTime() - start;
+                    }
+                    return null;
+                });
+            }
+        }
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int w = 0; w < concurrency; w++) {
+            System.arraycopy(latenciesPerWorker.get(w), 0, all, offset, counts[w]);
+            offset += counts[w];
+        }
+        Arrays.sort(all);
+        double seconds = durationNanos / 1e9;
+        System.out.printf("%d,%d,%.1f,%.2f,%.2f%n", total, errors.get(), total / seconds,
+                percentile(all, 0.50) / 1e6, percentile(all, 0.99) / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted.length == 0 ? 0 : sorted[Math.min(sorted.length - 1, (int) (sorted.length * p))];
+    }
+}
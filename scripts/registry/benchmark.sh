@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# 서버 저장소(road.registry.repository)별로 동시 관리 API 처리량을 비교합니다.
+#
+#   scripts/registry/benchmark.sh [CONCURRENCY...]
+#
+# 저장소(mybatis, r2dbc)마다 애플리케이션을 한 번 띄우고, 동시 연결 수(기본 16 64 256)마다 scripts/registry/AdminLoad.java로
+# DURATION_SECONDS(기본 20초) 동안 GET /api/admin/servers와 PUT /api/admin/servers/{id}(WRITE_PERCENT%, 기본 5)를 보냅니다.
+# 측정 전에 WARMUP_SECONDS(기본 10초) 동안 같은 부하로 JIT를 데웁니다. 먼저 ./gradlew startupDist 를 실행하세요
+# (AOT 처리한 빈 구성은 저장소 선택이 빌드 시점에 고정되므로 AOT 모드로 실행하지 않습니다).
+#
+# 서버 목록은 BENCH_SERVERS(기본 50)개의 비활성 서버로 바꾸어 헬스 체크가 측정에 끼어들지 않도록 하고,
+# 헬스 스냅샷은 매 실행 빈 임시 경로를 사용합니다.
+# 결과는 build/registry-benchmark.csv (repository,concurrency,requests,errors,throughput,p50_ms,p99_ms)에 기록합니다.
+#
+# 환경 변수: JAVA_HOME (기본: PATH의 java), APP_PORT (기본 18080), BENCH_SERVERS, DURATION_SECONDS, WARMUP_SECONDS,
+#           WRITE_PERCENT, TIMEOUT_SECONDS (기동 최대 대기, 기본 120), JAVA_OPTS (애플리케이션 JVM 옵션)
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+if [ $# -gt 0 ]; then CONCURRENCIES=("$@"); else CONCURRENCIES=(16 64 256); fi
+JAVA_BIN=${JAVA_HOME:+$JAVA_HOME/bin/}
+APP_PORT=${APP_PORT:-18080}
+BENCH_SERVERS=${BENCH_SERVERS:-50}
+DURATION_SECONDS=${DURATION_SECONDS:-20}
+WARMUP_SECONDS=${WARMUP_SECONDS:-10}
+WRITE_PERCENT=${WRITE_PERCENT:-5}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+DIST=$ROOT/build/startup
+LOAD=$ROOT/scripts/registry/AdminLoad.java
+RESULT=$ROOT/build/registry-benchmark.csv
+
+if [ ! -f "$DIST/road.jar" ]; then
+    echo "$DIST/road.jar 가 없습니다. 먼저 ./gradlew startupDist 를 실행하세요." >&2
+    exit 1
+fi
+
+WORK=$(mktemp -d)
+APP_PID=
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null && wait "$APP_PID" 2>/dev/null
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+for i in $(seq 1 "$BENCH_SERVERS"); do
+    echo "INSERT INTO servers (name, url, active) VALUES ('Bench $i', 'http://127.0.0.1:9/?server=$i', false);"
+done > "$WORK/bench-data.sql"
+
+start_app() {
+    local repository=$1
+    (cd "$DIST" && exec "${JAVA_BIN}java" ${JAVA_OPTS:-} -jar road.jar \
+        --server.port="$APP_PORT" \
+        --spring.sql.init.data-locations="file:$WORK/bench-data.sql" \
+        --road.registry.repository="$repository" \
+        --road.warm-start.snapshot-path="$WORK/$repository-health.snapshot" \
+        --logging.level.com.example.road=WARN) > "$WORK/$repository.log" 2>&1 &
+    APP_PID=$!
+    local deadline=$(( $(date +%s) + TIMEOUT_SECONDS ))
+    while [ "$(date +%s)" -lt "$deadline" ]; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            break
+        fi
+        if [ "$(curl -s -o /dev/null -w '%{http_code}' "http://127.0.0.1:$APP_PORT/api/admin/servers" || true)" = "200" ]; then
+            return 0
+        fi
+        sleep 0.2
+    done
+    echo "$repository: 애플리케이션이 ${TIMEOUT_SECONDS}초 안에 기동하지 않았습니다. 로그: $WORK/$repository.log" >&2
+    tail -20 "$WORK/$repository.log" >&2
+    return 1
+}
+
+stop_app() {
+    kill "$APP_PID" 2>/dev/null || true
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+}
+
+mkdir -p "$ROOT/build"
+echo "repository,concurrency,requests,errors,throughput,p50_ms,p99_ms" > "$RESULT"
+for repository in mybatis r2dbc; do
+    start_app "$repository"
+    "${JAVA_BIN}java" "$LOAD" "http://127.0.0.1:$APP_PORT" "${CONCURRENCIES[-1]}" "$WARMUP_SECONDS" "$WRITE_PERCENT" > /dev/null
+    for concurrency in "${CONCURRENCIES[@]}"; do
+        line=$("${JAVA_BIN}java" "$LOAD" "http://127.0.0.1:$APP_PORT" "$concurrency" "$DURATION_SECONDS" "$WRITE_PERCENT")
+        echo "$repository,$concurrency,$line" >> "$RESULT"
+        IFS=, read -r requests errors throughput p50 p99 <<< "$line"
+        printf '%-7s 동시 %4d: %8s req/s  p50 %7s ms  p99 %7s ms  오류 %s\n' \
+            "$repository" "$concurrency" "$throughput" "$p50" "$p99" "$errors"
+    done
+    stop_app
+done
+echo "결과: $RESULT"
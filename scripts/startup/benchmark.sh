@@ -0,0 +1,134 @@
+#!/usr/bin/env bash
+# 기동 후 첫 번째 성공한 /api/dispatch 응답까지의 시간을 측정합니다.
+#
+#   scripts/startup/benchmark.sh [RUNS]
+#
+# 변형(variant)별로 RUNS번(기본 5) 애플리케이션을 새로 띄워, 프로세스 시작부터 GET /api/dispatch가 200을 반환할 때까지의 시간을 잽니다.
+#   baseline : ./gradlew bootJar 결과(build/libs)를 기본 프로파일로 실행
+#   aot      : build/startup을 AOT 모드와 startup 프로파일로 실행 (CDS 없음)
+#   aot-cds  : aot에 CDS 아카이브(road.jsa)를 더한 실행
+# 없는 배포본의 변형은 건너뜁니다. 먼저 ./gradlew bootJar 와 scripts/startup/build.sh 를 실행하세요.
+#
+# 재현성을 위해 외부 백엔드 대신 JDK의 jwebserver를 로컬 백엔드로 띄우고, 서버 목록(data.sql)을 그 백엔드를 가리키는 목록으로 바꾸며,
+# 헬스 스냅샷은 매 실행 빈 임시 경로를 사용합니다 (웜 스타트 없이 첫 헬스 체크를 거친 디스패치를 측정).
+# 결과는 build/startup-benchmark.csv (variant,run,millis)에 기록하고 변형별 중앙값을 출력합니다.
+#
+# 환경 변수: JAVA_HOME (기본: PATH의 java), APP_PORT (기본 18080), BACKEND_PORT (기본 18081),
+#           BENCH_SERVERS (서버 수, 기본 4), TIMEOUT_SECONDS (실행당 최대 대기, 기본 120), JAVA_OPTS (모든 변형에 추가할 JVM 옵션)
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+RUNS=${1:-5}
+JAVA_BIN=${JAVA_HOME:+$JAVA_HOME/bin/}
+APP_PORT=${APP_PORT:-18080}
+BACKEND_PORT=${BACKEND_PORT:-18081}
+BENCH_SERVERS=${BENCH_SERVERS:-4}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+DIST=$ROOT/build/startup
+RESULT=$ROOT/build/startup-benchmark.csv
+
+WORK=$(mktemp -d)
+BACKEND_PID=
+APP_PID=
+cleanup() {
+    [ -n "$APP_PID" ] && kill "$APP_PID" 2>/dev/null && wait "$APP_PID" 2>/dev/null
+    [ -n "$BACKEND_PID" ] && kill "$BACKEND_PID" 2>/dev/null && wait "$BACKEND_PID" 2>/dev/null
+    rm -rf "$WORK"
+}
+trap cleanup EXIT
+
+now_millis() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# 로컬 백엔드와, 그 백엔드를 가리키는 서버 목록
+mkdir -p "$WORK/backend"
+echo ok > "$WORK/backend/index.html"
+"${JAVA_BIN}jwebserver" -b 127.0.0.1 -p "$BACKEND_PORT" -d "$WORK/backend" -o NONE > "$WORK/backend.log" 2>&1 &
+BACKEND_PID=$!
+for i in $(seq 1 "$BENCH_SERVERS"); do
+    echo "INSERT INTO servers (name, url, active) VALUES ('Bench $i', 'http://127.0.0.1:$BACKEND_PORT/?server=$i', true);"
+done > "$WORK/bench-data.sql"
+
+COMMON_ARGS=(
+    --server.port="$APP_PORT"
+    --spring.sql.init.data-locations="file:$WORK/bench-data.sql"
+)
+
+# 변형 이름을 받아 실행 디렉터리와 명령을 설정합니다. 배포본이 없으면 1을 반환합니다.
+variant_command() {
+    case "$1" in
+        baseline)
+            local jar
+            jar=$(ls "$ROOT"/build/libs/*.jar 2>/dev/null | grep -v -- '-plain\.jar$' | head -1 || true)
+            [ -n "$jar" ] || return 1
+            RUN_DIR=$ROOT/build/libs
+            RUN_CMD=("${JAVA_BIN}java" ${JAVA_OPTS:-} -jar "$jar")
+            ;;
+        aot)
+            [ -f "$DIST/road.jar" ] || return 1
+            RUN_DIR=$DIST
+            RUN_CMD=("${JAVA_BIN}java" ${JAVA_OPTS:-} -Dspring.aot.enabled=true -jar road.jar --spring.profiles.active=startup)
+            ;;
+        aot-cds)
+            [ -f "$DIST/road.jsa" ] || return 1
+            RUN_DIR=$DIST
+            RUN_CMD=("${JAVA_BIN}java" ${JAVA_OPTS:-} -XX:SharedArchiveFile=road.jsa -Xlog:cds=off -Xlog:cds+dynamic=off
+                     -Dspring.aot.enabled=true -jar road.jar --spring.profiles.active=startup)
+            ;;
+    esac
+}
+
+# 한 번 실행하여 첫 번째 성공한 디스패치까지의 시간(밀리초)을 출력합니다.
+measure_once() {
+    local log=$1
+    local snapshot_dir
+    snapshot_dir=$(mktemp -d -p "$WORK")
+    local start
+    start=$(now_millis)
+    (cd "$RUN_DIR" && exec "${RUN_CMD[@]}" "${COMMON_ARGS[@]}" \
+        --road.warm-start.snapshot-path="$snapshot_dir/road-health.snapshot") > "$log" 2>&1 &
+    APP_PID=$!
+    local deadline=$((start + TIMEOUT_SECONDS * 1000))
+    local elapsed=
+    while [ "$(now_millis)" -lt "$deadline" ]; do
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            break
+        fi
+        if [ "$(curl -s -o /dev/null -w '%{http_code}' "http://127.0.0.1:$APP_PORT/api/dispatch" || true)" = "200" ]; then
+            elapsed=$(( $(now_millis) - start ))
+            break
+        fi
+        sleep 0.01
+    done
+    kill "$APP_PID" 2>/dev/null || true
+    wait "$APP_PID" 2>/dev/null || true
+    APP_PID=
+    if [ -z "$elapsed" ]; then
+        echo "첫 디스패치가 ${TIMEOUT_SECONDS}초 안에 성공하지 않았습니다. 로그: $log" >&2
+        tail -20 "$log" >&2
+        return 1
+    fi
+    echo "$elapsed"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+mkdir -p "$ROOT/build"
+echo "variant,run,millis" > "$RESULT"
+for variant in baseline aot aot-cds; do
+    if ! variant_command "$variant"; then
+        echo "$variant: 배포본이 없어 건너뜁니다."
+        continue
+    fi
+    measure_once "$WORK/$variant-warmup.log" > /dev/null # 디스크 캐시를 데우기 위한 실행 (기록하지 않음)
+    for run in $(seq 1 "$RUNS"); do
+        millis=$(measure_once "$WORK/$variant-$run.log")
+        echo "$variant,$run,$millis" >> "$RESULT"
+    done
+    printf '%-9s 첫 디스패치까지 중앙값 %s ms (%s회)\n' "$variant" \
+        "$(grep "^$variant," "$RESULT" | cut -d, -f3 | median)" "$RUNS"
+done
+echo "결과: $RESULT"
@@ -0,0 +1,33 @@
+#!/usr/bin/env bash
+# 기동 최적화 배포본(build/startup)을 만들고 CDS(AppCDS) 아카이브를 생성합니다.
+#
+#   scripts/startup/build.sh
+#
+# 1. ./gradlew startupDist -Pstartup : startup 프로파일로 Spring AOT 처리한 road.jar와 lib/ 의존성 JAR
+# 2. 학습 실행 : AOT 모드로 컨텍스트 새로고침 직후 종료(spring.context.exit=onRefresh)하며 로드한 클래스를 road.jsa에 기록
+#
+# CDS 아카이브는 만든 JVM과 같은 JVM, 같은 클래스 경로에서만 사용되므로 실행에 쓸 java(JAVA_HOME)로 이 스크립트를 실행하세요.
+# 환경 변수: JAVA_HOME (기본: PATH의 java), GRADLE (기본: ./gradlew)
+set -euo pipefail
+
+ROOT=$(cd "$(dirname "$0")/../.." && pwd)
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+GRADLE=${GRADLE:-./gradlew}
+DIST=$ROOT/build/startup
+
+cd "$ROOT"
+$GRADLE -q startupDist -Pstartup
+
+# 학습 실행은 웹 서버를 시작하기 전에 종료하지만, 스냅샷 파일은 읽지 않도록 빈 임시 경로를 사용합니다.
+TRAINING_DIR=$(mktemp -d)
+trap 'rm -rf "$TRAINING_DIR"' EXIT
+rm -f "$DIST/road.jsa"
+(cd "$DIST" && "$JAVA" -XX:ArchiveClassesAtExit=road.jsa -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar road.jar --spring.profiles.active=startup --server.port=0 \
+    --road.warm-start.snapshot-path="$TRAINING_DIR/road-health.snapshot" > "$TRAINING_DIR/training.log" 2>&1) || {
+    cat "$TRAINING_DIR/training.log" >&2
+    exit 1
+}
+
+echo "기동 최적화 배포본: $DIST (road.jar, lib/, road.jsa)"
+echo "실행: cd $DIST && $JAVA -XX:SharedArchiveFile=road.jsa -Dspring.aot.enabled=true -jar road.jar --spring.profiles.active=startup"
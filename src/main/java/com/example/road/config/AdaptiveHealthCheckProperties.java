@@ -0,0 +1,42 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버별 적응형 헬스 체크 주기 설정입니다.
+ * 오래 안정적인 서버는 주기를 늘리고, 실패나 상태 변화, 요청 실패 보고가 있으면 주기를 줄입니다.
+ * 주기를 늘린 만큼 트래픽을 받지 않는 서버의 장애 감지가 늦어지므로 기본값은 비활성화입니다.
+ *
+ * <pre>
+ * road:
+ *   health-check:
+ *     adaptive:
+ *       enabled: false
+ *       min-interval-ms: 2000
+ *       max-interval-ms: 40000
+ *       growth-factor: 2.0
+ *       max-probes-per-second: 50
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.health-check.adaptive")
+public class AdaptiveHealthCheckProperties {
+
+    // 적응형 주기 사용 여부. 비활성화하면 모든 서버를 server.healthcheck.interval-ms마다 헬스 체크합니다.
+    private boolean enabled = false;
+    // 실패, 상태 변화, 요청 실패 보고 직후의 헬스 체크 주기 (밀리초)
+    private long minIntervalMs = 2000;
+    // 안정적인 서버의 최대 헬스 체크 주기 (밀리초). 장애 감지 지연의 상한이므로 기본 주기의 몇 배 이내로 둡니다.
+    private long maxIntervalMs = 40000;
+    // 상태가 유지될 때마다 주기를 늘리는 배수
+    private double growthFactor = 2.0;
+    // 전체 서버에 대한 초당 최대 헬스 체크 수. 초과한 헬스 체크는 다음 틱으로 미룹니다.
+    private int maxProbesPerSecond = 50;
+    // 헬스 체크 대상 서버를 확인하는 주기 (밀리초)
+    private long tickMs = 1000;
+}
@@ -0,0 +1,44 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 디스패치 요청의 수용 제어(admission control) 설정입니다.
+ * 동시에 서버 선택을 기다리는 요청 수를 제한하고, 대기 시간이 계속 목표를 넘으면(CoDel 방식) 우선순위가 낮은 요청부터 즉시 거절합니다.
+ *
+ * <pre>
+ * road:
+ *   admission:
+ *     enabled: true
+ *     max-waiters: 200
+ *     normal-share: 0.8
+ *     low-share: 0.5
+ *     target-wait-ms: 100
+ *     interval-ms: 1000
+ *     retry-after-seconds: 1
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.admission")
+public class AdmissionProperties {
+
+    // 수용 제어 사용 여부
+    private boolean enabled = true;
+    // 동시에 서버 선택을 기다릴 수 있는 최대 요청 수 (HIGH 우선순위 기준)
+    private int maxWaiters = 200;
+    // NORMAL 우선순위가 사용할 수 있는 max-waiters 비율
+    private double normalShare = 0.8;
+    // LOW 우선순위가 사용할 수 있는 max-waiters 비율
+    private double lowShare = 0.5;
+    // 목표 대기 시간 (밀리초). 한 구간의 최소 대기 시간이 이 값을 넘으면 과부하로 판단합니다.
+    private long targetWaitMs = 100;
+    // 과부하를 판단하는 구간 길이 (밀리초)
+    private long intervalMs = 1000;
+    // 거절 응답의 Retry-After 값 (초)
+    private int retryAfterSeconds = 1;
+}
@@ -0,0 +1,31 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버별 서킷 브레이커 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   circuit-breaker:
+ *     failure-threshold: 5
+ *     open-duration-ms: 10000
+ *     half-open-trial-calls: 3
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.circuit-breaker")
+public class CircuitBreakerProperties {
+
+    // 서킷을 여는 연속 실패 수
+    private int failureThreshold = 5;
+    // 서킷이 열린 뒤 시험 요청을 허용하기까지의 시간 (밀리초)
+    private long openDurationMs = 10000;
+    // HALF_OPEN 상태에서 허용하는 시험 요청 수. 모두 성공하면 서킷을 닫습니다.
+    private int halfOpenTrialCalls = 3;
+}
@@ -0,0 +1,38 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 여러 road 레플리카가 헬스 체크를 나누어 수행하는 클러스터 모드 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   cluster:
+ *     enabled: true
+ *     self-url: http://localhost:8081
+ *     peers: http://localhost:8082,http://localhost:8083
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.cluster")
+public class ClusterProperties {
+
+    // 클러스터 모드 활성화 여부. 비활성화 시 모든 서버를 직접 헬스 체크합니다.
+    private boolean enabled = false;
+    // 이 노드의 기본 URL (해시 링에서 자신을 식별하고, 피어가 보고를 보낼 때 사용)
+    private String selfUrl = "http://localhost:8080";
+    // 정적 피어 노드의 기본 URL 목록 (자신 제외)
+    private List<String> peers = new ArrayList<>();
+    // 노드당 해시 링의 가상 노드 수 (클수록 서버가 고르게 분배됨)
+    private int virtualNodes = 128;
+    // 담당 노드의 헬스 결과를 신뢰하는 최대 시간 (밀리초). 넘으면 직접 헬스 체크합니다.
+    private long staleAfterMs = 30000;
+}
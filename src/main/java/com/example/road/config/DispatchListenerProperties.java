@@ -0,0 +1,34 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 바이너리 디스패치 리스너(TCP) 설정입니다. 프로토콜은 {@link com.example.road.dispatch.BinaryDispatchProtocol}을 참고하세요.
+ *
+ * <pre>
+ * road:
+ *   dispatch-listener:
+ *     enabled: true
+ *     port: 7070
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.dispatch-listener")
+public class DispatchListenerProperties {
+
+    // true면 HTTP API와 별도로 바이너리 디스패치 리스너를 엽니다.
+    private boolean enabled = false;
+    // 리스너가 바인드할 주소
+    private String host = "0.0.0.0";
+    // 리스너 포트 (0이면 임의의 빈 포트)
+    private int port = 7070;
+    // 연결을 처리하는 이벤트 루프 스레드 수 (0이면 Netty 기본값: CPU 코어 수의 2배)
+    private int ioThreads = 0;
+    // 연결 하나에 쓰기 대기 중인 응답이 이 크기를 넘으면 응답을 다 보낼 때까지 요청 읽기를 멈춥니다 (바이트)
+    private int writeBufferHighWaterMark = 256 * 1024;
+}
@@ -0,0 +1,31 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 드레이닝(새 선택을 멈추고 진행 중인 요청이 끝난 뒤 제거) 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   drain:
+ *     timeout-ms: 60000
+ *     lease-ttl-ms: 30000
+ *     check-interval-ms: 500
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.drain")
+public class DrainProperties {
+
+    // 기본 드레이닝 타임아웃 (밀리초). 진행 중인 요청이 남아 있어도 이 시간이 지나면 제거합니다.
+    private long timeoutMs = 60000;
+    // 디스패치 임대 유효 시간 (밀리초). 결과를 보고하지 않은 임대도 각 임대 후 이 시간이 지나면 끝난 것으로 봅니다.
+    private long leaseTtlMs = 30000;
+    // 드레이닝 완료 여부를 확인하는 주기 (밀리초)
+    private long checkIntervalMs = 500;
+}
@@ -0,0 +1,35 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리 API로 시작하는 JFR(Java Flight Recorder) 레코딩 설정입니다.
+ * 레코딩은 기간과 크기가 모두 제한되며, 기간이 지나면 자동으로 멈춥니다.
+ *
+ * <pre>
+ * road:
+ *   recording:
+ *     settings: default
+ *     default-duration-seconds: 60
+ *     max-duration-seconds: 600
+ *     max-size-mb: 64
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.recording")
+public class FlightRecordingProperties {
+
+    // JDK에 포함된 JFR 설정 이름 (default: 상시 실행용 저부하 설정, profile: 더 자세한 설정)
+    private String settings = "default";
+    // 기간을 지정하지 않았을 때의 레코딩 기간 (초)
+    private int defaultDurationSeconds = 60;
+    // 요청할 수 있는 최대 레코딩 기간 (초)
+    private int maxDurationSeconds = 600;
+    // 레코딩의 최대 크기 (MB). 넘으면 오래된 데이터부터 버립니다.
+    private int maxSizeMb = 64;
+}
@@ -0,0 +1,37 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백엔드 부하 보고와 여유 용량 가중 선택 전략({@code headroom}) 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   load-report:
+ *     probe-header: endpoint-load-metrics
+ *     half-life-ms: 5000
+ *     max-age-ms: 30000
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.load-report")
+public class LoadReportProperties {
+
+    // HTTP 헬스 체크 응답에서 부하 보고를 읽을 헤더 (ORCA TEXT 형식). 비워 두면 헬스 체크 응답의 부하 보고를 읽지 않습니다.
+    private String probeHeader = "endpoint-load-metrics";
+    // 여유 용량을 절반으로 줄이는 대기열 길이와 처리 중인 요청 수의 합
+    private double pendingScale = 10;
+    // 보고된 여유 용량과 중립값의 차이가 절반으로 줄어드는 시간 (밀리초)
+    private long halfLifeMs = 5000;
+    // 이 시간이 지난 보고는 무시하고 중립값을 사용합니다 (밀리초)
+    private long maxAgeMs = 30000;
+    // 보고가 없거나 오래된 서버의 여유 용량 (0 이상 1 이하)
+    private double neutralHeadroom = 0.5;
+    // headroom 전략의 최소 가중치. 여유가 없다고 보고한 서버도 이 비율만큼은 선택됩니다.
+    private double minWeight = 0.02;
+}
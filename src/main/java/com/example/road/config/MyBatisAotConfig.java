@@ -0,0 +1,63 @@
+package com.example.road.config;
+
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+/**
+ * MyBatis 매퍼를 Spring AOT로 처리할 수 있게 하는 설정입니다 (기동 최적화 빌드 {@code ./gradlew startupDist -Pstartup}에서 사용).
+ *
+ * <p>MyBatis 매퍼 스캐너가 등록하는 매퍼 빈 정의는 매퍼 인터페이스를 클래스 이름 문자열로만 갖고 있어, AOT로 생성한 코드에서는
+ * 생성자 인자와 빈 타입을 알 수 없습니다. 또한 스캐너 자체가 AOT 결과에 포함되면 AOT 모드 실행 시 같은 매퍼를 다시 스캔하여
+ * 빈 이름이 충돌합니다. 이를 위해 다음 두 가지를 제공합니다. 일반 실행에는 영향이 없습니다.</p>
+ * <ul>
+ *     <li>{@link MapperFactoryBeanTypeResolver}: 매퍼 빈 정의의 생성자 인자를 매퍼 인터페이스 클래스로 바꾸고 빈 타입에 제네릭을 채웁니다.</li>
+ *     <li>{@link MapperScannerExcludeFilter}: 매퍼 스캐너를 AOT 결과에서 제외합니다 ({@code META-INF/spring/aot.factories}로 등록).</li>
+ * </ul>
+ */
+@Configuration(proxyBeanMethods = false)
+public class MyBatisAotConfig {
+
+    @Bean
+    static MapperFactoryBeanTypeResolver mapperFactoryBeanTypeResolver() {
+        return new MapperFactoryBeanTypeResolver();
+    }
+
+    /**
+     * AOT 처리 중 병합된 매퍼 빈 정의에 매퍼 인터페이스 타입을 채웁니다.
+     */
+    static class MapperFactoryBeanTypeResolver implements MergedBeanDefinitionPostProcessor {
+
+        @Override
+        public void postProcessMergedBeanDefinition(RootBeanDefinition beanDefinition, Class<?> beanType, String beanName) {
+            if (!MapperFactoryBean.class.isAssignableFrom(beanType) || !beanDefinition.getResolvableType().hasUnresolvableGenerics()) {
+                return;
+            }
+            Object mapperInterface = beanDefinition.getPropertyValues().get("mapperInterface");
+            if (mapperInterface instanceof Class<?> type) {
+                ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+                arguments.addGenericArgumentValue(type);
+                beanDefinition.setConstructorArgumentValues(arguments);
+                beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanType, type));
+            }
+        }
+    }
+
+    /**
+     * 매퍼 스캐너를 AOT 결과에서 제외합니다. 스캐너가 등록한 매퍼 빈 정의는 AOT 결과에 그대로 포함됩니다.
+     */
+    static class MapperScannerExcludeFilter implements BeanRegistrationExcludeFilter {
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+        }
+    }
+}
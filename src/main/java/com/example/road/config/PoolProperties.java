@@ -0,0 +1,49 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 풀(서비스)별 로드 밸런서 설정입니다.
+ * {@code road.pools.<풀 이름>.*}으로 지정하며, 설정이 없는 풀은 전역 기본값을 사용합니다.
+ *
+ * <pre>
+ * road:
+ *   pools:
+ *     payments:
+ *       timeout-seconds: 1
+ *       strategy: round-robin
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road")
+public class PoolProperties {
+
+    // 풀 이름별 설정
+    private Map<String, PoolSettings> pools = new HashMap<>();
+
+    /**
+     * 주어진 풀의 설정을 반환합니다. 설정이 없으면 모든 값이 기본값인 설정을 반환합니다.
+     * @param pool 풀 이름
+     * @return 풀 설정
+     */
+    public PoolSettings settingsFor(String pool) {
+        return pools.getOrDefault(pool, new PoolSettings());
+    }
+
+    @Getter
+    @Setter
+    public static class PoolSettings {
+        // 다음 서버를 기다릴 최대 시간 (초). 지정하지 않으면 roundrobin.loadbalancer.timeout-seconds를 사용합니다.
+        private Long timeoutSeconds;
+        // 선택 전략 이름 (LoadBalancingStrategyRegistry에 등록된 이름). 관리 API로 실행 중에 바꿀 수 있습니다.
+        private String strategy = "round-robin";
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code /proxy/{pool}/**} 프록시의 백엔드 연결, 재시도, 헤징, 재시도 예산 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   proxy:
+ *     connect-timeout-ms: 3000
+ *     response-timeout-ms: 30000
+ *     max-response-bytes: 10485760
+ *     max-attempts: 2
+ *     hedging:
+ *       enabled: true
+ *       min-delay-ms: 10
+ *     retry-budget:
+ *       ratio: 0.1
+ *       min-per-second: 10
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.proxy")
+public class ProxyProperties {
+
+    // 백엔드 연결 타임아웃 (밀리초)
+    private int connectTimeoutMs = 3000;
+    // 백엔드 응답 헤더를 기다리는 최대 시간 (밀리초)
+    private long responseTimeoutMs = 30000;
+    // 메모리에 버퍼링하는 백엔드 응답 본문의 최대 크기 (바이트). 넘으면 502를 반환하며 서버 실패로 기록하지 않습니다.
+    private int maxResponseBytes = 10 * 1024 * 1024;
+    // 멱등 메서드 요청의 최대 시도 횟수 (첫 시도 포함). 재시도는 매번 다른 서버로 보냅니다.
+    private int maxAttempts = 2;
+    // 풀별 응답 시간 백분위수 계산에 사용하는 최근 응답 수
+    private int latencyWindow = 1024;
+    private Hedging hedging = new Hedging();
+    private Budget retryBudget = new Budget();
+
+    @Getter
+    @Setter
+    public static class Hedging {
+        // 헤징 사용 여부. 멱등 메서드에만 적용됩니다.
+        private boolean enabled = true;
+        // 헤징 지연의 하한 (밀리초). 실제 지연은 max(풀의 p95 응답 시간, 이 값)입니다.
+        private long minDelayMs = 10;
+        // p95를 신뢰하기 위한 최소 응답 수. 이보다 적으면 헤징하지 않습니다.
+        private int minSamples = 50;
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+        // 원 요청 하나당 허용하는 재시도/헤징 요청 비율
+        private double ratio = 0.1;
+        // 클러스터 전체에서 적립액과 관계없이 허용하는 초당 재시도/헤징 요청 수 (살아 있는 노드 수로 나누어 적용)
+        private int minPerSecond = 10;
+        // 적립할 수 있는 최대 재시도/헤징 요청 수
+        private int maxBalance = 100;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 레지스트리({@code servers} 테이블) 저장소 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   registry:
+ *     repository: r2dbc
+ *     r2dbc:
+ *       url: r2dbc:h2:mem:///road_db?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE
+ *       max-size: 50
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.registry")
+public class RegistryProperties {
+
+    // 관리 API와 레지스트리 조회에 사용할 저장소 (mybatis: 블로킹 MyBatis 매퍼, r2dbc: 논블로킹 R2DBC)
+    private String repository = "mybatis";
+    // repository가 r2dbc일 때 사용하는 R2DBC 커넥션 설정
+    private R2dbc r2dbc = new R2dbc();
+
+    @Getter
+    @Setter
+    public static class R2dbc {
+        // R2DBC URL. 기본값은 JDBC 데이터 소스(jdbc:h2:mem:road_db)와 같은 H2 인메모리 데이터베이스입니다.
+        private String url = "r2dbc:h2:mem:///road_db?options=DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+        // 데이터베이스 사용자 이름
+        private String username = "sa";
+        // 데이터베이스 비밀번호
+        private String password = "";
+        // 기동 시 미리 만드는 커넥션 수
+        private int initialSize = 5;
+        // 최대 커넥션 수
+        private int maxSize = 50;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새로 정상이 되었거나 새로 추가된 서버의 슬로우 스타트 설정입니다.
+ *
+ * <pre>
+ * road:
+ *   slow-start:
+ *     window-ms: 30000
+ *     curve: linear
+ *     min-weight: 0.1
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.slow-start")
+public class SlowStartProperties {
+
+    /**
+     * 가중치 증가 곡선
+     */
+    public enum Curve {
+        // min-weight에서 1까지 일정한 속도로 증가
+        LINEAR,
+        // min-weight에서 1까지 일정한 비율로 증가 (초반에 천천히, 후반에 빠르게)
+        EXPONENTIAL
+    }
+
+    // 슬로우 스타트 기간 (밀리초). 0이면 슬로우 스타트를 사용하지 않습니다.
+    private long windowMs = 30000;
+    // 가중치 증가 곡선
+    private Curve curve = Curve.LINEAR;
+    // 슬로우 스타트 시작 시점의 가중치 (0 초과 1 이하)
+    private double minWeight = 0.1;
+}
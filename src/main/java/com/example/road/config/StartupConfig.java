@@ -0,0 +1,92 @@
+package com.example.road.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.env.Environment;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 기동 시간을 줄이기 위한 설정입니다.
+ *
+ * <p>{@code road.startup.lazy-admin=true}(startup 프로파일의 기본값)이면 관리 API({@value #ADMIN_PATH_PREFIX} 아래)만 처리하는 컨트롤러를
+ * 지연 초기화하여, 기동 시에는 디스패치에 필요한 빈만 만들고 관리 API 빈은 첫 관리 요청에서 만듭니다.
+ * 요청 매핑은 빈 타입만으로 등록되므로 지연 초기화해도 관리 API 경로는 그대로 동작합니다.
+ * 스케줄 작업이 있는 서비스(예: 드레이닝 완료 처리)는 컨트롤러에서만 쓰이더라도 지연 초기화하지 않습니다.</p>
+ *
+ * <p>Spring AOT로 처리한 빌드에서는 이 판단이 AOT 처리 시점(startup 프로파일)에 이루어져 생성된 빈 정의에 포함됩니다.</p>
+ */
+@Configuration(proxyBeanMethods = false)
+@Slf4j
+public class StartupConfig {
+
+    static final String ADMIN_PATH_PREFIX = "/api/admin";
+
+    /**
+     * 관리 API 컨트롤러의 빈 정의를 지연 초기화로 바꾸는 후처리기를 등록합니다.
+     * 빈 정의 단계에서 동작해야 하므로 static으로 선언합니다.
+     */
+    @Bean
+    static AdminLazyInitPostProcessor adminLazyInitPostProcessor() {
+        return new AdminLazyInitPostProcessor();
+    }
+
+    // 클래스 수준 @RequestMapping의 모든 경로가 관리 API 아래인 빈만 관리 API 컨트롤러로 봅니다.
+    static boolean isAdminController(BeanDefinition definition) {
+        if (!(definition instanceof AnnotatedBeanDefinition annotated)) {
+            return false;
+        }
+        MergedAnnotation<RequestMapping> mapping = annotated.getMetadata().getAnnotations().get(RequestMapping.class);
+        if (!mapping.isPresent()) {
+            return false;
+        }
+        String[] paths = Stream.concat(Stream.of(mapping.getStringArray("path")), Stream.of(mapping.getStringArray("value")))
+                .distinct()
+                .toArray(String[]::new);
+        return paths.length > 0 && Stream.of(paths).allMatch(path -> path.startsWith(ADMIN_PATH_PREFIX));
+    }
+
+    /**
+     * 관리 API 컨트롤러의 빈 정의를 지연 초기화로 바꾸는 후처리기입니다.
+     * 설정은 {@link EnvironmentAware}로 받습니다. 메서드 인자로 받으면 인자를 찾는 과정에서 빈 타입을 확인하느라
+     * 다른 빈(예: MyBatis 매퍼 팩토리 빈)이 후처리 전에 만들어질 수 있습니다.
+     */
+    static class AdminLazyInitPostProcessor implements BeanFactoryPostProcessor, EnvironmentAware {
+
+        private boolean lazyAdmin;
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            this.lazyAdmin = environment.getProperty("road.startup.lazy-admin", Boolean.class, false);
+        }
+
+        @Override
+        public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+            if (!lazyAdmin) {
+                return;
+            }
+            List<String> lazyBeans = new ArrayList<>();
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                if (isAdminController(definition)) {
+                    definition.setLazyInit(true);
+                    lazyBeans.add(beanName);
+                }
+            }
+            // AOT 모드 실행에서는 빈 정의가 이미 지연 초기화로 생성되어 있고 어노테이션 메타데이터가 없으므로 대상이 없습니다.
+            if (!lazyBeans.isEmpty()) {
+                log.info("관리 API 빈을 지연 초기화합니다: {}", lazyBeans);
+            }
+        }
+    }
+}
@@ -11,7 +11,8 @@ import java.time.Duration;
 
 /**
  * WebClient 설정을 위한 구성 클래스입니다.
- * 헬스체크 및 기타 외부 서비스 호출에 사용되는 WebClient 인스턴스를 정의합니다.
+ * 헬스체크 및 기타 외부 서비스 호출에 사용되는 WebClient 인스턴스와, 프록시 전용 WebClient 인스턴스를 정의합니다.
+ * 두 빈의 타입이 같으므로 주입받는 쪽은 빈 이름과 같은 이름({@code webClient}, {@code proxyWebClient})의 필드로 구분합니다.
  */
 @Configuration
 public class WebClientConfig {
@@ -42,4 +43,22 @@ public class WebClientConfig {
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * {@code /proxy/{pool}/**} 프록시 전용 WebClient 빈을 생성합니다.
+     * 헬스 체크용 WebClient의 짧은 타임아웃과 기본 응답 버퍼 한도(256KB)가 프록시 응답에 적용되지 않도록
+     * {@code road.proxy.*}의 연결/응답 타임아웃과 응답 본문 최대 크기로 따로 구성합니다.
+     * @param proxyProperties 프록시 설정
+     * @return 프록시용 WebClient 인스턴스
+     */
+    @Bean
+    public WebClient proxyWebClient(ProxyProperties proxyProperties) {
+        HttpClient httpClient = HttpClient.create()
+                .responseTimeout(Duration.ofMillis(proxyProperties.getResponseTimeoutMs()))
+                .option(io.netty.channel.ChannelOption.CONNECT_TIMEOUT_MILLIS, proxyProperties.getConnectTimeoutMs());
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(proxyProperties.getMaxResponseBytes()))
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.road.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가용 영역(zone) 인식 라우팅 설정입니다.
+ * 디스패치 요청에 호출자의 영역이 주어지면 같은 영역의 정상 서버를 우선 선택하고,
+ * 그 영역의 정상 서버 비율이 {@code spill-threshold}보다 낮아질 때만 부족한 만큼 다른 영역으로 넘깁니다.
+ *
+ * <pre>
+ * road:
+ *   zone-routing:
+ *     enabled: true
+ *     spill-threshold: 0.7
+ * </pre>
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "road.zone-routing")
+public class ZoneRoutingProperties {
+
+    // 영역 인식 라우팅 사용 여부. 비활성화하면 zone 파라미터를 무시하고 풀 전체에서 선택합니다.
+    private boolean enabled = true;
+    // 같은 영역의 활성 서버 중 정상 서버 비율이 이 값 이상이면 모든 요청을 같은 영역으로 보냅니다 (0 초과 1 이하).
+    private double spillThreshold = 0.7;
+}
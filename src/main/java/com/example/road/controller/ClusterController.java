@@ -0,0 +1,49 @@
+package com.example.road.controller;
+
+import com.example.road.data.ClusterHealthMessage;
+import com.example.road.data.ClusterPeerStatus;
+import com.example.road.service.ClusterCoordinator;
+import com.example.road.service.ServerLoadBalancer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 클러스터 노드 간 헬스 체크 결과 교환을 위한 내부 REST 컨트롤러입니다.
+ */
+@RestController
+@RequestMapping("/api/cluster")
+@RequiredArgsConstructor
+public class ClusterController {
+
+    private final ClusterCoordinator clusterCoordinator;
+    private final ServerLoadBalancer serverLoadBalancer;
+
+    /**
+     * 피어가 담당 서버의 헬스 체크 결과를 보고합니다.
+     * 결과를 저장하고, 상태가 바뀐 서버가 속한 풀의 로드 밸런서에 즉시 반영합니다.
+     * @param message 피어의 헬스 보고
+     * @return 성공 시 202 Accepted 응답
+     */
+    @PostMapping("/health")
+    public ResponseEntity<Void> receiveHealth(@RequestBody ClusterHealthMessage message) {
+        clusterCoordinator.receive(message);
+        serverLoadBalancer.applyRemoteHealth(message.getReports());
+        return ResponseEntity.accepted().build();
+    }
+
+    /**
+     * 자신을 포함한 클러스터 노드의 상태를 조회합니다.
+     * @return 노드 상태 목록을 담은 ResponseEntity
+     */
+    @GetMapping("/peers")
+    public ResponseEntity<List<ClusterPeerStatus>> getPeers() {
+        return ResponseEntity.ok(clusterCoordinator.getPeerStatuses());
+    }
+}
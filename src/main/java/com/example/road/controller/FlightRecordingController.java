@@ -0,0 +1,69 @@
+package com.example.road.controller;
+
+import com.example.road.data.RecordingStatus;
+import com.example.road.service.FlightRecordingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 중 지연 시간 이상치를 분석하기 위한 JFR 레코딩 관리 컨트롤러입니다.
+ * 기간과 크기가 제한된 레코딩을 시작하고, 기록된 내용을 JFR 파일로 내려받을 수 있습니다 (JDK Mission Control 또는 {@code jfr print}로 분석).
+ */
+@RestController
+@RequestMapping("/api/admin/recording")
+@RequiredArgsConstructor
+public class FlightRecordingController {
+
+    private final FlightRecordingService flightRecordingService;
+
+    /**
+     * JFR 레코딩을 시작합니다. 이미 실행 중이면 현재 레코딩 상태를 반환합니다.
+     * @param durationSeconds 레코딩 기간 (초, 선택). 생략하면 {@code road.recording.default-duration-seconds}.
+     * @return 202 Accepted와 레코딩 상태
+     */
+    @PostMapping
+    public ResponseEntity<RecordingStatus> startRecording(@RequestParam(required = false) Integer durationSeconds) {
+        return ResponseEntity.accepted().body(flightRecordingService.start(durationSeconds));
+    }
+
+    /**
+     * 현재 JFR 레코딩 상태를 반환합니다.
+     * @return 레코딩 상태를 담은 ResponseEntity
+     */
+    @GetMapping
+    public ResponseEntity<RecordingStatus> getRecordingStatus() {
+        return ResponseEntity.ok(flightRecordingService.status());
+    }
+
+    /**
+     * 현재까지 기록된 레코딩을 JFR 파일로 내려받습니다. 실행 중인 레코딩은 계속 실행됩니다.
+     * @return JFR 파일 (application/octet-stream)
+     */
+    @GetMapping("/dump")
+    public ResponseEntity<byte[]> dumpRecording() {
+        byte[] content = flightRecordingService.dump();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("road.jfr").build().toString())
+                .body(content);
+    }
+
+    /**
+     * JFR 레코딩을 멈추고 버립니다.
+     * @return 성공 시 204 No Content 응답
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> stopRecording() {
+        flightRecordingService.stop();
+        return ResponseEntity.noContent().build();
+    }
+}
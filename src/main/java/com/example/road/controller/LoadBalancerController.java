@@ -1,15 +1,27 @@
 package com.example.road.controller;
 
+import com.example.road.data.DispatchPriority;
+import com.example.road.data.LoadReport;
+import com.example.road.data.RequestOutcome;
 import com.example.road.data.ServerInstance;
+import com.example.road.jfr.DispatchEvent;
+import com.example.road.service.DispatchAdmissionService;
 import com.example.road.service.ServerLoadBalancer;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
 import java.util.Optional;
 
 // 이 클래스가 RESTful 웹 서비스의 컨트롤러임을 나타냅니다.
@@ -23,13 +35,28 @@ public class LoadBalancerController {
 
     // 로드 밸런싱 로직을 제공하는 서비스를 주입받습니다.
     private final ServerLoadBalancer serverLoadBalancer;
+    // 서버 선택을 기다리는 요청 수와 대기 시간을 제한하는 수용 제어 서비스를 주입받습니다.
+    private final DispatchAdmissionService dispatchAdmissionService;
+
+    // 디스패치 요청의 우선순위를 지정하는 헤더 (HIGH, NORMAL, LOW). 과부하 시 낮은 우선순위부터 503과 Retry-After로 즉시 거절됩니다.
+    private static final String PRIORITY_HEADER = "X-Road-Priority";
 
     // HTTP GET 요청이 "/api/dispatch" 경로로 들어올 때 이 메서드가 호출됩니다.
+    // zone 파라미터로 호출자의 가용 영역을 전달하면 같은 영역의 서버를 우선 선택합니다.
     @GetMapping("/dispatch")
-    public ResponseEntity<ServerInstance> dispatchRequest() throws InterruptedException {
-        log.info("라우트 요청을 받았습니다.");
+    public ResponseEntity<ServerInstance> dispatchRequest(@RequestParam(required = false) String zone,
+                                                          @RequestHeader(value = PRIORITY_HEADER, required = false) String priority) throws InterruptedException {
+        log.info("라우트 요청을 받았습니다. zone={}", zone);
         // ServerLoadBalancer 통해 라운드 로빈 방식으로 다음 서버 인스턴스를 가져옵니다.
-        Optional<ServerInstance> serverOptional = serverLoadBalancer.getNextServer();
+        Optional<ServerInstance> serverOptional;
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        try (DispatchAdmissionService.Permit ignored = dispatchAdmissionService.admit(DispatchPriority.fromHeader(priority))) {
+            serverOptional = zone == null
+                    ? serverLoadBalancer.getNextServer()
+                    : serverLoadBalancer.getNextServer(ServerInstance.DEFAULT_POOL, zone);
+        }
+        commitDispatchEvent(event, ServerInstance.DEFAULT_POOL, zone, priority, serverOptional);
 
         if (serverOptional.isEmpty()) {
             log.warn("사용 가능한 서버가 없습니다. HTTP 503 Service Unavailable 응답을 반환합니다.");
@@ -41,4 +68,121 @@ public class LoadBalancerController {
         // 가져온 서버 인스턴스 정보를 HTTP 200 OK 응답과 함께 반환합니다.
         return ResponseEntity.ok(server);
     }
-}
\ No newline at end of file
+
+    // HTTP GET 요청이 "/api/dispatch?count=N" 경로로 들어올 때 이 메서드가 호출됩니다.
+    // 한 번의 호출로 라운드 로빈 순서대로 연속된 N개의 서버를 반환하여 고빈도 클라이언트의 요청 수를 줄입니다.
+    @GetMapping(value = "/dispatch", params = "count")
+    public ResponseEntity<List<ServerInstance>> dispatchBatchRequest(@RequestParam int count,
+                                                                     @RequestParam(required = false) String zone,
+                                                                     @RequestHeader(value = PRIORITY_HEADER, required = false) String priority) throws InterruptedException {
+        log.info("배치 라우트 요청을 받았습니다. count={}, zone={}", count, zone);
+        List<ServerInstance> servers;
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        try (DispatchAdmissionService.Permit ignored = dispatchAdmissionService.admit(DispatchPriority.fromHeader(priority))) {
+            servers = zone == null
+                    ? serverLoadBalancer.getNextServers(count)
+                    : serverLoadBalancer.getNextServers(ServerInstance.DEFAULT_POOL, count, zone);
+        }
+        commitDispatchEvent(event, ServerInstance.DEFAULT_POOL, zone, priority, count, servers);
+
+        if (servers.isEmpty()) {
+            log.warn("사용 가능한 서버가 없습니다. HTTP 503 Service Unavailable 응답을 반환합니다.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        log.info("{}개의 서버 선택을 반환합니다.", servers.size());
+        return ResponseEntity.ok(servers);
+    }
+
+    // HTTP GET 요청이 "/api/dispatch/{pool}" 경로로 들어올 때 이 메서드가 호출됩니다.
+    // 지정한 풀의 로드 밸런서에서 다음 서버를 가져오며, 존재하지 않는 풀이면 404를 반환합니다.
+    @GetMapping("/dispatch/{pool}")
+    public ResponseEntity<ServerInstance> dispatchPoolRequest(@PathVariable String pool,
+                                                              @RequestParam(required = false) String zone,
+                                                              @RequestHeader(value = PRIORITY_HEADER, required = false) String priority) throws InterruptedException {
+        log.info("풀 '{}' 라우트 요청을 받았습니다. zone={}", pool, zone);
+        Optional<ServerInstance> serverOptional;
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        try (DispatchAdmissionService.Permit ignored = dispatchAdmissionService.admit(DispatchPriority.fromHeader(priority))) {
+            serverOptional = zone == null
+                    ? serverLoadBalancer.getNextServer(pool)
+                    : serverLoadBalancer.getNextServer(pool, zone);
+        }
+        commitDispatchEvent(event, pool, zone, priority, serverOptional);
+
+        if (serverOptional.isEmpty()) {
+            log.warn("풀 '{}'에 사용 가능한 서버가 없습니다. HTTP 503 Service Unavailable 응답을 반환합니다.", pool);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        ServerInstance server = serverOptional.get();
+        log.info("풀 '{}'의 다음 서버로 라우팅합니다: {}", pool, server);
+        return ResponseEntity.ok(server);
+    }
+
+    // HTTP GET 요청이 "/api/dispatch/{pool}?count=N" 경로로 들어올 때 이 메서드가 호출됩니다.
+    @GetMapping(value = "/dispatch/{pool}", params = "count")
+    public ResponseEntity<List<ServerInstance>> dispatchPoolBatchRequest(@PathVariable String pool, @RequestParam int count,
+                                                                         @RequestParam(required = false) String zone,
+                                                                         @RequestHeader(value = PRIORITY_HEADER, required = false) String priority) throws InterruptedException {
+        log.info("풀 '{}' 배치 라우트 요청을 받았습니다. count={}, zone={}", pool, count, zone);
+        List<ServerInstance> servers;
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        try (DispatchAdmissionService.Permit ignored = dispatchAdmissionService.admit(DispatchPriority.fromHeader(priority))) {
+            servers = zone == null
+                    ? serverLoadBalancer.getNextServers(pool, count)
+                    : serverLoadBalancer.getNextServers(pool, count, zone);
+        }
+        commitDispatchEvent(event, pool, zone, priority, count, servers);
+
+        if (servers.isEmpty()) {
+            log.warn("풀 '{}'에 사용 가능한 서버가 없습니다. HTTP 503 Service Unavailable 응답을 반환합니다.", pool);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        log.info("풀 '{}'에서 {}개의 서버 선택을 반환합니다.", pool, servers.size());
+        return ResponseEntity.ok(servers);
+    }
+
+    // 서버 선택 대기 시간과 선택 결과를 JFR 이벤트로 기록합니다.
+    // 기록 중인 JFR 레코딩이 없으면 shouldCommit()이 false이므로 필드를 채우거나 전략을 조회하지 않습니다.
+    private void commitDispatchEvent(DispatchEvent event, String pool, String zone, String priority, Optional<ServerInstance> selected) {
+        event.end();
+        if (event.shouldCommit()) {
+            commitSelection(event, pool, zone, priority, 1, selected.map(List::of).orElse(List.of()));
+        }
+    }
+
+    private void commitDispatchEvent(DispatchEvent event, String pool, String zone, String priority, int requestedCount, List<ServerInstance> selected) {
+        event.end();
+        if (event.shouldCommit()) {
+            commitSelection(event, pool, zone, priority, requestedCount, selected);
+        }
+    }
+
+    private void commitSelection(DispatchEvent event, String pool, String zone, String priority, int requestedCount, List<ServerInstance> selected) {
+        event.setSelection(pool, zone, DispatchPriority.fromHeader(priority).name(), serverLoadBalancer.strategyOf(pool), requestedCount, selected);
+        event.commit();
+    }
+
+    // HTTP POST 요청이 "/api/dispatch/outcome" 경로로 들어올 때 이 메서드가 호출됩니다.
+    // 디스패치받은 서버로 보낸 요청의 결과를 보고받아 해당 서버의 서킷 브레이커에 반영합니다.
+    @PostMapping("/dispatch/outcome")
+    public ResponseEntity<Void> reportOutcome(@Valid @RequestBody RequestOutcome outcome) {
+        log.debug("요청 결과 보고를 받았습니다. serverId={}, success={}", outcome.getServerId(), outcome.isSuccess());
+        serverLoadBalancer.reportOutcome(outcome);
+        return ResponseEntity.accepted().build();
+    }
+
+    // HTTP POST 요청이 "/api/load-report" 경로로 들어올 때 이 메서드가 호출됩니다.
+    // 백엔드가 보고한 부하(CPU 사용률, 대기열 길이, 처리 중인 요청 수)를 기록하여 headroom 전략의 가중치에 반영합니다.
+    @PostMapping("/load-report")
+    public ResponseEntity<Void> reportLoad(@Valid @RequestBody LoadReport report) {
+        log.debug("부하 보고를 받았습니다. serverId={}, cpuUtilization={}", report.getServerId(), report.getCpuUtilization());
+        serverLoadBalancer.recordLoad(report);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.road.controller;
+
+import com.example.road.data.DispatchPriority;
+import com.example.road.service.ProxyService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 풀의 백엔드 서버로 트래픽을 직접 전달하는 프록시 컨트롤러입니다.
+ * {@code /proxy/{pool}/a/b?x=1} 요청은 선택된 서버의 {@code {서버 URL}/a/b?x=1}로 전달됩니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class ProxyController {
+
+    // 요청의 우선순위를 지정하는 헤더 (HIGH, NORMAL, LOW). /api/dispatch와 같은 수용 제어를 적용합니다.
+    private static final String PRIORITY_HEADER = "X-Road-Priority";
+
+    private final ProxyService proxyService;
+
+    /**
+     * 요청을 풀의 백엔드 서버로 전달합니다. 멱등 메서드는 재시도와 헤징이 적용됩니다.
+     * 과부하 시 {@code X-Road-Priority}가 낮은 요청부터 503과 Retry-After로 즉시 거절됩니다.
+     * @param pool 풀 이름
+     * @return 백엔드 응답
+     */
+    @RequestMapping("/proxy/{pool}/**")
+    public Mono<ResponseEntity<byte[]>> proxy(@PathVariable String pool, HttpMethod method, HttpServletRequest request,
+                                              @RequestHeader HttpHeaders headers, @RequestBody(required = false) byte[] body) {
+        String prefix = request.getContextPath() + "/proxy/" + pool;
+        String path = request.getRequestURI().substring(prefix.length());
+        String query = request.getQueryString();
+        log.debug("풀 '{}' 프록시 요청: {} {}", pool, method, path);
+        return proxyService.forward(pool, method, query != null ? path + "?" + query : path, headers, body,
+                DispatchPriority.fromHeader(headers.getFirst(PRIORITY_HEADER)));
+    }
+}
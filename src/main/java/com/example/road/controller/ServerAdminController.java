@@ -1,19 +1,42 @@
 package com.example.road.controller;
 
+import com.example.road.data.AdmissionStats;
+import com.example.road.data.DashboardState;
+import com.example.road.data.DrainAction;
+import com.example.road.data.DrainStatus;
+import com.example.road.data.PoolStrategyStatus;
+import com.example.road.data.RateLimitStats;
 import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerHealthSummary;
 import com.example.road.data.ServerInstance;
+import com.example.road.service.DashboardEventService;
+import com.example.road.service.DispatchAdmissionService;
 import com.example.road.service.ServerAdminService;
 import com.example.road.service.ServerLoadBalancer;
+import com.example.road.service.ServerRateLimiter;
+import com.example.road.service.ServerRegistryVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
  * 서버 인스턴스 관리를 위한 REST 컨트롤러입니다.
  * 서버 목록 조회, 추가, 수정, 삭제 및 헬스 상태 조회 기능을 제공합니다.
+ * 서버 레지스트리에 접근하는 엔드포인트는 {@link Mono}를 반환하여 서블릿 비동기 요청으로 처리되므로,
+ * 데이터베이스 응답을 기다리는 동안 Jetty 요청 스레드를 반환합니다.
+ * 자주 폴링하는 목록 조회는 버전 기반 ETag를 내려주고, 바뀌지 않았으면 본문 없이 304를 반환합니다.
+ * ETag에는 프로세스 시작 시각을 붙이므로, 재시작 전에 받은 ETag는 버전이 같아도 일치하지 않습니다.
  */
 @RestController
 @RequestMapping("/api/admin/servers")
@@ -22,23 +45,146 @@ public class ServerAdminController {
 
     private final ServerAdminService serverAdminService;
     private final ServerLoadBalancer serverLoadBalancer; // ServerLoadBalancer 주입
+    private final DashboardEventService dashboardEventService;
+    private final ServerRateLimiter serverRateLimiter;
+    private final DispatchAdmissionService dispatchAdmissionService;
+    private final ServerRegistryVersion serverRegistryVersion;
+
+    // ETag 앞에 붙이는 프로세스 시작 시각. 재시작 후 버전이 0부터 다시 올라가도 이전 프로세스의 ETag와 겹치지 않습니다.
+    private final String etagEpoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    // 대시보드 SSE 연결이 유휴 타임아웃으로 끊기지 않도록 보내는 heartbeat 주기
+    @Value("${road.dashboard.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
 
     /**
      * 모든 서버 인스턴스 목록을 조회합니다.
-     * @return 모든 서버 인스턴스 목록을 담은 ResponseEntity
+     * 서버 목록 버전({@link ServerRegistryVersion}) 기반 ETag를 함께 내려주며, {@code If-None-Match}가 현재 버전과 같으면
+     * 데이터베이스를 조회하지 않고 본문 없이 304를 반환합니다.
+     * @param ifNoneMatch 클라이언트가 가진 서버 목록의 ETag
+     * @return 모든 서버 인스턴스 목록을 담은 ResponseEntity 또는 304 Not Modified
      */
     @GetMapping
-    public ResponseEntity<List<ServerInstance>> getAllServers() {
-        return ResponseEntity.ok(serverAdminService.getAllServers());
+    public Mono<ResponseEntity<List<ServerInstance>>> getAllServers(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 조회 전에 버전을 읽으므로, 조회 중에 바뀐 목록은 다음 요청에서 새 ETag로 다시 받습니다.
+        String etag = "\"" + etagEpoch + "-r" + serverRegistryVersion.current() + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build());
+        }
+        return serverAdminService.getAllServers().collectList().map(servers -> ResponseEntity.ok().eTag(etag).body(servers));
     }
 
     /**
      * 현재 추적 중인 모든 서버의 실시간 헬스 상태를 반환합니다.
-     * @return 모든 서버의 헬스 상태 목록을 담은 ResponseEntity
+     * ETag는 변경 카운터({@link ServerLoadBalancer#healthDetailVersion()}: 헬스 상태 테이블, 서킷 브레이커 상태 전환, 헬스 체크 주기,
+     * 슬로우 스타트 시작과 종료)만으로 만들므로 {@code If-None-Match}가 같으면 목록을 만들지 않고 304를 반환합니다.
+     * 진행 중인 슬로우 스타트 가중치({@code effectiveWeight})와 감쇠한 여유 용량({@code headroom})은 응답을 만들 때 계산하며,
+     * 시간이 지나 이 값만 바뀐 경우에는 ETag가 바뀌지 않아 304가 반환될 수 있습니다.
+     * @param ifNoneMatch 클라이언트가 가진 헬스 상태의 ETag
+     * @return 모든 서버의 헬스 상태 목록을 담은 ResponseEntity 또는 304 Not Modified
      */
     @GetMapping("/health")
-    public ResponseEntity<List<ServerHealthStatus>> getAllServerHealth() {
-        return ResponseEntity.ok(serverLoadBalancer.getAllServerHealthStatuses());
+    public ResponseEntity<List<ServerHealthStatus>> getAllServerHealth(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 목록을 만들기 전에 버전을 읽으므로, 그 사이의 변경은 다음 요청에서 새 ETag로 다시 받습니다.
+        String etag = "\"" + etagEpoch + "-hf" + serverLoadBalancer.healthDetailVersion() + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(serverLoadBalancer.getAllServerHealthStatuses());
+    }
+
+    /**
+     * 모든 서버의 헬스 상태를 ID, 정상 여부, 마지막 확인 시각만 담아 반환합니다 ({@code ?view=compact}).
+     * 자주 폴링하는 모니터링용이며, ETag는 헬스 상태 테이블의 상태 버전({@link ServerLoadBalancer#healthVersion()})만으로 만들므로
+     * {@code If-None-Match}가 같으면 목록을 만들지 않고 304를 반환합니다. 상태 버전은 부하 보고에는 증가하지 않으므로 요약에 없는 부하가 바뀌어도 304입니다.
+     * @param ifNoneMatch 클라이언트가 가진 헬스 상태 요약의 ETag
+     * @return 모든 서버의 헬스 상태 요약 목록을 담은 ResponseEntity 또는 304 Not Modified
+     */
+    @GetMapping(value = "/health", params = "view=compact")
+    public ResponseEntity<List<ServerHealthSummary>> getServerHealthSummaries(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        // 요약을 만들기 전에 버전을 읽으므로, 그 사이의 기록은 다음 요청에서 새 ETag로 다시 받습니다.
+        String etag = "\"" + etagEpoch + "-hc" + serverLoadBalancer.healthVersion() + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(serverLoadBalancer.getServerHealthSummaries());
+    }
+
+    /**
+     * 최대 초당 요청 수가 설정된 서버들의 선택 집계(건너뛴 선택 수, 비율, 초당 건너뛴 선택 수)를 반환합니다.
+     * @return 요청 수 제한 집계를 담은 ResponseEntity
+     */
+    @GetMapping("/rate-limits")
+    public ResponseEntity<RateLimitStats> getRateLimitStats() {
+        return ResponseEntity.ok(serverRateLimiter.getStats());
+    }
+
+    /**
+     * 디스패치 수용 제어 상태(대기 요청 수, 거절 단계)와 수용/거절 집계를 반환합니다.
+     * @return 수용 제어 집계를 담은 ResponseEntity
+     */
+    @GetMapping("/admission")
+    public ResponseEntity<AdmissionStats> getAdmissionStats() {
+        return ResponseEntity.ok(dispatchAdmissionService.getStats());
+    }
+
+    /**
+     * 현재 드레이닝 중인 서버의 진행 상황(남은 프록시 요청과 임대, 타임아웃 시각)을 반환합니다.
+     * @return 드레이닝 진행 상황 목록을 담은 ResponseEntity
+     */
+    @GetMapping("/drains")
+    public ResponseEntity<List<DrainStatus>> getDrainStatuses() {
+        return ResponseEntity.ok(serverAdminService.getDrainStatuses());
+    }
+
+    /**
+     * 모든 풀의 선택 전략 상태(현재 전략, 설정된 전략, 사용 가능한 전략)를 반환합니다.
+     * @return 풀별 선택 전략 상태 목록을 담은 ResponseEntity
+     */
+    @GetMapping("/strategies")
+    public ResponseEntity<List<PoolStrategyStatus>> getPoolStrategies() {
+        return ResponseEntity.ok(serverLoadBalancer.getPoolStrategies());
+    }
+
+    /**
+     * 풀의 선택 전략을 실행 중에 바꿉니다. 진행 중인 디스패치는 중단되지 않으며, 변경은 이 노드에만 적용됩니다.
+     * @param pool 풀 이름 (경로 변수)
+     * @param strategy 새 전략 이름
+     * @return 변경 후 선택 전략 상태를 담은 ResponseEntity
+     */
+    @PutMapping("/strategies/{pool}")
+    public ResponseEntity<PoolStrategyStatus> switchStrategy(@PathVariable String pool, @RequestParam String strategy) {
+        return ResponseEntity.ok(serverLoadBalancer.switchStrategy(pool, strategy));
+    }
+
+    /**
+     * 풀의 선택 전략을 풀 설정의 전략으로 되돌립니다.
+     * @param pool 풀 이름 (경로 변수)
+     * @return 변경 후 선택 전략 상태를 담은 ResponseEntity
+     */
+    @DeleteMapping("/strategies/{pool}")
+    public ResponseEntity<PoolStrategyStatus> resetStrategy(@PathVariable String pool) {
+        return ResponseEntity.ok(serverLoadBalancer.switchStrategy(pool, null));
+    }
+
+    /**
+     * 대시보드용 레지스트리/헬스 변경 스트림을 Server-Sent Events로 제공합니다.
+     * 연결 직후 한 번만 전체 상태를 {@code init} 이벤트로 보내고, 이후에는 변경된 서버에 대한 이벤트만 푸시합니다.
+     * 이벤트 종류는 {@link DashboardEventService}를 참고하세요.
+     * @return SSE 이벤트 스트림
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamEvents() {
+        // 변경 스트림을 먼저 구독한 뒤 초기 상태를 조회하므로, 그 사이의 변경도 이벤트로 전달됩니다.
+        return Flux.merge(
+                dashboardEventService.events(),
+                serverAdminService.getAllServers().collectList()
+                        .map(servers -> ServerSentEvent.<Object>builder(
+                                        new DashboardState(servers, serverLoadBalancer.getAllServerHealthStatuses()))
+                                .event("init")
+                                .build()),
+                Flux.interval(Duration.ofMillis(heartbeatIntervalMs))
+                        .map(tick -> ServerSentEvent.builder().comment("keep-alive").build()));
     }
 
     /**
@@ -47,9 +193,8 @@ public class ServerAdminController {
      * @return 추가된 서버 인스턴스 정보를 담은 ResponseEntity
      */
     @PostMapping
-    public ResponseEntity<ServerInstance> addServer(@Valid @RequestBody ServerInstance server) {
-        ServerInstance newServer = serverAdminService.addServer(server);
-        return ResponseEntity.ok(newServer);
+    public Mono<ResponseEntity<ServerInstance>> addServer(@Valid @RequestBody ServerInstance server) {
+        return serverAdminService.addServer(server).map(ResponseEntity::ok);
     }
 
     /**
@@ -59,10 +204,9 @@ public class ServerAdminController {
      * @return 업데이트된 서버 인스턴스 정보를 담은 ResponseEntity
      */
     @PutMapping("/{id}")
-    public ResponseEntity<ServerInstance> updateServer(@PathVariable Long id, @Valid @RequestBody ServerInstance server) {
+    public Mono<ResponseEntity<ServerInstance>> updateServer(@PathVariable Long id, @Valid @RequestBody ServerInstance server) {
         server.setId(id); // URL 경로의 ID를 서버 객체에 설정
-        ServerInstance updatedServer = serverAdminService.updateServer(server);
-        return ResponseEntity.ok(updatedServer);
+        return serverAdminService.updateServer(server).map(ResponseEntity::ok);
     }
 
     /**
@@ -71,19 +215,48 @@ public class ServerAdminController {
      * @return 성공 시 204 No Content 응답
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteServer(@PathVariable Long id) {
-        serverAdminService.deleteServer(id);
+    public Mono<ResponseEntity<Void>> deleteServer(@PathVariable Long id) {
+        return serverAdminService.deleteServer(id).then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    /**
+     * 서버를 드레이닝합니다. 서버는 즉시 새 요청을 받지 않고, 진행 중인 요청이 끝나거나 타임아웃이 지나면 삭제되거나 비활성화됩니다.
+     * @param id 드레이닝할 서버의 ID (경로 변수)
+     * @param action 드레이닝이 끝나면 적용할 작업 (DELETE 또는 DEACTIVATE, 기본 DELETE)
+     * @param timeoutMs 드레이닝 타임아웃 (밀리초, 선택). 생략하면 {@code road.drain.timeout-ms}.
+     * @return 202 Accepted와 드레이닝 진행 상황
+     */
+    @PostMapping("/{id}/drain")
+    public Mono<ResponseEntity<DrainStatus>> drainServer(@PathVariable Long id,
+                                                         @RequestParam(defaultValue = "DELETE") DrainAction action,
+                                                         @RequestParam(required = false) Long timeoutMs) {
+        return serverAdminService.drainServer(id, action, timeoutMs).map(status -> ResponseEntity.accepted().body(status));
+    }
+
+    /**
+     * 서버의 드레이닝을 취소하여 다시 요청을 받도록 합니다.
+     * @param id 서버의 ID (경로 변수)
+     * @return 성공 시 204 No Content 응답
+     */
+    @DeleteMapping("/{id}/drain")
+    public ResponseEntity<Void> cancelDrain(@PathVariable Long id) {
+        serverAdminService.cancelDrain(id);
         return ResponseEntity.noContent().build();
     }
 
     /**
      * 서버 목록을 수동으로 새로고침하고 헬스 체크를 강제 실행하는 엔드포인트.
      * 이 엔드포인트를 호출하면 ServerLoadBalancer가 데이터베이스에서 서버 목록을 다시 로드하고 헬스 체크를 수행합니다.
-     * @return 성공 시 200 OK 응답
+     * @param pool 새로고침할 풀 이름 (선택). 지정하면 해당 풀만 새로고침하고, 생략하면 모든 풀을 새로고침합니다.
+     * @return 성공 시 200 OK 응답. 알 수 없는 풀이면 404 Not Found.
      */
     @PostMapping("/refresh")
-    public ResponseEntity<Void> refreshServers() {
-        serverLoadBalancer.refreshServers();
+    public ResponseEntity<Void> refreshServers(@RequestParam(required = false) String pool) {
+        if (pool != null) {
+            serverLoadBalancer.refreshPool(pool);
+        } else {
+            serverLoadBalancer.refreshServers();
+        }
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+}
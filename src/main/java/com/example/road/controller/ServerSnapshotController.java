@@ -0,0 +1,113 @@
+package com.example.road.controller;
+
+import com.example.road.data.ServerSnapshot;
+import com.example.road.service.ServerSnapshotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 클라이언트 측 로드 밸런싱을 위한 건강 서버 스냅샷 피드 컨트롤러입니다.
+ * 클라이언트는 스냅샷을 로컬에 보관하고, 조건부 GET / 롱 폴링 / Server-Sent Events 중 하나로 변경만 받아
+ * 매 요청마다 {@code /api/dispatch}를 호출하지 않고 직접 서버를 선택할 수 있습니다.
+ */
+@RestController
+@RequestMapping("/api/snapshot")
+@RequiredArgsConstructor
+@Slf4j
+public class ServerSnapshotController {
+
+    private final ServerSnapshotService serverSnapshotService;
+
+    // 롱 폴링 요청이 지정할 수 있는 최대 대기 시간
+    @Value("${road.snapshot.max-poll-timeout-ms:60000}")
+    private long maxPollTimeoutMs;
+
+    // SSE 연결 유지를 위한 heartbeat 주기
+    @Value("${road.snapshot.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    /**
+     * 현재 건강 서버 스냅샷을 반환합니다.
+     * 에포크와 버전 기반 ETag를 함께 내려주며, {@code If-None-Match}가 현재 에포크와 버전과 같으면 본문 없이 304를 반환합니다.
+     * @param ifNoneMatch 클라이언트가 가진 스냅샷의 ETag
+     * @return 스냅샷 또는 304 Not Modified
+     */
+    @GetMapping
+    public ResponseEntity<ServerSnapshot> getSnapshot(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        ServerSnapshot snapshot = serverSnapshotService.getSnapshot();
+        String etag = etagOf(snapshot);
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(snapshot);
+    }
+
+    /**
+     * 주어진 버전보다 새로운 스냅샷이 생길 때까지 기다렸다가 반환합니다 (롱 폴링).
+     * 대기 시간 안에 변경이 없으면 304를 반환하므로, 클라이언트는 같은 버전으로 다시 요청하면 됩니다.
+     * 클라이언트의 에포크가 다르거나 버전이 현재 버전보다 크면(road 서버 재시작) 기다리지 않고 현재 스냅샷을 반환합니다.
+     * @param epoch 클라이언트가 가진 스냅샷의 에포크. 없으면 에포크를 비교하지 않습니다.
+     * @param version 클라이언트가 가진 스냅샷 버전
+     * @param timeoutMs 최대 대기 시간 (밀리초, {@code road.snapshot.max-poll-timeout-ms}로 제한)
+     * @return 새 스냅샷 또는 304 Not Modified
+     */
+    @GetMapping("/poll")
+    public Mono<ResponseEntity<ServerSnapshot>> pollSnapshot(@RequestParam(required = false) String epoch,
+                                                             @RequestParam long version,
+                                                             @RequestParam(defaultValue = "30000") long timeoutMs) {
+        Duration timeout = Duration.ofMillis(Math.max(0, Math.min(timeoutMs, maxPollTimeoutMs)));
+        return serverSnapshotService.awaitChange(epoch, version, timeout)
+                .map(snapshot -> ResponseEntity.ok().eTag(etagOf(snapshot)).body(snapshot))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etagOf(serverSnapshotService.getEpoch(), version)).build());
+    }
+
+    /**
+     * 스냅샷 변경 스트림을 Server-Sent Events로 제공합니다.
+     * 연결 직후 현재 전체 스냅샷을 {@code snapshot} 이벤트로 보내고, 이후 멤버십 변경분을 {@code delta} 이벤트로 푸시합니다.
+     * 이벤트 ID는 스냅샷 버전이며, 클라이언트는 delta의 {@code fromVersion}이 자신의 버전과 다르면 스냅샷을 다시 받아야 합니다.
+     * @return SSE 이벤트 스트림
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamSnapshot() {
+        log.debug("스냅샷 SSE 구독이 시작되었습니다.");
+        // 변경 스트림을 먼저 구독한 뒤 현재 스냅샷을 보내므로, 두 동작 사이의 변경도 delta로 전달됩니다.
+        Flux<ServerSentEvent<Object>> events = Flux.merge(
+                serverSnapshotService.deltas()
+                        .map(delta -> event("delta", delta.getVersion(), delta)),
+                Mono.fromSupplier(serverSnapshotService::getSnapshot)
+                        .map(snapshot -> event("snapshot", snapshot.getVersion(), snapshot)));
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(Duration.ofMillis(heartbeatIntervalMs))
+                .map(tick -> ServerSentEvent.builder().comment("keep-alive").build());
+        return Flux.merge(events, heartbeats);
+    }
+
+    private ServerSentEvent<Object> event(String type, long version, Object data) {
+        return ServerSentEvent.builder(data)
+                .event(type)
+                .id(Long.toString(version))
+                .build();
+    }
+
+    private String etagOf(ServerSnapshot snapshot) {
+        return etagOf(snapshot.getEpoch(), snapshot.getVersion());
+    }
+
+    private String etagOf(String epoch, long version) {
+        return "\"" + epoch + "-" + version + "\"";
+    }
+}
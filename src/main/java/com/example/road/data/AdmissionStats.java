@@ -0,0 +1,26 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 디스패치 수용 제어 상태와 집계입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionStats {
+    // 현재 서버 선택을 기다리는 요청 수
+    private int waiters;
+    // 현재 거절 단계 (0: 거절 없음, 1: LOW 거절, 2: LOW와 NORMAL 거절)
+    private int sheddingLevel;
+    // 직전 구간의 최소 대기 시간 (밀리초)
+    private long lastMinWaitMs;
+    // 수용한 요청 수
+    private long admitted;
+    // 대기 요청 수 제한으로 거절한 요청 수
+    private long rejectedByLimit;
+    // 과부하(대기 시간 초과)로 거절한 요청 수
+    private long rejectedByOverload;
+}
@@ -0,0 +1,20 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 한 노드가 담당 서버의 헬스 체크 결과를 피어에게 알리는 메시지입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterHealthMessage {
+    // 보낸 노드의 기본 URL
+    private String source;
+    // 보낸 노드가 담당하는 서버들의 헬스 체크 결과
+    private List<ServerHealthReport> reports;
+}
@@ -0,0 +1,22 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클러스터 피어 노드의 상태입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClusterPeerStatus {
+    // 노드의 기본 URL
+    private String url;
+    // 자기 자신인지 여부
+    private boolean self;
+    // 해시 링에 포함되어 있는지 여부 (최근 통신 성공)
+    private boolean alive;
+    // 마지막으로 통신에 성공한 시각 (epoch millis, 없으면 0)
+    private long lastSeen;
+}
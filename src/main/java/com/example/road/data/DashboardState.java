@@ -0,0 +1,21 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 대시보드 이벤트 스트림 연결 시 한 번만 전송되는 초기 상태입니다.
+ * 이후의 변경은 개별 이벤트로만 전달됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardState {
+    // DB에 등록된 서버 목록
+    private List<ServerInstance> servers;
+    // 현재 추적 중인 헬스 상태 목록
+    private List<ServerHealthStatus> health;
+}
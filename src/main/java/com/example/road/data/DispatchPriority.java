@@ -0,0 +1,28 @@
+package com.example.road.data;
+
+/**
+ * 디스패치 요청의 우선순위입니다. 과부하 시 낮은 우선순위부터 거절됩니다.
+ * 요청 헤더 {@code X-Road-Priority}로 지정하며, 지정하지 않으면 NORMAL입니다.
+ */
+public enum DispatchPriority {
+    HIGH,
+    NORMAL,
+    LOW;
+
+    /**
+     * 헤더 값을 대소문자 구분 없이 우선순위로 변환합니다.
+     * @param value 헤더 값
+     * @return 우선순위. 비어 있거나 알 수 없는 값이면 NORMAL.
+     */
+    public static DispatchPriority fromHeader(String value) {
+        if (value == null || value.isBlank()) {
+            return NORMAL;
+        }
+        for (DispatchPriority priority : values()) {
+            if (priority.name().equalsIgnoreCase(value.trim())) {
+                return priority;
+            }
+        }
+        return NORMAL;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.road.data;
+
+/**
+ * 드레이닝이 끝났을 때 서버에 적용할 작업입니다.
+ */
+public enum DrainAction {
+    // 서버를 삭제합니다.
+    DELETE,
+    // 서버를 비활성화합니다 (active=false).
+    DEACTIVATE
+}
@@ -0,0 +1,31 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서버 드레이닝 진행 상황입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrainStatus {
+    private Long serverId;
+    private String serverName;
+    private String pool;
+    // 드레이닝이 끝나면 적용할 작업
+    private DrainAction action;
+    // 드레이닝 시작 시각 (epoch 밀리초)
+    private long startedAt;
+    // 드레이닝 타임아웃 시각 (epoch 밀리초)
+    private long deadline;
+    // 이 노드가 프록시 중인 요청 수
+    private int inFlightRequests;
+    // 결과가 보고되지 않았고 유효 시간이 지나지 않은 디스패치 임대 수
+    private int outstandingLeases;
+    // 드레이닝이 끝나 작업을 적용했고, 로드 밸런서에서 제거되기를 기다리는 중인지 여부
+    private boolean completed;
+    // 타임아웃으로 끝났는지 여부
+    private boolean timedOut;
+}
@@ -0,0 +1,76 @@
+package com.example.road.data;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 백엔드가 보고한 자신의 부하입니다. {@code POST /api/load-report}로 받거나, HTTP 헬스 체크 응답의 ORCA 헤더에서 읽습니다.
+ * 보고하지 않은 값은 null이며, 여유 용량 계산에서 부하가 없는 것으로 봅니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoadReport {
+
+    // ORCA TEXT 형식의 이름 있는 지표 중 대기열 길이와 처리 중인 요청 수로 읽는 이름
+    public static final String QUEUE_DEPTH_METRIC = "named_metrics.queue_depth";
+    public static final String IN_FLIGHT_METRIC = "named_metrics.in_flight";
+
+    // 보고한 서버 ID
+    @NotNull(message = "서버 ID는 필수입니다.")
+    private Long serverId;
+    // CPU 사용률 (0 이상, 1을 넘으면 1로 봅니다)
+    @DecimalMin(value = "0.0", message = "CPU 사용률은 0 이상이어야 합니다.")
+    private Double cpuUtilization;
+    // 처리를 기다리는 요청 수
+    @Min(value = 0, message = "대기열 길이는 0 이상이어야 합니다.")
+    private Integer queueDepth;
+    // 처리 중인 요청 수
+    @Min(value = 0, message = "처리 중인 요청 수는 0 이상이어야 합니다.")
+    private Integer inFlight;
+
+    /**
+     * ORCA {@code endpoint-load-metrics} 헤더의 TEXT 형식 값을 읽습니다.
+     * 예: {@code TEXT cpu_utilization=0.3, named_metrics.queue_depth=4, named_metrics.in_flight=12}.
+     * 알 수 없는 지표는 무시하며, 형식이 다르거나(JSON, BIN 등) 읽을 지표가 없으면 null을 반환합니다.
+     *
+     * @param serverId 헬스 체크한 서버 ID
+     * @param header 헤더 값
+     * @return 부하 보고. 읽을 수 없으면 null.
+     */
+    public static LoadReport fromOrcaText(Long serverId, String header) {
+        if (header == null || !header.regionMatches(true, 0, "TEXT ", 0, 5)) {
+            return null;
+        }
+        Double cpu = null;
+        Integer queueDepth = null;
+        Integer inFlight = null;
+        for (String entry : header.substring(5).split(",")) {
+            int eq = entry.indexOf('=');
+            if (eq < 0) {
+                continue;
+            }
+            String name = entry.substring(0, eq).trim();
+            String value = entry.substring(eq + 1).trim();
+            try {
+                switch (name) {
+                    case "cpu_utilization" -> cpu = Math.max(0, Double.parseDouble(value));
+                    case QUEUE_DEPTH_METRIC -> queueDepth = (int) Math.max(0, Double.parseDouble(value));
+                    case IN_FLIGHT_METRIC -> inFlight = (int) Math.max(0, Double.parseDouble(value));
+                    default -> {
+                    }
+                }
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (cpu == null && queueDepth == null && inFlight == null) {
+            return null;
+        }
+        return new LoadReport(serverId, cpu, queueDepth, inFlight);
+    }
+}
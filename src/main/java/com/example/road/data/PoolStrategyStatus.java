@@ -0,0 +1,24 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 풀의 선택 전략 상태입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PoolStrategyStatus {
+    // 풀 이름
+    private String pool;
+    // 현재 사용 중인 선택 전략
+    private String strategy;
+    // 설정(road.pools.<풀 이름>.strategy)의 선택 전략. 관리 API로 바꾸지 않았으면 strategy와 같습니다.
+    private String configuredStrategy;
+    // 사용 가능한 선택 전략 이름
+    private Set<String> availableStrategies;
+}
@@ -0,0 +1,11 @@
+package com.example.road.data;
+
+/**
+ * 서버 헬스 체크 방식입니다.
+ */
+public enum ProbeType {
+    // HTTP 요청을 보내 응답 상태 코드(와 선택적으로 본문)를 확인합니다.
+    HTTP,
+    // TLS나 HTTP 교환 없이 TCP 연결만 확인합니다.
+    TCP
+}
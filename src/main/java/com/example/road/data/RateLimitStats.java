@@ -0,0 +1,26 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 요청 수 제한이 설정된 서버들에 대한 선택 집계입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitStats {
+    // 요청 수 제한이 있는 서버가 토큰을 얻어 선택된 횟수
+    private long grantedPicks;
+    // 요청 수 제한 초과로 건너뛴 선택 횟수
+    private long skippedPicks;
+    // 요청 수 제한이 있는 서버에 대한 선택 시도 중 건너뛴 비율 (0.0 ~ 1.0)
+    private double skipRatio;
+    // 직전 1초 동안 건너뛴 선택 수
+    private double skippedPerSecond;
+    // 서버별 요청 수 제한 상태
+    private List<ServerRateLimitStatus> servers;
+}
@@ -0,0 +1,24 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리 API로 시작한 JFR 레코딩의 상태입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingStatus {
+    // 레코딩 상태 (NONE, RUNNING, STOPPED 등)
+    private String state;
+    // 레코딩 시작 시각 (epoch 밀리초). 레코딩이 없으면 0
+    private long startedAt;
+    // 레코딩 기간 (초)
+    private long durationSeconds;
+    // 레코딩 최대 크기 (바이트)
+    private long maxSizeBytes;
+    // 현재까지 기록된 크기 (바이트)
+    private long sizeBytes;
+}
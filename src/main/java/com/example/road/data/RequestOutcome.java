@@ -0,0 +1,20 @@
+package com.example.road.data;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클라이언트가 디스패치받은 서버로 보낸 요청의 결과 보고입니다. 서버별 서킷 브레이커에 반영됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestOutcome {
+    // 요청을 보낸 서버 ID
+    @NotNull(message = "서버 ID는 필수입니다.")
+    private Long serverId;
+    // 요청 성공 여부
+    private boolean success;
+}
@@ -0,0 +1,20 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 클러스터 노드 간에 교환되는 단일 서버의 헬스 체크 결과입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerHealthReport {
+    // 서버 ID
+    private long serverId;
+    // 헬스 체크 결과
+    private boolean healthy;
+    // 헬스 체크 시각 (epoch millis)
+    private long checkedAt;
+}
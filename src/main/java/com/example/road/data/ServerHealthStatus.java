@@ -1,5 +1,6 @@
 package com.example.road.data;
 
+import com.example.road.common.CircuitBreaker;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,4 +14,27 @@ public class ServerHealthStatus {
     private ServerInstance serverInstance;
     private boolean healthy;
     private long lastCheckedTimestamp;
+    // 보고된 요청 결과에 따른 서킷 브레이커 상태 (조회 시점의 값)
+    private CircuitBreaker.State circuitState = CircuitBreaker.State.CLOSED;
+    // 슬로우 스타트를 반영한 유효 가중치 (0 초과 1 이하, 조회 시점의 값)
+    private double effectiveWeight = 1.0;
+    // 적응형 주기를 반영한 현재 헬스 체크 주기 (밀리초, 조회 시점의 값)
+    private long probeIntervalMs;
+    // 이 노드가 마지막으로 직접 헬스 체크한 지연 시간 (밀리초). 직접 헬스 체크한 적이 없으면 -1
+    private double lastProbeLatencyMs = -1;
+    // 이 노드가 직접 헬스 체크한 결과 중 정상/비정상 횟수
+    private int probeSuccessCount;
+    private int probeFailureCount;
+    // 서버가 마지막으로 보고한 부하 (CPU 사용률, 대기열 길이, 처리 중인 요청 수). 보고하지 않은 값은 null
+    private Double loadCpuUtilization;
+    private Integer loadQueueDepth;
+    private Integer loadInFlight;
+    // 마지막 부하 보고 시각 (epoch 밀리초). 보고가 없으면 0
+    private long loadReportedAt;
+    // 보고 경과에 따른 감쇠를 반영한 여유 용량 (조회 시점의 값, 보고가 없으면 중립값)
+    private Double headroom;
+
+    public ServerHealthStatus(ServerInstance serverInstance, boolean healthy, long lastCheckedTimestamp) {
+        this(serverInstance, healthy, lastCheckedTimestamp, CircuitBreaker.State.CLOSED, 1.0, 0L, -1, 0, 0, null, null, null, 0L, null);
+    }
 }
@@ -0,0 +1,21 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자주 폴링하는 모니터링을 위한 단일 서버의 헬스 상태 요약입니다 ({@code GET /api/admin/servers/health?view=compact}).
+ * 서버 정보와 조회 시점에 계산하는 값은 빼고 ID, 정상 여부, 마지막 확인 시각만 담습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerHealthSummary {
+    // 서버 ID
+    private Long id;
+    // 정상 여부
+    private boolean healthy;
+    // 마지막 헬스 체크 시각 (epoch millis)
+    private long lastCheckedTimestamp;
+}
@@ -2,6 +2,9 @@ package com.example.road.data;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -17,6 +20,9 @@ import java.util.Objects;
 @AllArgsConstructor
 @NoArgsConstructor
 public class ServerInstance {
+    // 풀을 지정하지 않은 서버가 속하는 기본 풀 이름
+    public static final String DEFAULT_POOL = "default";
+
     // 서버 인스턴스의 고유 식별자
     private Long id;
     // 서버의 이름
@@ -29,6 +35,91 @@ public class ServerInstance {
     // 서버의 활성화 상태 (true: 활성, false: 비활성)
     @NotNull(message = "활성 상태는 필수입니다.")
     private boolean active;
+    // 서버가 속한 풀(서비스) 이름. 풀마다 독립된 로드 밸런서로 분산됩니다.
+    @Pattern(regexp = "^[A-Za-z0-9_-]{1,64}$", message = "풀 이름은 영문, 숫자, '-', '_'로 된 64자 이하여야 합니다.")
+    private String pool = DEFAULT_POOL;
+    // 서버가 처리할 수 있는 초당 최대 요청 수. null이면 제한하지 않습니다.
+    @Positive(message = "최대 초당 요청 수는 1 이상이어야 합니다.")
+    private Integer maxRps;
+    // 서버가 위치한 가용 영역 (예: ap-northeast-2a). null이면 영역 인식 라우팅에서 어느 영역에도 속하지 않습니다.
+    @Pattern(regexp = "^[A-Za-z0-9_-]{1,64}$", message = "영역 이름은 영문, 숫자, '-', '_'로 된 64자 이하여야 합니다.")
+    private String zone;
+    // 헬스 체크 방식 (HTTP: HTTP 요청, TCP: 연결만 확인)
+    private ProbeType probeType = ProbeType.HTTP;
+    // HTTP 헬스 체크 경로. null이면 등록된 URL 그대로 요청합니다.
+    @Pattern(regexp = "^/.*", message = "헬스 체크 경로는 '/'로 시작해야 합니다.")
+    @Size(max = 255, message = "헬스 체크 경로는 255자 이하여야 합니다.")
+    private String probePath;
+    // HTTP 헬스 체크의 정상 상태 코드 범위 (예: "200-399", "204"). null이면 2xx.
+    @Pattern(regexp = "^[1-5][0-9]{2}(-[1-5][0-9]{2})?$", message = "정상 상태 코드는 '200' 또는 '200-399' 형식이어야 합니다.")
+    private String probeExpectedStatus;
+    // HTTP 헬스 체크 응답 본문에 포함되어야 하는 문자열. null이면 본문을 받지 않고 HEAD로 확인합니다.
+    @Size(max = 255, message = "본문 확인 문자열은 255자 이하여야 합니다.")
+    private String probeBodyContains;
+
+    /**
+     * 기본 풀에 속하는 서버 인스턴스를 생성합니다.
+     */
+    public ServerInstance(Long id, String name, String url, boolean active) {
+        this(id, name, url, active, DEFAULT_POOL);
+    }
+
+    /**
+     * 요청 수 제한이 없는 서버 인스턴스를 생성합니다.
+     */
+    public ServerInstance(Long id, String name, String url, boolean active, String pool) {
+        this(id, name, url, active, pool, null);
+    }
+
+    /**
+     * 기본 헬스 체크 방식(등록된 URL로 HEAD 요청, 2xx면 정상)을 사용하는 서버 인스턴스를 생성합니다.
+     */
+    public ServerInstance(Long id, String name, String url, boolean active, String pool, Integer maxRps) {
+        this(id, name, url, active, pool, maxRps, null, ProbeType.HTTP, null, null, null);
+    }
+
+    /**
+     * 풀 이름을 설정합니다. null이거나 비어 있으면 기본 풀로 설정됩니다.
+     * @param pool 풀 이름
+     */
+    public void setPool(String pool) {
+        this.pool = (pool == null || pool.isBlank()) ? DEFAULT_POOL : pool;
+    }
+
+    /**
+     * 가용 영역을 설정합니다. 비어 있으면 null로 설정됩니다.
+     * @param zone 영역 이름
+     */
+    public void setZone(String zone) {
+        this.zone = (zone == null || zone.isBlank()) ? null : zone;
+    }
+
+    /**
+     * 헬스 체크 방식을 설정합니다. null이면 HTTP로 설정됩니다.
+     * @param probeType 헬스 체크 방식
+     */
+    public void setProbeType(ProbeType probeType) {
+        this.probeType = probeType == null ? ProbeType.HTTP : probeType;
+    }
+
+    /**
+     * ID 외의 서버 정보(이름, URL, 활성 상태, 풀, 최대 초당 요청 수, 영역, 헬스 체크 설정)가 같은지 비교합니다.
+     * {@link #equals(Object)}는 ID만 비교하므로, 같은 서버의 정보 변경 여부를 판단할 때 사용합니다.
+     * @param other 비교할 서버 인스턴스
+     * @return 서버 정보가 같으면 true
+     */
+    public boolean hasSameInfo(ServerInstance other) {
+        return Objects.equals(name, other.name)
+                && Objects.equals(url, other.url)
+                && active == other.active
+                && Objects.equals(pool, other.pool)
+                && Objects.equals(maxRps, other.maxRps)
+                && Objects.equals(zone, other.zone)
+                && probeType == other.probeType
+                && Objects.equals(probePath, other.probePath)
+                && Objects.equals(probeExpectedStatus, other.probeExpectedStatus)
+                && Objects.equals(probeBodyContains, other.probeBodyContains);
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -50,6 +141,13 @@ public class ServerInstance {
                ", name='" + name + '\'' +
                ", url='" + url + '\'' +
                ", active=" + active +
+               ", pool='" + pool + '\'' +
+               ", maxRps=" + maxRps +
+               ", zone='" + zone + '\'' +
+               ", probeType=" + probeType +
+               ", probePath='" + probePath + '\'' +
+               ", probeExpectedStatus='" + probeExpectedStatus + '\'' +
+               ", probeBodyContains='" + probeBodyContains + '\'' +
                ')';
     }
 }
\ No newline at end of file
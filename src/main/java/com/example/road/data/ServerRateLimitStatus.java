@@ -0,0 +1,22 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서버 하나의 요청 수 제한 상태입니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerRateLimitStatus {
+    // 서버 ID
+    private Long serverId;
+    // 최대 초당 요청 수
+    private int maxRps;
+    // 이 노드의 초당 한도 (maxRps를 살아 있는 노드 수로 나눈 값)
+    private int nodeMaxRps;
+    // 요청 수 제한 초과로 건너뛴 선택 횟수
+    private long skippedPicks;
+}
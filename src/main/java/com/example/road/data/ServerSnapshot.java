@@ -0,0 +1,26 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 로드 밸런서가 현재 선택 대상으로 사용하는 건강한 서버 집합의 불변 스냅샷입니다.
+ * 클라이언트 측 로드 밸런싱을 위해 버전과 함께 제공되며, 멤버십이 바뀔 때마다 버전이 증가합니다.
+ * 버전은 프로세스가 시작될 때마다 0부터 다시 시작하므로, 버전은 같은 에포크 안에서만 비교할 수 있습니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerSnapshot {
+    // 스냅샷을 만든 road 프로세스의 에포크 (프로세스마다 새로 만드는 ID). 에포크가 다르면 버전을 비교할 수 없습니다.
+    private String epoch;
+    // 스냅샷 버전 (멤버십 변경 시마다 1씩 증가)
+    private long version;
+    // 스냅샷이 생성된 시각 (epoch millis)
+    private long timestamp;
+    // 건강한 서버 목록 (라운드 로빈 순서)
+    private List<ServerInstance> servers;
+}
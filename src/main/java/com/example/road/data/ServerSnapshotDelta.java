@@ -0,0 +1,25 @@
+package com.example.road.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 두 스냅샷 버전 사이의 멤버십 변경분입니다.
+ * {@code added}에는 새로 추가되었거나 정보(이름, URL 등)가 바뀐 서버가, {@code removed}에는 빠진 서버의 ID가 담깁니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServerSnapshotDelta {
+    // 이전 스냅샷 버전
+    private long fromVersion;
+    // 변경이 반영된 스냅샷 버전
+    private long version;
+    // 추가되거나 갱신된 서버 목록
+    private List<ServerInstance> added;
+    // 제거된 서버 ID 목록
+    private List<Long> removed;
+}
@@ -0,0 +1,170 @@
+package com.example.road.dispatch;
+
+import com.example.road.data.DispatchPriority;
+import com.example.road.data.ServerInstance;
+import com.example.road.exception.PoolNotFoundException;
+import com.example.road.jfr.DispatchEvent;
+import com.example.road.service.ServerLoadBalancer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.example.road.dispatch.BinaryDispatchProtocol.LENGTH_FIELD_SIZE;
+import static com.example.road.dispatch.BinaryDispatchProtocol.RESPONSE_HEADER_SIZE;
+import static com.example.road.dispatch.BinaryDispatchProtocol.STATUS_BAD_REQUEST;
+import static com.example.road.dispatch.BinaryDispatchProtocol.STATUS_NO_SERVER;
+import static com.example.road.dispatch.BinaryDispatchProtocol.STATUS_OK;
+import static com.example.road.dispatch.BinaryDispatchProtocol.STATUS_POOL_NOT_FOUND;
+
+/**
+ * 길이 필드로 나뉜 요청 프레임을 받아 서버를 선택하고 응답 프레임을 씁니다. 모든 연결이 한 인스턴스를 공유합니다.
+ *
+ * <p>선택은 이벤트 루프 스레드에서 {@link ServerLoadBalancer#tryGetNextServer(String, String)}로 수행하므로
+ * 스냅샷이 비어 있어도 기다리지 않고 {@link BinaryDispatchProtocol#STATUS_NO_SERVER}로 응답합니다.
+ * 응답 헤더는 연결의 풀링된 다이렉트 버퍼에 쓰고, 서버 ID와 URL 부분은 서버별로 한 번만 인코딩한 다이렉트 버퍼를 복사 없이 이어서 씁니다.
+ * 응답은 읽기 한 번에 들어온 요청을 모두 처리한 뒤 한 번에 플러시합니다.</p>
+ */
+@Slf4j
+@ChannelHandler.Sharable
+public class BinaryDispatchHandler extends ChannelInboundHandlerAdapter {
+
+    // 인코딩해 둘 최대 서버 수. 넘으면 (삭제된 서버의 항목을 버리기 위해) 모두 비우고 다시 인코딩합니다.
+    private static final int MAX_ENCODED_SERVERS = 4096;
+
+    private final ServerLoadBalancer serverLoadBalancer;
+
+    // key: 서버 ID, value: 서버 ID와 URL을 응답 형식으로 인코딩한 읽기 전용 다이렉트 버퍼
+    private final Map<Long, EncodedServer> encodedServers = new ConcurrentHashMap<>();
+
+    public BinaryDispatchHandler(ServerLoadBalancer serverLoadBalancer) {
+        this.serverLoadBalancer = serverLoadBalancer;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        ByteBuf frame = (ByteBuf) msg;
+        try {
+            dispatch(ctx, frame);
+        } finally {
+            frame.release();
+        }
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        ctx.flush();
+    }
+
+    // 쓰기 대기 중인 응답이 많으면 상대가 응답을 읽을 때까지 요청 읽기를 멈춥니다.
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        ctx.channel().config().setAutoRead(ctx.channel().isWritable());
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.debug("바이너리 디스패치 연결 {}을(를) 닫습니다: {}", ctx.channel().remoteAddress(), cause.toString());
+        ctx.close();
+    }
+
+    private void dispatch(ChannelHandlerContext ctx, ByteBuf frame) {
+        if (frame.readableBytes() < 4) {
+            // 응답할 requestId도 없으므로 연결을 닫습니다.
+            ctx.close();
+            return;
+        }
+        int requestId = frame.readInt();
+        String pool = readString(frame);
+        String key = readString(frame);
+        if (pool == null || key == null || frame.isReadable()) {
+            writeStatus(ctx, requestId, STATUS_BAD_REQUEST);
+            return;
+        }
+        if (pool.isEmpty()) {
+            pool = ServerInstance.DEFAULT_POOL;
+        }
+        String zone = key.isEmpty() ? null : key;
+
+        Optional<ServerInstance> picked;
+        DispatchEvent event = new DispatchEvent();
+        event.begin();
+        try {
+            picked = serverLoadBalancer.tryGetNextServer(pool, zone);
+        } catch (PoolNotFoundException e) {
+            writeStatus(ctx, requestId, STATUS_POOL_NOT_FOUND);
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setSelection(pool, zone, DispatchPriority.NORMAL.name(), serverLoadBalancer.strategyOf(pool), 1,
+                    picked.map(List::of).orElse(List.of()));
+            event.commit();
+        }
+
+        if (picked.isEmpty()) {
+            writeStatus(ctx, requestId, STATUS_NO_SERVER);
+            return;
+        }
+        ByteBuf body = encoded(picked.get());
+        ByteBuf header = ctx.alloc().directBuffer(RESPONSE_HEADER_SIZE);
+        header.writeInt(RESPONSE_HEADER_SIZE - LENGTH_FIELD_SIZE + body.readableBytes()).writeInt(requestId).writeByte(STATUS_OK);
+        ctx.write(header, ctx.voidPromise());
+        ctx.write(body.duplicate(), ctx.voidPromise());
+    }
+
+    private static void writeStatus(ChannelHandlerContext ctx, int requestId, byte status) {
+        ByteBuf header = ctx.alloc().directBuffer(RESPONSE_HEADER_SIZE);
+        header.writeInt(RESPONSE_HEADER_SIZE - LENGTH_FIELD_SIZE).writeInt(requestId).writeByte(status);
+        ctx.write(header, ctx.voidPromise());
+    }
+
+    // uint8 길이와 UTF-8 바이트로 된 문자열을 읽습니다. 프레임이 길이보다 짧으면 null을 반환합니다.
+    private static String readString(ByteBuf frame) {
+        if (!frame.isReadable()) {
+            return null;
+        }
+        int length = frame.readUnsignedByte();
+        if (frame.readableBytes() < length) {
+            return null;
+        }
+        if (length == 0) {
+            return "";
+        }
+        String value = frame.toString(frame.readerIndex(), length, StandardCharsets.UTF_8);
+        frame.skipBytes(length);
+        return value;
+    }
+
+    // 서버의 응답 본문(serverId, urlLength, url)을 반환합니다. URL이 바뀐 서버는 다시 인코딩합니다.
+    // 버퍼는 Netty가 해제하지 않는 JDK 다이렉트 버퍼이므로, 캐시에서 빠진 뒤 쓰기가 끝나면 GC가 회수합니다.
+    private ByteBuf encoded(ServerInstance server) {
+        EncodedServer cached = encodedServers.get(server.getId());
+        if (cached != null && cached.url().equals(server.getUrl())) {
+            return cached.body();
+        }
+        // URL은 레지스트리에서 VARCHAR(255)이므로 uint16 길이를 넘지 않습니다.
+        byte[] url = server.getUrl().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(8 + 2 + url.length);
+        buffer.putLong(server.getId()).putShort((short) url.length).put(url).flip();
+        ByteBuf body = Unpooled.unreleasableBuffer(Unpooled.wrappedBuffer(buffer).asReadOnly());
+        if (encodedServers.size() >= MAX_ENCODED_SERVERS) {
+            encodedServers.clear();
+        }
+        encodedServers.put(server.getId(), new EncodedServer(server.getUrl(), body));
+        return body;
+    }
+
+    private record EncodedServer(String url, ByteBuf body) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.road.dispatch;
+
+/**
+ * 바이너리 디스패치 리스너의 프레임 형식입니다. 모든 정수는 빅 엔디언이며, 문자열은 UTF-8입니다.
+ *
+ * <pre>
+ * 요청: length(int32) requestId(int32) poolLength(uint8) pool keyLength(uint8) key
+ * 응답: length(int32) requestId(int32) status(uint8) [serverId(int64) urlLength(uint16) url]   (status가 OK일 때만)
+ * </pre>
+ *
+ * <ul>
+ *     <li>{@code length}는 자신을 제외한 프레임 길이입니다. 요청 프레임은 {@link #MAX_REQUEST_LENGTH}를 넘을 수 없으며, 넘으면 연결을 닫습니다.</li>
+ *     <li>{@code requestId}는 클라이언트가 정하며 응답에 그대로 돌려줍니다. 응답은 한 연결 안에서 요청 순서대로 오므로,
+ *     클라이언트는 응답을 기다리지 않고 여러 요청을 이어서 보낼 수 있습니다 (파이프라이닝).</li>
+ *     <li>{@code pool}이 비어 있으면 {@code default} 풀을 사용합니다.</li>
+ *     <li>{@code key}는 선택 키로, 비어 있지 않으면 호출자의 영역(zone)으로 사용합니다 ({@code GET /api/dispatch?zone=...}과 같은 규칙).</li>
+ * </ul>
+ */
+public final class BinaryDispatchProtocol {
+
+    // length 필드 크기
+    public static final int LENGTH_FIELD_SIZE = 4;
+    // 요청 프레임의 최대 길이 (length 필드 제외): requestId + poolLength + pool + keyLength + key
+    public static final int MAX_REQUEST_LENGTH = 4 + 1 + 255 + 1 + 255;
+    // 응답 헤더 길이 (length 필드 포함): length + requestId + status
+    public static final int RESPONSE_HEADER_SIZE = LENGTH_FIELD_SIZE + 4 + 1;
+    // URL의 최대 UTF-8 길이
+    public static final int MAX_URL_LENGTH = 0xFFFF;
+
+    // 서버를 선택했습니다.
+    public static final byte STATUS_OK = 0;
+    // 사용 가능한 서버가 없습니다 (HTTP API의 503). 리스너는 새로고침을 기다리지 않고 즉시 응답합니다.
+    public static final byte STATUS_NO_SERVER = 1;
+    // 존재하지 않는 풀입니다 (HTTP API의 404).
+    public static final byte STATUS_POOL_NOT_FOUND = 2;
+    // 요청 프레임의 형식이 잘못되었습니다 (HTTP API의 400).
+    public static final byte STATUS_BAD_REQUEST = 3;
+
+    private BinaryDispatchProtocol() {
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.road.dispatch;
+
+import com.example.road.config.DispatchListenerProperties;
+import com.example.road.service.ServerLoadBalancer;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.LengthFieldBasedFrameDecoder;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP API와 별도로 바이너리 프로토콜({@link BinaryDispatchProtocol})로 서버를 선택해 주는 Netty TCP 리스너입니다.
+ * {@code road.dispatch-listener.enabled=true}일 때만 만들어집니다.
+ *
+ * <p>HTTP 파싱과 서블릿 필터를 거치지 않으므로 선택 한 번의 비용이 {@code GET /api/dispatch}보다 훨씬 작으며,
+ * 한 연결에서 응답을 기다리지 않고 여러 요청을 이어서 보낼 수 있습니다. 리눅스에서는 네이티브 epoll 전송을, 그 외에는 NIO 전송을 사용하고,
+ * 모든 버퍼는 풀링된 다이렉트 버퍼 할당자에서 받습니다.</p>
+ *
+ * <p>선택된 서버는 HTTP 디스패치와 같이 드레이닝 임대로 기록되므로, 클라이언트는 요청 결과를 {@code POST /api/dispatch/outcome}으로 보고합니다.
+ * 수용 제어({@code road.admission})는 적용하지 않습니다. 리스너는 선택을 기다리지 않으므로 대기 요청이 쌓이지 않습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "road.dispatch-listener.enabled", havingValue = "true")
+@Slf4j
+public class BinaryDispatchServer {
+
+    private final DispatchListenerProperties properties;
+    private final BinaryDispatchHandler handler;
+
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
+    private Channel serverChannel;
+
+    public BinaryDispatchServer(DispatchListenerProperties properties, ServerLoadBalancer serverLoadBalancer) {
+        this.properties = properties;
+        this.handler = new BinaryDispatchHandler(serverLoadBalancer);
+    }
+
+    @PostConstruct
+    public void start() throws InterruptedException {
+        boolean epoll = Epoll.isAvailable();
+        Class<? extends ServerChannel> channelType;
+        if (epoll) {
+            bossGroup = new EpollEventLoopGroup(1, new DefaultThreadFactory("dispatch-accept"));
+            workerGroup = new EpollEventLoopGroup(properties.getIoThreads(), new DefaultThreadFactory("dispatch-io"));
+            channelType = EpollServerSocketChannel.class;
+        } else {
+            bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("dispatch-accept"));
+            workerGroup = new NioEventLoopGroup(properties.getIoThreads(), new DefaultThreadFactory("dispatch-io"));
+            channelType = NioServerSocketChannel.class;
+        }
+        int highWaterMark = properties.getWriteBufferHighWaterMark();
+        ServerBootstrap bootstrap = new ServerBootstrap()
+                .group(bossGroup, workerGroup)
+                .channel(channelType)
+                .option(ChannelOption.SO_REUSEADDR, true)
+                .childOption(ChannelOption.TCP_NODELAY, true)
+                .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(highWaterMark / 2, highWaterMark))
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        // 길이 필드를 떼어 낸 프레임을 복사 없이 잘라 전달합니다. 최대 길이를 넘는 프레임은 연결을 닫습니다.
+                        channel.pipeline().addLast(
+                                new LengthFieldBasedFrameDecoder(BinaryDispatchProtocol.MAX_REQUEST_LENGTH + BinaryDispatchProtocol.LENGTH_FIELD_SIZE,
+                                        0, BinaryDispatchProtocol.LENGTH_FIELD_SIZE, 0, BinaryDispatchProtocol.LENGTH_FIELD_SIZE),
+                                handler);
+                    }
+                });
+        try {
+            serverChannel = bootstrap.bind(properties.getHost(), properties.getPort()).sync().channel();
+        } catch (RuntimeException | InterruptedException e) {
+            stop();
+            throw e;
+        }
+        log.info("바이너리 디스패치 리스너를 시작했습니다. 주소: {}, 전송: {}", serverChannel.localAddress(), epoll ? "epoll" : "nio");
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (serverChannel != null) {
+            serverChannel.close().syncUninterruptibly();
+        }
+        if (bossGroup != null) {
+            bossGroup.shutdownGracefully(100, 3000, TimeUnit.MILLISECONDS).syncUninterruptibly();
+        }
+        if (workerGroup != null) {
+            workerGroup.shutdownGracefully(100, 3000, TimeUnit.MILLISECONDS).syncUninterruptibly();
+        }
+        log.info("바이너리 디스패치 리스너를 종료했습니다.");
+    }
+
+    /**
+     * 리스너가 바인드된 포트를 반환합니다 ({@code road.dispatch-listener.port=0}으로 임의 포트를 받은 경우 확인용).
+     */
+    public int port() {
+        return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    }
+}
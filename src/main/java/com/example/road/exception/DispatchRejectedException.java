@@ -0,0 +1,20 @@
+package com.example.road.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 과부하로 디스패치 요청을 수용하지 않을 때 발생합니다. 클라이언트는 {@code retryAfterSeconds} 후에 다시 시도해야 합니다.
+ */
+@Getter
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class DispatchRejectedException extends RuntimeException {
+
+    private final int retryAfterSeconds;
+
+    public DispatchRejectedException(String message, int retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.road.exception;
 
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -53,6 +54,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PoolNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handlePoolNotFoundException(PoolNotFoundException ex, HttpServletRequest request) {
+        log.warn("풀을 찾을 수 없음: {} at {}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(System.currentTimeMillis())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error(HttpStatus.NOT_FOUND.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(RecordingNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleRecordingNotFoundException(RecordingNotFoundException ex, HttpServletRequest request) {
+        log.warn("JFR 레코딩을 찾을 수 없음: {} at {}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(System.currentTimeMillis())
+                .status(HttpStatus.NOT_FOUND.value())
+                .error(HttpStatus.NOT_FOUND.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(DuplicateServerException.class)
     public ResponseEntity<ErrorResponse> handleDuplicateServerException(DuplicateServerException ex, HttpServletRequest request) {
         log.warn("중복 서버 오류 발생: {} at {}", ex.getMessage(), request.getRequestURI());
@@ -66,6 +93,34 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(DispatchRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleDispatchRejectedException(DispatchRejectedException ex, HttpServletRequest request) {
+        log.warn("디스패치 요청 거절: {} at {}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(System.currentTimeMillis())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(InvalidRequestException ex, HttpServletRequest request) {
+        log.warn("잘못된 요청 파라미터: {} at {}", ex.getMessage(), request.getRequestURI());
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(System.currentTimeMillis())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.getReasonPhrase())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(InterruptedException.class)
     public ResponseEntity<ErrorResponse> handleInterruptedException(InterruptedException ex, HttpServletRequest request) {
         log.error("서버 요청 처리 중 스레드 인터럽트 발생: {} at {}", ex.getMessage(), request.getRequestURI(), ex);
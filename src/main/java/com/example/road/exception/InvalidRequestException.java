@@ -0,0 +1,15 @@
+package com.example.road.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 클라이언트가 보낸 요청 파라미터가 허용 범위를 벗어났을 때 발생합니다 (400 Bad Request).
+ * 내부 불변식 검사에서 발생하는 {@link IllegalArgumentException}은 서버 오류로 처리되도록, 요청 값 검증에만 사용합니다.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends IllegalArgumentException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.road.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class PoolNotFoundException extends RuntimeException {
+    public PoolNotFoundException(String message) {
+        super(message);
+    }
+
+    public PoolNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.road.jfr;
+
+import com.example.road.data.ServerInstance;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * 디스패치 요청 하나의 서버 선택을 기록하는 JFR 이벤트입니다.
+ * 이벤트의 지속 시간은 수용 제어 허가부터 서버 선택이 끝날 때까지의 대기 시간입니다.
+ */
+@Name("com.example.road.Dispatch")
+@Label("Dispatch")
+@Category({"Road", "Dispatch"})
+@Description("디스패치 요청의 서버 선택 대기 시간과 선택된 서버")
+@StackTrace(false)
+public class DispatchEvent extends jdk.jfr.Event {
+
+    @Label("Pool")
+    public String pool;
+
+    @Label("Zone")
+    public String zone;
+
+    @Label("Priority")
+    public String priority;
+
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Requested Count")
+    public int requestedCount;
+
+    @Label("Selected Count")
+    public int selectedCount;
+
+    @Label("Server Id")
+    @Description("선택된 (배치면 첫 번째) 서버의 ID. 선택하지 못했으면 0")
+    public long serverId;
+
+    @Label("Server URL")
+    public String serverUrl;
+
+    /**
+     * 선택 결과로 필드를 채웁니다. {@link #shouldCommit()}이 true일 때만 호출합니다.
+     */
+    public void setSelection(String pool, String zone, String priority, String strategy, int requestedCount, List<ServerInstance> selected) {
+        this.pool = pool;
+        this.zone = zone;
+        this.priority = priority;
+        this.strategy = strategy;
+        this.requestedCount = requestedCount;
+        this.selectedCount = selected.size();
+        if (!selected.isEmpty()) {
+            this.serverId = selected.get(0).getId();
+            this.serverUrl = selected.get(0).getUrl();
+        }
+    }
+}
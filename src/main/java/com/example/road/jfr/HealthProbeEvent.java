@@ -0,0 +1,38 @@
+package com.example.road.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 서버 헬스 체크 하나를 기록하는 JFR 이벤트입니다.
+ * 이벤트의 지속 시간은 헬스 체크 요청(HTTP 또는 TCP 연결)을 시작해서 결과가 나올 때까지의 지연 시간입니다.
+ */
+@Name("com.example.road.HealthProbe")
+@Label("Health Probe")
+@Category({"Road", "Health Check"})
+@Description("서버 헬스 체크 지연 시간, 상태 코드, 결과, 오류")
+@StackTrace(false)
+public class HealthProbeEvent extends jdk.jfr.Event {
+
+    @Label("Server Id")
+    public long serverId;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Probe Type")
+    public String probeType;
+
+    @Label("Status Code")
+    @Description("HTTP 응답 상태 코드. TCP 헬스 체크이거나 응답을 받지 못했으면 0")
+    public int statusCode;
+
+    @Label("Healthy")
+    public boolean healthy;
+
+    @Label("Error")
+    public String error;
+}
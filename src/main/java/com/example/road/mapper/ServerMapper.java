@@ -17,6 +17,9 @@ public interface ServerMapper {
     // 모든 서버 인스턴스 목록을 데이터베이스에서 조회합니다.
     List<ServerInstance> findAllServers();
 
+    // 특정 풀에 속한 서버 인스턴스 목록을 조회합니다.
+    List<ServerInstance> findServersByPool(String pool);
+
     // ID를 기준으로 서버 인스턴스를 조회합니다.
     Optional<ServerInstance> findById(Long id);
 
@@ -0,0 +1,64 @@
+package com.example.road.repository;
+
+import com.example.road.data.ServerInstance;
+import com.example.road.mapper.ServerMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * MyBatis {@link ServerMapper}를 사용하는 기본 {@link ServerRepository} 구현입니다 ({@code road.registry.repository=mybatis}).
+ * 매퍼 호출은 블로킹이므로 {@code boundedElastic} 스케줄러에서 실행하여 요청 스레드를 점유하지 않지만,
+ * 동시에 처리할 수 있는 쿼리 수는 HikariCP 커넥션 풀 크기({@code spring.datasource.hikari.maximum-pool-size})로 제한됩니다.
+ */
+@Repository
+@ConditionalOnProperty(name = "road.registry.repository", havingValue = "mybatis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MyBatisServerRepository implements ServerRepository {
+
+    private final ServerMapper serverMapper;
+
+    @Override
+    public Flux<ServerInstance> findAll() {
+        return Mono.fromCallable(serverMapper::findAllServers)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(servers -> servers);
+    }
+
+    @Override
+    public Flux<ServerInstance> findByPool(String pool) {
+        return Mono.fromCallable(() -> serverMapper.findServersByPool(pool))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(servers -> servers);
+    }
+
+    @Override
+    public Mono<ServerInstance> findById(Long id) {
+        return Mono.fromCallable(() -> serverMapper.findById(id).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<ServerInstance> insert(ServerInstance server) {
+        return Mono.fromCallable(() -> {
+                    serverMapper.insertServer(server);
+                    return server;
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Integer> update(ServerInstance server) {
+        return Mono.fromCallable(() -> serverMapper.updateServer(server))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<Integer> deleteById(Long id) {
+        return Mono.fromCallable(() -> serverMapper.deleteServer(id))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
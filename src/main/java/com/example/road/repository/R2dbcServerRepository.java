@@ -0,0 +1,163 @@
+package com.example.road.repository;
+
+import com.example.road.config.RegistryProperties;
+import com.example.road.data.ProbeType;
+import com.example.road.data.ServerInstance;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * R2DBC를 사용하는 {@link ServerRepository} 구현입니다 ({@code road.registry.repository=r2dbc}).
+ * 쿼리는 R2DBC 커넥션 풀({@code road.registry.r2dbc.*})을 통해 실행되므로 요청 스레드나 별도 스레드를 점유하지 않고,
+ * 동시 쿼리 수는 HikariCP와 별개인 R2DBC 풀 크기로 제한됩니다.
+ *
+ * <p>커넥션 팩토리는 빈으로 노출하지 않고 이 저장소가 소유합니다. 빈으로 노출하면 Spring Boot의 SQL 초기화가
+ * JDBC 대신 R2DBC로 실행되기 때문입니다. 기본 URL은 JDBC 데이터 소스와 같은 이름의 H2 인메모리 데이터베이스를 가리키므로,
+ * 스키마와 초기 데이터는 기존처럼 JDBC로 초기화되고 두 저장소가 같은 데이터를 봅니다.</p>
+ */
+@Repository
+@ConditionalOnProperty(name = "road.registry.repository", havingValue = "r2dbc")
+@Slf4j
+public class R2dbcServerRepository implements ServerRepository, DisposableBean {
+
+    private static final String SERVER_COLUMNS =
+            "id, name, url, active, pool, max_rps, zone, probe_type, probe_path, probe_expected_status, probe_body_contains";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public R2dbcServerRepository(RegistryProperties registryProperties) {
+        RegistryProperties.R2dbc r2dbc = registryProperties.getR2dbc();
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(r2dbc.getUrl()).mutate()
+                .option(ConnectionFactoryOptions.USER, r2dbc.getUsername())
+                .option(ConnectionFactoryOptions.PASSWORD, r2dbc.getPassword())
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("road-registry")
+                .initialSize(r2dbc.getInitialSize())
+                .maxSize(r2dbc.getMaxSize())
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        log.info("R2DBC 서버 저장소를 사용합니다. URL: {}, 최대 커넥션 수: {}", r2dbc.getUrl(), r2dbc.getMaxSize());
+    }
+
+    @Override
+    public Flux<ServerInstance> findAll() {
+        return databaseClient.sql("SELECT " + SERVER_COLUMNS + " FROM servers")
+                .map(R2dbcServerRepository::toServer)
+                .all();
+    }
+
+    @Override
+    public Flux<ServerInstance> findByPool(String pool) {
+        return databaseClient.sql("SELECT " + SERVER_COLUMNS + " FROM servers WHERE pool = :pool")
+                .bind("pool", pool)
+                .map(R2dbcServerRepository::toServer)
+                .all();
+    }
+
+    @Override
+    public Mono<ServerInstance> findById(Long id) {
+        return databaseClient.sql("SELECT " + SERVER_COLUMNS + " FROM servers WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcServerRepository::toServer)
+                .one();
+    }
+
+    @Override
+    public Mono<ServerInstance> insert(ServerInstance server) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                INSERT INTO servers (name, url, active, pool, max_rps, zone, probe_type, probe_path, probe_expected_status, probe_body_contains)
+                VALUES (:name, :url, :active, :pool, :maxRps, :zone, :probeType, :probePath, :probeExpectedStatus, :probeBodyContains)
+                """);
+        return bindColumns(spec, server)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> toLong(row.get("id", Number.class)))
+                .one()
+                .map(id -> {
+                    server.setId(id);
+                    return server;
+                });
+    }
+
+    @Override
+    public Mono<Integer> update(ServerInstance server) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("""
+                UPDATE servers
+                SET name = :name, url = :url, active = :active, pool = :pool, max_rps = :maxRps, zone = :zone,
+                    probe_type = :probeType, probe_path = :probePath, probe_expected_status = :probeExpectedStatus,
+                    probe_body_contains = :probeBodyContains
+                WHERE id = :id
+                """);
+        return bindColumns(spec, server)
+                .bind("id", server.getId())
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    @Override
+    public Mono<Integer> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM servers WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(Long::intValue);
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    // ServerMapper.xml의 insertServer/updateServer와 같은 컬럼을 바인딩합니다. null 값은 타입을 지정하여 바인딩해야 합니다.
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, ServerInstance server) {
+        DatabaseClient.GenericExecuteSpec bound = spec
+                .bind("name", server.getName())
+                .bind("url", server.getUrl())
+                .bind("active", server.isActive())
+                .bind("pool", server.getPool())
+                .bind("probeType", (server.getProbeType() != null ? server.getProbeType() : ProbeType.HTTP).name());
+        bound = bindNullable(bound, "maxRps", server.getMaxRps(), Integer.class);
+        bound = bindNullable(bound, "zone", server.getZone(), String.class);
+        bound = bindNullable(bound, "probePath", server.getProbePath(), String.class);
+        bound = bindNullable(bound, "probeExpectedStatus", server.getProbeExpectedStatus(), String.class);
+        return bindNullable(bound, "probeBodyContains", server.getProbeBodyContains(), String.class);
+    }
+
+    private static <V> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name, V value, Class<V> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    // id 컬럼은 INT이며, R2DBC H2 드라이버는 JDBC와 달리 Long으로 변환하지 않으므로 Number로 읽습니다.
+    private static Long toLong(Number value) {
+        return value != null ? value.longValue() : null;
+    }
+
+    private static ServerInstance toServer(Readable row) {
+        ServerInstance server = new ServerInstance();
+        server.setId(toLong(row.get("id", Number.class)));
+        server.setName(row.get("name", String.class));
+        server.setUrl(row.get("url", String.class));
+        server.setActive(Boolean.TRUE.equals(row.get("active", Boolean.class)));
+        server.setPool(row.get("pool", String.class));
+        Number maxRps = row.get("max_rps", Number.class);
+        server.setMaxRps(maxRps != null ? maxRps.intValue() : null);
+        server.setZone(row.get("zone", String.class));
+        server.setProbeType(ProbeType.valueOf(row.get("probe_type", String.class)));
+        server.setProbePath(row.get("probe_path", String.class));
+        server.setProbeExpectedStatus(row.get("probe_expected_status", String.class));
+        server.setProbeBodyContains(row.get("probe_body_contains", String.class));
+        return server;
+    }
+}
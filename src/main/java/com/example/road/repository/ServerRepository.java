@@ -0,0 +1,56 @@
+package com.example.road.repository;
+
+import com.example.road.data.ServerInstance;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@code servers} 테이블에 대한 리액티브 저장소입니다. 관리 API와 레지스트리 조회는 이 인터페이스를 통해 서버 목록에 접근합니다.
+ *
+ * <p>구현은 {@code road.registry.repository}로 선택합니다.</p>
+ * <ul>
+ *     <li>{@code mybatis} (기본값): {@link MyBatisServerRepository}. 블로킹 {@code ServerMapper} 호출을 별도 스레드에서 실행합니다.</li>
+ *     <li>{@code r2dbc}: {@link R2dbcServerRepository}. R2DBC 커넥션 풀로 요청 스레드를 점유하지 않고 접근합니다.</li>
+ * </ul>
+ */
+public interface ServerRepository {
+
+    /**
+     * 모든 서버 인스턴스를 조회합니다.
+     */
+    Flux<ServerInstance> findAll();
+
+    /**
+     * 특정 풀에 속한 서버 인스턴스를 조회합니다.
+     * @param pool 풀 이름
+     */
+    Flux<ServerInstance> findByPool(String pool);
+
+    /**
+     * ID로 서버 인스턴스를 조회합니다.
+     * @param id 서버 ID
+     * @return 서버 인스턴스. 없으면 빈 Mono.
+     */
+    Mono<ServerInstance> findById(Long id);
+
+    /**
+     * 새 서버 인스턴스를 삽입하고 생성된 ID를 {@code server}에 설정합니다.
+     * @param server 삽입할 서버 인스턴스
+     * @return ID가 설정된 서버 인스턴스
+     */
+    Mono<ServerInstance> insert(ServerInstance server);
+
+    /**
+     * 서버 인스턴스 정보를 업데이트합니다.
+     * @param server 업데이트할 서버 인스턴스 (ID 필수)
+     * @return 업데이트된 행 수
+     */
+    Mono<Integer> update(ServerInstance server);
+
+    /**
+     * ID로 서버 인스턴스를 삭제합니다.
+     * @param id 서버 ID
+     * @return 삭제된 행 수
+     */
+    Mono<Integer> deleteById(Long id);
+}
@@ -0,0 +1,160 @@
+package com.example.road.service;
+
+import com.example.road.common.TokenBucket;
+import com.example.road.config.AdaptiveHealthCheckProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버별 헬스 체크 주기를 최근 이력에 맞춰 조정하는 정책입니다.
+ *
+ * <ul>
+ *     <li>처음 확인했거나 상태가 바뀐 서버: 정상이면 기본 주기({@code server.healthcheck.interval-ms})로, 비정상이면
+ *     {@code min-interval-ms}로 되돌립니다.</li>
+ *     <li>요청 실패가 보고된 서버: {@code min-interval-ms}로 줄이고 즉시 헬스 체크합니다.</li>
+ *     <li>정상 상태가 유지되는 서버: 헬스 체크마다 주기를 {@code growth-factor}배씩 {@code max-interval-ms}까지 늘립니다.</li>
+ *     <li>비정상 상태가 유지되는 서버: {@code min-interval-ms}부터 기본 주기({@code server.healthcheck.interval-ms})까지만 늘립니다.</li>
+ * </ul>
+ *
+ * 주기에는 ±10%의 지터를 더해 헬스 체크가 한 시점에 몰리지 않게 하며, 전체 헬스 체크 수는 {@link TokenBucket}으로 초당 상한을 둡니다.
+ * 트래픽을 받는 서버의 장애는 요청 실패 보고로 즉시 재확인되지만, 트래픽을 받지 않는 서버는 최대 {@code max-interval-ms} 동안
+ * 장애가 감지되지 않을 수 있으므로 기본값은 비활성화이며, {@code max-interval-ms}는 기본 주기의 몇 배 이내로 두는 것이 좋습니다.
+ */
+@Service
+@Slf4j
+public class AdaptiveProbePolicy {
+
+    private final AdaptiveHealthCheckProperties properties;
+    private final long baseIntervalMs;
+    private final TokenBucket probeBucket;
+
+    // key: serverId, value: 현재 주기와 다음 헬스 체크 시각
+    private final Map<Long, ProbeState> probeStates = new ConcurrentHashMap<>();
+    // 서버의 헬스 체크 주기가 바뀔 때마다 증가하는 버전
+    private final AtomicLong intervalVersion = new AtomicLong();
+
+    public AdaptiveProbePolicy(AdaptiveHealthCheckProperties properties,
+                               @Value("${server.healthcheck.interval-ms:30000}") long baseIntervalMs) {
+        this.properties = properties;
+        this.baseIntervalMs = baseIntervalMs;
+        this.probeBucket = new TokenBucket(properties.getMaxProbesPerSecond(), properties.getMaxProbesPerSecond());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 서버의 헬스 체크 시각이 되었는지 확인합니다. 적응형 주기가 비활성화되어 있거나 처음 보는 서버면 항상 true입니다.
+     * @param serverId 서버 ID
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 헬스 체크할 시각이면 true
+     */
+    public boolean isDue(Long serverId, long nowMillis) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        ProbeState state = probeStates.get(serverId);
+        return state == null || nowMillis >= state.nextDueAtMillis();
+    }
+
+    /**
+     * 전체 초당 헬스 체크 상한 안에서 헬스 체크 하나를 허용받습니다.
+     * @return 허용되면 true
+     */
+    public boolean tryAcquireProbe() {
+        return !properties.isEnabled() || probeBucket.tryAcquire();
+    }
+
+    /**
+     * 헬스 체크 결과에 따라 서버의 다음 주기를 정합니다.
+     * @param serverId 서버 ID
+     * @param healthy 헬스 체크 결과
+     * @param changed 이전 결과와 상태가 달라졌는지 여부 (처음 확인한 경우 포함)
+     * @param nowMillis 현재 시각 (epoch millis)
+     */
+    public void onProbeResult(Long serverId, boolean healthy, boolean changed, long nowMillis) {
+        ProbeState previous = probeStates.get(serverId);
+        long interval;
+        if (changed || previous == null) {
+            interval = healthy ? baseIntervalMs : properties.getMinIntervalMs();
+        } else {
+            long ceiling = healthy ? properties.getMaxIntervalMs() : Math.max(baseIntervalMs, properties.getMinIntervalMs());
+            interval = Math.min(ceiling, (long) (previous.intervalMillis() * properties.getGrowthFactor()));
+        }
+        probeStates.put(serverId, new ProbeState(interval, nowMillis + withJitter(interval)));
+        if (previous == null || previous.intervalMillis() != interval) {
+            intervalVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * 요청 실패 등 수동적인 오류 신호를 받은 서버를 즉시 다시 헬스 체크하도록 하고 주기를 최소로 줄입니다.
+     * @param serverId 서버 ID
+     */
+    public void onPassiveFailure(Long serverId) {
+        ProbeState previous = probeStates.get(serverId);
+        if (previous != null && previous.intervalMillis() <= properties.getMinIntervalMs()) {
+            return; // 이미 최소 주기로 헬스 체크 중입니다.
+        }
+        probeStates.put(serverId, new ProbeState(properties.getMinIntervalMs(), System.currentTimeMillis()));
+        intervalVersion.incrementAndGet();
+        log.debug("서버 {}에 대한 요청 실패가 보고되어 즉시 헬스 체크합니다.", serverId);
+    }
+
+    /**
+     * 서버의 현재 헬스 체크 주기를 반환합니다.
+     * @param serverId 서버 ID
+     * @return 현재 주기 (밀리초). 아직 헬스 체크하지 않았으면 기본 주기.
+     */
+    public long intervalOf(Long serverId) {
+        if (!properties.isEnabled()) {
+            return baseIntervalMs;
+        }
+        ProbeState state = probeStates.get(serverId);
+        return state != null ? state.intervalMillis() : baseIntervalMs;
+    }
+
+    /**
+     * 다음 헬스 체크 시각을 반환합니다. 헬스 체크 대상을 오래 기다린 순서로 정렬할 때 사용합니다.
+     * @param serverId 서버 ID
+     * @return 다음 헬스 체크 시각 (epoch millis). 처음 보는 서버면 0.
+     */
+    public long nextDueAt(Long serverId) {
+        ProbeState state = probeStates.get(serverId);
+        return state != null ? state.nextDueAtMillis() : 0L;
+    }
+
+    /**
+     * 헬스 체크 주기의 버전을 반환합니다. 어느 서버든 주기가 바뀌거나 상태가 제거될 때마다 증가하므로,
+     * 버전이 같으면 모든 서버의 {@link #intervalOf(Long)} 결과도 같습니다. 다음 헬스 체크 시각만 바뀐 경우에는 증가하지 않습니다.
+     */
+    public long intervalVersion() {
+        return intervalVersion.get();
+    }
+
+    public void remove(Long serverId) {
+        if (probeStates.remove(serverId) != null) {
+            intervalVersion.incrementAndGet();
+        }
+    }
+
+    public void clear() {
+        probeStates.clear();
+        intervalVersion.incrementAndGet();
+    }
+
+    private static long withJitter(long intervalMillis) {
+        long jitter = intervalMillis / 10;
+        return jitter > 0 ? intervalMillis + ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : intervalMillis;
+    }
+
+    private record ProbeState(long intervalMillis, long nextDueAtMillis) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.road.service;
+
+import com.example.road.common.CircuitBreaker;
+import com.example.road.config.CircuitBreakerProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버별 {@link CircuitBreaker}를 관리하는 서비스입니다.
+ * 서킷 브레이커는 서버의 요청 결과가 처음 보고될 때 생성되며, 결과가 보고된 적 없는 서버는 CLOSED로 취급합니다.
+ * 실패한 요청은 {@link AdaptiveProbePolicy}에도 전달되어 해당 서버를 즉시 다시 헬스 체크하게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerProperties circuitBreakerProperties;
+    private final AdaptiveProbePolicy adaptiveProbePolicy;
+
+    // key: serverId, value: 해당 서버의 서킷 브레이커
+    private final Map<Long, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    // 서킷 브레이커의 상태 전환과 제거마다 증가하는 버전
+    private final AtomicLong stateVersion = new AtomicLong();
+
+    /**
+     * 서버로 요청을 보내도 되는지 확인합니다. 선택 경로에서 호출되며 맵 조회 외의 할당이나 락이 없습니다.
+     * @param serverId 서버 ID
+     * @return 요청을 보내도 되면 true (OPEN이거나 HALF_OPEN 시험 요청 수를 모두 사용했으면 false)
+     */
+    public boolean tryAcquirePermission(Long serverId) {
+        CircuitBreaker breaker = breakers.get(serverId);
+        return breaker == null || breaker.tryAcquirePermission();
+    }
+
+    /**
+     * {@link #tryAcquirePermission(Long)}로 얻은 허용을 반납합니다.
+     * @param serverId 서버 ID
+     */
+    public void releasePermission(Long serverId) {
+        CircuitBreaker breaker = breakers.get(serverId);
+        if (breaker != null) {
+            breaker.releasePermission();
+        }
+    }
+
+    /**
+     * 서버로 보낸 요청의 결과를 기록합니다.
+     * @param serverId 서버 ID
+     * @param success 요청 성공 여부
+     */
+    public void record(Long serverId, boolean success) {
+        CircuitBreaker breaker = breakers.computeIfAbsent(serverId, id -> new CircuitBreaker(
+                circuitBreakerProperties.getFailureThreshold(),
+                circuitBreakerProperties.getOpenDurationMs(),
+                circuitBreakerProperties.getHalfOpenTrialCalls(),
+                stateVersion::incrementAndGet));
+        CircuitBreaker.State before = breaker.getState();
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+            adaptiveProbePolicy.onPassiveFailure(serverId);
+        }
+        CircuitBreaker.State after = breaker.getState();
+        if (before != after) {
+            log.info("서버 {}의 서킷 브레이커 상태 변경: {} -> {}", serverId, before, after);
+        }
+    }
+
+    /**
+     * 능동 헬스 체크에서 서버가 정상으로 확인되었음을 알립니다.
+     * 시험 요청을 기다리는 서킷(HALF_OPEN 또는 유지 시간이 지난 OPEN)은 바로 닫힙니다 ({@link CircuitBreaker#onHealthyProbe()}).
+     * @param serverId 서버 ID
+     */
+    public void onHealthyProbe(Long serverId) {
+        CircuitBreaker breaker = breakers.get(serverId);
+        if (breaker == null) {
+            return;
+        }
+        CircuitBreaker.State before = breaker.getState();
+        breaker.onHealthyProbe();
+        CircuitBreaker.State after = breaker.getState();
+        if (before != after) {
+            log.info("서버 {}의 헬스 체크가 성공하여 서킷 브레이커 상태 변경: {} -> {}", serverId, before, after);
+        }
+    }
+
+    /**
+     * 서버의 현재 서킷 브레이커 상태를 반환합니다.
+     * @param serverId 서버 ID
+     * @return 서킷 브레이커 상태 (결과가 보고된 적 없으면 CLOSED)
+     */
+    public CircuitBreaker.State stateOf(Long serverId) {
+        CircuitBreaker breaker = breakers.get(serverId);
+        return breaker != null ? breaker.getState() : CircuitBreaker.State.CLOSED;
+    }
+
+    /**
+     * 삭제된 서버의 서킷 브레이커를 제거합니다.
+     * @param serverId 서버 ID
+     */
+    public void remove(Long serverId) {
+        if (breakers.remove(serverId) != null) {
+            stateVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * 서킷 브레이커 상태의 버전을 반환합니다. 어느 서버든 상태가 전환되거나 서킷 브레이커가 제거될 때마다 증가하므로,
+     * 버전이 같으면 모든 서버의 {@link #stateOf(Long)} 결과도 같습니다.
+     */
+    public long stateVersion() {
+        return stateVersion.get();
+    }
+}
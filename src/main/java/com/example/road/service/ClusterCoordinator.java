@@ -0,0 +1,224 @@
+package com.example.road.service;
+
+import com.example.road.config.ClusterProperties;
+import com.example.road.data.ClusterHealthMessage;
+import com.example.road.data.ClusterPeerStatus;
+import com.example.road.data.ServerHealthReport;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터 모드에서 헬스 체크 담당 노드를 정하고, 노드 간에 헬스 체크 결과를 교환하는 서비스입니다.
+ *
+ * <p>정적으로 설정된 피어와 자신을 일관된 해시 링(가상 노드 포함)에 배치하고, 서버 ID를 해시하여 담당 노드를 정합니다.
+ * 각 노드는 자신이 담당하는 서버만 헬스 체크하고 결과를 HTTP로 피어에게 알리므로, 백엔드가 받는 헬스 체크 부하는
+ * 레플리카 수와 관계없이 한 번이며 모든 레플리카가 같은 결과를 봅니다.
+ * 보고 전송에 실패한 피어는 링에서 빠지고(담당 서버가 남은 노드로 재분배), 다시 통신에 성공하면 복귀합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClusterCoordinator {
+
+    private final ClusterProperties clusterProperties;
+    private final WebClient webClient;
+
+    // 피어 URL별 마지막 통신 성공 시각과 생존 여부
+    private final Map<String, PeerState> peerStates = new ConcurrentHashMap<>();
+
+    // 다른 노드로부터 받은 서버별 최신 헬스 체크 결과
+    private final Map<Long, ServerHealthReport> remoteResults = new ConcurrentHashMap<>();
+
+    // 해시 값 -> 노드 URL. 생존 노드가 바뀔 때만 새로 만들어 교체합니다.
+    private volatile NavigableMap<Long, String> ring = Collections.emptyNavigableMap();
+
+    @PostConstruct
+    public void init() {
+        if (!clusterProperties.isEnabled()) {
+            return;
+        }
+        // 시작 시 모든 피어를 살아 있다고 가정합니다. 응답하지 않는 피어는 첫 보고 전송에서 제외됩니다.
+        clusterProperties.getPeers().forEach(peer -> peerStates.put(normalize(peer), new PeerState(true, 0L)));
+        rebuildRing();
+        log.info("클러스터 모드가 활성화되었습니다. 자신: {}, 피어: {}", selfUrl(), peerStates.keySet());
+    }
+
+    public boolean isEnabled() {
+        return clusterProperties.isEnabled();
+    }
+
+    /**
+     * 이 노드가 주어진 서버의 헬스 체크 담당인지 반환합니다. 클러스터 모드가 꺼져 있으면 항상 true입니다.
+     * @param serverId 서버 ID
+     * @return 담당이면 true
+     */
+    public boolean owns(long serverId) {
+        return !isEnabled() || selfUrl().equals(ownerOf(serverId));
+    }
+
+    /**
+     * 해시 링에서 주어진 서버의 담당 노드 URL을 반환합니다.
+     * @param serverId 서버 ID
+     * @return 담당 노드 URL
+     */
+    public String ownerOf(long serverId) {
+        NavigableMap<Long, String> current = ring;
+        if (current.isEmpty()) {
+            return selfUrl();
+        }
+        Map.Entry<Long, String> entry = current.ceilingEntry(mix(serverId));
+        return entry != null ? entry.getValue() : current.firstEntry().getValue();
+    }
+
+    /**
+     * 다른 노드가 보고한 결과 중 아직 신뢰할 수 있는(오래되지 않은) 결과를 반환합니다.
+     * @param serverId 서버 ID
+     * @return 최신 원격 결과. 없거나 오래되었으면 빈 Optional.
+     */
+    public Optional<ServerHealthReport> freshRemoteResult(long serverId) {
+        ServerHealthReport report = remoteResults.get(serverId);
+        if (report == null || System.currentTimeMillis() - report.getCheckedAt() > clusterProperties.getStaleAfterMs()) {
+            return Optional.empty();
+        }
+        return Optional.of(report);
+    }
+
+    /**
+     * 피어로부터 받은 헬스 체크 결과를 저장하고, 보낸 피어를 살아 있는 것으로 표시합니다.
+     * @param message 피어의 헬스 보고
+     */
+    public void receive(ClusterHealthMessage message) {
+        markPeer(normalize(message.getSource()), true);
+        for (ServerHealthReport report : message.getReports()) {
+            remoteResults.merge(report.getServerId(), report,
+                    (existing, incoming) -> incoming.getCheckedAt() >= existing.getCheckedAt() ? incoming : existing);
+        }
+        log.debug("피어 {}로부터 {}개의 헬스 결과를 받았습니다.", message.getSource(), message.getReports().size());
+    }
+
+    /**
+     * 이 노드가 확인한 헬스 체크 결과를 모든 피어에게 비동기로 전송합니다.
+     * 전송 결과에 따라 피어의 생존 여부를 갱신하며, 죽은 것으로 표시된 피어에게도 계속 보내 복귀를 감지합니다.
+     * @param reports 이 노드가 담당하는 서버들의 헬스 체크 결과
+     */
+    public void broadcast(List<ServerHealthReport> reports) {
+        if (!isEnabled() || peerStates.isEmpty()) {
+            return;
+        }
+        ClusterHealthMessage message = new ClusterHealthMessage(selfUrl(), reports);
+        for (String peer : peerStates.keySet()) {
+            webClient.post()
+                    .uri(peer + "/api/cluster/health")
+                    .bodyValue(message)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .subscribe(
+                            response -> markPeer(peer, true),
+                            error -> {
+                                log.warn("피어 {}에 헬스 결과 전송 실패: {}", peer, error.getMessage());
+                                markPeer(peer, false);
+                            });
+        }
+    }
+
+    /**
+     * 자신을 포함하여 현재 해시 링에 있는 노드 수를 반환합니다. 클러스터 모드가 꺼져 있으면 1입니다.
+     * 클러스터 전체 한도를 노드별로 나눌 때 사용합니다.
+     * @return 살아 있는 노드 수
+     */
+    public int getLiveNodeCount() {
+        if (!isEnabled()) {
+            return 1;
+        }
+        return 1 + (int) peerStates.values().stream().filter(PeerState::alive).count();
+    }
+
+    /**
+     * 자신을 포함한 클러스터 노드의 상태를 반환합니다.
+     * @return 노드 상태 목록
+     */
+    public List<ClusterPeerStatus> getPeerStatuses() {
+        List<ClusterPeerStatus> statuses = new ArrayList<>();
+        statuses.add(new ClusterPeerStatus(selfUrl(), true, true, System.currentTimeMillis()));
+        peerStates.forEach((url, state) -> statuses.add(new ClusterPeerStatus(url, false, state.alive(), state.lastSeen())));
+        return statuses;
+    }
+
+    private void markPeer(String peer, boolean alive) {
+        PeerState previous = peerStates.get(peer);
+        if (previous == null) {
+            return; // 설정되지 않은 노드의 보고는 링에 반영하지 않습니다.
+        }
+        peerStates.put(peer, new PeerState(alive, alive ? System.currentTimeMillis() : previous.lastSeen()));
+        if (previous.alive() != alive) {
+            log.info("피어 {} 상태 변경: {} -> {}", peer, previous.alive() ? "alive" : "down", alive ? "alive" : "down");
+            rebuildRing();
+        }
+    }
+
+    private synchronized void rebuildRing() {
+        NavigableMap<Long, String> next = new TreeMap<>();
+        List<String> members = new ArrayList<>();
+        members.add(selfUrl());
+        peerStates.forEach((url, state) -> {
+            if (state.alive()) {
+                members.add(url);
+            }
+        });
+        for (String member : members) {
+            for (int i = 0; i < clusterProperties.getVirtualNodes(); i++) {
+                next.put(hash(member + "#" + i), member);
+            }
+        }
+        ring = Collections.unmodifiableNavigableMap(next);
+        log.info("해시 링을 재구성했습니다. 노드: {}", members);
+    }
+
+    private String selfUrl() {
+        return normalize(clusterProperties.getSelfUrl());
+    }
+
+    private static String normalize(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // 노드 위치용 해시: MD5의 앞 8바이트를 사용합니다 (링 재구성 시에만 계산).
+    private static long hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+            long h = 0;
+            for (int i = 0; i < 8; i++) {
+                h = (h << 8) | (digest[i] & 0xff);
+            }
+            return h;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5를 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 서버 ID용 해시: SplitMix64 finalizer로 연속된 ID도 링 전체에 고르게 퍼뜨립니다.
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private record PeerState(boolean alive, long lastSeen) {
+    }
+}
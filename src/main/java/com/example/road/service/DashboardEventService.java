@@ -0,0 +1,71 @@
+package com.example.road.service;
+
+import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerInstance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 대시보드(index.html)로 서버 레지스트리와 헬스 상태의 변경분을 푸시하는 이벤트 허브입니다.
+ * 관리 API의 변경과 헬스 체크 결과의 상태 전이만 이벤트로 발행하므로,
+ * 대시보드는 전체 목록을 다시 조회하거나 다시 그리지 않고 해당 행만 갱신합니다.
+ * 변경분만 보내므로 이벤트가 하나라도 빠지면 대시보드가 다음 전체 조회까지 틀린 상태로 남습니다.
+ * 그래서 여러 스레드(헬스 체크, 관리 API)의 발행을 직렬화하며, 관리 API 이벤트는 저장소 쓰기가 끝난(자동 커밋된) 뒤에 발행합니다.
+ *
+ * <ul>
+ *     <li>{@code registry-upsert}: 서버가 추가되거나 수정됨 (데이터: {@link ServerInstance})</li>
+ *     <li>{@code registry-delete}: 서버가 삭제됨 (데이터: 서버 ID)</li>
+ *     <li>{@code health}: 서버의 헬스 상태가 처음 확인되었거나 바뀜 (데이터: {@link ServerHealthStatus})</li>
+ *     <li>{@code health-remove}: 서버가 헬스 추적 대상에서 빠짐 (데이터: 서버 ID)</li>
+ *     <li>{@code sweep}: 헬스 체크 한 주기가 끝남 (데이터: 완료 시각 epoch millis)</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class DashboardEventService {
+
+    // 느린 브라우저가 다른 구독자나 헬스 체크를 막지 않도록 best-effort 멀티캐스트를 사용합니다.
+    private final Sinks.Many<ServerSentEvent<Object>> eventSink = Sinks.many().multicast().directBestEffort();
+
+    public void serverUpserted(ServerInstance server) {
+        emit("registry-upsert", server);
+    }
+
+    public void serverDeleted(Long serverId) {
+        emit("registry-delete", serverId);
+    }
+
+    public void healthChanged(ServerHealthStatus status) {
+        emit("health", status);
+    }
+
+    public void healthRemoved(Long serverId) {
+        emit("health-remove", serverId);
+    }
+
+    public void sweepCompleted(long timestamp) {
+        emit("sweep", timestamp);
+    }
+
+    /**
+     * 구독 이후 발생하는 대시보드 이벤트 스트림을 반환합니다.
+     * @return SSE 이벤트 Flux
+     */
+    public Flux<ServerSentEvent<Object>> events() {
+        return eventSink.asFlux();
+    }
+
+    // 싱크는 동시 발행을 허용하지 않고 FAIL_NON_SERIALIZED로 이벤트를 버리므로, 발행을 직렬화합니다.
+    private synchronized void emit(String type, Object data) {
+        if (eventSink.currentSubscriberCount() == 0) {
+            return; // 구독자가 없으면 이벤트 객체를 만들지 않습니다.
+        }
+        Sinks.EmitResult result = eventSink.tryEmitNext(ServerSentEvent.builder(data).event(type).build());
+        if (result.isFailure()) {
+            log.debug("대시보드 이벤트 발행 실패: type={}, result={}", type, result);
+        }
+    }
+}
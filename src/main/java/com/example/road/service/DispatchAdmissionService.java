@@ -0,0 +1,172 @@
+package com.example.road.service;
+
+import com.example.road.config.AdmissionProperties;
+import com.example.road.data.AdmissionStats;
+import com.example.road.data.DispatchPriority;
+import com.example.road.exception.DispatchRejectedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 디스패치 요청의 수용 제어(admission control)를 담당하는 서비스입니다.
+ *
+ * <p>건강한 서버가 부족하면 디스패치 요청은 로드 밸런서에서 최대 타임아웃까지 서버를 기다리며 요청 스레드를 점유합니다.
+ * 이 서비스는 요청이 기다리기 전에 두 가지 기준으로 수용 여부를 정하고, 수용하지 않은 요청은 기다리지 않고 즉시 거절합니다.</p>
+ * <ul>
+ *     <li>대기 요청 수 제한: 동시에 기다리는 요청 수를 {@code max-waiters}로 제한하며, NORMAL과 LOW는 각각 그 일부({@code normal-share},
+ *     {@code low-share})까지만 사용할 수 있어 LOW가 가장 먼저 거절됩니다.</li>
+ *     <li>대기 시간 기반 거절 (CoDel 방식): {@code interval-ms} 구간마다 요청의 최소 대기 시간을 확인하여, 목표({@code target-wait-ms})를 넘으면
+ *     거절 단계를 올리고(1: LOW 거절, 2: NORMAL까지 거절) 목표 안으로 돌아오면 한 단계씩 내립니다. 최소값을 보므로 일시적인 대기에는 반응하지 않고,
+ *     대기가 지속될 때만 거절합니다. HIGH는 대기 시간으로 거절하지 않습니다.</li>
+ * </ul>
+ * 수용과 해제는 원자 변수만 사용하며, 구간 전환만 구간당 한 번 동기화합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DispatchAdmissionService {
+
+    private static final Permit NOOP_PERMIT = new Permit(null, 0L);
+
+    private final AdmissionProperties admissionProperties;
+
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejectedByLimit = new LongAdder();
+    private final LongAdder rejectedByOverload = new LongAdder();
+
+    // 현재 거절 단계 (0: 거절 없음, 1: LOW 거절, 2: LOW와 NORMAL 거절)
+    private volatile int sheddingLevel;
+    private volatile long lastMinWaitNanos;
+    private volatile long intervalStartNanos = System.nanoTime();
+    // 현재 구간에 끝난 요청의 최소 대기 시간
+    private final AtomicLong intervalMinWaitNanos = new AtomicLong(Long.MAX_VALUE);
+
+    /**
+     * 디스패치 요청을 수용합니다. 반환된 허가는 서버 선택이 끝나면(성공 여부와 관계없이) 반드시 닫아야 합니다.
+     *
+     * @param priority 요청의 우선순위
+     * @return 수용 허가
+     * @throws DispatchRejectedException 대기 요청 수 제한을 넘었거나 과부하로 거절하는 경우
+     */
+    public Permit admit(DispatchPriority priority) {
+        return admit(priority, System.nanoTime());
+    }
+
+    Permit admit(DispatchPriority priority, long nowNanos) {
+        if (!admissionProperties.isEnabled()) {
+            return NOOP_PERMIT;
+        }
+        rollIntervalIfDue(nowNanos);
+        if (isShed(priority, sheddingLevel)) {
+            rejectedByOverload.increment();
+            throw new DispatchRejectedException("서버 선택 대기 시간이 길어 " + priority + " 우선순위 요청을 거절합니다.",
+                    admissionProperties.getRetryAfterSeconds());
+        }
+        int limit = limitFor(priority);
+        while (true) {
+            int current = waiters.get();
+            if (current >= limit) {
+                rejectedByLimit.increment();
+                throw new DispatchRejectedException("서버 선택을 기다리는 요청이 너무 많아 " + priority + " 우선순위 요청을 거절합니다.",
+                        admissionProperties.getRetryAfterSeconds());
+            }
+            if (waiters.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        admitted.increment();
+        return new Permit(this, nowNanos);
+    }
+
+    /**
+     * 현재 수용 제어 상태와 집계를 반환합니다.
+     */
+    public AdmissionStats getStats() {
+        return new AdmissionStats(waiters.get(), sheddingLevel, TimeUnit.NANOSECONDS.toMillis(lastMinWaitNanos),
+                admitted.sum(), rejectedByLimit.sum(), rejectedByOverload.sum());
+    }
+
+    private void release(long admittedAtNanos, long nowNanos) {
+        waiters.decrementAndGet();
+        intervalMinWaitNanos.accumulateAndGet(nowNanos - admittedAtNanos, Math::min);
+        rollIntervalIfDue(nowNanos);
+    }
+
+    // 구간이 끝났으면 구간의 최소 대기 시간으로 거절 단계를 조정합니다.
+    private void rollIntervalIfDue(long nowNanos) {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(admissionProperties.getIntervalMs());
+        if (nowNanos - intervalStartNanos < intervalNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (nowNanos - intervalStartNanos < intervalNanos) {
+                return;
+            }
+            intervalStartNanos = nowNanos;
+            long minWait = intervalMinWaitNanos.getAndSet(Long.MAX_VALUE);
+            // 구간 동안 끝난 요청이 없는데 기다리는 요청이 있으면, 그 요청들이 구간 내내 기다린 것이므로 과부하로 봅니다.
+            boolean overloaded = minWait == Long.MAX_VALUE
+                    ? waiters.get() > 0
+                    : minWait > TimeUnit.MILLISECONDS.toNanos(admissionProperties.getTargetWaitMs());
+            lastMinWaitNanos = minWait == Long.MAX_VALUE ? 0L : minWait;
+            int previous = sheddingLevel;
+            sheddingLevel = overloaded ? Math.min(2, previous + 1) : Math.max(0, previous - 1);
+            if (previous != sheddingLevel) {
+                log.warn("디스패치 거절 단계 변경: {} -> {} (구간 최소 대기 시간: {}ms, 대기 요청 수: {})",
+                        previous, sheddingLevel, TimeUnit.NANOSECONDS.toMillis(lastMinWaitNanos), waiters.get());
+            }
+        }
+    }
+
+    private int limitFor(DispatchPriority priority) {
+        int max = admissionProperties.getMaxWaiters();
+        return switch (priority) {
+            case HIGH -> max;
+            case NORMAL -> (int) (max * admissionProperties.getNormalShare());
+            case LOW -> (int) (max * admissionProperties.getLowShare());
+        };
+    }
+
+    private static boolean isShed(DispatchPriority priority, int level) {
+        return switch (priority) {
+            case HIGH -> false;
+            case NORMAL -> level >= 2;
+            case LOW -> level >= 1;
+        };
+    }
+
+    /**
+     * 수용 허가입니다. try-with-resources로 사용하며, 닫을 때 대기 시간을 기록하고 대기 요청 수를 줄입니다.
+     * 여러 번 닫아도(다른 스레드에서 동시에 닫아도) 한 번만 해제됩니다.
+     */
+    public static final class Permit implements AutoCloseable {
+        private final DispatchAdmissionService owner;
+        private final long admittedAtNanos;
+        private boolean closed;
+
+        private Permit(DispatchAdmissionService owner, long admittedAtNanos) {
+            this.owner = owner;
+            this.admittedAtNanos = admittedAtNanos;
+        }
+
+        @Override
+        public void close() {
+            close(System.nanoTime());
+        }
+
+        synchronized void close(long nowNanos) {
+            if (owner == null || closed) {
+                return;
+            }
+            closed = true;
+            owner.release(admittedAtNanos, nowNanos);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.road.service;
+
+import com.example.road.config.FlightRecordingProperties;
+import com.example.road.data.RecordingStatus;
+import com.example.road.exception.InvalidRequestException;
+import com.example.road.exception.RecordingNotFoundException;
+import com.example.road.jfr.BalancerRefreshEvent;
+import com.example.road.jfr.DispatchEvent;
+import com.example.road.jfr.HealthProbeEvent;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * 관리 API로 JFR(Java Flight Recorder) 레코딩을 시작하고 내려받는 서비스입니다.
+ *
+ * <p>레코딩은 한 번에 하나만 실행되며 기간({@code max-duration-seconds})과 크기({@code max-size-mb})가 모두 제한됩니다.
+ * 레코딩에는 JDK 설정({@code settings})의 이벤트와 함께 이 애플리케이션의 JFR 이벤트
+ * ({@link DispatchEvent}, {@link BalancerRefreshEvent}, {@link HealthProbeEvent})가 포함됩니다.
+ * 레코딩이 없을 때 애플리케이션 이벤트는 {@code shouldCommit()}에서 걸러져 필드를 채우거나 기록하지 않습니다.</p>
+ *
+ * <p>관리 API에서만 사용하므로 지연 초기화하며, 관리 API 컨트롤러가 지연 초기화되면 첫 관리 요청에서 만들어집니다.</p>
+ */
+@Service
+@Lazy
+@RequiredArgsConstructor
+@Slf4j
+public class FlightRecordingService {
+
+    private final FlightRecordingProperties flightRecordingProperties;
+
+    // 현재(또는 마지막) 레코딩. this로 동기화합니다.
+    private Recording recording;
+
+    /**
+     * 레코딩을 시작합니다. 이미 실행 중인 레코딩이 있으면 그 상태를 그대로 반환합니다.
+     * 멈춘 이전 레코딩은 버리고 새로 시작합니다.
+     * @param durationSeconds 레코딩 기간 (초). null이면 {@code default-duration-seconds}.
+     * @return 레코딩 상태
+     * @throws InvalidRequestException 기간이 1초 미만이거나 {@code max-duration-seconds}를 넘는 경우
+     */
+    public synchronized RecordingStatus start(Integer durationSeconds) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        int duration = durationSeconds != null ? durationSeconds : flightRecordingProperties.getDefaultDurationSeconds();
+        if (duration < 1 || duration > flightRecordingProperties.getMaxDurationSeconds()) {
+            throw new InvalidRequestException("durationSeconds는 1 이상 " + flightRecordingProperties.getMaxDurationSeconds() + " 이하여야 합니다: " + duration);
+        }
+        closeRecording();
+
+        Recording next;
+        try {
+            next = new Recording(Configuration.getConfiguration(flightRecordingProperties.getSettings()));
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("JFR 설정 '" + flightRecordingProperties.getSettings() + "'을(를) 읽을 수 없습니다.", e);
+        }
+        next.setName("road");
+        next.setToDisk(true);
+        next.setDuration(Duration.ofSeconds(duration));
+        next.setMaxSize(flightRecordingProperties.getMaxSizeMb() * 1024L * 1024L);
+        next.enable(DispatchEvent.class);
+        next.enable(BalancerRefreshEvent.class);
+        next.enable(HealthProbeEvent.class);
+        next.start();
+        recording = next;
+        log.info("JFR 레코딩을 시작했습니다. 기간: {}초, 최대 크기: {}MB, 설정: {}", duration, flightRecordingProperties.getMaxSizeMb(), flightRecordingProperties.getSettings());
+        return status();
+    }
+
+    /**
+     * 현재 레코딩 상태를 반환합니다. 레코딩이 없으면 상태는 {@code NONE}입니다.
+     */
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            return new RecordingStatus("NONE", 0L, 0L, 0L, 0L);
+        }
+        Duration duration = recording.getDuration();
+        return new RecordingStatus(recording.getState().name(),
+                recording.getStartTime() != null ? recording.getStartTime().toEpochMilli() : 0L,
+                duration != null ? duration.toSeconds() : 0L, recording.getMaxSize(), recording.getSize());
+    }
+
+    /**
+     * 현재까지 기록된 레코딩 데이터를 JFR 파일 내용으로 반환합니다. 실행 중인 레코딩은 계속 실행됩니다.
+     * @return JFR 파일 내용 (최대 {@code max-size-mb} 크기)
+     * @throws RecordingNotFoundException 시작한 레코딩이 없는 경우
+     */
+    public synchronized byte[] dump() {
+        if (recording == null) {
+            throw new RecordingNotFoundException("시작한 JFR 레코딩이 없습니다.");
+        }
+        Path file = null;
+        try {
+            file = Files.createTempFile("road-", ".jfr");
+            recording.dump(file);
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("JFR 레코딩을 내려받을 수 없습니다.", e);
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 레코딩을 멈추고 버립니다.
+     * @throws RecordingNotFoundException 시작한 레코딩이 없는 경우
+     */
+    public synchronized void stop() {
+        if (recording == null) {
+            throw new RecordingNotFoundException("시작한 JFR 레코딩이 없습니다.");
+        }
+        closeRecording();
+        log.info("JFR 레코딩을 멈추고 버렸습니다.");
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeRecording();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("임시 JFR 파일 {}을(를) 지우지 못했습니다: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.road.service;
+
+import com.example.road.common.HeadroomWeightedStrategy;
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.config.LoadReportProperties;
+import com.example.road.data.ServerInstance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 백엔드가 보고한 부하로 계산한 여유 용량에 비례하여 서버를 고르는 {@code headroom} 전략을 등록합니다.
+ * 여유 용량은 {@link ServerLoadBalancer#headroomOf(ServerInstance)}로 새로고침과 부하 보고 때 읽어 가중치로 미리 계산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HeadroomStrategyProvider implements LoadBalancingStrategyProvider {
+
+    // ServerLoadBalancer가 전략 레지스트리에 의존하므로, 순환 의존을 피하기 위해 처음 선택할 때 조회합니다.
+    private final ObjectProvider<ServerLoadBalancer> serverLoadBalancerProvider;
+    private final LoadReportProperties loadReportProperties;
+
+    private volatile ServerLoadBalancer serverLoadBalancer;
+
+    @Override
+    public String name() {
+        return HeadroomWeightedStrategy.NAME;
+    }
+
+    @Override
+    public LoadBalancingStrategy<ServerInstance> create() {
+        return new HeadroomWeightedStrategy<>(server -> serverLoadBalancer().headroomOf(server), loadReportProperties.getMinWeight(),
+                loadReportProperties.getPendingScale());
+    }
+
+    private ServerLoadBalancer serverLoadBalancer() {
+        ServerLoadBalancer balancer = serverLoadBalancer;
+        if (balancer == null) {
+            balancer = serverLoadBalancerProvider.getObject();
+            serverLoadBalancer = balancer;
+        }
+        return balancer;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.road.service;
+
+import com.example.road.common.TcpConnectProber;
+import com.example.road.data.LoadReport;
+import com.example.road.data.ProbeType;
+import com.example.road.data.ServerInstance;
+import com.example.road.jfr.HealthProbeEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * 서버의 헬스 체크 방식({@link ServerInstance#getProbeType()})에 따라 헬스 체크를 수행하는 서비스입니다.
+ *
+ * <ul>
+ *     <li>TCP: {@link TcpConnectProber}의 셀렉터 스레드 하나로 연결 가능 여부만 확인합니다 (TLS나 HTTP 교환 없음).</li>
+ *     <li>HTTP: 등록된 URL 또는 {@code probePath}로 요청하여 상태 코드가 {@code probeExpectedStatus} 범위(기본 2xx)인지 확인합니다.
+ *     {@code probeBodyContains}가 설정된 경우에만 GET으로 본문을 받아 문자열 포함 여부를 확인하고, 그 외에는 본문 없는 HEAD를 사용합니다.</li>
+ * </ul>
+ * 각 헬스 체크의 지연 시간, 상태 코드, 결과, 오류는 {@link HealthProbeEvent} JFR 이벤트로 기록됩니다.
+ * HTTP 헬스 체크 응답에 부하 보고 헤더({@code road.load-report.probe-header}, ORCA TEXT 형식)가 있으면 읽어서 호출자에게 전달합니다.
+ */
+@Service
+@Slf4j
+public class HealthProbeService {
+
+    private final WebClient webClient;
+    private final long tcpConnectTimeoutMs;
+    private final String loadReportHeader;
+    private final TcpConnectProber tcpConnectProber = new TcpConnectProber("tcp-health-probe");
+
+    public HealthProbeService(WebClient webClient,
+                              @Value("${server.healthcheck.connection-timeout-ms:5000}") long tcpConnectTimeoutMs,
+                              @Value("${road.load-report.probe-header:endpoint-load-metrics}") String loadReportHeader) {
+        this.webClient = webClient;
+        this.tcpConnectTimeoutMs = tcpConnectTimeoutMs;
+        this.loadReportHeader = loadReportHeader;
+    }
+
+    @PreDestroy
+    public void close() {
+        tcpConnectProber.close();
+    }
+
+    /**
+     * 서버의 헬스 체크 설정에 따라 헬스 체크합니다. 예외를 던지지 않고 실패는 false로 반환합니다.
+     * @param server 헬스 체크할 서버 (URL 형식은 호출자가 검증합니다)
+     * @return 정상이면 true로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> probe(ServerInstance server) {
+        return probe(server, report -> { });
+    }
+
+    /**
+     * 서버의 헬스 체크 설정에 따라 헬스 체크하고, HTTP 응답에 부하 보고 헤더가 있으면 {@code onLoadReport}로 전달합니다.
+     * 부하 보고는 상태 코드와 관계없이 헤더를 읽을 수 있으면 전달되며, 헬스 체크 결과보다 먼저 전달됩니다.
+     * @param server 헬스 체크할 서버 (URL 형식은 호출자가 검증합니다)
+     * @param onLoadReport 헬스 체크 응답에서 읽은 부하 보고를 받는 함수 (응답을 처리하는 스레드에서 호출됩니다)
+     * @return 정상이면 true로 완료되는 Future
+     */
+    public CompletableFuture<Boolean> probe(ServerInstance server, Consumer<LoadReport> onLoadReport) {
+        HealthProbeEvent event = new HealthProbeEvent();
+        event.begin();
+        CompletableFuture<Boolean> result = server.getProbeType() == ProbeType.TCP ? probeTcp(server) : probeHttp(server, event, onLoadReport);
+        return result.whenComplete((healthy, error) -> {
+            event.end();
+            if (event.shouldCommit()) { // 기록 중인 JFR 레코딩이 없으면 false이므로 필드를 채우지 않습니다.
+                event.serverId = server.getId() != null ? server.getId() : 0L;
+                event.target = server.getUrl();
+                event.probeType = server.getProbeType().name();
+                event.healthy = Boolean.TRUE.equals(healthy);
+                if (error != null) {
+                    event.error = error.getMessage();
+                }
+                event.commit();
+            }
+        });
+    }
+
+    private CompletableFuture<Boolean> probeTcp(ServerInstance server) {
+        URI uri = URI.create(server.getUrl());
+        if (uri.getHost() == null) {
+            log.warn("서버 {}의 URL {}에 호스트가 없어 TCP 헬스 체크할 수 없습니다.", server.getName(), server.getUrl());
+            return CompletableFuture.completedFuture(false);
+        }
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return tcpConnectProber.probe(new InetSocketAddress(uri.getHost(), port), tcpConnectTimeoutMs)
+                .thenApply(connected -> {
+                    if (connected) {
+                        log.debug("서버 {} ({}:{}) TCP 헬스 체크 성공.", server.getName(), uri.getHost(), port);
+                    } else {
+                        log.warn("서버 {} ({}:{}) TCP 헬스 체크 실패.", server.getName(), uri.getHost(), port);
+                    }
+                    return connected;
+                });
+    }
+
+    private CompletableFuture<Boolean> probeHttp(ServerInstance server, HealthProbeEvent event, Consumer<LoadReport> onLoadReport) {
+        URI target = server.getProbePath() != null ? URI.create(server.getUrl()).resolve(server.getProbePath()) : URI.create(server.getUrl());
+        String bodyContains = server.getProbeBodyContains();
+        HttpMethod method = bodyContains != null ? HttpMethod.GET : HttpMethod.HEAD;
+
+        return webClient.method(method)
+                .uri(target)
+                .exchangeToMono(response -> {
+                    int status = response.statusCode().value();
+                    event.statusCode = status;
+                    if (!loadReportHeader.isEmpty()) {
+                        LoadReport report = LoadReport.fromOrcaText(server.getId(), response.headers().asHttpHeaders().getFirst(loadReportHeader));
+                        if (report != null) {
+                            onLoadReport.accept(report);
+                        }
+                    }
+                    if (!isExpectedStatus(server.getProbeExpectedStatus(), status)) {
+                        log.warn("서버 {} ({}) 헬스 체크 실패: 상태 코드 {}", server.getName(), target, status);
+                        return response.releaseBody().thenReturn(false);
+                    }
+                    if (bodyContains == null) {
+                        return response.releaseBody().thenReturn(true);
+                    }
+                    return response.bodyToMono(String.class).defaultIfEmpty("").map(body -> {
+                        boolean matched = body.contains(bodyContains);
+                        if (!matched) {
+                            log.warn("서버 {} ({}) 헬스 체크 실패: 응답 본문에 '{}'이(가) 없습니다.", server.getName(), target, bodyContains);
+                        }
+                        return matched;
+                    });
+                })
+                .doOnNext(isHealthy -> {
+                    if (isHealthy) {
+                        log.debug("서버 {} ({}) 헬스 체크 성공.", server.getName(), target);
+                    }
+                })
+                .onErrorResume(ex -> {
+                    log.warn("서버 {} ({}) 헬스 체크 중 오류 발생: {}", server.getName(), target, ex.getMessage());
+                    event.error = ex.getMessage();
+                    return Mono.just(false);
+                })
+                .toFuture();
+    }
+
+    /**
+     * 상태 코드가 정상 범위에 속하는지 확인합니다.
+     * @param spec 정상 범위 ("200", "200-399" 형식). null이면 2xx.
+     * @param status 응답 상태 코드
+     * @return 범위에 속하면 true
+     */
+    static boolean isExpectedStatus(String spec, int status) {
+        if (spec == null) {
+            return status >= 200 && status < 300;
+        }
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return status == Integer.parseInt(spec);
+        }
+        return status >= Integer.parseInt(spec.substring(0, dash)) && status <= Integer.parseInt(spec.substring(dash + 1));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.road.service;
+
+import com.example.road.data.ProbeType;
+import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerInstance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 마지막으로 확인된 서버 레지스트리와 헬스 상태를 로컬 파일에 저장하고 복원하는 저장소입니다.
+ * 재시작 시 이 스냅샷으로 로드 밸런서를 즉시 채워, 전체 헬스 체크를 기다리지 않고 바로 디스패치할 수 있게 합니다.
+ *
+ * <p>파일은 서버당 수십 바이트의 고정 순서 바이너리 레코드로 구성되며, 임시 파일에 쓴 뒤 원자적 이동(rename)으로 교체하므로
+ * 쓰기 도중 프로세스가 종료되어도 이전 스냅샷이 손상되지 않습니다.
+ * 저장과 복원은 직렬화되므로, 다른 스레드(기동 시 백그라운드 재검증 등)가 저장 중이면 복원은 저장이 끝난 뒤의 파일을 읽습니다.</p>
+ *
+ * <p>기본 경로는 {@code java.io.tmpdir} 아래이므로 작업 디렉터리에 파일을 남기지 않습니다.
+ * 호스트 재시작 후에도 웜 스타트하려면 {@code road.warm-start.snapshot-path}를 영구 디렉터리로 지정합니다.</p>
+ */
+@Component
+@Slf4j
+public class HealthSnapshotStore {
+
+    private static final int MAGIC = 0x524F4144; // "ROAD"
+    private static final int FORMAT_VERSION = 5;
+
+    @Value("${road.warm-start.enabled:true}")
+    private boolean enabled;
+
+    @Value("${road.warm-start.snapshot-path:${java.io.tmpdir}/road/road-health.snapshot}")
+    private String snapshotPath;
+
+    /**
+     * 헬스 상태 목록을 스냅샷 파일로 저장합니다. 실패해도 예외를 던지지 않고 경고만 남깁니다.
+     * @param statuses 저장할 헬스 상태 목록
+     */
+    public synchronized void save(Collection<ServerHealthStatus> statuses) {
+        if (!enabled) {
+            return;
+        }
+        Path target = Paths.get(snapshotPath);
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, target.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(System.currentTimeMillis());
+                out.writeInt(statuses.size());
+                for (ServerHealthStatus status : statuses) {
+                    ServerInstance server = status.getServerInstance();
+                    out.writeLong(server.getId());
+                    out.writeUTF(server.getName());
+                    out.writeUTF(server.getUrl());
+                    out.writeBoolean(server.isActive());
+                    out.writeUTF(server.getPool());
+                    out.writeInt(server.getMaxRps() != null ? server.getMaxRps() : 0); // 0: 제한 없음
+                    writeNullableUTF(out, server.getZone());
+                    out.writeUTF(server.getProbeType().name());
+                    writeNullableUTF(out, server.getProbePath());
+                    writeNullableUTF(out, server.getProbeExpectedStatus());
+                    writeNullableUTF(out, server.getProbeBodyContains());
+                    out.writeBoolean(status.isHealthy());
+                    out.writeLong(status.getLastCheckedTimestamp());
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("헬스 스냅샷을 저장했습니다: {} ({}개 서버)", target, statuses.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("헬스 스냅샷 저장에 실패했습니다: {} - {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 파일에서 헬스 상태 목록을 복원합니다.
+     * 파일이 없거나 형식이 맞지 않으면 빈 목록을 반환합니다.
+     * @return 복원된 헬스 상태 목록
+     */
+    public synchronized List<ServerHealthStatus> load() {
+        if (!enabled) {
+            return List.of();
+        }
+        Path source = Paths.get(snapshotPath);
+        if (!Files.isRegularFile(source)) {
+            log.info("헬스 스냅샷 파일이 없어 웜 스타트를 건너뜁니다: {}", source);
+            return List.of();
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                log.warn("헬스 스냅샷 형식이 올바르지 않아 무시합니다: {}", source);
+                return List.of();
+            }
+            long writtenAt = in.readLong();
+            int count = in.readInt();
+            List<ServerHealthStatus> statuses = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                ServerInstance server = new ServerInstance(in.readLong(), in.readUTF(), in.readUTF(), in.readBoolean(), in.readUTF(), null);
+                int maxRps = in.readInt();
+                server.setMaxRps(maxRps > 0 ? maxRps : null);
+                server.setZone(readNullableUTF(in));
+                server.setProbeType(ProbeType.valueOf(in.readUTF()));
+                server.setProbePath(readNullableUTF(in));
+                server.setProbeExpectedStatus(readNullableUTF(in));
+                server.setProbeBodyContains(readNullableUTF(in));
+                statuses.add(new ServerHealthStatus(server, in.readBoolean(), in.readLong()));
+            }
+            log.info("헬스 스냅샷을 복원했습니다: {} ({}개 서버, 저장 시각: {})", source, count, writtenAt);
+            return statuses;
+        } catch (IOException | RuntimeException e) {
+            log.warn("헬스 스냅샷 복원에 실패했습니다: {} - {}", source, e.getMessage());
+            return List.of();
+        }
+    }
+
+    // null 여부를 먼저 쓰고, null이 아니면 문자열을 씁니다.
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.road.service;
+
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.data.ServerInstance;
+
+/**
+ * 선택 전략을 추가하기 위한 확장 지점입니다. 이 인터페이스를 구현한 빈은 {@link LoadBalancingStrategyRegistry}에 자동으로 등록되어,
+ * 풀 설정({@code road.pools.<풀 이름>.strategy})과 관리 API에서 이름으로 선택할 수 있습니다.
+ */
+public interface LoadBalancingStrategyProvider {
+
+    /**
+     * 전략 이름을 반환합니다. 만든 전략의 {@link LoadBalancingStrategy#name()}과 같아야 합니다.
+     */
+    String name();
+
+    /**
+     * 로드 밸런서 하나에서 사용할 새 전략 인스턴스를 만듭니다. 풀과 영역마다, 전략을 바꿀 때마다 호출됩니다.
+     */
+    LoadBalancingStrategy<ServerInstance> create();
+}
@@ -0,0 +1,59 @@
+package com.example.road.service;
+
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.common.RoundRobinStrategy;
+import com.example.road.data.ServerInstance;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 이름으로 선택 전략을 만드는 레지스트리입니다.
+ * 기본 제공 전략(round-robin)과 {@link LoadBalancingStrategyProvider} 빈으로 추가된 전략을 등록합니다.
+ */
+@Service
+@Slf4j
+public class LoadBalancingStrategyRegistry {
+
+    // key: 전략 이름, value: 새 전략 인스턴스를 만드는 팩토리
+    private final Map<String, Supplier<LoadBalancingStrategy<ServerInstance>>> factories = new LinkedHashMap<>();
+
+    public LoadBalancingStrategyRegistry(ObjectProvider<LoadBalancingStrategyProvider> providers) {
+        register(RoundRobinStrategy.NAME, RoundRobinStrategy::new);
+        providers.orderedStream().forEach(provider -> register(provider.name(), provider::create));
+        log.info("사용 가능한 선택 전략: {}", factories.keySet());
+    }
+
+    private void register(String name, Supplier<LoadBalancingStrategy<ServerInstance>> factory) {
+        if (factories.putIfAbsent(name, factory) != null) {
+            throw new IllegalStateException("선택 전략 이름이 중복되었습니다: " + name);
+        }
+    }
+
+    /**
+     * 새 전략 인스턴스를 만듭니다.
+     * @param name 전략 이름
+     * @return 새 전략 인스턴스
+     * @throws IllegalArgumentException 등록되지 않은 전략인 경우
+     */
+    public LoadBalancingStrategy<ServerInstance> create(String name) {
+        Supplier<LoadBalancingStrategy<ServerInstance>> factory = factories.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("지원하지 않는 선택 전략입니다: " + name + " (사용 가능: " + factories.keySet() + ")");
+        }
+        return factory.get();
+    }
+
+    /**
+     * 등록된 전략 이름을 등록 순서대로 반환합니다.
+     */
+    public Set<String> getStrategyNames() {
+        return Collections.unmodifiableSet(factories.keySet());
+    }
+}
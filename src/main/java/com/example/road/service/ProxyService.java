@@ -0,0 +1,289 @@
+package com.example.road.service;
+
+import com.example.road.common.LatencyTracker;
+import com.example.road.common.RetryBudget;
+import com.example.road.config.ProxyProperties;
+import com.example.road.data.DispatchPriority;
+import com.example.road.data.ServerInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 풀의 백엔드 서버로 HTTP 요청을 전달하는 프록시 서비스입니다.
+ *
+ * <ul>
+ *     <li>재시도: 멱등 메서드 요청이 연결 오류나 5xx로 실패하면 {@link ServerLoadBalancer}가 고른 다른 서버로 다시 보냅니다.</li>
+ *     <li>헤징: 멱등 메서드 요청이 풀의 p95 응답 시간 안에 끝나지 않으면 다른 서버로 사본을 하나 더 보내고,
+ *     먼저 응답한 쪽을 사용하며 나머지 요청은 취소합니다.</li>
+ *     <li>재시도 예산: 재시도와 헤징 요청은 모두 {@link RetryBudget}에서 차감되므로, 장애 시 추가 요청이 원 요청의 일정 비율을 넘지 않습니다.
+ *     비율은 노드마다 같으므로 클러스터 전체에서도 같은 비율이 유지되며, 최소 허용량은 살아 있는 노드 수로 나누어 적용합니다.</li>
+ * </ul>
+ *
+ * 모든 시도의 결과는 서버별 서킷 브레이커에 기록되며, 진행 중인 시도는 드레이닝이 끝날 때까지 기다릴 수 있도록 {@link ServerDrainRegistry}에 집계됩니다.
+ * 응답 본문이 {@code road.proxy.max-response-bytes}를 넘는 등 road 쪽에서 응답을 읽지 못한 경우는 서버 실패로 기록하지 않고 502를 반환합니다.
+ * 요청은 {@code /api/dispatch}와 같이 {@link DispatchAdmissionService}의 수용 제어를 거치며, 첫 서버 선택이 끝나면 허가를 반납합니다.
+ * 백엔드 호출에는 헬스 체크용과 분리된 프록시 전용 WebClient({@code road.proxy.*} 타임아웃과 버퍼 한도)를 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProxyService {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE);
+
+    // 프록시가 그대로 전달하면 안 되는 hop-by-hop 헤더 (소문자)
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "host", "content-length");
+
+    private final ServerLoadBalancer serverLoadBalancer;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ClusterCoordinator clusterCoordinator;
+    private final WebClient proxyWebClient; // WebClientConfig#proxyWebClient
+    private final ProxyProperties proxyProperties;
+    private final ServerDrainRegistry serverDrainRegistry;
+    private final DispatchAdmissionService dispatchAdmissionService;
+
+    // 풀별 최근 응답 시간 (헤징 지연 계산용)
+    private final Map<String, LatencyTracker> latencyByPool = new ConcurrentHashMap<>();
+
+    // 재시도 예산과 예산을 만들 때의 살아 있는 노드 수
+    private volatile RetryBudget retryBudget;
+    private volatile int budgetNodeCount;
+
+    /**
+     * 요청을 풀의 백엔드 서버로 전달합니다.
+     *
+     * @param pool 풀 이름
+     * @param method HTTP 메서드
+     * @param pathAndQuery 서버 URL 뒤에 붙일 경로와 쿼리 문자열
+     * @param headers 요청 헤더
+     * @param body 요청 본문 (없으면 null)
+     * @param priority 수용 제어에 사용할 요청의 우선순위
+     * @return 백엔드 응답. 사용 가능한 서버가 없으면 503, 모든 시도가 연결 오류로 실패하거나 응답을 읽지 못하면 502.
+     * @throws com.example.road.exception.DispatchRejectedException 수용 제어로 거절된 경우
+     */
+    public Mono<ResponseEntity<byte[]>> forward(String pool, HttpMethod method, String pathAndQuery, HttpHeaders headers, byte[] body,
+                                                DispatchPriority priority) {
+        DispatchAdmissionService.Permit admission = dispatchAdmissionService.admit(priority);
+        ProxyRequest request = new ProxyRequest(pool, method, pathAndQuery, withoutHopByHop(headers), body, admission);
+        RetryBudget budget = currentBudget();
+        budget.deposit();
+
+        Set<Long> triedServerIds = ConcurrentHashMap.newKeySet();
+        boolean idempotent = IDEMPOTENT_METHODS.contains(method);
+        Mono<ResponseEntity<byte[]>> call = idempotent && proxyProperties.getHedging().isEnabled()
+                ? hedged(request, triedServerIds, budget)
+                : attempt(request, triedServerIds);
+        if (idempotent && proxyProperties.getMaxAttempts() > 1) {
+            call = call.retryWhen(Retry.max(proxyProperties.getMaxAttempts() - 1)
+                    .filter(error -> isRetryable(error) && budget.tryWithdraw())
+                    .doBeforeRetry(signal -> log.debug("풀 '{}' 요청을 다른 서버로 재시도합니다: {}", pool, signal.failure().toString()))
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        }
+        return call.onErrorResume(error -> toResponse(pool, error))
+                .doFinally(signal -> admission.close()); // 서버를 고르기 전에 끝나거나 취소된 경우에도 허가를 반납합니다.
+    }
+
+    // 첫 시도가 p95 응답 시간 안에 끝나지 않으면 다른 서버로 사본을 보내고, 먼저 응답한 쪽을 사용합니다 (나머지는 취소).
+    private Mono<ResponseEntity<byte[]>> hedged(ProxyRequest request, Set<Long> triedServerIds, RetryBudget budget) {
+        LatencyTracker tracker = trackerFor(request.pool());
+        if (tracker.getSampleCount() < proxyProperties.getHedging().getMinSamples()) {
+            return attempt(request, triedServerIds);
+        }
+        Duration delay = Duration.ofMillis(Math.max(tracker.p95Millis(), proxyProperties.getHedging().getMinDelayMs()));
+        Mono<ResponseEntity<byte[]>> hedge = Mono.delay(delay)
+                .flatMap(tick -> budget.tryWithdraw() ? attempt(request, triedServerIds) : Mono.empty());
+        return Mono.firstWithValue(attempt(request, triedServerIds), hedge)
+                .onErrorMap(NoSuchElementException.class, ProxyService::firstUnderlyingFailure);
+    }
+
+    // 아직 시도하지 않은 서버를 골라 요청을 한 번 보냅니다. 구독할 때마다 새 서버를 고릅니다.
+    // 수용 허가는 서버 선택 대기만 제한하므로 첫 선택이 끝나면 반납합니다 (이후 선택에서는 아무 일도 하지 않습니다).
+    private Mono<ResponseEntity<byte[]>> attempt(ProxyRequest request, Set<Long> triedServerIds) {
+        return Mono.fromCallable(() -> {
+                    try {
+                        return serverLoadBalancer.getNextServerExcluding(request.pool(), triedServerIds);
+                    } finally {
+                        request.admission().close();
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic()) // 풀이 비어 있으면 선택이 타임아웃까지 대기하므로 이벤트 루프 밖에서 실행합니다.
+                .flatMap(selected -> selected
+                        .map(server -> send(server, request, triedServerIds))
+                        .orElseGet(() -> Mono.error(new NoAvailableServerException())));
+    }
+
+    private Mono<ResponseEntity<byte[]>> send(ServerInstance server, ProxyRequest request, Set<Long> triedServerIds) {
+        triedServerIds.add(server.getId());
+        long startedAt = System.nanoTime();
+        AtomicBoolean recorded = new AtomicBoolean(); // 서킷 브레이커에 결과를 기록했는지 여부
+        serverDrainRegistry.onRequestStarted(server.getId());
+        return proxyWebClient.method(request.method())
+                .uri(URI.create(stripTrailingSlash(server.getUrl()) + request.pathAndQuery()))
+                .headers(headers -> headers.addAll(request.headers()))
+                .body(request.body() != null ? BodyInserters.fromValue(request.body()) : BodyInserters.empty())
+                .exchangeToMono(response -> response.toEntity(byte[].class))
+                .flatMap(entity -> {
+                    boolean success = !entity.getStatusCode().is5xxServerError();
+                    recorded.set(true);
+                    circuitBreakerRegistry.record(server.getId(), success);
+                    serverLoadBalancer.notifyStrategies(server, success, System.nanoTime() - startedAt);
+                    ResponseEntity<byte[]> forwarded = new ResponseEntity<>(entity.getBody(), withoutHopByHop(entity.getHeaders()), entity.getStatusCode());
+                    if (!success) {
+                        return Mono.error(new BackendStatusException(forwarded));
+                    }
+                    trackerFor(request.pool()).record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                    return Mono.just(forwarded);
+                })
+                .doOnError(error -> {
+                    if (isResponseReadFailure(error)) {
+                        // 백엔드는 응답했지만 road가 본문을 읽지 못한 경우이므로 서버 실패로 기록하지 않고, 시험 요청 허용만 반납합니다.
+                        recorded.set(true);
+                        circuitBreakerRegistry.releasePermission(server.getId());
+                        log.warn("서버 {} ({})의 응답을 읽지 못했습니다: {}", server.getName(), server.getUrl(), error.getMessage());
+                    } else if (!(error instanceof BackendStatusException)) {
+                        recorded.set(true);
+                        circuitBreakerRegistry.record(server.getId(), false);
+                        serverLoadBalancer.notifyStrategies(server, false, System.nanoTime() - startedAt);
+                        log.warn("서버 {} ({})로 요청 전달 실패: {}", server.getName(), server.getUrl(), error.getMessage());
+                    }
+                })
+                .doFinally(signal -> {
+                    serverDrainRegistry.onRequestFinished(server.getId()); // 헤징에서 진 요청의 취소도 포함합니다.
+                    if (signal == SignalType.CANCEL && !recorded.get()) {
+                        // 결과 없이 취소된 요청(헤징에서 진 요청)은 HALF_OPEN 시험 요청 허용을 반납합니다.
+                        circuitBreakerRegistry.releasePermission(server.getId());
+                    }
+                });
+    }
+
+    private Mono<ResponseEntity<byte[]>> toResponse(String pool, Throwable error) {
+        if (error instanceof BackendStatusException backendStatus) {
+            return Mono.just(backendStatus.response);
+        }
+        if (error instanceof NoAvailableServerException) {
+            log.warn("풀 '{}'에 요청을 전달할 서버가 없습니다. HTTP 503 Service Unavailable 응답을 반환합니다.", pool);
+            return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+        if (isResponseReadFailure(error)) {
+            log.warn("풀 '{}'의 백엔드 응답을 읽지 못했습니다 (최대 크기: {}바이트). HTTP 502 Bad Gateway 응답을 반환합니다: {}",
+                    pool, proxyProperties.getMaxResponseBytes(), error.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+        }
+        if (error instanceof RuntimeException && !isRetryable(error)) {
+            return Mono.error(error); // PoolNotFoundException 등은 GlobalExceptionHandler가 처리합니다.
+        }
+        log.warn("풀 '{}' 요청 전달에 실패했습니다. HTTP 502 Bad Gateway 응답을 반환합니다: {}", pool, error.getMessage());
+        return Mono.just(ResponseEntity.status(HttpStatus.BAD_GATEWAY).build());
+    }
+
+    // 다른 서버로 다시 보낼 만한 실패인지 판단합니다 (5xx 응답, 연결 오류, 타임아웃).
+    private static boolean isRetryable(Throwable error) {
+        return error instanceof BackendStatusException
+                || error instanceof org.springframework.web.reactive.function.client.WebClientRequestException
+                || error instanceof java.util.concurrent.TimeoutException;
+    }
+
+    // road 쪽 코덱이 백엔드 응답을 읽지 못한 실패인지 판단합니다 (응답 본문이 버퍼 한도를 넘었거나 디코딩에 실패한 경우).
+    private static boolean isResponseReadFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataBufferLimitException || cause instanceof CodecException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RetryBudget currentBudget() {
+        int nodeCount = clusterCoordinator.getLiveNodeCount();
+        RetryBudget budget = retryBudget;
+        if (budget == null || nodeCount != budgetNodeCount) {
+            synchronized (this) {
+                if (retryBudget == null || nodeCount != budgetNodeCount) {
+                    ProxyProperties.Budget settings = proxyProperties.getRetryBudget();
+                    int minPerSecondPerNode = (int) Math.ceil((double) settings.getMinPerSecond() / nodeCount);
+                    retryBudget = new RetryBudget(settings.getRatio(), minPerSecondPerNode, settings.getMaxBalance());
+                    budgetNodeCount = nodeCount;
+                    log.info("재시도 예산을 설정했습니다. 비율: {}, 노드당 최소 초당 허용량: {} (노드 수: {})", settings.getRatio(), minPerSecondPerNode, nodeCount);
+                }
+                budget = retryBudget;
+            }
+        }
+        return budget;
+    }
+
+    private LatencyTracker trackerFor(String pool) {
+        return latencyByPool.computeIfAbsent(pool, name -> new LatencyTracker(proxyProperties.getLatencyWindow(), 1000));
+    }
+
+    private static HttpHeaders withoutHopByHop(HttpHeaders source) {
+        HttpHeaders filtered = new HttpHeaders();
+        source.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase())) {
+                filtered.addAll(name, values);
+            }
+        });
+        return filtered;
+    }
+
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // Mono.firstWithValue가 모든 시도 실패 시 감싸서 던지는 예외에서 첫 번째 원래 실패를 꺼냅니다.
+    private static Throwable firstUnderlyingFailure(NoSuchElementException error) {
+        if (error.getCause() == null) {
+            return error;
+        }
+        List<Throwable> failures = Exceptions.unwrapMultiple(error.getCause());
+        return failures.isEmpty() ? error : failures.get(0);
+    }
+
+    private record ProxyRequest(String pool, HttpMethod method, String pathAndQuery, HttpHeaders headers, byte[] body,
+                                DispatchAdmissionService.Permit admission) {
+    }
+
+    // 백엔드가 5xx로 응답한 경우. 재시도가 모두 실패하면 마지막 응답을 그대로 전달합니다.
+    private static class BackendStatusException extends RuntimeException {
+        private final transient ResponseEntity<byte[]> response;
+
+        BackendStatusException(ResponseEntity<byte[]> response) {
+            super("백엔드 응답 상태 " + response.getStatusCode().value(), null, false, false);
+            this.response = response;
+        }
+    }
+
+    // 시도하지 않은 사용 가능한 서버가 없는 경우
+    private static class NoAvailableServerException extends RuntimeException {
+        NoAvailableServerException() {
+            super("사용 가능한 서버가 없습니다.", null, false, false);
+        }
+    }
+}
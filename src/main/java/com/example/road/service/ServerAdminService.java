@@ -1,38 +1,58 @@
 package com.example.road.service;
 
+import com.example.road.config.DrainProperties;
+import com.example.road.data.DrainAction;
+import com.example.road.data.DrainStatus;
 import com.example.road.data.ServerInstance;
 import com.example.road.exception.DuplicateServerException;
+import com.example.road.exception.InvalidRequestException;
 import com.example.road.exception.ServerNotFoundException;
-import com.example.road.mapper.ServerMapper;
+import com.example.road.repository.ServerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 import jakarta.annotation.PostConstruct;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * 서버 인스턴스 관리와 관련된 비즈니스 로직을 처리하는 서비스입니다.
  * 서버 추가, 조회, 수정, 삭제 기능을 제공하며, 변경 사항 발생 시 로드 밸런서 새로고침을 트리거합니다.
+ * 진행 중인 요청을 끊지 않도록 서버를 드레이닝한 뒤 삭제하거나 비활성화하는 기능도 제공합니다 ({@link ServerDrainRegistry}).
+ * 서버 목록은 {@link ServerRepository}를 통해 접근하며, 저장소 구현({@code road.registry.repository})과 관계없이
+ * 결과를 {@link Mono}/{@link Flux}로 반환하므로 관리 API 요청 스레드가 데이터베이스 응답을 기다리지 않습니다.
+ * 서버 목록을 바꾸면 {@link ServerRegistryVersion}을 올려 조건부 조회가 새 목록을 받도록 합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ServerAdminService {
 
-    private final ServerMapper serverMapper;
+    private final ServerRepository serverRepository;
     private final WebClient webClient; // WebClient 주입
+    private final DashboardEventService dashboardEventService; // 대시보드 변경 이벤트 발행
+    private final ServerDrainRegistry serverDrainRegistry; // 서버 드레이닝 상태
+    private final DrainProperties drainProperties;
+    private final ServerRegistryVersion serverRegistryVersion; // 관리 API 조건부 조회용 서버 목록 버전
     private String refreshEndpointUrl; // 로드 밸런서 새로고침을 위한 내부 API 엔드포인트 URL
 
+    // 한 호스트에서 여러 레플리카를 실행할 수 있도록 자신의 포트로 새로고침을 요청합니다.
+    @Value("${server.port:8080}")
+    private int serverPort;
+
     /**
      * 서비스 초기화 시 로드 밸런서 새로고침 엔드포인트 URL을 설정합니다.
-     * (현재 로컬 개발 환경을 가정하고 하드코딩되어 있으며, 운영 환경에서는 외부 설정으로 관리하는 것이 좋습니다.)
+     * (현재 로컬 개발 환경을 가정하고 호스트가 하드코딩되어 있으며, 운영 환경에서는 외부 설정으로 관리하는 것이 좋습니다.)
      */
     @PostConstruct
     public void init() {
-        this.refreshEndpointUrl = "http://localhost:8080/api/admin/servers/refresh";
+        this.refreshEndpointUrl = "http://localhost:" + serverPort + "/api/admin/servers/refresh";
         log.info("서버 새로고침 엔드포인트 URL 설정됨: {}", refreshEndpointUrl);
     }
 
@@ -40,9 +60,9 @@ public class ServerAdminService {
      * 모든 서버 인스턴스 목록을 조회합니다.
      * @return 모든 서버 인스턴스 목록
      */
-    public List<ServerInstance> getAllServers() {
+    public Flux<ServerInstance> getAllServers() {
         log.debug("모든 서버 목록을 조회합니다.");
-        return serverMapper.findAllServers();
+        return serverRepository.findAll();
     }
 
     /**
@@ -52,16 +72,15 @@ public class ServerAdminService {
      * @return 추가된 서버 인스턴스
      * @throws DuplicateServerException 이미 존재하는 서버 URL인 경우
      */
-    @Transactional
-    public ServerInstance addServer(ServerInstance server) {
+    public Mono<ServerInstance> addServer(ServerInstance server) {
         log.info("새로운 서버를 추가합니다: {}", server);
-
-
-
-        serverMapper.insertServer(server);
-        refreshServers(); // 서버 변경 후 새로고침 엔드포인트 호출
-        log.info("서버 추가 후 새로고침 엔드포인트를 호출했습니다.");
-        return server;
+        return serverRepository.insert(server)
+                .doOnNext(added -> {
+                    serverRegistryVersion.increment();
+                    dashboardEventService.serverUpserted(added);
+                    refreshPools(added.getPool()); // 서버 변경 후 해당 풀의 새로고침 엔드포인트 호출
+                    log.info("서버 추가 후 새로고침 엔드포인트를 호출했습니다.");
+                });
     }
 
     /**
@@ -72,50 +91,141 @@ public class ServerAdminService {
      * @throws DuplicateServerException 이미 존재하는 서버 URL인 경우 (자신을 제외)
      * @throws ServerNotFoundException 해당 ID의 서버를 찾을 수 없는 경우
      */
-    @Transactional
-    public ServerInstance updateServer(ServerInstance server) {
+    public Mono<ServerInstance> updateServer(ServerInstance server) {
         log.info("서버 정보를 업데이트합니다: {}", server);
 
-
-
-        int updatedRows = serverMapper.updateServer(server);
-        if (updatedRows == 0) {
-            throw new ServerNotFoundException("ID가 " + server.getId() + "인 서버를 찾을 수 없습니다.");
-        }
-        refreshServers(); // 서버 변경 후 새로고침 엔드포인트 호출
-        log.info("서버 업데이트 후 새로고침 엔드포인트를 호출했습니다.");
-        return server;
+        // 다른 풀로 옮겨지는 경우 이전 풀에서도 서버를 빼야 하므로 기존 풀을 먼저 확인합니다.
+        return serverRepository.findById(server.getId())
+                .map(ServerInstance::getPool)
+                .defaultIfEmpty(server.getPool())
+                .flatMap(previousPool -> serverRepository.update(server)
+                        .flatMap(updatedRows -> {
+                            if (updatedRows == 0) {
+                                return Mono.error(new ServerNotFoundException("ID가 " + server.getId() + "인 서버를 찾을 수 없습니다."));
+                            }
+                            serverRegistryVersion.increment();
+                            dashboardEventService.serverUpserted(server);
+                            refreshPools(previousPool, server.getPool()); // 서버 변경 후 관련 풀의 새로고침 엔드포인트 호출
+                            log.info("서버 업데이트 후 새로고침 엔드포인트를 호출했습니다.");
+                            return Mono.just(server);
+                        }));
     }
 
     /**
      * 특정 ID의 서버 인스턴스를 삭제합니다.
      * 삭제 성공 시 로드 밸런서 새로고침을 트리거합니다.
      * @param id 삭제할 서버의 ID
-     * @throws ServerNotFoundException 해당 ID의 서버를 찾을 수 없는 경우
+     * @return 삭제가 끝나면 완료되는 Mono
+     * @throws ServerNotFoundException 해당 ID의 서버를 찾을 수 없는 경우 (Mono 오류로 전달)
      */
-    @Transactional
-    public void deleteServer(Long id) {
+    public Mono<Void> deleteServer(Long id) {
         log.info("서버를 삭제합니다: ID={}", id);
-        int deletedRows = serverMapper.deleteServer(id);
-        if (deletedRows == 0) {
-            throw new ServerNotFoundException("ID가 " + id + "인 서버를 찾을 수 없습니다.");
+        return findExisting(id)
+                .flatMap(existing -> serverRepository.deleteById(id)
+                        .flatMap(deletedRows -> {
+                            if (deletedRows == 0) {
+                                return Mono.error(new ServerNotFoundException("ID가 " + id + "인 서버를 찾을 수 없습니다."));
+                            }
+                            serverRegistryVersion.increment();
+                            dashboardEventService.serverDeleted(id);
+                            refreshPools(existing.getPool()); // 서버 변경 후 해당 풀의 새로고침 엔드포인트 호출
+                            log.info("서버 삭제 후 새로고침 엔드포인트를 호출했습니다.");
+                            return Mono.<Void>empty();
+                        }));
+    }
+
+    /**
+     * 서버의 드레이닝을 시작합니다. 드레이닝 중인 서버는 새 요청을 받지 않으며, 진행 중인 요청이 끝나거나 타임아웃이 지나면
+     * {@code action}에 따라 삭제되거나 비활성화됩니다. 이미 드레이닝 중이면 기존 드레이닝을 그대로 반환합니다.
+     * 스냅샷 피드에서도 바로 빠지도록 해당 풀을 새로고침합니다.
+     * @param id 드레이닝할 서버의 ID
+     * @param action 드레이닝이 끝나면 적용할 작업
+     * @param timeoutMs 드레이닝 타임아웃 (밀리초). null이면 {@code road.drain.timeout-ms}.
+     * @return 드레이닝 진행 상황
+     * @throws ServerNotFoundException 해당 ID의 서버를 찾을 수 없는 경우 (Mono 오류로 전달)
+     * @throws InvalidRequestException 타임아웃이 0 이하이거나, 이미 비활성화된 서버를 비활성화하려는 경우 (Mono 오류로 전달)
+     */
+    public Mono<DrainStatus> drainServer(Long id, DrainAction action, Long timeoutMs) {
+        return findExisting(id).map(server -> {
+            if (timeoutMs != null && timeoutMs <= 0) {
+                throw new InvalidRequestException("timeoutMs는 0보다 커야 합니다: " + timeoutMs);
+            }
+            if (action == DrainAction.DEACTIVATE && !server.isActive()) {
+                throw new InvalidRequestException("ID가 " + id + "인 서버는 이미 비활성화되어 있습니다.");
+            }
+            DrainStatus status = serverDrainRegistry.start(server, action, timeoutMs != null ? timeoutMs : drainProperties.getTimeoutMs());
+            refreshPools(server.getPool());
+            return status;
+        });
+    }
+
+    /**
+     * 아직 작업을 적용하지 않은 드레이닝을 취소하여 서버가 다시 요청을 받도록 합니다.
+     * @param id 서버 ID
+     * @throws ServerNotFoundException 드레이닝 중인 서버가 아니거나 이미 작업을 적용한 경우
+     */
+    public void cancelDrain(Long id) {
+        DrainStatus cancelled = serverDrainRegistry.cancel(id)
+                .orElseThrow(() -> new ServerNotFoundException("ID가 " + id + "인 서버는 드레이닝 중이 아닙니다."));
+        refreshPools(cancelled.getPool());
+    }
+
+    /**
+     * 현재 모든 드레이닝의 진행 상황을 반환합니다.
+     */
+    public List<DrainStatus> getDrainStatuses() {
+        return serverDrainRegistry.getDrainStatuses();
+    }
+
+    /**
+     * 끝난 드레이닝의 작업(삭제 또는 비활성화)을 적용합니다.
+     * 스케줄러 스레드에서 실행되므로 작업이 끝날 때까지 기다린 뒤 다음 드레이닝을 처리합니다.
+     * 작업이 실패한 드레이닝(저장소 오류 등)은 나머지 드레이닝의 처리를 막지 않으며, 완료 전 상태로 되돌려 다음 주기에 다시 적용합니다.
+     */
+    @Scheduled(initialDelayString = "${road.drain.check-interval-ms:500}", fixedDelayString = "${road.drain.check-interval-ms:500}")
+    public void completeDrains() {
+        for (DrainStatus drain : serverDrainRegistry.takeFinished()) {
+            try {
+                switch (drain.getAction()) {
+                    case DELETE -> deleteServer(drain.getServerId()).block();
+                    case DEACTIVATE -> deactivateServer(drain.getServerId()).block();
+                }
+            } catch (ServerNotFoundException e) {
+                log.warn("드레이닝이 끝난 서버 {}가 이미 삭제되어 작업을 적용하지 않습니다.", drain.getServerId());
+                serverDrainRegistry.remove(drain.getServerId());
+            } catch (RuntimeException e) {
+                log.error("드레이닝이 끝난 서버 {}에 작업({})을 적용하지 못했습니다. 다음 주기에 다시 시도합니다: {}",
+                        drain.getServerId(), drain.getAction(), e.getMessage(), e);
+                serverDrainRegistry.retry(drain.getServerId());
+            }
         }
-        refreshServers(); // 서버 변경 후 새로고침 엔드포인트 호출
-        log.info("서버 삭제 후 새로고침 엔드포인트를 호출했습니다.");
+    }
+
+    private Mono<ServerInstance> deactivateServer(Long id) {
+        return findExisting(id).flatMap(server -> {
+            server.setActive(false);
+            return updateServer(server);
+        });
+    }
+
+    private Mono<ServerInstance> findExisting(Long id) {
+        return serverRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ServerNotFoundException("ID가 " + id + "인 서버를 찾을 수 없습니다.")));
     }
 
     /**
-     * 로드 밸런서의 서버 목록을 새로고침하기 위해 내부 API 엔드포인트를 호출합니다.
-     * WebClient를 사용하여 비동기적으로 POST 요청을 보냅니다.
+     * 변경된 풀의 로드 밸런서만 새로고침하기 위해 내부 API 엔드포인트를 호출합니다.
+     * WebClient를 사용하여 비동기적으로 풀마다 POST 요청을 보내며, 다른 풀은 새로고침하지 않습니다.
+     * @param pools 새로고침할 풀 이름 (중복은 한 번만 호출)
      */
-    private void refreshServers() {
-        webClient.post()
-                .uri(refreshEndpointUrl)
+    private void refreshPools(String... pools) {
+        Arrays.stream(pools).distinct().forEach(pool -> webClient.post()
+                .uri(refreshEndpointUrl + "?pool={pool}", pool)
                 .retrieve()
                 .toBodilessEntity()
                 .subscribe(
-                        response -> log.debug("로드 밸런서 새로고침 엔드포인트 호출 성공: {}", response.getStatusCode()),
-                        error -> log.error("로드 밸런서 새로고침 엔드포인트 호출 실패: {}", error.getMessage())
-                );
+                        response -> log.debug("풀 '{}' 로드 밸런서 새로고침 엔드포인트 호출 성공: {}", pool, response.getStatusCode()),
+                        error -> log.error("풀 '{}' 로드 밸런서 새로고침 엔드포인트 호출 실패: {}", pool, error.getMessage())
+                ));
     }
 }
\ No newline at end of file
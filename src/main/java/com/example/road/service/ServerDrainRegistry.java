@@ -0,0 +1,302 @@
+package com.example.road.service;
+
+import com.example.road.config.DrainProperties;
+import com.example.road.data.DrainAction;
+import com.example.road.data.DrainStatus;
+import com.example.road.data.ServerInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * 서버별 진행 중인 작업(프록시 요청, 디스패치 임대)과 드레이닝 상태를 관리하는 서비스입니다.
+ *
+ * <p>드레이닝 중인 서버는 선택 시점에 제외되어 새 요청을 받지 않습니다. 이 노드가 프록시 중인 요청이 모두 끝나고,
+ * 디스패치 임대가 모두 결과 보고로 반납되었거나 유효 시간({@code lease-ttl-ms})이 지나 만료되면 드레이닝이 끝난 것으로 봅니다.
+ * 임대는 서버마다 시간 구간별 임대 수를 담은 고정 크기 링에 기록하므로, 결과를 보고하지 않은 임대가 쌓여도 메모리가 늘지 않고
+ * 각 임대는 자신이 속한 구간 기준으로 유효 시간이 지나면(구간 폭 {@code lease-ttl-ms}/{@value #LEASE_BUCKETS} 이내의 오차로) 집계에서 빠집니다.
+ * 그 전에 타임아웃이 지나도 끝난 것으로 보며, 끝난 드레이닝의 작업(삭제 또는 비활성화)은 {@link ServerAdminService}가 적용합니다.
+ * 작업을 적용한 뒤에도 로드 밸런서가 새로고침되어 서버가 빠질 때까지는 계속 선택에서 제외합니다.</p>
+ *
+ * <p>임대와 요청 수 집계는 선택 경로에서 호출되므로 원자 변수만 사용합니다. 드레이닝 상태는 이 노드에만 있으며 재시작하면 사라집니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ServerDrainRegistry {
+
+    // 임대 유효 시간을 나누는 구간 수. 링은 현재 구간까지 포함하도록 한 칸 더 둡니다.
+    static final int LEASE_BUCKETS = 10;
+    private static final int LEASE_SLOTS = LEASE_BUCKETS + 1;
+    // 링의 한 칸(long)에 구간 번호(상위 비트)와 임대 수(하위 COUNT_BITS 비트)를 함께 담아 CAS 한 번으로 갱신합니다.
+    private static final int COUNT_BITS = 24;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final DrainProperties drainProperties;
+
+    // 임대 구간 번호의 기준 시각 (System.nanoTime). 구간 번호가 음수가 되지 않도록 생성 시각을 사용합니다.
+    private final long leaseOriginNanos = System.nanoTime();
+
+    // key: serverId, value: 서버의 진행 중인 작업 수
+    private final Map<Long, Activity> activities = new ConcurrentHashMap<>();
+    // key: serverId, value: 드레이닝 상태
+    private final Map<Long, Drain> drains = new ConcurrentHashMap<>();
+
+    /**
+     * 서버가 드레이닝 중인지(작업 적용 후 제거 대기 포함) 확인합니다. 선택 경로에서 호출됩니다.
+     * @param serverId 서버 ID
+     * @return 드레이닝 중이면 true
+     */
+    public boolean isDraining(Long serverId) {
+        return !drains.isEmpty() && drains.containsKey(serverId);
+    }
+
+    /**
+     * 디스패치로 서버를 임대했음을 기록합니다.
+     * @param serverId 서버 ID
+     */
+    public void onLeased(Long serverId) {
+        onLeased(serverId, System.nanoTime());
+    }
+
+    void onLeased(Long serverId, long nowNanos) {
+        Activity activity = activities.computeIfAbsent(serverId, id -> new Activity());
+        long bucket = leaseBucketOf(nowNanos);
+        int index = (int) (bucket % LEASE_SLOTS);
+        while (true) {
+            long slot = activity.leases.get(index);
+            long next;
+            if (slot >>> COUNT_BITS == bucket) {
+                if ((slot & COUNT_MASK) == COUNT_MASK) {
+                    return; // 한 구간의 임대 수가 표현 범위를 넘으면 더 세지 않습니다.
+                }
+                next = slot + 1;
+            } else {
+                next = (bucket << COUNT_BITS) | 1; // 만료된 구간의 칸을 현재 구간으로 재사용합니다.
+            }
+            if (activity.leases.compareAndSet(index, slot, next)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 결과 보고로 디스패치 임대가 반납되었음을 기록합니다.
+     * 어느 임대가 반납되었는지는 알 수 없으므로 가장 최근 구간의 임대를 하나 줄입니다. 결과 보고는 대개 선택 직후에 오므로,
+     * 보고가 빠진 오래된 임대는 반납에 가려지지 않고 유효 시간이 지나면 만료됩니다.
+     * @param serverId 서버 ID
+     */
+    public void onLeaseReturned(Long serverId) {
+        onLeaseReturned(serverId, System.nanoTime());
+    }
+
+    void onLeaseReturned(Long serverId, long nowNanos) {
+        Activity activity = activities.get(serverId);
+        if (activity == null) {
+            return;
+        }
+        long current = leaseBucketOf(nowNanos);
+        for (long bucket = current; bucket >= Math.max(0, current - LEASE_BUCKETS); bucket--) {
+            int index = (int) (bucket % LEASE_SLOTS);
+            while (true) {
+                long slot = activity.leases.get(index);
+                if (slot >>> COUNT_BITS != bucket || (slot & COUNT_MASK) == 0) {
+                    break;
+                }
+                if (activity.leases.compareAndSet(index, slot, slot - 1)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 서버로 프록시 요청을 보내기 시작했음을 기록합니다. 요청이 끝나면 반드시 {@link #onRequestFinished(Long)}를 호출해야 합니다.
+     * @param serverId 서버 ID
+     */
+    public void onRequestStarted(Long serverId) {
+        activities.computeIfAbsent(serverId, id -> new Activity()).inFlight.incrementAndGet();
+    }
+
+    /**
+     * 서버로 보낸 프록시 요청이 끝났음을(성공, 실패, 취소) 기록합니다.
+     * @param serverId 서버 ID
+     */
+    public void onRequestFinished(Long serverId) {
+        Activity activity = activities.get(serverId);
+        if (activity != null) {
+            activity.inFlight.updateAndGet(count -> Math.max(0, count - 1));
+        }
+    }
+
+    /**
+     * 서버의 드레이닝을 시작합니다. 이미 드레이닝 중이면 기존 드레이닝을 그대로 유지합니다.
+     * @param server 드레이닝할 서버
+     * @param action 드레이닝이 끝나면 적용할 작업
+     * @param timeoutMs 드레이닝 타임아웃 (밀리초)
+     * @return 드레이닝 진행 상황
+     */
+    public DrainStatus start(ServerInstance server, DrainAction action, long timeoutMs) {
+        Drain drain = drains.computeIfAbsent(server.getId(), id -> {
+            log.info("서버 {} ({})의 드레이닝을 시작합니다. 완료 후 작업: {}, 타임아웃: {}ms", server.getName(), server.getUrl(), action, timeoutMs);
+            return new Drain(server, action, System.currentTimeMillis(), System.nanoTime(), TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+        });
+        return drain.toStatus(System.nanoTime());
+    }
+
+    /**
+     * 아직 작업을 적용하지 않은 드레이닝을 취소하여 서버가 다시 선택되도록 합니다.
+     * @param serverId 서버 ID
+     * @return 취소된 드레이닝. 드레이닝 중이 아니거나 이미 작업을 적용했으면 빈 Optional.
+     */
+    public Optional<DrainStatus> cancel(Long serverId) {
+        Drain drain = drains.get(serverId);
+        if (drain == null || !drain.settled.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        drains.remove(serverId, drain);
+        log.info("서버 {}의 드레이닝을 취소했습니다.", serverId);
+        return Optional.of(drain.toStatus(System.nanoTime()));
+    }
+
+    /**
+     * 진행 중인 작업이 모두 끝났거나 타임아웃이 지난 드레이닝을 완료 처리하고 반환합니다.
+     * 반환된 드레이닝은 로드 밸런서에서 제거될 때까지 선택에서 계속 제외됩니다.
+     * @return 작업을 적용해야 하는 드레이닝 목록
+     */
+    public List<DrainStatus> takeFinished() {
+        return takeFinished(System.nanoTime());
+    }
+
+    List<DrainStatus> takeFinished(long nowNanos) {
+        List<DrainStatus> finished = new ArrayList<>();
+        for (Drain drain : drains.values()) {
+            if (drain.settled.get()) {
+                continue;
+            }
+            boolean timedOut = nowNanos - drain.startedAtNanos >= drain.timeoutNanos;
+            if ((timedOut || isIdle(drain.server.getId(), nowNanos)) && drain.settled.compareAndSet(false, true)) {
+                drain.timedOut = timedOut && !isIdle(drain.server.getId(), nowNanos);
+                DrainStatus status = drain.toStatus(nowNanos);
+                if (drain.timedOut) {
+                    log.warn("서버 {}의 드레이닝이 타임아웃으로 끝났습니다. 남은 프록시 요청: {}, 남은 임대: {}",
+                            drain.server.getName(), status.getInFlightRequests(), status.getOutstandingLeases());
+                } else {
+                    log.info("서버 {}의 드레이닝이 끝났습니다. 경과 시간: {}ms", drain.server.getName(),
+                            TimeUnit.NANOSECONDS.toMillis(nowNanos - drain.startedAtNanos));
+                }
+                finished.add(status);
+            }
+        }
+        return finished;
+    }
+
+    /**
+     * 작업을 적용하지 못한 드레이닝을 완료 전 상태로 되돌려 다음 {@link #takeFinished()}에서 다시 반환되게 합니다.
+     * 그동안에도 서버는 선택에서 제외되며, 드레이닝을 취소할 수 있습니다.
+     * @param serverId 서버 ID
+     */
+    public void retry(Long serverId) {
+        Drain drain = drains.get(serverId);
+        if (drain != null) {
+            drain.settled.set(false);
+        }
+    }
+
+    /**
+     * 현재 모든 드레이닝의 진행 상황을 시작 순으로 반환합니다.
+     */
+    public List<DrainStatus> getDrainStatuses() {
+        long now = System.nanoTime();
+        return drains.values().stream()
+                .sorted(Comparator.comparingLong(drain -> drain.startedAtNanos))
+                .map(drain -> drain.toStatus(now))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 작업을 적용한 드레이닝을 제거합니다. 비활성화된 서버가 로드 밸런서에서 빠진 뒤 호출됩니다.
+     * 아직 진행 중인 드레이닝은 유지합니다.
+     * @param serverId 서버 ID
+     */
+    public void releaseSettled(Long serverId) {
+        drains.computeIfPresent(serverId, (id, drain) -> drain.settled.get() ? null : drain);
+    }
+
+    /**
+     * 서버의 드레이닝 상태와 작업 집계를 제거합니다. 서버가 헬스 추적 대상에서 빠질 때 호출됩니다.
+     * @param serverId 서버 ID
+     */
+    public void remove(Long serverId) {
+        drains.remove(serverId);
+        activities.remove(serverId);
+    }
+
+    private boolean isIdle(Long serverId, long nowNanos) {
+        Activity activity = activities.get(serverId);
+        return activity == null || (activity.inFlight.get() == 0 && activeLeases(activity, nowNanos) == 0);
+    }
+
+    // 만료되지 않은 구간의 임대 수를 합합니다. 임대는 자신이 속한 구간이 끝난 뒤 LEASE_BUCKETS개 구간(lease-ttl-ms 이상)이 지나면 만료됩니다.
+    private int activeLeases(Activity activity, long nowNanos) {
+        long current = leaseBucketOf(nowNanos);
+        int leases = 0;
+        for (int index = 0; index < LEASE_SLOTS; index++) {
+            long slot = activity.leases.get(index);
+            if (current - (slot >>> COUNT_BITS) <= LEASE_BUCKETS) {
+                leases += (int) (slot & COUNT_MASK);
+            }
+        }
+        return leases;
+    }
+
+    private long leaseBucketOf(long nowNanos) {
+        long bucketNanos = Math.max(1L, TimeUnit.MILLISECONDS.toNanos(drainProperties.getLeaseTtlMs()) / LEASE_BUCKETS);
+        return Math.max(0L, nowNanos - leaseOriginNanos) / bucketNanos;
+    }
+
+    private static final class Activity {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        // 시간 구간별 임대 수 링. 칸마다 (구간 번호 << COUNT_BITS) | 임대 수를 담습니다.
+        private final AtomicLongArray leases = new AtomicLongArray(LEASE_SLOTS);
+    }
+
+    private final class Drain {
+        private final ServerInstance server;
+        private final DrainAction action;
+        private final long startedAtMillis;
+        private final long startedAtNanos;
+        private final long timeoutNanos;
+        // 작업을 적용하기로 했거나 취소되었는지 여부 (한 번만 바뀝니다)
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private volatile boolean timedOut;
+
+        private Drain(ServerInstance server, DrainAction action, long startedAtMillis, long startedAtNanos, long timeoutNanos) {
+            this.server = server;
+            this.action = action;
+            this.startedAtMillis = startedAtMillis;
+            this.startedAtNanos = startedAtNanos;
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        private DrainStatus toStatus(long nowNanos) {
+            Activity activity = activities.get(server.getId());
+            int inFlight = activity != null ? activity.inFlight.get() : 0;
+            int leases = activity != null ? activeLeases(activity, nowNanos) : 0;
+            return new DrainStatus(server.getId(), server.getName(), server.getPool(), action, startedAtMillis,
+                    startedAtMillis + TimeUnit.NANOSECONDS.toMillis(timeoutNanos), inFlight, leases, settled.get(), timedOut);
+        }
+    }
+}
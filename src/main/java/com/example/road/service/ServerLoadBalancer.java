@@ -1,37 +1,85 @@
 package com.example.road.service;
 
-import com.example.road.common.RoundRobinLoadBalancer;
+import com.example.road.common.HealthStateTable;
+import com.example.road.common.LoadHeadroom;
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.common.SnapshotLoadBalancer;
+import com.example.road.config.LoadReportProperties;
+import com.example.road.config.PoolProperties;
+import com.example.road.config.ZoneRoutingProperties;
+import com.example.road.data.LoadReport;
+import com.example.road.data.PoolStrategyStatus;
+import com.example.road.data.RequestOutcome;
+import com.example.road.data.ServerHealthReport;
 import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerHealthSummary;
 import com.example.road.data.ServerInstance;
-import com.example.road.mapper.ServerMapper;
+import com.example.road.exception.InvalidRequestException;
+import com.example.road.exception.PoolNotFoundException;
+import com.example.road.exception.ServerNotFoundException;
+import com.example.road.repository.ServerRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture; // 추가
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.scheduling.annotation.Async; // 추가
 
 /**
  * 서버 인스턴스에 대한 로드 밸런싱을 담당하는 서비스입니다.
- * 내부적으로 RoundRobinLoadBalancer를 사용하여 로드 밸런싱 로직을 처리합니다.
+ * 서버는 풀(서비스) 단위로 나뉘며, 풀마다 독립된 {@link SnapshotLoadBalancer}가 정상 서버 스냅샷에서 풀의 선택 전략({@link LoadBalancingStrategy})으로 서버를 고릅니다.
+ * 선택 전략은 풀 설정({@code road.pools.<풀 이름>.strategy})으로 정하고, 관리 API로 실행 중에 바꿀 수 있습니다.
+ * 풀 조회는 풀 이름을 키로 하는 맵으로 O(1)이며, 한 풀의 새로고침은 다른 풀의 로드 밸런서에 영향을 주지 않습니다.
+ * 클러스터 모드에서는 이 노드가 담당하는 서버만 직접 헬스 체크하고, 나머지는 담당 노드가 보고한 결과를 사용합니다.
+ * 서버별 헬스 체크 주기는 {@link AdaptiveProbePolicy}가 최근 이력에 맞춰 조정합니다.
+ * 풀마다 영역(zone)별 로드 밸런서를 새로고침 시점에 미리 만들어 두어, 영역 인식 선택도 풀 선택과 같은 비용으로 수행합니다.
+ * 헬스 상태는 서버 ID(long)를 키로 하는 필드별 배열 테이블({@link HealthStateTable})에 제자리에서 기록하므로, 헬스 체크 결과마다 객체를 할당하지 않습니다.
+ * 디스패치로 선택된 서버는 {@link ServerDrainRegistry}에 임대로 기록되며, 드레이닝 중인 서버는 선택하지 않습니다.
+ * 백엔드가 보고한 부하(API 또는 헬스 체크 응답 헤더)도 헬스 상태 테이블에 보고 시각과 함께 기록하며, {@code headroom} 전략이 이를 사용합니다.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ServerLoadBalancer {
 
-    private final ServerMapper serverMapper;
-    private final WebClient webClient;
+    private final ServerRepository serverRepository;
+    private final HealthProbeService healthProbeService;
+    private final ServerSnapshotService serverSnapshotService;
+    private final DashboardEventService dashboardEventService;
+    private final HealthSnapshotStore healthSnapshotStore;
+    private final PoolProperties poolProperties;
+    private final ClusterCoordinator clusterCoordinator;
+    private final ServerRateLimiter serverRateLimiter;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final SlowStartRegistry slowStartRegistry;
+    private final AdaptiveProbePolicy adaptiveProbePolicy;
+    private final ServerDrainRegistry serverDrainRegistry;
+    private final ZoneRoutingProperties zoneRoutingProperties;
+    private final LoadBalancingStrategyRegistry strategyRegistry;
+    private final LoadReportProperties loadReportProperties;
+    private final ServerRegistryVersion serverRegistryVersion;
+    private final Executor healthCheckExecutor; // HealthCheckConfig#healthCheckExecutor
     // application.yml에서 타임아웃 설정을 주입받습니다.
     @Value("${roundrobin.loadbalancer.timeout-seconds:5}") // Default to 5 seconds if not set
     private long loadBalancerTimeoutSeconds;
@@ -39,53 +87,500 @@ public class ServerLoadBalancer {
     @Value("${server.healthcheck.interval-ms:30000}") // Default to 30 seconds
     private long healthCheckIntervalMs;
 
-    private RoundRobinLoadBalancer<ServerInstance> balancer;
+    // 배치 디스패치 한 번에 가져올 수 있는 최대 서버 수
+    @Value("${roundrobin.loadbalancer.max-batch-size:1000}")
+    private int maxBatchSize;
 
-    // 모든 서버 인스턴스의 헬스 상태를 추적하는 맵
-    // key: serverId, value: ServerHealthStatus
-    private final Map<Long, ServerHealthStatus> serverHealthStatuses = new ConcurrentHashMap<>();
+    // 풀 이름별 로드 밸런서
+    // key: pool, value: 해당 풀의 건강한 서버 스냅샷에서 풀의 선택 전략으로 서버를 고르는 로드 밸런서
+    private final Map<String, SnapshotLoadBalancer<ServerInstance>> balancers = new ConcurrentHashMap<>();
+
+    // 관리 API로 바꾼 풀별 선택 전략. 없으면 풀 설정의 전략을 사용합니다.
+    // key: pool, value: 전략 이름
+    private final Map<String, String> strategyOverrides = new ConcurrentHashMap<>();
+
+    // 풀별, 영역별 로드 밸런서와 영역의 정상 서버 비율
+    // key: pool, value: (key: zone, value: ZoneBalancer). 새로고침 시점에 풀 단위로 통째로 교체됩니다.
+    private final Map<String, Map<String, ZoneBalancer>> zoneBalancers = new ConcurrentHashMap<>();
+
+    // 모든 서버 인스턴스의 헬스 상태(정상 여부, 마지막 확인 시각, 헬스 체크 지연 시간과 횟수)를 추적하는 테이블
+    private final HealthStateTable<ServerInstance> healthStates = new HealthStateTable<>(ServerInstance::hasSameInfo);
+
+    // 마지막 저장 이후 헬스 상태가 바뀌었는지 여부 (바뀐 경우에만 스냅샷 파일을 다시 씁니다)
+    private final AtomicBoolean healthStateDirty = new AtomicBoolean(false);
+
+    // 보고된 부하의 여유 용량 계산과 감쇠 모델 (road.load-report.*로 init()에서 만듭니다)
+    private LoadHeadroom loadHeadroom;
+
+    // 적응형 헬스 체크가 진행 중인 서버 ID. 헬스 체크가 끝나기 전에는 같은 서버를 다시 헬스 체크하지 않습니다.
+    private final Set<Long> probesInFlight = ConcurrentHashMap.newKeySet();
+
+    // 기동 후 첫 헬스 체크 주기가 끝났는지 여부. 첫 주기에 처음 확인된 서버는 새로 추가된 서버로 보지 않습니다 (슬로우 스타트 제외).
+    private final AtomicBoolean initialSweepCompleted = new AtomicBoolean(false);
+
+    // 전체/풀 새로고침을 한 번에 하나만 실행하기 위한 락. 기동 시 재검증과 주기적인 새로고침이 겹쳐 헬스 체크를 두 번 보내거나
+    // 영역별 로드 밸런서 교체와 헬스 상태 제거가 서로 엇갈리지 않도록 합니다.
+    private final ReentrantLock sweepLock = new ReentrantLock();
 
     /**
-     * 서비스 초기화 시 RoundRobinLoadBalancer를 생성하고 서버 목록을 로드합니다.
+     * 서비스 초기화 시 기본 풀과 설정된 풀의 로드 밸런서를 생성하고 서버 목록을 로드합니다.
+     * 마지막으로 저장된 헬스 스냅샷이 있으면 이를 먼저 적용하여 즉시 디스패치할 수 있게 하고,
+     * 실제 헬스 체크는 백그라운드에서 수행하여 기동 시간이 서버 수나 백엔드 지연에 영향을 받지 않도록 합니다.
      */
     @PostConstruct
     public void init() {
         log.info("서버 로드 밸런서 초기화를 시작합니다.");
-        // 주입받은 타임아웃 설정을 사용하여 RoundRobinLoadBalancer를 생성합니다.
-        this.balancer = new RoundRobinLoadBalancer<>("ServerInstances", loadBalancerTimeoutSeconds, ServerInstance::isActive, ServerInstance::getId);
-        refreshServers();
-        log.info("서버 로드 밸런서 초기화를 완료했습니다.");
+        loadHeadroom = new LoadHeadroom(loadReportProperties.getPendingScale(), loadReportProperties.getHalfLifeMs(),
+                loadReportProperties.getMaxAgeMs(), loadReportProperties.getNeutralHeadroom());
+        balancerFor(ServerInstance.DEFAULT_POOL);
+        poolProperties.getPools().keySet().forEach(this::balancerFor);
+        restoreFromSnapshot();
+        Thread.ofVirtual().name("warm-start-revalidation").start(() -> {
+            try {
+                refreshServers();
+            } catch (RuntimeException e) {
+                log.error("기동 시 백그라운드 헬스 체크에 실패했습니다: {}", e.getMessage(), e);
+            }
+        });
+        log.info("서버 로드 밸런서 초기화를 완료했습니다. 풀: {}. 헬스 체크 재검증은 백그라운드에서 진행됩니다.", balancers.keySet());
+    }
+
+    /**
+     * 풀의 로드 밸런서를 반환하며, 없으면 풀 설정(또는 전역 기본값)으로 생성합니다.
+     */
+    private SnapshotLoadBalancer<ServerInstance> balancerFor(String pool) {
+        return balancers.computeIfAbsent(pool, name -> {
+            PoolProperties.PoolSettings settings = poolProperties.settingsFor(name);
+            long timeoutSeconds = settings.getTimeoutSeconds() != null ? settings.getTimeoutSeconds() : loadBalancerTimeoutSeconds;
+            return newBalancer("ServerInstances[" + name + "]", timeoutSeconds, strategyRegistry.create(strategyOf(name)));
+        });
+    }
+
+    private SnapshotLoadBalancer<ServerInstance> newBalancer(String name, long timeoutSeconds, LoadBalancingStrategy<ServerInstance> strategy) {
+        SnapshotLoadBalancer<ServerInstance> balancer = new SnapshotLoadBalancer<>(name, timeoutSeconds, ServerInstance::isActive, strategy);
+        balancer.setSelectionFilter(this::isSelectable);
+        balancer.setPreferenceFilter(server -> slowStartRegistry.admit(server.getId()));
+        return balancer;
+    }
+
+    /**
+     * 풀의 로드 밸런서를 건강한 서버 목록으로 새로고침하고, 영역별 로드 밸런서와 영역의 정상 서버 비율을 다시 계산합니다.
+     * 영역별 로드 밸런서는 기존 인스턴스를 재사용하여 전략의 상태(순환 위치 등)를 유지하며, 서버가 없어진 영역은 제거합니다.
+     * 영역 로드 밸런서의 전략이 풀의 전략과 다르면(전략 변경과 새로고침이 겹친 경우) 여기서 맞춥니다.
+     */
+    private void refreshPoolBalancers(String pool, List<ServerInstance> healthyServers) {
+        balancerFor(pool).refreshItems(healthyServers);
+
+        Map<String, List<ServerInstance>> healthyByZone = healthyServers.stream()
+                .filter(server -> server.getZone() != null)
+                .collect(Collectors.groupingBy(ServerInstance::getZone, LinkedHashMap::new, Collectors.toList()));
+        Map<String, Long> activeByZone = new HashMap<>();
+        healthStates.forEach(state -> {
+            ServerInstance server = state.item();
+            if (server.isActive() && server.getZone() != null && pool.equals(server.getPool())) {
+                activeByZone.merge(server.getZone(), 1L, Long::sum);
+            }
+        });
+
+        Map<String, ZoneBalancer> previous = zoneBalancers.getOrDefault(pool, Map.of());
+        Map<String, ZoneBalancer> next = new LinkedHashMap<>();
+        activeByZone.forEach((zone, activeCount) -> {
+            List<ServerInstance> healthy = healthyByZone.getOrDefault(zone, List.of());
+            ZoneBalancer existing = previous.get(zone);
+            // 영역 로드 밸런서는 기다리지 않습니다. 비어 있으면 풀 전체 로드 밸런서로 넘어갑니다.
+            String strategy = strategyOf(pool);
+            SnapshotLoadBalancer<ServerInstance> balancer = existing != null
+                    ? existing.balancer() : newBalancer("ServerInstances[" + pool + "/" + zone + "]", 0, strategyRegistry.create(strategy));
+            if (!strategy.equals(balancer.getStrategy().name())) {
+                balancer.setStrategy(strategyRegistry.create(strategy));
+            }
+            balancer.refreshItems(healthy);
+            next.put(zone, new ZoneBalancer(balancer, (double) healthy.size() / activeCount));
+        });
+        zoneBalancers.put(pool, Map.copyOf(next));
+    }
+
+    /**
+     * 선택 시점에 서버를 선택해도 되는지 판단합니다.
+     * 드레이닝 중이거나, 서킷이 열려 있거나(HALF_OPEN 시험 요청 수 초과 포함) 최대 초당 요청 수를 초과한 서버는 건너뜁니다.
+     */
+    private boolean isSelectable(ServerInstance server) {
+        if (serverDrainRegistry.isDraining(server.getId())) {
+            return false;
+        }
+        if (!circuitBreakerRegistry.tryAcquirePermission(server.getId())) {
+            return false;
+        }
+        if (serverRateLimiter.tryAcquire(server)) {
+            return true;
+        }
+        circuitBreakerRegistry.releasePermission(server.getId()); // 요청을 보내지 않으므로 시험 요청 허용을 반납합니다.
+        return false;
     }
 
     /**
-     * 데이터베이스에서 서버 목록을 다시 로드하여 로드 밸런서를 새로고침합니다.
-     * fixedRate로 주기적으로 실행되며, ServerListChangedEvent에 의해서도 실행됩니다.
+     * 저장된 헬스 스냅샷으로 헬스 상태 맵과 풀별 로드 밸런서를 채웁니다 (웜 스타트).
+     */
+    private void restoreFromSnapshot() {
+        List<ServerHealthStatus> restored = healthSnapshotStore.load();
+        if (restored.isEmpty()) {
+            return;
+        }
+        restored.forEach(status -> healthStates.record(status.getServerInstance().getId(), status.getServerInstance(),
+                status.isHealthy(), status.getLastCheckedTimestamp(), -1));
+        Map<String, List<ServerInstance>> healthyByPool = restored.stream()
+                .filter(ServerHealthStatus::isHealthy)
+                .map(ServerHealthStatus::getServerInstance)
+                .collect(Collectors.groupingBy(ServerInstance::getPool, LinkedHashMap::new, Collectors.toList()));
+        healthyByPool.forEach(this::refreshPoolBalancers);
+        serverSnapshotService.publish(healthyServersAcrossPools());
+        log.info("헬스 스냅샷으로 웜 스타트했습니다. 복원된 서버: {}개, 풀: {}", restored.size(), healthyByPool.keySet());
+    }
+
+    /**
+     * 데이터베이스에서 모든 풀의 서버 목록을 다시 로드하여 풀별 로드 밸런서를 새로고침합니다.
+     * 모든 서버의 헬스 체크는 풀과 관계없이 병렬로 실행되고, 결과는 풀마다 독립적으로 적용됩니다.
+     * 새로 추가되었거나 정보가 바뀐 서버와 헬스 체크 시각이 된 서버만 헬스 체크하며, 나머지는 마지막 결과를 그대로 사용합니다.
+     * 기동 시 재검증, 새로고침 엔드포인트, 서버 목록 변경 이벤트에서 호출되며, 다른 새로고침이 진행 중이면 끝날 때까지 기다립니다.
      */
-    @Scheduled(fixedRateString = "${server.healthcheck.interval-ms:30000}") // 30초마다 헬스 체크
     public void refreshServers() {
+        sweepLock.lock();
+        try {
+            sweepAllPools();
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    /**
+     * 주기적으로 모든 풀을 새로고침합니다 ({@link #refreshServers()}). 기동 시 재검증이 첫 새로고침이므로 한 주기 뒤부터 실행하며,
+     * 다른 새로고침이 아직 진행 중이면 공유 스케줄러 스레드를 붙잡지 않도록 이번 주기를 건너뜁니다.
+     */
+    @Scheduled(initialDelayString = "${server.healthcheck.interval-ms:30000}", fixedRateString = "${server.healthcheck.interval-ms:30000}") // 30초마다 헬스 체크
+    public void scheduledRefresh() {
+        if (!sweepLock.tryLock()) {
+            log.debug("이전 새로고침이 진행 중이므로 이번 주기의 새로고침을 건너뜁니다.");
+            return;
+        }
+        try {
+            sweepAllPools();
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    private void sweepAllPools() {
         log.info("서버 목록 새로고침 및 헬스 체크를 시작합니다.");
-        List<ServerInstance> allServers = serverMapper.findAllServers(); // 모든 서버를 가져옴
-
-        // 헬스 체크를 병렬로 실행하고 결과를 수집합니다.
-        List<CompletableFuture<ServerInstance>> healthCheckFutures = allServers.stream()
-                .map(server -> this.isServerHealthy(server).thenApply(isHealthy -> { // this.isServerHealthy() 호출
-                    serverHealthStatuses.put(server.getId(), new ServerHealthStatus(server, isHealthy, System.currentTimeMillis()));
-                    return isHealthy ? server : null;
-                }))
+        // 스케줄러 스레드나 새로고침 요청 스레드에서 실행되므로 저장소 조회 결과를 기다립니다.
+        List<ServerInstance> allServers = serverRepository.findAll().collectList().block(); // 모든 서버를 가져옴
+        Map<String, List<ServerInstance>> serversByPool = allServers.stream()
+                .collect(Collectors.groupingBy(ServerInstance::getPool, LinkedHashMap::new, Collectors.toList()));
+        // 서버가 모두 삭제된 풀도 빈 목록으로 새로고침하여 이전 서버가 남지 않도록 합니다.
+        balancers.keySet().forEach(pool -> serversByPool.putIfAbsent(pool, List.of()));
+
+        // 모든 풀의 헬스 체크를 먼저 시작하고 모두 끝난 뒤에 풀별로 결과를 적용합니다. 다른 풀로 옮겨진 서버는 헬스 체크 결과와 함께
+        // 새 풀로 기록되므로, 먼저 적용되는 이전 풀에서 삭제된 서버로 보고 제거하지 않습니다.
+        Map<String, List<CompletableFuture<ServerInstance>>> futuresByPool = new LinkedHashMap<>();
+        serversByPool.forEach((pool, servers) -> futuresByPool.put(pool, startDueHealthChecks(servers)));
+        Map<String, List<ServerInstance>> healthyByPool = new LinkedHashMap<>();
+        futuresByPool.forEach((pool, futures) -> healthyByPool.put(pool, joinHealthy(futures)));
+        healthyByPool.forEach((pool, healthy) -> applyPool(pool, serversByPool.get(pool), healthy));
+
+        completeSweep();
+        log.info("서버 목록 새로고침 및 헬스 체크 완료. 풀 수: {}", serversByPool.size());
+    }
+
+    /**
+     * 지정한 풀의 서버 목록만 다시 로드하고 헬스 체크하여 해당 풀의 로드 밸런서를 새로고침합니다.
+     * 다른 풀의 로드 밸런서와 헬스 상태에는 영향을 주지 않으며, 진행 중인 전체 새로고침이 있으면 끝난 뒤에 적용합니다.
+     * 단, 이 풀에서 다른 풀로 옮겨진 서버는 삭제된 서버로 보고 제거하지 않고 새 풀 정보로 헬스 체크하여 옮기며, 옮겨 간 풀의 로드 밸런서도 새로고침합니다.
+     * 이미 로드 밸런서가 있는 풀(기본 풀, 설정된 풀, 서버가 있었던 풀)이나 데이터베이스에 서버가 있는 풀만 새로고침하며,
+     * 그 밖의 이름으로는 로드 밸런서를 만들지 않으므로 잘못된 이름이 빈 풀로 남지 않습니다.
+     *
+     * @param pool 새로고침할 풀 이름
+     * @throws PoolNotFoundException 로드 밸런서도 서버도 없는 풀인 경우
+     */
+    public void refreshPool(String pool) {
+        log.info("풀 '{}'의 서버 목록 새로고침 및 헬스 체크를 시작합니다.", pool);
+        sweepLock.lock();
+        try {
+            List<ServerInstance> servers = serverRepository.findByPool(pool).collectList().block();
+            if (servers.isEmpty() && !balancers.containsKey(pool)) {
+                throw new PoolNotFoundException("풀 '" + pool + "'을(를) 찾을 수 없습니다.");
+            }
+            List<ServerInstance> moved = movedOutOf(pool, servers);
+            List<CompletableFuture<ServerInstance>> movedChecks = startHealthChecks(moved);
+            List<ServerInstance> healthy = joinHealthy(startHealthChecks(servers));
+            joinHealthy(movedChecks);
+            applyPool(pool, servers, healthy);
+            if (!moved.isEmpty()) {
+                refreshBalancersFromStatuses(moved.stream().map(ServerInstance::getPool).collect(Collectors.toSet()));
+            }
+            completeSweep();
+            log.info("풀 '{}' 새로고침 완료. 서버 수: {}", pool, servers.size());
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    /**
+     * 헬스 체크 시각이 된 서버만 헬스 체크합니다. 적응형 주기의 다음 헬스 체크 시각 사이에도 이 주기로 실행되며,
+     * 요청 실패가 보고된 서버는 {@code min-interval-ms} 안에 다시 헬스 체크됩니다.
+     * 오래 기다린 서버부터 초당 헬스 체크 상한({@code max-probes-per-second})까지만 헬스 체크하고, 나머지는 다음 주기로 미룹니다.
+     * 헬스 체크는 시작만 하고 기다리지 않으므로 느린 백엔드가 공유 스케줄러 스레드를 붙잡지 않으며, 아직 끝나지 않은 서버는
+     * 다시 헬스 체크하지 않습니다. 헬스 체크가 끝난 서버의 정상 여부가 바뀌었으면 해당 풀의 로드 밸런서만 새로고침합니다.
+     */
+    @Scheduled(initialDelayString = "${road.health-check.adaptive.tick-ms:1000}", fixedDelayString = "${road.health-check.adaptive.tick-ms:1000}")
+    public void probeDueServers() {
+        if (!adaptiveProbePolicy.isEnabled() || !initialSweepCompleted.get()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<DueServer> candidates = new ArrayList<>();
+        healthStates.forEach(state -> {
+            if (!probesInFlight.contains(state.id()) && adaptiveProbePolicy.isDue(state.id(), now)) {
+                candidates.add(new DueServer(state.item(), state.healthy()));
+            }
+        });
+        candidates.stream()
+                .sorted(Comparator.comparingLong(candidate -> adaptiveProbePolicy.nextDueAt(candidate.server().getId())))
+                .takeWhile(candidate -> adaptiveProbePolicy.tryAcquireProbe())
+                .forEach(this::startDueProbe);
+    }
+
+    // 적응형 헬스 체크 하나를 시작하고, 끝나면 정상 여부가 바뀐 경우에만 해당 풀을 새로고침합니다.
+    private void startDueProbe(DueServer due) {
+        Long serverId = due.server().getId();
+        if (!probesInFlight.add(serverId)) {
+            return;
+        }
+        CompletableFuture<ServerInstance> probe;
+        try {
+            probe = startHealthCheck(due.server());
+        } catch (RuntimeException e) {
+            probesInFlight.remove(serverId); // 헬스 체크 실행기가 작업을 거부한 경우 등
+            throw e;
+        }
+        // 결과 처리(로드 밸런서 새로고침, 스냅샷 저장)는 응답을 처리한 I/O 스레드가 아닌 헬스 체크 실행기에서 수행합니다.
+        probe.whenCompleteAsync((result, error) -> {
+            probesInFlight.remove(serverId);
+            if (error != null) {
+                log.warn("서버 {}의 적응형 헬스 체크에 실패했습니다: {}", serverId, error.getMessage());
+                return;
+            }
+            if (healthStates.contains(serverId) && healthStates.isHealthy(serverId) != due.wasHealthy()) {
+                String pool = due.server().getPool();
+                refreshBalancersFromStatuses(Set.of(pool));
+                completeSweep();
+                log.info("적응형 헬스 체크로 서버 {}의 상태 변화를 감지했습니다. 변경된 풀: {}", serverId, pool);
+            }
+        }, healthCheckExecutor);
+    }
+
+    // 헬스 체크가 필요한 서버만 헬스 체크하고, 나머지는 마지막 결과를 그대로 사용합니다.
+    private List<CompletableFuture<ServerInstance>> startDueHealthChecks(List<ServerInstance> servers) {
+        long now = System.currentTimeMillis();
+        return servers.stream()
+                .map(server -> {
+                    ServerInstance current = healthStates.get(server.getId());
+                    boolean mustProbe = current == null || !current.hasSameInfo(server);
+                    if (mustProbe || (adaptiveProbePolicy.isDue(server.getId(), now) && adaptiveProbePolicy.tryAcquireProbe())) {
+                        return startHealthCheck(server);
+                    }
+                    return CompletableFuture.completedFuture(healthStates.isHealthy(server.getId()) ? current : null);
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 헬스 체크를 병렬로 시작합니다. 각 Future는 건강하면 서버를, 아니면 null을 반환합니다.
+    private List<CompletableFuture<ServerInstance>> startHealthChecks(List<ServerInstance> servers) {
+        return servers.stream()
+                .map(this::startHealthCheck)
                 .collect(Collectors.toList());
+    }
+
+    // 이 노드가 담당하는 서버는 직접 헬스 체크하고, 그 외에는 담당 노드의 최신 결과를 사용합니다.
+    // 담당 노드의 결과가 없거나 오래된 경우(담당 노드 장애 등)에는 직접 헬스 체크합니다.
+    // 직접 헬스 체크한 경우에만 지연 시간과 횟수를 기록합니다.
+    private CompletableFuture<ServerInstance> startHealthCheck(ServerInstance server) {
+        if (!clusterCoordinator.owns(server.getId())) {
+            Optional<ServerHealthReport> remote = clusterCoordinator.freshRemoteResult(server.getId());
+            if (remote.isPresent()) {
+                return CompletableFuture.completedFuture(applyHealthResult(server, server.isActive() && remote.get().isHealthy(), -1));
+            }
+            log.debug("서버 {}의 담당 노드 {} 결과가 없어 직접 헬스 체크합니다.", server.getId(), clusterCoordinator.ownerOf(server.getId()));
+        }
+        long startedAt = System.nanoTime();
+        return this.isServerHealthy(server) // this.isServerHealthy() 호출
+                .thenApply(isHealthy -> applyHealthResult(server, isHealthy, System.nanoTime() - startedAt));
+    }
+
+    // 정상으로 확인된 서버는 시험 요청을 기다리는 서킷 브레이커도 닫습니다 (결과가 보고되지 않은 시험 요청으로 서킷이 멈추지 않도록).
+    private ServerInstance applyHealthResult(ServerInstance server, boolean isHealthy, long latencyNanos) {
+        if (isHealthy) {
+            circuitBreakerRegistry.onHealthyProbe(server.getId());
+        }
+        boolean changed = updateHealthStatus(server, isHealthy, latencyNanos);
+        adaptiveProbePolicy.onProbeResult(server.getId(), isHealthy, changed, System.currentTimeMillis());
+        return isHealthy ? server : null;
+    }
 
-        // 모든 헬스 체크가 완료될 때까지 기다리고 건강한 서버만 필터링합니다.
-        List<ServerInstance> healthyServersForBalancer = healthCheckFutures.stream()
+    // 헬스 체크가 모두 완료될 때까지 기다려 건강한 서버만 반환합니다.
+    private static List<ServerInstance> joinHealthy(List<CompletableFuture<ServerInstance>> healthCheckFutures) {
+        return healthCheckFutures.stream()
                 .map(CompletableFuture::join) // 결과가 나올 때까지 대기 (예외 발생 시 전파)
-                .filter(java.util.Objects::nonNull) // null이 아닌 (즉, 건강한) 서버만 필터링
+                .filter(Objects::nonNull) // null이 아닌 (즉, 건강한) 서버만 필터링
                 .collect(Collectors.toList());
+    }
 
-        balancer.refreshItems(healthyServersForBalancer);
-        log.info("서버 목록 새로고침 및 헬스 체크 완료. 로드 밸런서의 활성 서버 수: {}. 현재 큐의 아이템 수: {}", healthyServersForBalancer.size(), balancer.getActiveItemCount());
+    // 헬스 상태 테이블에는 이 풀로 기록되어 있지만 풀의 서버 목록에 없고, 데이터베이스에는 다른 풀로 남아 있는 서버를 반환합니다.
+    private List<ServerInstance> movedOutOf(String pool, List<ServerInstance> servers) {
+        Set<Long> currentIds = servers.stream().map(ServerInstance::getId).collect(Collectors.toSet());
+        List<Long> missingIds = new ArrayList<>();
+        healthStates.forEach(state -> {
+            if (pool.equals(state.item().getPool()) && !currentIds.contains(state.id())) {
+                missingIds.add(state.id());
+            }
+        });
+        List<ServerInstance> moved = new ArrayList<>();
+        for (Long id : missingIds) {
+            serverRepository.findById(id).blockOptional()
+                    .filter(server -> !pool.equals(server.getPool()))
+                    .ifPresent(moved::add);
+        }
+        return moved;
+    }
+
+    // 한 풀의 헬스 체크 결과를 해당 풀의 로드 밸런서에 적용합니다. 헬스 체크 결과는 이미 기록되어 있어야 합니다.
+    private void applyPool(String pool, List<ServerInstance> servers, List<ServerInstance> healthyServersForBalancer) {
+        // 이 풀에서 삭제되었거나 다른 풀로 옮겨진 서버는 헬스 추적 대상에서 제거합니다.
+        Set<Long> currentIds = servers.stream().map(ServerInstance::getId).collect(Collectors.toSet());
+        healthStates.removeIf(state -> pool.equals(state.item().getPool()) && !currentIds.contains(state.id()), removedId -> {
+            dashboardEventService.healthRemoved(removedId);
+            serverRateLimiter.remove(removedId);
+            circuitBreakerRegistry.remove(removedId);
+            slowStartRegistry.remove(removedId);
+            adaptiveProbePolicy.remove(removedId);
+            serverDrainRegistry.remove(removedId);
+            serverRegistryVersion.increment(); // 다른 노드나 데이터베이스에서 직접 삭제된 서버도 서버 목록 버전에 반영합니다.
+            healthStateDirty.set(true);
+        });
+
+        // 비활성화 작업까지 적용된 드레이닝은 서버가 로드 밸런서에서 빠지므로 정리합니다.
+        servers.stream().filter(server -> !server.isActive()).forEach(server -> serverDrainRegistry.releaseSettled(server.getId()));
+
+        refreshPoolBalancers(pool, healthyServersForBalancer);
+        log.debug("풀 '{}'의 활성 서버 수: {}. 현재 큐의 아이템 수: {}", pool, healthyServersForBalancer.size(), balancerFor(pool).getActiveItemCount());
+    }
+
+    // 새로고침 한 주기를 마무리합니다: 스냅샷 피드 발행, 대시보드 알림, 변경 시 헬스 스냅샷 저장, 피어에게 담당 서버 결과 전송.
+    // 적응형 주기로 헬스 체크를 건너뛴 서버도 담당 노드가 현재 유지하는 판정이므로, 피어가 오래된 결과로 보지 않도록 보고 시각을 사용합니다.
+    private void completeSweep() {
+        if (clusterCoordinator.isEnabled()) {
+            long reportedAt = System.currentTimeMillis();
+            List<ServerHealthReport> reports = new ArrayList<>();
+            healthStates.forEach(state -> {
+                if (clusterCoordinator.owns(state.id())) {
+                    reports.add(new ServerHealthReport(state.id(), state.healthy(), reportedAt));
+                }
+            });
+            clusterCoordinator.broadcast(reports);
+        }
+        serverSnapshotService.publish(healthyServersAcrossPools()); // 멤버십이 바뀐 경우에만 스냅샷 버전이 올라갑니다.
+        dashboardEventService.sweepCompleted(System.currentTimeMillis());
+        if (healthStateDirty.getAndSet(false)) {
+            List<ServerHealthStatus> statuses = new ArrayList<>();
+            healthStates.forEach(state -> statuses.add(new ServerHealthStatus(state.item(), state.healthy(), state.lastCheckedMillis())));
+            healthSnapshotStore.save(statuses); // 상태가 바뀐 경우에만 다음 기동을 위한 스냅샷을 저장합니다.
+        }
+        initialSweepCompleted.set(true);
+    }
+
+    // 모든 풀의 건강한 서버를 ID 순으로 반환합니다. 드레이닝 중인 서버는 클라이언트 측 선택에서도 빠지도록 제외합니다.
+    private List<ServerInstance> healthyServersAcrossPools() {
+        List<ServerInstance> healthy = new ArrayList<>();
+        healthStates.forEach(state -> {
+            if (state.healthy() && !serverDrainRegistry.isDraining(state.id())) {
+                healthy.add(state.item());
+            }
+        });
+        healthy.sort(Comparator.comparing(ServerInstance::getId));
+        return healthy;
     }
 
     /**
-     * 주어진 서버 인스턴스가 정상 상태인지 확인합니다.
+     * 피어 노드가 보고한 헬스 체크 결과를 즉시 반영합니다.
+     * 이미 추적 중인 서버 중 정상 여부가 바뀐 서버만 갱신하고, 해당 서버가 속한 풀의 로드 밸런서만 새로고침합니다.
+     * 아직 이 노드에 알려지지 않은 서버의 결과는 다음 새로고침 주기에 사용됩니다.
+     *
+     * @param reports 피어의 헬스 체크 결과 목록
+     */
+    public void applyRemoteHealth(List<ServerHealthReport> reports) {
+        Set<String> changedPools = new HashSet<>();
+        for (ServerHealthReport report : reports) {
+            ServerInstance server = healthStates.get(report.getServerId());
+            if (server == null) {
+                continue;
+            }
+            boolean isHealthy = server.isActive() && report.isHealthy();
+            if (healthStates.isHealthy(report.getServerId()) != isHealthy) {
+                updateHealthStatus(server, isHealthy, -1);
+                changedPools.add(server.getPool());
+            }
+        }
+        if (changedPools.isEmpty()) {
+            return;
+        }
+        refreshBalancersFromStatuses(changedPools);
+        serverSnapshotService.publish(healthyServersAcrossPools());
+        log.info("피어의 헬스 보고를 반영했습니다. 변경된 풀: {}", changedPools);
+    }
+
+    // 주어진 풀의 로드 밸런서를 현재 헬스 상태 테이블의 건강한 서버로 새로고침합니다 (데이터베이스를 다시 읽지 않습니다).
+    private void refreshBalancersFromStatuses(Set<String> pools) {
+        Map<String, List<ServerInstance>> healthyByPool = new HashMap<>();
+        pools.forEach(pool -> healthyByPool.put(pool, new ArrayList<>()));
+        healthStates.forEach(state -> {
+            List<ServerInstance> healthy = state.healthy() ? healthyByPool.get(state.item().getPool()) : null;
+            if (healthy != null) {
+                healthy.add(state.item());
+            }
+        });
+        healthyByPool.forEach((pool, healthy) -> {
+            healthy.sort(Comparator.comparing(ServerInstance::getId));
+            refreshPoolBalancers(pool, healthy);
+        });
+    }
+
+    /**
+     * 서버의 헬스 상태를 기록하고, 처음 확인되었거나 상태(정상 여부 또는 서버 정보)가 바뀐 경우에만 대시보드 이벤트를 발행합니다.
+     * 비정상에서 정상으로 바뀐 서버와 기동 이후 새로 추가된 정상 서버는 슬로우 스타트를 시작합니다.
+     * 상태는 테이블에 제자리에서 기록되며, 대시보드 이벤트를 발행할 때만 {@link ServerHealthStatus}를 만듭니다.
+     * @param latencyNanos 직접 헬스 체크한 지연 시간 (나노초). 다른 노드의 결과면 -1.
+     * @return 처음 확인되었거나 상태가 바뀌었으면 true
+     */
+    private boolean updateHealthStatus(ServerInstance server, boolean isHealthy, long latencyNanos) {
+        long checkedAt = System.currentTimeMillis();
+        int previous = healthStates.record(server.getId(), server, isHealthy, checkedAt, latencyNanos);
+        boolean existed = (previous & HealthStateTable.EXISTED) != 0;
+        boolean wasHealthy = (previous & HealthStateTable.WAS_HEALTHY) != 0;
+        if (isHealthy && (!existed ? initialSweepCompleted.get() : !wasHealthy)) {
+            slowStartRegistry.start(server.getId());
+        }
+        boolean itemChanged = (previous & HealthStateTable.ITEM_CHANGED) != 0;
+        if (!existed || itemChanged) {
+            serverRegistryVersion.increment(); // 다른 노드나 데이터베이스에서 직접 추가/수정된 서버도 서버 목록 버전에 반영합니다.
+        }
+        if (!existed || wasHealthy != isHealthy || itemChanged) {
+            dashboardEventService.healthChanged(new ServerHealthStatus(server, isHealthy, checkedAt));
+            healthStateDirty.set(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 주어진 서버 인스턴스가 정상 상태인지 서버의 헬스 체크 방식(HTTP 또는 TCP)으로 확인합니다.
      *
      * @param server 확인할 서버 인스턴스
      * @return 서버가 정상이면 true, 그렇지 않으면 false
@@ -100,24 +595,8 @@ public class ServerLoadBalancer {
             return CompletableFuture.completedFuture(false);
         }
 
-        return webClient.head()
-                .uri(server.getUrl())
-                .retrieve()
-                .toBodilessEntity()
-                .map(response -> {
-                    boolean isHealthy = response.getStatusCode().is2xxSuccessful();
-                    if (isHealthy) {
-                        log.debug("서버 {} ({}) 헬스 체크 성공.", server.getName(), server.getUrl());
-                    } else {
-                        log.warn("서버 {} ({}) 헬스 체크 실패: 상태 코드 {}", server.getName(), server.getUrl(), response.getStatusCode());
-                    }
-                    return isHealthy;
-                })
-                .toFuture()
-                .exceptionally(ex -> {
-                    log.warn("서버 {} ({}) 헬스 체크 중 오류 발생: {}", server.getName(), server.getUrl(), ex.getMessage());
-                    return false;
-                });
+        // 헬스 체크 응답에 부하 보고 헤더가 있으면 함께 기록합니다. 아직 추적 중이 아닌 새 서버의 첫 보고는 기록되지 않습니다.
+        return healthProbeService.probe(server, this::storeLoad);
     }
 
     /**
@@ -136,28 +615,397 @@ public class ServerLoadBalancer {
     }
 
     /**
-     * 라운드 로빈 방식으로 다음 서버 인스턴스를 가져옵니다.
+     * 기본 풀에서 풀의 선택 전략으로 다음 서버 인스턴스를 가져옵니다.
      *
      * @return 다음 서버 인스턴스를 포함하는 Optional. 사용 가능한 서버가 없으면 빈 Optional 반환.
      * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
      */
     public Optional<ServerInstance> getNextServer() throws InterruptedException {
-        return balancer.next();
+        return getNextServer(ServerInstance.DEFAULT_POOL);
+    }
+
+    /**
+     * 지정한 풀에서 풀의 선택 전략으로 다음 서버 인스턴스를 가져옵니다.
+     *
+     * @param pool 풀 이름
+     * @return 다음 서버 인스턴스를 포함하는 Optional. 사용 가능한 서버가 없으면 빈 Optional 반환.
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<ServerInstance> getNextServer(String pool) throws InterruptedException {
+        return leased(requireBalancer(pool).next());
     }
 
     /**
-     * 현재 모든 서버의 헬스 상태를 반환합니다.
+     * 지정한 풀에서 호출자의 영역(zone)을 우선하여 다음 서버 인스턴스를 가져옵니다.
+     * 같은 영역의 정상 서버 비율이 {@code road.zone-routing.spill-threshold} 이상이면 같은 영역에서만 선택하고,
+     * 그보다 낮으면 (비율 / 임계값)의 확률로만 같은 영역에서 선택하고 나머지는 풀 전체로 넘깁니다.
+     * 같은 영역에 선택 가능한 서버가 없거나(서킷 열림, 요청 수 제한 포함) 알 수 없는 영역이면 풀 전체에서 선택합니다.
+     *
+     * @param pool 풀 이름
+     * @param zone 호출자의 영역. null이면 {@link #getNextServer(String)}와 같습니다.
+     * @return 다음 서버 인스턴스를 포함하는 Optional. 사용 가능한 서버가 없으면 빈 Optional 반환.
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<ServerInstance> getNextServer(String pool, String zone) throws InterruptedException {
+        SnapshotLoadBalancer<ServerInstance> balancer = requireBalancer(pool);
+        SnapshotLoadBalancer<ServerInstance> local = localBalancer(pool, zone);
+        if (local != null) {
+            Optional<ServerInstance> picked = local.next();
+            if (picked.isPresent()) {
+                return leased(picked);
+            }
+        }
+        return leased(balancer.next());
+    }
+
+    /**
+     * {@link #getNextServer(String, String)}와 같은 규칙으로 선택하되, 풀이나 영역의 스냅샷이 비어 있어도 새로고침을 기다리지 않습니다.
+     * 바이너리 디스패치 리스너처럼 네트워크 이벤트 루프에서 선택할 때 사용합니다.
+     *
+     * @param pool 풀 이름
+     * @param zone 호출자의 영역. null이면 풀 전체에서 선택합니다.
+     * @return 다음 서버 인스턴스를 포함하는 Optional. 사용 가능한 서버가 없으면 빈 Optional 반환.
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     */
+    public Optional<ServerInstance> tryGetNextServer(String pool, String zone) {
+        SnapshotLoadBalancer<ServerInstance> balancer = requireBalancer(pool);
+        SnapshotLoadBalancer<ServerInstance> local = localBalancer(pool, zone);
+        if (local != null) {
+            Optional<ServerInstance> picked = local.tryNext();
+            if (picked.isPresent()) {
+                return leased(picked);
+            }
+        }
+        return leased(balancer.tryNext());
+    }
+
+    /**
+     * 지정한 풀에서 호출자의 영역(zone)을 우선하여 연속된 {@code count}개의 서버 인스턴스를 한 번에 가져옵니다.
+     * 같은 영역으로 보낼지는 배치 단위로 {@link #getNextServer(String, String)}와 같은 규칙으로 정하며,
+     * 같은 영역에서 {@code count}개를 채우지 못하면 같은 영역에서 고른 서버는 그대로 두고 모자란 수만 풀 전체에서 선택합니다.
+     *
+     * @param pool 풀 이름
+     * @param count 가져올 서버 수 (1 이상, {@code roundrobin.loadbalancer.max-batch-size} 이하)
+     * @param zone 호출자의 영역. null이면 {@link #getNextServers(String, int)}와 같습니다.
+     * @return 선택된 서버 목록. 사용 가능한 서버가 없으면 빈 목록 반환.
+     * @throws InvalidRequestException count가 허용 범위를 벗어난 경우
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public List<ServerInstance> getNextServers(String pool, int count, String zone) throws InterruptedException {
+        if (count < 1 || count > maxBatchSize) {
+            throw new InvalidRequestException("count는 1 이상 " + maxBatchSize + " 이하여야 합니다: " + count);
+        }
+        SnapshotLoadBalancer<ServerInstance> balancer = requireBalancer(pool);
+        SnapshotLoadBalancer<ServerInstance> local = localBalancer(pool, zone);
+        if (local == null) {
+            return leased(balancer.next(count));
+        }
+        // 같은 영역에서 고른 서버는 이미 요청 수 제한 토큰과 시험 요청 허용을 얻었으므로 버리지 않고, 모자란 수만 풀 전체에서 채웁니다.
+        List<ServerInstance> picked = new ArrayList<>(local.next(count));
+        if (picked.size() < count) {
+            picked.addAll(balancer.next(count - picked.size()));
+        }
+        return leased(picked);
+    }
+
+    // 이번 선택을 같은 영역에서 할 경우 해당 영역의 로드 밸런서를, 다른 영역으로 넘길 경우 null을 반환합니다.
+    private SnapshotLoadBalancer<ServerInstance> localBalancer(String pool, String zone) {
+        if (zone == null || !zoneRoutingProperties.isEnabled()) {
+            return null;
+        }
+        ZoneBalancer local = zoneBalancers.getOrDefault(pool, Map.of()).get(zone);
+        if (local == null || local.healthyRatio() <= 0) {
+            return null;
+        }
+        double threshold = zoneRoutingProperties.getSpillThreshold();
+        if (local.healthyRatio() >= threshold || ThreadLocalRandom.current().nextDouble() * threshold < local.healthyRatio()) {
+            return local.balancer();
+        }
+        return null;
+    }
+
+    /**
+     * 지정한 풀에서 풀의 선택 전략으로 다음 서버를 가져오되, 주어진 서버들은 제외합니다.
+     * 재시도나 헤징처럼 같은 요청을 다른 서버로 보내야 할 때 사용합니다.
+     *
+     * @param pool 풀 이름
+     * @param excludedIds 제외할 서버 ID 목록
+     * @return 다음 서버 인스턴스를 포함하는 Optional. 제외되지 않은 사용 가능한 서버가 없으면 빈 Optional 반환.
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public Optional<ServerInstance> getNextServerExcluding(String pool, Set<Long> excludedIds) throws InterruptedException {
+        return requireBalancer(pool).next(server -> !excludedIds.contains(server.getId()));
+    }
+
+    /**
+     * 기본 풀에서 풀의 선택 전략으로 {@code count}개의 서버 인스턴스를 한 번에 가져옵니다.
+     *
+     * @see #getNextServers(String, int)
+     */
+    public List<ServerInstance> getNextServers(int count) throws InterruptedException {
+        return getNextServers(ServerInstance.DEFAULT_POOL, count);
+    }
+
+    /**
+     * 지정한 풀에서 풀의 선택 전략으로 {@code count}개의 서버 인스턴스를 한 번에 가져옵니다.
+     * 모든 선택은 같은 스냅샷과 같은 전략으로 이루어지며, 라운드 로빈 전략은 배치 전체의 순환 위치를 한 번에 확보하므로 건너뛴 서버가 없으면 동시 선택이 있어도 연속된 순서가 됩니다.
+     *
+     * @param pool 풀 이름
+     * @param count 가져올 서버 수 (1 이상, {@code roundrobin.loadbalancer.max-batch-size} 이하)
+     * @return 선택된 서버 목록. 사용 가능한 서버가 없으면 빈 목록 반환.
+     * @throws InvalidRequestException count가 허용 범위를 벗어난 경우
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     * @throws InterruptedException 스레드가 대기 중에 인터럽트될 경우 발생
+     */
+    public List<ServerInstance> getNextServers(String pool, int count) throws InterruptedException {
+        if (count < 1 || count > maxBatchSize) {
+            throw new InvalidRequestException("count는 1 이상 " + maxBatchSize + " 이하여야 합니다: " + count);
+        }
+        return leased(requireBalancer(pool).next(count));
+    }
+
+    // 디스패치로 선택된 서버를 임대로 기록합니다. 드레이닝은 임대가 반납되거나 유효 시간이 지날 때까지 서버 제거를 미룹니다.
+    private Optional<ServerInstance> leased(Optional<ServerInstance> picked) {
+        picked.ifPresent(server -> serverDrainRegistry.onLeased(server.getId()));
+        return picked;
+    }
+
+    private List<ServerInstance> leased(List<ServerInstance> picked) {
+        picked.forEach(server -> serverDrainRegistry.onLeased(server.getId()));
+        return picked;
+    }
+
+    /**
+     * 풀이 현재 사용하는 선택 전략 이름을 반환합니다. 관리 API로 바꾼 전략이 있으면 그 전략, 없으면 풀 설정의 전략입니다.
+     * @param pool 풀 이름
+     * @return 선택 전략 이름
+     */
+    public String strategyOf(String pool) {
+        String override = strategyOverrides.get(pool);
+        return override != null ? override : poolProperties.settingsFor(pool).getStrategy();
+    }
+
+    /**
+     * 모든 풀의 선택 전략 상태를 풀 이름 순으로 반환합니다.
+     */
+    public List<PoolStrategyStatus> getPoolStrategies() {
+        return balancers.keySet().stream()
+                .sorted()
+                .map(this::strategyStatusOf)
+                .toList();
+    }
+
+    /**
+     * 풀의 선택 전략을 실행 중에 바꿉니다. 풀 전체 로드 밸런서와 영역별 로드 밸런서 모두 새 전략 인스턴스로 교체되며,
+     * 이미 이전 전략으로 선택 중인 디스패치는 이전 전략으로 끝까지 선택하므로 실패하거나 중단되지 않습니다.
+     * 바꾼 전략은 이 노드에만 적용되며 재시작하면 풀 설정의 전략으로 돌아갑니다.
+     *
+     * @param pool 풀 이름
+     * @param strategy 새 전략 이름. null이면 풀 설정의 전략으로 되돌립니다.
+     * @return 변경 후 선택 전략 상태
+     * @throws PoolNotFoundException 존재하지 않는 풀인 경우
+     * @throws InvalidRequestException 지원하지 않는 전략인 경우
+     */
+    public PoolStrategyStatus switchStrategy(String pool, String strategy) {
+        SnapshotLoadBalancer<ServerInstance> balancer = requireBalancer(pool);
+        String target = strategy != null ? strategy : poolProperties.settingsFor(pool).getStrategy();
+        if (!strategyRegistry.getStrategyNames().contains(target)) {
+            throw new InvalidRequestException("지원하지 않는 선택 전략입니다: " + target + " (사용 가능: " + strategyRegistry.getStrategyNames() + ")");
+        }
+        LoadBalancingStrategy<ServerInstance> created = strategyRegistry.create(target); // 지원하지 않는 전략이면 아무것도 바꾸지 않습니다.
+        synchronized (strategyOverrides) {
+            if (strategy != null) {
+                strategyOverrides.put(pool, target);
+            } else {
+                strategyOverrides.remove(pool);
+            }
+            balancer.setStrategy(created);
+            zoneBalancers.getOrDefault(pool, Map.of()).values()
+                    .forEach(zone -> zone.balancer().setStrategy(strategyRegistry.create(target)));
+        }
+        log.info("풀 '{}'의 선택 전략을 '{}'(으)로 변경했습니다.", pool, target);
+        return strategyStatusOf(pool);
+    }
+
+    private PoolStrategyStatus strategyStatusOf(String pool) {
+        return new PoolStrategyStatus(pool, strategyOf(pool), poolProperties.settingsFor(pool).getStrategy(),
+                strategyRegistry.getStrategyNames());
+    }
+
+    private SnapshotLoadBalancer<ServerInstance> requireBalancer(String pool) {
+        SnapshotLoadBalancer<ServerInstance> balancer = balancers.get(pool);
+        if (balancer == null) {
+            throw new PoolNotFoundException("풀 '" + pool + "'을(를) 찾을 수 없습니다.");
+        }
+        return balancer;
+    }
+
+    /**
+     * 디스패치받은 서버로 보낸 요청의 결과를 해당 서버의 서킷 브레이커와 선택 전략에 기록하고, 임대를 반납합니다.
+     *
+     * @param outcome 요청 결과
+     * @throws ServerNotFoundException 추적 중인 서버가 아닌 경우
+     */
+    public void reportOutcome(RequestOutcome outcome) {
+        ServerInstance server = healthStates.get(outcome.getServerId());
+        if (server == null) {
+            throw new ServerNotFoundException("ID " + outcome.getServerId() + "에 해당하는 서버를 찾을 수 없습니다.");
+        }
+        circuitBreakerRegistry.record(outcome.getServerId(), outcome.isSuccess());
+        notifyStrategies(server, outcome.isSuccess(), -1);
+        serverDrainRegistry.onLeaseReturned(outcome.getServerId());
+    }
+
+    /**
+     * 요청 결과를 서버가 속한 풀과 영역의 선택 전략에 전달합니다 ({@link LoadBalancingStrategy#onOutcome}).
+     *
+     * @param server 요청을 보낸 서버
+     * @param success 요청 성공 여부
+     * @param latencyNanos 요청 지연 시간 (나노초). 알 수 없으면 -1.
+     */
+    public void notifyStrategies(ServerInstance server, boolean success, long latencyNanos) {
+        forEachStrategy(server, strategy -> strategy.onOutcome(server, success, latencyNanos));
+    }
+
+    // 서버가 속한 풀과 영역 로드 밸런서의 현재 선택 전략에 작업을 적용합니다.
+    private void forEachStrategy(ServerInstance server, Consumer<LoadBalancingStrategy<ServerInstance>> action) {
+        SnapshotLoadBalancer<ServerInstance> balancer = balancers.get(server.getPool());
+        if (balancer != null) {
+            action.accept(balancer.getStrategy());
+        }
+        if (server.getZone() != null) {
+            ZoneBalancer zone = zoneBalancers.getOrDefault(server.getPool(), Map.of()).get(server.getZone());
+            if (zone != null) {
+                action.accept(zone.balancer().getStrategy());
+            }
+        }
+    }
+
+    /**
+     * 백엔드가 보고한 부하를 헬스 상태 테이블에 보고 시각과 함께 기록합니다.
+     * {@code headroom} 전략은 보고로 계산한 여유 용량에 비례하여 서버를 고르며, 보고가 오래될수록 여유 용량을 중립값으로 되돌립니다.
+     * 부하 보고는 이 노드에만 기록되며 피어에게 전달되지 않습니다.
+     *
+     * @param report 부하 보고
+     * @throws ServerNotFoundException 추적 중인 서버가 아닌 경우
+     */
+    public void recordLoad(LoadReport report) {
+        if (!storeLoad(report)) {
+            throw new ServerNotFoundException("ID " + report.getServerId() + "에 해당하는 서버를 찾을 수 없습니다.");
+        }
+    }
+
+    private boolean storeLoad(LoadReport report) {
+        double cpuUtilization = report.getCpuUtilization() != null ? report.getCpuUtilization() : Double.NaN;
+        int queueDepth = report.getQueueDepth() != null ? report.getQueueDepth() : 0;
+        int inFlight = report.getInFlight() != null ? report.getInFlight() : 0;
+        double headroom = loadHeadroom.headroom(cpuUtilization, queueDepth, inFlight);
+        log.debug("서버 {}의 부하 보고: CPU 사용률={}, 대기열={}, 처리 중={}, 여유 용량={}",
+                report.getServerId(), report.getCpuUtilization(), queueDepth, inFlight, headroom);
+        if (!healthStates.recordLoad(report.getServerId(), (float) cpuUtilization, queueDepth, inFlight, (float) headroom,
+                System.currentTimeMillis())) {
+            return false;
+        }
+        ServerInstance server = healthStates.get(report.getServerId());
+        if (server != null) {
+            forEachStrategy(server, strategy -> strategy.onLoadReport(server));
+        }
+        return true;
+    }
+
+    /**
+     * 서버가 보고한 부하로 계산한 현재 여유 용량을 반환합니다 (보고 경과에 따른 감쇠 반영).
+     * {@code headroom} 전략이 새로고침과 부하 보고 때 가중치를 미리 계산하는 데 사용합니다.
+     *
+     * @param server 서버
+     * @return 여유 용량 (0 이상 1 이하). 보고가 없거나 오래되었으면 {@code road.load-report.neutral-headroom}.
+     */
+    public double headroomOf(ServerInstance server) {
+        return healthStates.headroomOf(server.getId(), System.currentTimeMillis(), loadHeadroom);
+    }
+
+    /**
+     * 현재 모든 서버의 헬스 상태를 조회 시점의 서킷 브레이커 상태, 슬로우 스타트 가중치, 헬스 체크 주기,
+     * 마지막 헬스 체크 지연 시간과 헬스 체크 횟수, 마지막 부하 보고와 현재 여유 용량과 함께 서버 ID 순으로 반환합니다.
      * @return 모든 서버의 헬스 상태 목록
      */
     public List<ServerHealthStatus> getAllServerHealthStatuses() {
-        return List.copyOf(serverHealthStatuses.values());
+        List<ServerHealthStatus> statuses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        healthStates.forEach(state -> {
+            boolean reported = state.loadReportedAtMillis() > 0;
+            statuses.add(new ServerHealthStatus(state.item(), state.healthy(), state.lastCheckedMillis(),
+                    circuitBreakerRegistry.stateOf(state.id()),
+                    slowStartRegistry.weightOf(state.id()),
+                    adaptiveProbePolicy.intervalOf(state.id()),
+                    state.latencyMicros() >= 0 ? state.latencyMicros() / 1000.0 : -1,
+                    state.successCount(), state.failureCount(),
+                    reported && !Float.isNaN(state.loadCpuUtilization()) ? (double) state.loadCpuUtilization() : null,
+                    reported ? state.loadQueueDepth() : null,
+                    reported ? state.loadInFlight() : null,
+                    state.loadReportedAtMillis(),
+                    currentHeadroom(state, now)));
+        });
+        statuses.sort(Comparator.comparing(status -> status.getServerInstance().getId()));
+        return statuses;
+    }
+
+    /**
+     * {@link #getAllServerHealthStatuses()}의 버전을 변경 카운터만으로 만들어 반환합니다 (전체 ETag용).
+     * 헬스 상태 테이블 버전(부하 보고 포함), 서킷 브레이커 상태 전환, 헬스 체크 주기 변경, 슬로우 스타트 시작과 종료 카운터를 이어 붙이므로
+     * 어느 하나라도 바뀌면 다른 값이 되며 충돌하지 않습니다. 시간에만 따라 바뀌는 값(진행 중인 슬로우 스타트 가중치, 보고 경과로 감쇠하는
+     * 여유 용량)은 포함하지 않으므로, 다른 변경 없이 시간만 지났으면 버전이 같습니다.
+     */
+    public String healthDetailVersion() {
+        return healthStates.version() + "." + circuitBreakerRegistry.stateVersion() + "."
+                + adaptiveProbePolicy.intervalVersion() + "." + slowStartRegistry.version();
+    }
+
+    // 보고 경과로 감쇠한 여유 용량. 보고가 없으면 중립값입니다.
+    private double currentHeadroom(HealthStateTable.Cursor<ServerInstance> state, long nowMillis) {
+        long reportedAt = state.loadReportedAtMillis();
+        return reportedAt > 0 ? loadHeadroom.decayed(state.loadHeadroom(), nowMillis - reportedAt) : loadHeadroom.neutral();
+    }
+
+    /**
+     * 헬스 상태 테이블의 상태 버전을 반환합니다. 서버 추가, 제거와 헬스 체크 결과를 기록할 때마다 증가하고 부하 보고에는 증가하지 않으므로,
+     * 버전이 같으면 {@link #getServerHealthSummaries()}의 결과도 같습니다.
+     */
+    public long healthVersion() {
+        return healthStates.statusVersion();
+    }
+
+    /**
+     * 현재 모든 서버의 헬스 상태를 ID, 정상 여부, 마지막 확인 시각만 담아 서버 ID 순으로 반환합니다.
+     * 자주 폴링하는 모니터링용이며, 조회 시점에 계산하는 값(서킷 브레이커 상태, 여유 용량 등)은 포함하지 않습니다.
+     * @return 모든 서버의 헬스 상태 요약 목록
+     */
+    public List<ServerHealthSummary> getServerHealthSummaries() {
+        List<ServerHealthSummary> summaries = new ArrayList<>(healthStates.size());
+        healthStates.forEach(state -> summaries.add(new ServerHealthSummary(state.id(), state.healthy(), state.lastCheckedMillis())));
+        summaries.sort(Comparator.comparing(ServerHealthSummary::getId));
+        return summaries;
+    }
+
+    // 적응형 헬스 체크 대상 서버와 헬스 체크 전의 정상 여부
+    private record DueServer(ServerInstance server, boolean wasHealthy) {
+    }
+
+    // 한 영역의 로드 밸런서와, 그 영역의 활성 서버 중 정상 서버 비율 (새로고침 시점에 계산)
+    private record ZoneBalancer(SnapshotLoadBalancer<ServerInstance> balancer, double healthyRatio) {
     }
 
     /**
-     * 헬스 상태 맵을 지웁니다. 주로 테스트용으로 사용됩니다.
+     * 헬스 상태 테이블과 서버별 헬스 체크 주기를 지웁니다. 주로 테스트용으로 사용됩니다.
      */
     public void clearServerHealthStatuses() {
-        this.serverHealthStatuses.clear();
+        this.healthStates.clear();
+        adaptiveProbePolicy.clear();
+        probesInFlight.clear();
     }
 
 
@@ -0,0 +1,135 @@
+package com.example.road.service;
+
+import com.example.road.common.TokenBucket;
+import com.example.road.data.RateLimitStats;
+import com.example.road.data.ServerInstance;
+import com.example.road.data.ServerRateLimitStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 서버별 최대 초당 요청 수({@link ServerInstance#getMaxRps()})를 디스패치 시점에 강제하는 서비스입니다.
+ *
+ * <p>서버마다 용량이 1초 분량인 {@link TokenBucket}을 두고, 로드 밸런서가 서버를 선택할 때마다 토큰을 하나 사용합니다.
+ * 토큰이 없는 서버는 선택에서 건너뛰어 다음 서버가 선택됩니다. 선택 경로에서는 맵 조회와 CAS만 수행하며 락을 사용하지 않습니다.
+ * 건너뛴 선택 수는 서버별/전체로 집계하고, 초당 건너뛴 선택 수를 1초마다 계산합니다.</p>
+ *
+ * <p>{@code maxRps}는 서버가 받는 전체 요청 수의 상한이므로, 클러스터 모드에서는 재시도 예산과 같이 살아 있는 노드 수
+ * ({@link ClusterCoordinator#getLiveNodeCount()})로 나눈 값(올림)을 이 노드의 초당 한도로 사용합니다.
+ * 노드 수가 바뀌면 다음 선택에서 버킷을 새 한도로 다시 만듭니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ServerRateLimiter {
+
+    private final ClusterCoordinator clusterCoordinator;
+
+    // key: serverId, value: 해당 서버의 토큰 버킷과 버킷을 만들 때의 최대 초당 요청 수, 노드 수
+    private final Map<Long, Limit> limits = new ConcurrentHashMap<>();
+    // key: serverId, value: 요청 수 제한으로 건너뛴 선택 수
+    private final Map<Long, LongAdder> skippedByServer = new ConcurrentHashMap<>();
+
+    private final LongAdder grantedPicks = new LongAdder();
+    private final LongAdder skippedPicks = new LongAdder();
+
+    // 직전 1초 동안 건너뛴 선택 수 (sampleSkipRate가 갱신)
+    private volatile double skippedPerSecond;
+    private long lastSampledSkipped;
+    private long lastSampledAtNanos = System.nanoTime();
+
+    /**
+     * 서버를 선택해도 되는지 판단하고, 선택 가능하면 토큰을 하나 사용합니다.
+     * 최대 초당 요청 수가 없는 서버는 항상 선택 가능합니다.
+     * 이 노드의 한도는 {@code maxRps}를 살아 있는 노드 수로 나눈 값(올림)입니다.
+     *
+     * @param server 선택 후보 서버
+     * @return 선택 가능하면 true, 요청 수 제한을 초과했으면 false
+     */
+    public boolean tryAcquire(ServerInstance server) {
+        Integer maxRps = server.getMaxRps();
+        if (maxRps == null) {
+            return true;
+        }
+        int nodeCount = clusterCoordinator.getLiveNodeCount();
+        Limit limit = limits.get(server.getId());
+        if (limit == null || !limit.matches(maxRps, nodeCount)) {
+            // 처음 선택되었거나 최대 초당 요청 수 또는 노드 수가 변경된 경우에만 버킷을 새로 만듭니다.
+            limit = limits.compute(server.getId(), (id, existing) ->
+                    existing != null && existing.matches(maxRps, nodeCount) ? existing : Limit.of(maxRps, nodeCount));
+        }
+        if (limit.bucket().tryAcquire()) {
+            grantedPicks.increment();
+            return true;
+        }
+        skippedPicks.increment();
+        skippedByServer.computeIfAbsent(server.getId(), id -> new LongAdder()).increment();
+        return false;
+    }
+
+    /**
+     * 삭제된 서버의 토큰 버킷과 집계를 제거합니다.
+     * @param serverId 서버 ID
+     */
+    public void remove(Long serverId) {
+        limits.remove(serverId);
+        skippedByServer.remove(serverId);
+    }
+
+    /**
+     * 1초마다 건너뛴 선택 수의 증가량으로 초당 건너뛴 선택 수를 계산합니다.
+     */
+    @Scheduled(fixedRate = 1000)
+    public synchronized void sampleSkipRate() {
+        long now = System.nanoTime();
+        long skipped = skippedPicks.sum();
+        double elapsedSeconds = (now - lastSampledAtNanos) / 1_000_000_000.0;
+        if (elapsedSeconds > 0) {
+            skippedPerSecond = (skipped - lastSampledSkipped) / elapsedSeconds;
+        }
+        lastSampledSkipped = skipped;
+        lastSampledAtNanos = now;
+    }
+
+    /**
+     * 요청 수 제한 집계를 반환합니다.
+     * @return 전체 및 서버별 요청 수 제한 집계
+     */
+    public RateLimitStats getStats() {
+        long granted = grantedPicks.sum();
+        long skipped = skippedPicks.sum();
+        List<ServerRateLimitStatus> servers = limits.entrySet().stream()
+                .map(entry -> {
+                    LongAdder serverSkipped = skippedByServer.get(entry.getKey());
+                    Limit limit = entry.getValue();
+                    return new ServerRateLimitStatus(entry.getKey(), limit.maxRps(), limit.bucket().getRatePerSecond(),
+                            serverSkipped != null ? serverSkipped.sum() : 0L);
+                })
+                .sorted(Comparator.comparing(ServerRateLimitStatus::getServerId))
+                .collect(Collectors.toList());
+        double skipRatio = granted + skipped > 0 ? (double) skipped / (granted + skipped) : 0.0;
+        return new RateLimitStats(granted, skipped, skipRatio, skippedPerSecond, servers);
+    }
+
+    // 서버의 최대 초당 요청 수를 노드 수로 나눈 한도의 토큰 버킷 (용량 1초 분량)
+    private record Limit(int maxRps, int nodeCount, TokenBucket bucket) {
+
+        static Limit of(int maxRps, int nodeCount) {
+            int nodeRps = (int) Math.ceil((double) maxRps / nodeCount);
+            return new Limit(maxRps, nodeCount, new TokenBucket(nodeRps, nodeRps));
+        }
+
+        boolean matches(int maxRps, int nodeCount) {
+            return this.maxRps == maxRps && this.nodeCount == nodeCount;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.road.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서버 레지스트리(서버 목록)의 버전입니다. 관리 API의 조건부 조회(ETag)에 사용됩니다.
+ *
+ * <p>관리 API로 서버를 추가, 수정, 삭제하거나 드레이닝이 끝나 비활성화하면 {@link ServerAdminService}가 버전을 올립니다.
+ * 다른 노드나 데이터베이스에서 직접 바뀐 서버는 로드 밸런서가 새로고침에서 변경을 발견할 때 버전을 올리므로
+ * ({@link ServerLoadBalancer}), 늦어도 다음 새로고침 주기에는 반영됩니다.</p>
+ */
+@Service
+public class ServerRegistryVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 현재 버전을 반환합니다. 조회 결과와 함께 쓸 버전은 조회 전에 읽어야 조회 중의 변경을 놓치지 않습니다.
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * 서버 레지스트리가 바뀌었음을 기록합니다.
+     */
+    public void increment() {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.road.service;
+
+import com.example.road.data.ServerInstance;
+import com.example.road.data.ServerSnapshot;
+import com.example.road.data.ServerSnapshotDelta;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 건강한 서버 집합의 버전 관리 스냅샷과 변경 스트림을 제공하는 서비스입니다.
+ * {@link ServerLoadBalancer#refreshServers()}가 새 건강 서버 목록을 {@link #publish(List)}하면,
+ * 멤버십이 실제로 바뀐 경우에만 버전을 올리고 구독자에게 변경분({@link ServerSnapshotDelta})을 푸시합니다.
+ * 클라이언트는 이 스냅샷을 로컬에 보관하고 변경 시에만 갱신하여 매 요청마다 디스패치를 호출하지 않아도 됩니다.
+ * 버전은 프로세스마다 0부터 시작하므로 스냅샷에 프로세스 에포크를 함께 담으며, 롱 폴링은 에포크가 다르거나
+ * 클라이언트의 버전이 현재 버전보다 크면(재시작 전의 버전) 기다리지 않고 전체 스냅샷을 반환합니다.
+ */
+@Service
+@Slf4j
+public class ServerSnapshotService {
+
+    // 이 프로세스의 스냅샷 에포크. 재시작하거나 다른 레플리카로 연결되면 클라이언트가 버전을 비교하지 않고 전체 스냅샷을 받습니다.
+    private final String epoch = UUID.randomUUID().toString();
+
+    private volatile ServerSnapshot current = new ServerSnapshot(epoch, 0L, System.currentTimeMillis(), List.of());
+
+    // 느린 구독자가 다른 구독자를 막지 않도록 best-effort 멀티캐스트를 사용합니다.
+    private final Sinks.Many<ServerSnapshotDelta> deltaSink = Sinks.many().multicast().directBestEffort();
+
+    /**
+     * 새 건강 서버 목록을 반영합니다. 이전 스냅샷과 멤버십이 같으면 아무 것도 하지 않습니다.
+     *
+     * @param healthyServers 로드 밸런서에 적용된 건강한 서버 목록
+     * @return 변경이 있어 새 버전이 발행되었으면 true
+     */
+    public synchronized boolean publish(List<ServerInstance> healthyServers) {
+        ServerSnapshot previous = current;
+        Map<Long, ServerInstance> previousById = previous.getServers().stream()
+                .collect(Collectors.toMap(ServerInstance::getId, Function.identity(), (a, b) -> a));
+        Map<Long, ServerInstance> nextById = healthyServers.stream()
+                .collect(Collectors.toMap(ServerInstance::getId, Function.identity(), (a, b) -> a));
+
+        List<ServerInstance> added = new ArrayList<>();
+        for (ServerInstance server : healthyServers) {
+            ServerInstance before = previousById.get(server.getId());
+            if (before == null || !before.hasSameInfo(server)) {
+                added.add(server);
+            }
+        }
+        List<Long> removed = previousById.keySet().stream()
+                .filter(id -> !nextById.containsKey(id))
+                .collect(Collectors.toList());
+
+        if (added.isEmpty() && removed.isEmpty()) {
+            return false;
+        }
+
+        ServerSnapshot next = new ServerSnapshot(epoch, previous.getVersion() + 1, System.currentTimeMillis(), List.copyOf(healthyServers));
+        current = next;
+        log.info("서버 스냅샷 버전 {} -> {} (추가/변경: {}개, 제거: {}개)", previous.getVersion(), next.getVersion(), added.size(), removed.size());
+        deltaSink.tryEmitNext(new ServerSnapshotDelta(previous.getVersion(), next.getVersion(), added, removed));
+        return true;
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     * @return 현재 건강 서버 스냅샷
+     */
+    public ServerSnapshot getSnapshot() {
+        return current;
+    }
+
+    /**
+     * 이 프로세스의 스냅샷 에포크를 반환합니다.
+     */
+    public String getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * 주어진 버전보다 새로운 스냅샷이 생길 때까지 기다립니다 (롱 폴링).
+     * 이미 더 새로운 버전이 있으면 즉시 반환하고, 타임아웃까지 변경이 없으면 빈 Mono를 반환합니다.
+     * 클라이언트의 에포크가 이 프로세스의 에포크와 다르거나 클라이언트의 버전이 현재 버전보다 크면,
+     * 다른 프로세스의 버전이므로 기다리지 않고 현재 스냅샷을 반환합니다.
+     *
+     * @param sinceEpoch 클라이언트가 가진 스냅샷의 에포크. null이면 에포크를 비교하지 않습니다.
+     * @param sinceVersion 클라이언트가 가진 스냅샷 버전
+     * @param timeout 최대 대기 시간
+     * @return 더 새로운 스냅샷 또는 빈 Mono
+     */
+    public Mono<ServerSnapshot> awaitChange(String sinceEpoch, long sinceVersion, Duration timeout) {
+        if ((sinceEpoch != null && !sinceEpoch.equals(epoch)) || sinceVersion > current.getVersion()) {
+            log.debug("스냅샷 에포크 또는 버전이 맞지 않아 전체 스냅샷을 반환합니다. (클라이언트: {}/{}, 현재: {}/{})",
+                    sinceEpoch, sinceVersion, epoch, current.getVersion());
+            return Mono.just(current);
+        }
+        // 변경 스트림을 먼저 구독한 뒤 현재 버전을 확인하여, 두 동작 사이의 변경을 놓치지 않습니다.
+        return Flux.merge(
+                        deltaSink.asFlux().map(delta -> current),
+                        Mono.fromSupplier(() -> current))
+                .filter(snapshot -> snapshot.getVersion() > sinceVersion)
+                .next()
+                .timeout(timeout, Mono.empty());
+    }
+
+    /**
+     * 멤버십 변경분 스트림을 반환합니다. 구독 이후 발생한 변경만 전달됩니다.
+     * @return 변경분 Flux
+     */
+    public Flux<ServerSnapshotDelta> deltas() {
+        return deltaSink.asFlux();
+    }
+}
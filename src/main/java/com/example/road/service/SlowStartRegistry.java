@@ -0,0 +1,113 @@
+package com.example.road.service;
+
+import com.example.road.config.SlowStartProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 새로 정상이 되었거나 새로 추가된 서버의 슬로우 스타트 상태를 관리하는 서비스입니다.
+ *
+ * <p>슬로우 스타트 중인 서버의 유효 가중치는 시작 시각부터 경과한 시간으로 선택 시점에 계산하며(맵 조회와 산술 연산만 수행),
+ * 로드 밸런서는 서버를 가중치 확률로만 선호합니다. 따라서 가중치가 바뀔 때마다 로드 밸런서를 다시 만들 필요가 없습니다.
+ * 슬로우 스타트가 끝난 서버는 다음 조회 때 맵에서 제거됩니다.</p>
+ *
+ * <p>{@link #version()}은 슬로우 스타트의 시작과 제거마다 증가합니다. 진행 중인 가중치는 시간에 따라 계속 바뀌므로 버전에 반영되지 않습니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlowStartRegistry {
+
+    private final SlowStartProperties slowStartProperties;
+
+    // key: serverId, value: 슬로우 스타트 시작 시각 (System.nanoTime)
+    private final Map<Long, Long> rampStartNanos = new ConcurrentHashMap<>();
+    // 슬로우 스타트의 시작과 제거(종료 포함)마다 증가하는 버전
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 서버의 슬로우 스타트를 시작합니다. 슬로우 스타트가 비활성화되어 있으면 아무것도 하지 않습니다.
+     * @param serverId 서버 ID
+     */
+    public void start(Long serverId) {
+        if (slowStartProperties.getWindowMs() <= 0) {
+            return;
+        }
+        rampStartNanos.put(serverId, System.nanoTime());
+        version.incrementAndGet();
+        log.info("서버 {}의 슬로우 스타트를 시작합니다. 기간: {}ms, 곡선: {}", serverId, slowStartProperties.getWindowMs(), slowStartProperties.getCurve());
+    }
+
+    /**
+     * 서버의 슬로우 스타트 상태를 제거합니다.
+     * @param serverId 서버 ID
+     */
+    public void remove(Long serverId) {
+        if (rampStartNanos.remove(serverId) != null) {
+            version.incrementAndGet();
+        }
+    }
+
+    /**
+     * 슬로우 스타트 상태의 버전을 반환합니다. 슬로우 스타트가 시작되거나 끝나거나 제거될 때마다 증가합니다.
+     * 조회 없이 기간이 지난 슬로우 스타트도 반영되도록, 반환하기 전에 끝난 슬로우 스타트를 맵에서 제거합니다.
+     */
+    public long version() {
+        long now = System.nanoTime();
+        long windowNanos = TimeUnit.MILLISECONDS.toNanos(slowStartProperties.getWindowMs());
+        rampStartNanos.forEach((serverId, startedAt) -> {
+            if (now - startedAt >= windowNanos && rampStartNanos.remove(serverId, startedAt)) {
+                version.incrementAndGet();
+            }
+        });
+        return version.get();
+    }
+
+    /**
+     * 서버의 현재 유효 가중치를 반환합니다.
+     * @param serverId 서버 ID
+     * @return 0 초과 1 이하의 가중치. 슬로우 스타트 중이 아니면 1.
+     */
+    public double weightOf(Long serverId) {
+        return weightOf(serverId, System.nanoTime());
+    }
+
+    double weightOf(Long serverId, long nowNanos) {
+        Long startedAt = rampStartNanos.get(serverId);
+        if (startedAt == null) {
+            return 1.0;
+        }
+        double progress = (double) (nowNanos - startedAt) / TimeUnit.MILLISECONDS.toNanos(slowStartProperties.getWindowMs());
+        if (progress >= 1.0) {
+            if (rampStartNanos.remove(serverId, startedAt)) {
+                version.incrementAndGet();
+            }
+            return 1.0;
+        }
+        double minWeight = slowStartProperties.getMinWeight();
+        return switch (slowStartProperties.getCurve()) {
+            case LINEAR -> minWeight + (1.0 - minWeight) * progress;
+            case EXPONENTIAL -> Math.pow(minWeight, 1.0 - progress);
+        };
+    }
+
+    /**
+     * 서버를 유효 가중치 확률로 선호할지 결정합니다. 선택 경로에서 호출됩니다.
+     * @param serverId 서버 ID
+     * @return 선호하면 true (슬로우 스타트 중이 아니면 항상 true)
+     */
+    public boolean admit(Long serverId) {
+        if (rampStartNanos.isEmpty()) {
+            return true;
+        }
+        double weight = weightOf(serverId);
+        return weight >= 1.0 || ThreadLocalRandom.current().nextDouble() < weight;
+    }
+}
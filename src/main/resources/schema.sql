@@ -2,5 +2,14 @@ CREATE TABLE servers (
     id INT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
     url VARCHAR(255) NOT NULL,
-    active BOOLEAN NOT NULL
-);
\ No newline at end of file
+    active BOOLEAN NOT NULL,
+    pool VARCHAR(64) NOT NULL DEFAULT 'default',
+    max_rps INT NULL,
+    zone VARCHAR(64) NULL,
+    probe_type VARCHAR(8) NOT NULL DEFAULT 'HTTP',
+    probe_path VARCHAR(255) NULL,
+    probe_expected_status VARCHAR(7) NULL,
+    probe_body_contains VARCHAR(255) NULL
+);
+
+CREATE INDEX idx_servers_pool ON servers (pool);
\ No newline at end of file
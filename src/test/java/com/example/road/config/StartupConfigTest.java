@@ -0,0 +1,43 @@
+package com.example.road.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(StartupConfig.class, AdminController.class, DispatchController.class);
+
+    @Test
+    @DisplayName("road.startup.lazy-admin=true면 관리 API 컨트롤러만 지연 초기화되는지 테스트")
+    void lazyAdminControllers() {
+        contextRunner.withPropertyValues("road.startup.lazy-admin=true").run(context -> {
+            assertThat(context.getBeanFactory().getBeanDefinition(context.getBeanNamesForType(AdminController.class)[0]).isLazyInit()).isTrue();
+            assertThat(context.getBeanFactory().getBeanDefinition(context.getBeanNamesForType(DispatchController.class)[0]).isLazyInit()).isFalse();
+            // 지연 초기화된 컨트롤러도 요청 시점에 만들어집니다.
+            assertThat(context.getBean(AdminController.class)).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("road.startup.lazy-admin이 꺼져 있으면 관리 API 컨트롤러도 즉시 초기화되는지 테스트")
+    void eagerByDefault() {
+        contextRunner.run(context ->
+                assertThat(context.getBeanFactory().getBeanDefinition(context.getBeanNamesForType(AdminController.class)[0]).isLazyInit()).isFalse());
+    }
+
+    @RestController
+    @RequestMapping("/api/admin/test")
+    static class AdminController {
+    }
+
+    @RestController
+    @RequestMapping("/api")
+    static class DispatchController {
+    }
+}
@@ -1,14 +1,135 @@
 package com.example.road.controller;
 
+import com.example.road.config.AdmissionProperties;
+import com.example.road.data.ServerInstance;
+import com.example.road.exception.InvalidRequestException;
+import com.example.road.service.DispatchAdmissionService;
 import com.example.road.service.ServerLoadBalancer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 // WebMvcTest는 웹 계층(컨트롤러) 테스트에 필요한 빈만 로드합니다.
 @WebMvcTest(LoadBalancerController.class)
+@Import({DispatchAdmissionService.class, AdmissionProperties.class})
 class LoadBalancerControllerTest {
 
+    @Autowired
+    private MockMvc mockMvc;
+
     @MockBean
     private ServerLoadBalancer serverLoadBalancer; // ServerLoadBalancer는 MockBean으로 주입됩니다.
 
-}
\ No newline at end of file
+    @Autowired
+    private AdmissionProperties admissionProperties;
+
+    @Test
+    @DisplayName("GET /api/dispatch?count=N 요청 시 N개의 서버 선택을 반환하는지 테스트")
+    void dispatchBatchReturnsSelectedServers() throws Exception {
+        ServerInstance a = new ServerInstance(1L, "Server A", "http://localhost:9001", true);
+        ServerInstance b = new ServerInstance(2L, "Server B", "http://localhost:9002", true);
+        when(serverLoadBalancer.getNextServers(3)).thenReturn(List.of(a, b, a));
+
+        mockMvc.perform(get("/api/dispatch").param("count", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Server A"))
+                .andExpect(jsonPath("$[1].name").value("Server B"))
+                .andExpect(jsonPath("$[2].name").value("Server A"));
+    }
+
+    @Test
+    @DisplayName("사용 가능한 서버가 없으면 배치 디스패치가 503을 반환하는지 테스트")
+    void dispatchBatchReturns503WhenNoServers() throws Exception {
+        when(serverLoadBalancer.getNextServers(2)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/dispatch").param("count", "2"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 count는 400, 내부 검사에서 발생한 IllegalArgumentException은 500을 반환하는지 테스트")
+    void dispatchBatchMapsOnlyInvalidRequestsToBadRequest() throws Exception {
+        when(serverLoadBalancer.getNextServers(0)).thenThrow(new InvalidRequestException("count는 1 이상 1000 이하여야 합니다: 0"));
+        when(serverLoadBalancer.getNextServers(5)).thenThrow(new IllegalArgumentException("capacity는 1 이상이어야 합니다: 0"));
+
+        mockMvc.perform(get("/api/dispatch").param("count", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("count는 1 이상 1000 이하여야 합니다: 0"));
+        mockMvc.perform(get("/api/dispatch").param("count", "5"))
+                .andExpect(status().isInternalServerError());
+    }
+
+    @Test
+    @DisplayName("GET /api/dispatch/{pool}?zone=Z 요청 시 호출자의 영역이 로드 밸런서에 전달되는지 테스트")
+    void dispatchPoolWithZonePassesZone() throws Exception {
+        ServerInstance a = new ServerInstance(1L, "Server A", "http://localhost:9001", true, "payments");
+        a.setZone("zone-a");
+        when(serverLoadBalancer.getNextServer("payments", "zone-a")).thenReturn(Optional.of(a));
+
+        mockMvc.perform(get("/api/dispatch/payments").param("zone", "zone-a"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Server A"))
+                .andExpect(jsonPath("$.zone").value("zone-a"));
+    }
+
+    @Test
+    @DisplayName("과부하로 거절된 디스패치 요청은 기다리지 않고 503과 Retry-After를 받는지 테스트")
+    void dispatchRejectedWhenAdmissionIsFull() throws Exception {
+        admissionProperties.setMaxWaiters(0);
+        try {
+            mockMvc.perform(get("/api/dispatch").header("X-Road-Priority", "low"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "1"));
+        } finally {
+            admissionProperties.setMaxWaiters(200);
+        }
+        verify(serverLoadBalancer, never()).getNextServer();
+    }
+
+    @Test
+    @DisplayName("POST /api/dispatch/outcome 요청 시 요청 결과가 서킷 브레이커에 전달되는지 테스트")
+    void reportOutcomeForwardsToLoadBalancer() throws Exception {
+        mockMvc.perform(post("/api/dispatch/outcome")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"serverId\": 1, \"success\": false}"))
+                .andExpect(status().isAccepted());
+
+        verify(serverLoadBalancer).reportOutcome(argThat(outcome -> outcome.getServerId() == 1L && !outcome.isSuccess()));
+    }
+
+    @Test
+    @DisplayName("POST /api/load-report 요청 시 부하 보고가 로드 밸런서에 전달되고, 음수 값은 400으로 거절되는지 테스트")
+    void reportLoadForwardsToLoadBalancer() throws Exception {
+        mockMvc.perform(post("/api/load-report")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"serverId\": 1, \"cpuUtilization\": 0.4, \"queueDepth\": 3}"))
+                .andExpect(status().isAccepted());
+
+        verify(serverLoadBalancer).recordLoad(argThat(report -> report.getServerId() == 1L
+                && report.getCpuUtilization() == 0.4 && report.getQueueDepth() == 3 && report.getInFlight() == null));
+
+        mockMvc.perform(post("/api/load-report")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"serverId\": 1, \"queueDepth\": -1}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.road.controller;
 
+import com.example.road.data.PoolStrategyStatus;
 import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerHealthSummary;
 import com.example.road.data.ServerInstance;
+import com.example.road.exception.InvalidRequestException;
+import com.example.road.exception.PoolNotFoundException;
+import com.example.road.service.DashboardEventService;
+import com.example.road.service.ServerDrainRegistry;
 import com.example.road.service.ServerLoadBalancer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,20 +17,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -32,7 +44,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @SpringBootTest // 전체 애플리케이션 컨텍스트를 로드합니다.
 @AutoConfigureMockMvc // MockMvc를 자동 구성합니다.
-@Transactional // 각 테스트가 끝날 때 트랜잭션을 롤백하여 데이터 일관성을 유지합니다.
+// 서버 저장소는 요청 스레드가 아닌 스레드에서 쿼리하므로 테스트 트랜잭션으로 감싸지 않고, 각 테스트 전에 테이블을 다시 만듭니다.
 class ServerAdminControllerIntegrationTest {
 
     @Autowired
@@ -44,6 +56,12 @@ class ServerAdminControllerIntegrationTest {
     @Autowired
     private JdbcTemplate jdbcTemplate; // 데이터베이스 초기화를 위한 JdbcTemplate 주입
 
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
+    @Autowired
+    private ServerDrainRegistry serverDrainRegistry;
+
     @MockBean
     private ServerLoadBalancer serverLoadBalancer; // ServerLoadBalancer를 MockBean으로 주입
 
@@ -58,7 +76,14 @@ class ServerAdminControllerIntegrationTest {
                              "id INT AUTO_INCREMENT PRIMARY KEY," +
                              "name VARCHAR(255) NOT NULL," +
                              "url VARCHAR(255) NOT NULL," +
-                             "active BOOLEAN NOT NULL" +
+                             "active BOOLEAN NOT NULL," +
+                             "pool VARCHAR(64) NOT NULL DEFAULT 'default'," +
+                             "max_rps INT NULL," +
+                             "zone VARCHAR(64) NULL," +
+                             "probe_type VARCHAR(8) NOT NULL DEFAULT 'HTTP'," +
+                             "probe_path VARCHAR(255) NULL," +
+                             "probe_expected_status VARCHAR(7) NULL," +
+                             "probe_body_contains VARCHAR(255) NULL" +
                              ");");
         jdbcTemplate.execute("INSERT INTO servers (name, url, active) VALUES ('Server A', 'http://localhost:9001', true);");
         jdbcTemplate.execute("INSERT INTO servers (name, url, active) VALUES ('Server B', 'http://localhost:9002', true);");
@@ -94,23 +119,30 @@ class ServerAdminControllerIntegrationTest {
 
     // --- Test helper methods to reduce duplication ---
     private ResultActions performGet(String url) throws Exception {
-        return mockMvc.perform(get(url));
+        return perform(get(url));
     }
 
     private ResultActions performPostJson(String url, Object body) throws Exception {
-        return mockMvc.perform(post(url)
+        return perform(post(url)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(body)));
     }
 
     private ResultActions performPutJson(String url, Object body, Object... uriVars) throws Exception {
-        return mockMvc.perform(put(url, uriVars)
+        return perform(put(url, uriVars)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(body)));
     }
 
     private ResultActions performDelete(String url, Object... uriVars) throws Exception {
-        return mockMvc.perform(delete(url, uriVars));
+        return perform(delete(url, uriVars));
+    }
+
+    // 레지스트리 엔드포인트는 Mono를 반환하여 비동기로 처리되므로, 비동기 처리가 시작되었으면 결과를 디스패치하여 최종 응답을 받습니다.
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        ResultActions actions = mockMvc.perform(request);
+        MvcResult result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mockMvc.perform(asyncDispatch(result)) : actions;
     }
 
     // ----------------------------------------------
@@ -216,6 +248,31 @@ class ServerAdminControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("ID가 99인 서버를 찾을 수 없습니다."));
     }
 
+    @Test
+    @DisplayName("서버 드레이닝 시작, 진행 상황 조회, 취소 통합 테스트")
+    void drainServerIntegrationTest() throws Exception {
+        serverDrainRegistry.onLeased(1L); // 임대가 남아 있어 드레이닝이 테스트 중에 끝나지 않습니다.
+        try {
+            perform(post("/api/admin/servers/{id}/drain", 1L).param("timeoutMs", "60000"))
+                    .andExpect(status().isAccepted())
+                    .andExpect(jsonPath("$.serverName").value("Server A"))
+                    .andExpect(jsonPath("$.action").value("DELETE"))
+                    .andExpect(jsonPath("$.outstandingLeases").value(1))
+                    .andExpect(jsonPath("$.completed").value(false));
+
+            performGet("/api/admin/servers/drains")
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.length()").value(1))
+                    .andExpect(jsonPath("$[0].serverId").value(1));
+
+            performDelete("/api/admin/servers/{id}/drain", 1L).andExpect(status().isNoContent());
+            performDelete("/api/admin/servers/{id}/drain", 1L).andExpect(status().isNotFound());
+            perform(post("/api/admin/servers/{id}/drain", 99L)).andExpect(status().isNotFound());
+        } finally {
+            serverDrainRegistry.remove(1L);
+        }
+    }
+
     @Test
     @DisplayName("GET /api/admin/servers/health 엔드포인트가 서버 헬스 상태 목록을 반환하는지 테스트")
     void getAllServerHealthEndpointReturnsHealthStatuses() throws Exception {
@@ -238,10 +295,149 @@ class ServerAdminControllerIntegrationTest {
         verify(serverLoadBalancer, times(1)).getAllServerHealthStatuses();
     }
 
+    @Test
+    @DisplayName("서버 목록이 바뀌지 않았으면 If-None-Match에 304를 반환하고, 서버를 추가하면 새 ETag로 목록을 반환하는지 테스트")
+    void getAllServersReturnsNotModifiedUntilRegistryChanges() throws Exception {
+        String etag = performGet("/api/admin/servers")
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotNull();
+
+        perform(get("/api/admin/servers").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        performPostJson("/api/admin/servers", new ServerInstance(null, "Server D", "http://localhost:9004", true))
+                .andExpect(status().isOk());
+
+        String changed = perform(get("/api/admin/servers").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("헬스 상태 요약(view=compact)은 ID, 정상 여부, 확인 시각만 반환하고, 헬스 상태 버전이 같으면 목록을 만들지 않고 304를 반환하는지 테스트")
+    void compactHealthViewUsesHealthVersionEtag() throws Exception {
+        when(serverLoadBalancer.healthVersion()).thenReturn(7L);
+        when(serverLoadBalancer.getServerHealthSummaries()).thenReturn(List.of(
+                new ServerHealthSummary(1L, true, 1000L),
+                new ServerHealthSummary(2L, false, 2000L)));
+
+        String etag = performGet("/api/admin/servers/health?view=compact")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2))
+                .andExpect(jsonPath("$[1].healthy").value(false))
+                .andExpect(jsonPath("$[1].lastCheckedTimestamp").value(2000))
+                .andExpect(jsonPath("$[0].serverInstance").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        // ETag는 프로세스 시작 시각으로 시작하므로, 재시작 전의 같은 버전 ETag("hc7")와는 일치하지 않습니다.
+        assertThat(etag).endsWith("-hc7\"").isNotEqualTo("\"hc7\"");
+
+        perform(get("/api/admin/servers/health").param("view", "compact").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        perform(get("/api/admin/servers/health").param("view", "compact").header(HttpHeaders.IF_NONE_MATCH, "\"hc7\""))
+                .andExpect(status().isOk());
+        verify(serverLoadBalancer, times(2)).getServerHealthSummaries();
+
+        // 전체 헬스 상태는 다른 ETag를 사용하므로 요약의 ETag로는 304가 되지 않습니다.
+        perform(get("/api/admin/servers/health").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        when(serverLoadBalancer.healthVersion()).thenReturn(8L);
+        perform(get("/api/admin/servers/health").param("view", "compact").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag.replace("-hc7", "-hc8")));
+    }
+
+    @Test
+    @DisplayName("전체 헬스 상태는 변경 카운터가 같으면 목록을 만들지 않고 304를 반환하고, 카운터가 바뀌면 목록을 다시 반환하는지 테스트")
+    void fullHealthViewChecksEtagBeforeBuildingStatuses() throws Exception {
+        when(serverLoadBalancer.healthDetailVersion()).thenReturn("3.0.0.0");
+        when(serverLoadBalancer.getAllServerHealthStatuses()).thenReturn(List.of(
+                new ServerHealthStatus(new ServerInstance(1L, "Server A", "http://localhost:9001", true), true, 1000L)));
+
+        String etag = performGet("/api/admin/servers/health")
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).endsWith("-hf3.0.0.0\"");
+
+        perform(get("/api/admin/servers/health").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(serverLoadBalancer, times(1)).getAllServerHealthStatuses();
+
+        // 헬스 상태 테이블 버전이 같아도 서킷 브레이커 상태가 전환되면 새 ETag로 목록을 반환합니다.
+        when(serverLoadBalancer.healthDetailVersion()).thenReturn("3.1.0.0");
+        perform(get("/api/admin/servers/health").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag.replace("-hf3.0.0.0", "-hf3.1.0.0")))
+                .andExpect(jsonPath("$.length()").value(1));
+        verify(serverLoadBalancer, times(2)).getAllServerHealthStatuses();
+    }
+
+    @Test
+    @DisplayName("선택 전략 엔드포인트로 풀의 전략을 바꾸고 되돌리며, 지원하지 않는 전략은 400을 반환하는지 테스트")
+    void switchStrategyEndpoint() throws Exception {
+        Set<String> available = Set.of("round-robin");
+        when(serverLoadBalancer.switchStrategy("payments", "round-robin"))
+                .thenReturn(new PoolStrategyStatus("payments", "round-robin", "round-robin", available));
+        when(serverLoadBalancer.switchStrategy("payments", null))
+                .thenReturn(new PoolStrategyStatus("payments", "round-robin", "round-robin", available));
+        when(serverLoadBalancer.switchStrategy("payments", "unknown"))
+                .thenThrow(new InvalidRequestException("지원하지 않는 선택 전략입니다: unknown"));
+
+        mockMvc.perform(put("/api/admin/servers/strategies/{pool}", "payments").param("strategy", "round-robin"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pool").value("payments"))
+                .andExpect(jsonPath("$.strategy").value("round-robin"))
+                .andExpect(jsonPath("$.availableStrategies[0]").value("round-robin"));
+        mockMvc.perform(put("/api/admin/servers/strategies/{pool}", "payments").param("strategy", "unknown"))
+                .andExpect(status().isBadRequest());
+        performDelete("/api/admin/servers/strategies/{pool}", "payments")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.strategy").value("round-robin"));
+
+        verify(serverLoadBalancer).switchStrategy("payments", null);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 풀을 새로고침하면 404를 반환하는지 테스트")
+    void refreshUnknownPoolReturnsNotFound() throws Exception {
+        doThrow(new PoolNotFoundException("풀 'paymnets'을(를) 찾을 수 없습니다.")).when(serverLoadBalancer).refreshPool("paymnets");
+
+        mockMvc.perform(post("/api/admin/servers/refresh").param("pool", "paymnets"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(post("/api/admin/servers/refresh").param("pool", "payments"))
+                .andExpect(status().isOk());
+        verify(serverLoadBalancer).refreshPool("payments");
+    }
+
     @Test
     @DisplayName("인증되지 않은 사용자의 admin 엔드포인트 접근 시 401 Unauthorized 반환 테스트")
     void unauthorizedAccessToAdminEndpointReturns401() throws Exception {
         performGet("/api/admin/servers")
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("서버 추가/삭제 시 대시보드 이벤트 스트림으로 변경분만 푸시되는지 테스트")
+    void adminMutationsPushDashboardEvents() throws Exception {
+        List<ServerSentEvent<Object>> received = new CopyOnWriteArrayList<>();
+        var subscription = dashboardEventService.events().subscribe(received::add);
+        try {
+            ServerInstance newServer = new ServerInstance(null, "Server D", "http://localhost:9004", true);
+            performPostJson("/api/admin/servers", newServer).andExpect(status().isOk());
+            performDelete("/api/admin/servers/{id}", 1L).andExpect(status().isNoContent());
+        } finally {
+            subscription.dispose();
+        }
+
+        assertThat(received).extracting(ServerSentEvent::event).containsExactly("registry-upsert", "registry-delete");
+        assertThat(((ServerInstance) received.get(0).data()).getName()).isEqualTo("Server D");
+        assertThat(received.get(1).data()).isEqualTo(1L);
+    }
 }
\ No newline at end of file
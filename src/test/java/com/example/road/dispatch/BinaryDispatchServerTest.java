@@ -0,0 +1,122 @@
+package com.example.road.dispatch;
+
+import com.example.road.config.DispatchListenerProperties;
+import com.example.road.data.ServerInstance;
+import com.example.road.exception.PoolNotFoundException;
+import com.example.road.service.ServerLoadBalancer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BinaryDispatchServerTest {
+
+    private ServerLoadBalancer serverLoadBalancer;
+    private BinaryDispatchServer server;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        serverLoadBalancer = mock(ServerLoadBalancer.class);
+        DispatchListenerProperties properties = new DispatchListenerProperties();
+        properties.setHost("127.0.0.1");
+        properties.setPort(0);
+        properties.setIoThreads(1);
+        server = new BinaryDispatchServer(properties, serverLoadBalancer);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("한 번에 보낸 여러 요청에 요청 순서대로 응답하고, 풀과 선택 키(영역)를 전달하는지 테스트")
+    void answersPipelinedRequestsInOrder() throws IOException {
+        when(serverLoadBalancer.tryGetNextServer("default", null))
+                .thenReturn(Optional.of(new ServerInstance(1L, "Server A", "http://localhost:9001", true)))
+                .thenReturn(Optional.of(new ServerInstance(1L, "Server A", "http://localhost:9011", true)));
+        when(serverLoadBalancer.tryGetNextServer("payments", "zone-a")).thenReturn(Optional.empty());
+        when(serverLoadBalancer.tryGetNextServer("unknown", null)).thenThrow(new PoolNotFoundException("unknown"));
+
+        try (Socket socket = new Socket("127.0.0.1", server.port())) {
+            // 응답을 기다리지 않고 네 요청을 한 번에 보냅니다.
+            ByteArrayOutputStream requests = new ByteArrayOutputStream();
+            writeRequest(requests, 1, "", "");
+            writeRequest(requests, 2, "payments", "zone-a");
+            writeRequest(requests, 3, "unknown", "");
+            writeRequest(requests, 4, "default", "");
+            socket.getOutputStream().write(requests.toByteArray());
+
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+            assertOk(in, 1, 1L, "http://localhost:9001");
+            assertStatus(in, 2, BinaryDispatchProtocol.STATUS_NO_SERVER);
+            assertStatus(in, 3, BinaryDispatchProtocol.STATUS_POOL_NOT_FOUND);
+            // URL이 바뀐 서버는 다시 인코딩합니다.
+            assertOk(in, 4, 1L, "http://localhost:9011");
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 요청은 BAD_REQUEST로 응답하고, 최대 길이를 넘는 프레임은 연결을 닫는지 테스트")
+    void rejectsMalformedFrames() throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", server.port())) {
+            DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+            DataInputStream in = new DataInputStream(socket.getInputStream());
+
+            // 풀 길이가 10인데 2바이트만 있는 요청
+            out.writeInt(4 + 1 + 2);
+            out.writeInt(7);
+            out.writeByte(10);
+            out.write("ab".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            assertStatus(in, 7, BinaryDispatchProtocol.STATUS_BAD_REQUEST);
+
+            // 길이 필드만 읽고 바로 닫으므로 본문은 보내지 않습니다. 서버가 읽지 않은 본문이 남으면 EOF 대신 연결 리셋이 올 수 있습니다.
+            out.writeInt(BinaryDispatchProtocol.MAX_REQUEST_LENGTH + 1);
+            out.flush();
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    private static void writeRequest(ByteArrayOutputStream target, int requestId, String pool, String key) throws IOException {
+        byte[] poolBytes = pool.getBytes(StandardCharsets.UTF_8);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(4 + 1 + poolBytes.length + 1 + keyBytes.length);
+        out.writeInt(requestId);
+        out.writeByte(poolBytes.length);
+        out.write(poolBytes);
+        out.writeByte(keyBytes.length);
+        out.write(keyBytes);
+    }
+
+    private static void assertOk(DataInputStream in, int requestId, long serverId, String url) throws IOException {
+        int length = in.readInt();
+        assertThat(in.readInt()).isEqualTo(requestId);
+        assertThat(in.readByte()).isEqualTo(BinaryDispatchProtocol.STATUS_OK);
+        assertThat(in.readLong()).isEqualTo(serverId);
+        byte[] urlBytes = new byte[in.readUnsignedShort()];
+        in.readFully(urlBytes);
+        assertThat(new String(urlBytes, StandardCharsets.UTF_8)).isEqualTo(url);
+        assertThat(length).isEqualTo(4 + 1 + 8 + 2 + urlBytes.length);
+    }
+
+    private static void assertStatus(DataInputStream in, int requestId, byte status) throws IOException {
+        assertThat(in.readInt()).isEqualTo(4 + 1);
+        assertThat(in.readInt()).isEqualTo(requestId);
+        assertThat(in.readByte()).isEqualTo(status);
+    }
+}
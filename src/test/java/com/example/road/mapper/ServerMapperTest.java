@@ -34,7 +34,14 @@ class ServerMapperTest {
                              "id INT AUTO_INCREMENT PRIMARY KEY," +
                              "name VARCHAR(255) NOT NULL," +
                              "url VARCHAR(255) NOT NULL," +
-                             "active BOOLEAN NOT NULL" +
+                             "active BOOLEAN NOT NULL," +
+                             "pool VARCHAR(64) NOT NULL DEFAULT 'default'," +
+                             "max_rps INT NULL," +
+                             "zone VARCHAR(64) NULL," +
+                             "probe_type VARCHAR(8) NOT NULL DEFAULT 'HTTP'," +
+                             "probe_path VARCHAR(255) NULL," +
+                             "probe_expected_status VARCHAR(7) NULL," +
+                             "probe_body_contains VARCHAR(255) NULL" +
                              ");");
         jdbcTemplate.execute("INSERT INTO servers (name, url, active) VALUES ('Server A', 'http://localhost:9001', true);");
         jdbcTemplate.execute("INSERT INTO servers (name, url, active) VALUES ('Server B', 'http://localhost:9002', true);");
@@ -70,6 +77,24 @@ class ServerMapperTest {
                 .containsExactlyInAnyOrder("Server A", "Server B", "Server C", "Server D (Inactive)");
     }
 
+    @Test
+    @DisplayName("풀별 서버 목록 조회 테스트")
+    void findServersByPoolTest() {
+        // given: payments 풀에 속한 서버 하나를 추가합니다.
+        jdbcTemplate.execute("INSERT INTO servers (name, url, active, pool) VALUES ('Payments A', 'http://localhost:9101', true, 'payments');");
+
+        // when: payments 풀과 기본 풀의 서버 목록을 조회합니다.
+        List<ServerInstance> paymentsServers = serverMapper.findServersByPool("payments");
+        List<ServerInstance> defaultServers = serverMapper.findServersByPool(ServerInstance.DEFAULT_POOL);
+
+        // then: 각 풀에 속한 서버만 조회되는지 확인합니다.
+        assertThat(paymentsServers)
+                .extracting(ServerInstance::getName)
+                .containsExactly("Payments A");
+        assertThat(paymentsServers.get(0).getPool()).isEqualTo("payments");
+        assertThat(defaultServers).hasSize(4);
+    }
+
     @Test
     @DisplayName("ID로 서버 조회 테스트 - 찾음")
     void findByIdFoundTest() {
@@ -145,6 +170,20 @@ class ServerMapperTest {
         assertThat(foundServer.get().getName()).isEqualTo("Server E");
     }
 
+    @Test
+    @DisplayName("최대 초당 요청 수 저장 및 조회 테스트")
+    void insertServerWithMaxRpsTest() {
+        // given: 최대 초당 요청 수가 설정된 서버
+        ServerInstance newServer = new ServerInstance(null, "Server E", "http://localhost:9005", true, "default", 50);
+
+        // when: 서버를 추가합니다.
+        serverMapper.insertServer(newServer);
+
+        // then: 최대 초당 요청 수가 저장되고, 설정하지 않은 서버는 null로 조회됩니다.
+        assertThat(serverMapper.findById(newServer.getId())).get().extracting(ServerInstance::getMaxRps).isEqualTo(50);
+        assertThat(serverMapper.findById(1L)).get().extracting(ServerInstance::getMaxRps).isNull();
+    }
+
     @Test
     @DisplayName("서버 업데이트 테스트 - 성공")
     void updateServerSuccessTest() {
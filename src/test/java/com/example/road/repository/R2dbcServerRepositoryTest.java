@@ -0,0 +1,99 @@
+package com.example.road.repository;
+
+import com.example.road.config.RegistryProperties;
+import com.example.road.data.ProbeType;
+import com.example.road.data.ServerInstance;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcServerRepositoryTest {
+
+    // JDBC로 스키마를 만들고 R2DBC로 조회하여, 두 드라이버가 같은 인메모리 데이터베이스를 공유하는지도 함께 확인합니다.
+    private static final String JDBC_URL = "jdbc:h2:mem:r2dbc_repository_test;DB_CLOSE_DELAY=-1";
+    private static final String R2DBC_URL = "r2dbc:h2:mem:///r2dbc_repository_test?options=DB_CLOSE_DELAY=-1";
+
+    private R2dbcServerRepository repository;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(JDBC_URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS servers");
+            statement.execute("CREATE TABLE servers (" +
+                              "id INT AUTO_INCREMENT PRIMARY KEY," +
+                              "name VARCHAR(255) NOT NULL," +
+                              "url VARCHAR(255) NOT NULL," +
+                              "active BOOLEAN NOT NULL," +
+                              "pool VARCHAR(64) NOT NULL DEFAULT 'default'," +
+                              "max_rps INT NULL," +
+                              "zone VARCHAR(64) NULL," +
+                              "probe_type VARCHAR(8) NOT NULL DEFAULT 'HTTP'," +
+                              "probe_path VARCHAR(255) NULL," +
+                              "probe_expected_status VARCHAR(7) NULL," +
+                              "probe_body_contains VARCHAR(255) NULL" +
+                              ")");
+            statement.execute("INSERT INTO servers (name, url, active, pool, zone) VALUES ('Server A', 'http://localhost:9001', true, 'default', 'zone-a')");
+            statement.execute("INSERT INTO servers (name, url, active, pool, max_rps) VALUES ('Server B', 'http://localhost:9002', false, 'payments', 100)");
+        }
+        RegistryProperties properties = new RegistryProperties();
+        properties.getR2dbc().setUrl(R2DBC_URL);
+        properties.getR2dbc().setInitialSize(1);
+        properties.getR2dbc().setMaxSize(4);
+        repository = new R2dbcServerRepository(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.destroy();
+    }
+
+    @Test
+    @DisplayName("JDBC로 넣은 서버를 모든 컬럼과 함께 조회하는지 테스트")
+    void findsServersWrittenThroughJdbc() {
+        List<ServerInstance> servers = repository.findAll().collectList().block();
+
+        assertThat(servers).extracting(ServerInstance::getName).containsExactlyInAnyOrder("Server A", "Server B");
+        ServerInstance b = repository.findByPool("payments").single().block();
+        assertThat(b.getName()).isEqualTo("Server B");
+        assertThat(b.isActive()).isFalse();
+        assertThat(b.getMaxRps()).isEqualTo(100);
+        assertThat(b.getZone()).isNull();
+        assertThat(b.getProbeType()).isEqualTo(ProbeType.HTTP);
+        assertThat(repository.findById(b.getId()).block()).isNotNull();
+        assertThat(repository.findById(99L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삽입 시 생성된 ID를 설정하고, 수정과 삭제가 반영된 행 수를 반환하는지 테스트")
+    void insertUpdateDelete() {
+        ServerInstance server = new ServerInstance(null, "Server C", "http://localhost:9003", true);
+        server.setPool("default");
+        server.setProbeType(ProbeType.TCP);
+
+        ServerInstance inserted = repository.insert(server).block();
+
+        assertThat(inserted.getId()).isNotNull();
+        assertThat(repository.findById(inserted.getId()).block().getProbeType()).isEqualTo(ProbeType.TCP);
+
+        inserted.setName("Server C2");
+        inserted.setZone("zone-c");
+        assertThat(repository.update(inserted).block()).isEqualTo(1);
+        ServerInstance updated = repository.findById(inserted.getId()).block();
+        assertThat(updated.getName()).isEqualTo("Server C2");
+        assertThat(updated.getZone()).isEqualTo("zone-c");
+
+        assertThat(repository.deleteById(inserted.getId()).block()).isEqualTo(1);
+        assertThat(repository.deleteById(inserted.getId()).block()).isEqualTo(0);
+        assertThat(repository.findAll().count().block()).isEqualTo(2);
+    }
+}
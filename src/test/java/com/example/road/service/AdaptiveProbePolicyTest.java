@@ -0,0 +1,70 @@
+package com.example.road.service;
+
+import com.example.road.config.AdaptiveHealthCheckProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveProbePolicyTest {
+
+    private static final long BASE_INTERVAL_MS = 10_000;
+
+    @Test
+    @DisplayName("정상 상태가 유지되면 주기가 최대 주기까지 늘어나고, 상태가 바뀌면 최소 주기로 줄어드는지 테스트")
+    void stretchesStableServersAndShrinksOnChange() {
+        AdaptiveProbePolicy policy = policy();
+        assertThat(policy.isDue(1L, 0L)).isTrue(); // 처음 보는 서버는 즉시 헬스 체크합니다.
+
+        policy.onProbeResult(1L, true, true, 0L);
+        assertThat(policy.intervalOf(1L)).isEqualTo(BASE_INTERVAL_MS);
+        assertThat(policy.isDue(1L, 5_000L)).isFalse();
+        assertThat(policy.isDue(1L, 11_000L)).isTrue(); // 지터는 ±10% 이내입니다.
+
+        policy.onProbeResult(1L, true, false, 11_000L);
+        assertThat(policy.intervalOf(1L)).isEqualTo(20_000L);
+        for (int i = 0; i < 5; i++) {
+            policy.onProbeResult(1L, true, false, 11_000L);
+        }
+        assertThat(policy.intervalOf(1L)).isEqualTo(60_000L);
+
+        policy.onProbeResult(1L, false, true, 20_000L);
+        assertThat(policy.intervalOf(1L)).isEqualTo(2_000L);
+        // 비정상 상태가 유지되는 서버는 기본 주기까지만 늘어납니다.
+        for (int i = 0; i < 5; i++) {
+            policy.onProbeResult(1L, false, false, 20_000L);
+        }
+        assertThat(policy.intervalOf(1L)).isEqualTo(BASE_INTERVAL_MS);
+    }
+
+    @Test
+    @DisplayName("요청 실패가 보고되면 즉시 헬스 체크 대상이 되고, 초당 헬스 체크 수가 상한을 넘지 않는지 테스트")
+    void passiveFailureMakesServerDueAndProbesAreCapped() {
+        AdaptiveProbePolicy policy = policy();
+        long now = System.currentTimeMillis();
+        policy.onProbeResult(1L, true, true, now);
+        assertThat(policy.isDue(1L, now)).isFalse();
+
+        policy.onPassiveFailure(1L);
+        assertThat(policy.isDue(1L, System.currentTimeMillis())).isTrue();
+        assertThat(policy.intervalOf(1L)).isEqualTo(2_000L);
+
+        int granted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (policy.tryAcquireProbe()) {
+                granted++;
+            }
+        }
+        assertThat(granted).isEqualTo(3);
+    }
+
+    private AdaptiveProbePolicy policy() {
+        AdaptiveHealthCheckProperties properties = new AdaptiveHealthCheckProperties();
+        properties.setEnabled(true);
+        properties.setMinIntervalMs(2_000);
+        properties.setMaxIntervalMs(60_000);
+        properties.setGrowthFactor(2.0);
+        properties.setMaxProbesPerSecond(3);
+        return new AdaptiveProbePolicy(properties, BASE_INTERVAL_MS);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.road.service;
+
+import com.example.road.RoadApplication;
+import com.example.road.data.ServerHealthSummary;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 같은 데이터베이스를 공유하는 두 road 노드를 클러스터 모드로 띄워, 서버 목록과 헬스 상태가 수렴하고
+ * 노드가 빠지면 살아 있는 노드 수와 담당 서버가 갱신되는지 확인합니다.
+ */
+class ClusterConvergenceTest {
+
+    private final String databaseUrl = "jdbc:h2:mem:cluster_" + UUID.randomUUID().toString().replace("-", "") + ";DB_CLOSE_DELAY=-1";
+    private final AtomicBoolean backendAHealthy = new AtomicBoolean(true);
+
+    private Connection keepAlive; // 두 노드가 모두 닫혀도 인메모리 데이터베이스가 남도록 연결을 유지합니다.
+    private MockWebServer backendA;
+    private MockWebServer backendB;
+    private MockWebServer backendC;
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() throws IOException, SQLException {
+        backendA = backend(backendAHealthy);
+        backendB = backend(new AtomicBoolean(true));
+        backendC = backend(new AtomicBoolean(true));
+
+        keepAlive = DriverManager.getConnection(databaseUrl, "sa", "");
+        ScriptUtils.executeSqlScript(keepAlive, new ClassPathResource("schema.sql"));
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("INSERT INTO servers (name, url, active) VALUES ('Server A', '" + backendA.url("/") + "', true)");
+            statement.execute("INSERT INTO servers (name, url, active) VALUES ('Server B', '" + backendB.url("/") + "', true)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException, SQLException {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        backendA.shutdown();
+        backendB.shutdown();
+        backendC.shutdown();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        keepAlive.close();
+    }
+
+    @Test
+    @DisplayName("두 노드가 서버 추가와 헬스 상태 변화에 수렴하고, 노드가 빠지면 남은 노드가 모든 서버를 담당하는지 테스트")
+    void nodesConvergeAndSurvivorTakesOverWhenPeerLeaves() throws Exception {
+        int portA = freePort();
+        int portB = freePort();
+        nodeA = startNode(portA, portB);
+        nodeB = startNode(portB, portA);
+        ServerLoadBalancer balancerA = nodeA.getBean(ServerLoadBalancer.class);
+        ServerLoadBalancer balancerB = nodeB.getBean(ServerLoadBalancer.class);
+        ClusterCoordinator coordinatorA = nodeA.getBean(ClusterCoordinator.class);
+        ClusterCoordinator coordinatorB = nodeB.getBean(ClusterCoordinator.class);
+
+        // 서로의 보고를 받으면 두 노드가 같은 링으로 서버를 나누어 담당합니다.
+        Awaitility.await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(coordinatorA.getLiveNodeCount()).isEqualTo(2);
+            assertThat(coordinatorB.getLiveNodeCount()).isEqualTo(2);
+            assertThat(balancerA.getServerHealthSummaries()).extracting(ServerHealthSummary::getId, ServerHealthSummary::isHealthy)
+                    .containsExactly(tuple(1L, true), tuple(2L, true));
+            assertThat(balancerB.getServerHealthSummaries()).extracting(ServerHealthSummary::getId, ServerHealthSummary::isHealthy)
+                    .containsExactly(tuple(1L, true), tuple(2L, true));
+        });
+        for (long id = 1; id <= 2; id++) {
+            assertThat(coordinatorA.owns(id)).isNotEqualTo(coordinatorB.owns(id));
+        }
+
+        // 노드 A의 관리 API로 추가한 서버를 노드 B도 공유 데이터베이스에서 읽어 추적합니다.
+        HttpResponse<String> added = HttpClient.newHttpClient().send(HttpRequest.newBuilder()
+                        .uri(URI.create("http://localhost:" + portA + "/api/admin/servers"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"name\": \"Server C\", \"url\": \"" + backendC.url("/") + "\", \"active\": true}"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(added.statusCode()).isEqualTo(200);
+        Awaitility.await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(balancerA.getServerHealthSummaries()).extracting(ServerHealthSummary::getId).containsExactly(1L, 2L, 3L);
+            assertThat(balancerB.getServerHealthSummaries()).extracting(ServerHealthSummary::getId).containsExactly(1L, 2L, 3L);
+        });
+
+        // 서버 A의 장애는 담당 노드가 감지하고, 다른 노드는 담당 노드의 보고로 같은 상태가 됩니다.
+        backendAHealthy.set(false);
+        Awaitility.await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(balancerA.getServerHealthSummaries()).extracting(ServerHealthSummary::getId, ServerHealthSummary::isHealthy)
+                    .containsExactly(tuple(1L, false), tuple(2L, true), tuple(3L, true));
+            assertThat(balancerB.getServerHealthSummaries()).extracting(ServerHealthSummary::getId, ServerHealthSummary::isHealthy)
+                    .containsExactly(tuple(1L, false), tuple(2L, true), tuple(3L, true));
+        });
+
+        // 노드 B가 빠지면 노드 A의 보고 전송이 실패하여 링에서 제외되고, 노드 A가 모든 서버를 담당합니다.
+        nodeB.close();
+        nodeB = null;
+        Awaitility.await().atMost(20, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(coordinatorA.getLiveNodeCount()).isEqualTo(1);
+            for (long id = 1; id <= 3; id++) {
+                assertThat(coordinatorA.owns(id)).isTrue();
+            }
+        });
+    }
+
+    private ConfigurableApplicationContext startNode(int port, int peerPort) {
+        return new SpringApplicationBuilder(RoadApplication.class).run(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + databaseUrl,
+                "--spring.sql.init.mode=never",
+                "--server.healthcheck.interval-ms=500",
+                "--road.health-check.adaptive.enabled=false",
+                "--road.warm-start.enabled=false",
+                "--road.cluster.enabled=true",
+                "--road.cluster.self-url=http://localhost:" + port,
+                "--road.cluster.peers=http://localhost:" + peerPort);
+    }
+
+    private static MockWebServer backend(AtomicBoolean healthy) throws IOException {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setResponseCode(healthy.get() ? 200 : 500);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
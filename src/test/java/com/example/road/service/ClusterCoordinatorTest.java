@@ -0,0 +1,71 @@
+package com.example.road.service;
+
+import com.example.road.config.ClusterProperties;
+import com.example.road.data.ClusterHealthMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClusterCoordinatorTest {
+
+    private static final List<String> NODES = List.of("http://localhost:8081", "http://localhost:8082", "http://localhost:8083");
+
+    private ClusterCoordinator coordinatorFor(String self) {
+        ClusterProperties properties = new ClusterProperties();
+        properties.setEnabled(true);
+        properties.setSelfUrl(self);
+        properties.setPeers(NODES.stream().filter(node -> !node.equals(self)).toList());
+        ClusterCoordinator coordinator = new ClusterCoordinator(properties, WebClient.create());
+        coordinator.init();
+        return coordinator;
+    }
+
+    @Test
+    @DisplayName("모든 노드가 같은 담당 노드를 계산하고, 각 서버는 정확히 한 노드만 담당하는지 테스트")
+    void everyServerHasExactlyOneOwner() {
+        List<ClusterCoordinator> coordinators = NODES.stream().map(this::coordinatorFor).toList();
+        Map<String, Integer> owned = new HashMap<>();
+
+        LongStream.rangeClosed(1, 300).forEach(serverId -> {
+            List<ClusterCoordinator> owners = coordinators.stream().filter(c -> c.owns(serverId)).toList();
+            assertThat(owners).hasSize(1);
+            String owner = coordinators.get(0).ownerOf(serverId);
+            assertThat(coordinators).allSatisfy(c -> assertThat(c.ownerOf(serverId)).isEqualTo(owner));
+            owned.merge(owner, 1, Integer::sum);
+        });
+
+        // 가상 노드 덕분에 모든 노드가 일정 몫 이상을 담당합니다.
+        assertThat(owned).hasSize(3);
+        assertThat(owned.values()).allSatisfy(count -> assertThat(count).isGreaterThan(50));
+    }
+
+    @Test
+    @DisplayName("피어가 링에서 빠지면 그 피어의 서버만 재분배되고, 복귀하면 원래대로 돌아오는지 테스트")
+    void onlyDownPeersServersMove() {
+        ClusterCoordinator coordinator = coordinatorFor("http://localhost:8081");
+        Map<Long, String> before = new HashMap<>();
+        LongStream.rangeClosed(1, 300).forEach(id -> before.put(id, coordinator.ownerOf(id)));
+
+        ReflectionTestUtils.invokeMethod(coordinator, "markPeer", "http://localhost:8083", false);
+
+        before.forEach((id, owner) -> {
+            if (owner.equals("http://localhost:8083")) {
+                assertThat(coordinator.ownerOf(id)).isNotEqualTo("http://localhost:8083");
+            } else {
+                assertThat(coordinator.ownerOf(id)).isEqualTo(owner);
+            }
+        });
+
+        // 피어의 보고를 받으면 다시 살아 있는 것으로 간주되어 원래 담당으로 돌아옵니다.
+        coordinator.receive(new ClusterHealthMessage("http://localhost:8083", List.of()));
+        before.forEach((id, owner) -> assertThat(coordinator.ownerOf(id)).isEqualTo(owner));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.road.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardEventServiceTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 발행해도 대시보드 이벤트가 하나도 빠지지 않는지 테스트")
+    void concurrentEmitsAreNotDropped() throws InterruptedException {
+        DashboardEventService service = new DashboardEventService();
+        AtomicInteger received = new AtomicInteger();
+        Disposable subscription = service.events().subscribe(event -> received.incrementAndGet());
+
+        int threads = 8;
+        int eventsPerThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> emitters = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long serverId = t;
+            emitters.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < eventsPerThread; i++) {
+                    if (i % 2 == 0) {
+                        service.healthRemoved(serverId);
+                    } else {
+                        service.sweepCompleted(i);
+                    }
+                }
+            }));
+        }
+        start.countDown();
+        for (Thread emitter : emitters) {
+            emitter.join();
+        }
+        subscription.dispose();
+
+        assertThat(received.get()).isEqualTo(threads * eventsPerThread);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.road.service;
+
+import com.example.road.config.AdmissionProperties;
+import com.example.road.data.DispatchPriority;
+import com.example.road.exception.DispatchRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DispatchAdmissionServiceTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("대기 요청 수가 우선순위별 한도에 도달하면 LOW부터 거절하고, 허가를 닫으면 다시 수용하는지 테스트")
+    void rejectsLowPriorityFirstWhenWaitersAreFull() {
+        DispatchAdmissionService service = service();
+        long now = System.nanoTime();
+
+        DispatchAdmissionService.Permit first = service.admit(DispatchPriority.LOW, now);
+        service.admit(DispatchPriority.NORMAL, now);
+        // 한도 4: LOW 2, NORMAL 3, HIGH 4
+        assertThatThrownBy(() -> service.admit(DispatchPriority.LOW, now))
+                .isInstanceOf(DispatchRejectedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(2);
+        service.admit(DispatchPriority.NORMAL, now);
+        assertThatThrownBy(() -> service.admit(DispatchPriority.NORMAL, now)).isInstanceOf(DispatchRejectedException.class);
+        service.admit(DispatchPriority.HIGH, now);
+        assertThatThrownBy(() -> service.admit(DispatchPriority.HIGH, now)).isInstanceOf(DispatchRejectedException.class);
+
+        first.close(now);
+        first.close(now); // 두 번 닫아도 한 번만 반납합니다.
+        assertThat(service.getStats().getWaiters()).isEqualTo(3);
+        assertThat(service.getStats().getRejectedByLimit()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("구간의 최소 대기 시간이 목표를 넘으면 LOW, NORMAL 순으로 거절하고, 대기가 줄면 한 단계씩 회복하는지 테스트")
+    void shedsByQueueTimeAndRecovers() {
+        DispatchAdmissionService service = service();
+        long start = System.nanoTime();
+
+        // 첫 구간: 모든 요청이 목표(50ms)보다 오래 기다렸습니다.
+        service.admit(DispatchPriority.NORMAL, start).close(start + 80 * MS);
+        service.admit(DispatchPriority.NORMAL, start).close(start + 90 * MS);
+        long secondInterval = start + 110 * MS;
+        assertThatThrownBy(() -> service.admit(DispatchPriority.LOW, secondInterval)).isInstanceOf(DispatchRejectedException.class);
+        service.admit(DispatchPriority.NORMAL, secondInterval).close(secondInterval + 70 * MS);
+
+        // 두 번째 구간도 과부하이면 NORMAL까지 거절하고, HIGH는 계속 수용합니다.
+        long thirdInterval = secondInterval + 110 * MS;
+        assertThatThrownBy(() -> service.admit(DispatchPriority.NORMAL, thirdInterval)).isInstanceOf(DispatchRejectedException.class);
+        assertThat(service.getStats().getSheddingLevel()).isEqualTo(2);
+        service.admit(DispatchPriority.HIGH, thirdInterval).close(thirdInterval + MS);
+
+        // 대기 시간이 목표 안으로 돌아오면 한 단계씩 회복합니다.
+        long fourthInterval = thirdInterval + 110 * MS;
+        service.admit(DispatchPriority.NORMAL, fourthInterval).close(fourthInterval + MS);
+        assertThat(service.getStats().getSheddingLevel()).isEqualTo(1);
+        assertThat(service.getStats().getRejectedByOverload()).isEqualTo(2);
+    }
+
+    private DispatchAdmissionService service() {
+        AdmissionProperties properties = new AdmissionProperties();
+        properties.setMaxWaiters(4);
+        properties.setNormalShare(0.75);
+        properties.setLowShare(0.5);
+        properties.setTargetWaitMs(50);
+        properties.setIntervalMs(100);
+        properties.setRetryAfterSeconds(2);
+        return new DispatchAdmissionService(properties);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.road.service;
+
+import com.example.road.common.RoundRobinLoadBalancer;
+import com.example.road.config.FlightRecordingProperties;
+import com.example.road.exception.RecordingNotFoundException;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightRecordingServiceTest {
+
+    private final FlightRecordingService service = new FlightRecordingService(new FlightRecordingProperties());
+
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    @Test
+    @DisplayName("레코딩 중 로드 밸런서 새로고침이 JFR 이벤트로 기록되고, 내려받은 파일에서 읽을 수 있는지 테스트")
+    void recordsBalancerRefreshEvents(@TempDir Path dir) throws Exception {
+        assertThat(service.status().getState()).isEqualTo("NONE");
+        assertThat(service.start(30).getState()).isEqualTo("RUNNING");
+
+        RoundRobinLoadBalancer<String> balancer = new RoundRobinLoadBalancer<>("jfr-test", 0, item -> true, item -> (long) item.hashCode());
+        balancer.refreshItems(List.of("a", "b"));
+        balancer.refreshItems(List.of("a", "b", "c"));
+
+        Path file = dir.resolve("road.jfr");
+        Files.write(file, service.dump());
+        List<RecordedEvent> refreshes = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.road.BalancerRefresh"))
+                .filter(event -> "jfr-test".equals(event.getString("balancer")))
+                .toList();
+        assertThat(refreshes).extracting(event -> event.getInt("oldSize")).containsExactly(0, 2);
+        assertThat(refreshes).extracting(event -> event.getInt("newSize")).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("허용 범위를 벗어난 기간은 거절하고, 멈춘 레코딩은 내려받을 수 없는지 테스트")
+    void rejectsInvalidDurationAndMissingRecording() {
+        assertThatThrownBy(() -> service.start(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.start(601)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(service::dump).isInstanceOf(RecordingNotFoundException.class);
+
+        service.start(null);
+        service.stop();
+        assertThatThrownBy(service::dump).isInstanceOf(RecordingNotFoundException.class);
+    }
+}
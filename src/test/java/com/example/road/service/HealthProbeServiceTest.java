@@ -0,0 +1,115 @@
+package com.example.road.service;
+
+import com.example.road.data.LoadReport;
+import com.example.road.data.ProbeType;
+import com.example.road.data.ServerInstance;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthProbeServiceTest {
+
+    private MockWebServer backend;
+    private HealthProbeService healthProbeService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        backend = new MockWebServer();
+        backend.start();
+        healthProbeService = new HealthProbeService(WebClient.create(), 1000, "endpoint-load-metrics");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        healthProbeService.close();
+        backend.shutdown();
+    }
+
+    @Test
+    @DisplayName("HTTP 헬스 체크가 설정된 경로로 요청하고, 상태 코드 범위와 본문 문자열로 판정하는지 테스트")
+    void httpProbeUsesPathStatusRangeAndBodyMatch() throws InterruptedException {
+        ServerInstance server = new ServerInstance(1L, "Server A", backend.url("/api").toString(), true);
+        server.setProbePath("/health?deep=1");
+        server.setProbeExpectedStatus("200-399");
+
+        backend.enqueue(new MockResponse().setResponseCode(301));
+        assertThat(healthProbeService.probe(server).join()).isTrue();
+        RecordedRequest head = backend.takeRequest(1, TimeUnit.SECONDS);
+        assertThat(head.getMethod()).isEqualTo("HEAD");
+        assertThat(head.getPath()).isEqualTo("/health?deep=1");
+
+        backend.enqueue(new MockResponse().setResponseCode(503));
+        assertThat(healthProbeService.probe(server).join()).isFalse();
+        backend.takeRequest(1, TimeUnit.SECONDS);
+
+        // 본문 확인 문자열이 있으면 GET으로 본문을 받아 확인합니다.
+        server.setProbeBodyContains("\"status\":\"UP\"");
+        backend.enqueue(new MockResponse().setResponseCode(200).setBody("{\"status\":\"DOWN\"}"));
+        assertThat(healthProbeService.probe(server).join()).isFalse();
+        assertThat(backend.takeRequest(1, TimeUnit.SECONDS).getMethod()).isEqualTo("GET");
+        backend.enqueue(new MockResponse().setResponseCode(200).setBody("{\"status\":\"UP\"}"));
+        assertThat(healthProbeService.probe(server).join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("TCP 헬스 체크가 HTTP 요청 없이 연결 가능 여부만 확인하는지 테스트")
+    void tcpProbeChecksConnectOnly() throws IOException {
+        int closedPort;
+        try (ServerSocket listener = new ServerSocket(0)) {
+            ServerInstance open = new ServerInstance(1L, "Server A", "http://localhost:" + listener.getLocalPort(), true);
+            open.setProbeType(ProbeType.TCP);
+            assertThat(healthProbeService.probe(open).join()).isTrue();
+            closedPort = listener.getLocalPort();
+        }
+        ServerInstance closed = new ServerInstance(2L, "Server B", "http://localhost:" + closedPort, true);
+        closed.setProbeType(ProbeType.TCP);
+        assertThat(healthProbeService.probe(closed).join()).isFalse();
+        assertThat(backend.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("HTTP 헬스 체크 응답의 ORCA 부하 보고 헤더를 읽어 전달하고, 헤더가 없거나 형식이 다르면 전달하지 않는지 테스트")
+    void httpProbeForwardsOrcaLoadReport() {
+        ServerInstance server = new ServerInstance(7L, "Server A", backend.url("/").toString(), true);
+        List<LoadReport> reports = new ArrayList<>();
+
+        backend.enqueue(new MockResponse().setResponseCode(503)
+                .setHeader("endpoint-load-metrics", "TEXT cpu_utilization=0.75, mem_utilization=0.2, named_metrics.queue_depth=4, named_metrics.in_flight=9"));
+        assertThat(healthProbeService.probe(server, reports::add).join()).isFalse();
+        backend.enqueue(new MockResponse().setResponseCode(200));
+        backend.enqueue(new MockResponse().setResponseCode(200).setHeader("endpoint-load-metrics", "JSON {\"cpu_utilization\":0.1}"));
+        assertThat(healthProbeService.probe(server, reports::add).join()).isTrue();
+        assertThat(healthProbeService.probe(server, reports::add).join()).isTrue();
+
+        assertThat(reports).hasSize(1);
+        LoadReport report = reports.get(0);
+        assertThat(report.getServerId()).isEqualTo(7L);
+        assertThat(report.getCpuUtilization()).isEqualTo(0.75);
+        assertThat(report.getQueueDepth()).isEqualTo(4);
+        assertThat(report.getInFlight()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("정상 상태 코드 범위 해석 테스트")
+    void expectedStatusSpec() {
+        assertThat(HealthProbeService.isExpectedStatus(null, 204)).isTrue();
+        assertThat(HealthProbeService.isExpectedStatus(null, 301)).isFalse();
+        assertThat(HealthProbeService.isExpectedStatus("204", 204)).isTrue();
+        assertThat(HealthProbeService.isExpectedStatus("204", 200)).isFalse();
+        assertThat(HealthProbeService.isExpectedStatus("200-399", 399)).isTrue();
+        assertThat(HealthProbeService.isExpectedStatus("200-399", 400)).isFalse();
+    }
+}
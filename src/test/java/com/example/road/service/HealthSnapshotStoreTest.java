@@ -0,0 +1,61 @@
+package com.example.road.service;
+
+import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerInstance;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HealthSnapshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private HealthSnapshotStore healthSnapshotStore;
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = tempDir.resolve("road-health.snapshot");
+        healthSnapshotStore = new HealthSnapshotStore();
+        ReflectionTestUtils.setField(healthSnapshotStore, "enabled", true);
+        ReflectionTestUtils.setField(healthSnapshotStore, "snapshotPath", snapshotFile.toString());
+    }
+
+    @Test
+    @DisplayName("저장한 헬스 스냅샷을 그대로 복원하는지 테스트")
+    void saveAndLoadRoundTrip() {
+        List<ServerHealthStatus> statuses = List.of(
+                new ServerHealthStatus(new ServerInstance(1L, "Server A", "http://localhost:9001", true), true, 1000L),
+                new ServerHealthStatus(new ServerInstance(2L, "Server B", "http://localhost:9002", false), false, 2000L)
+        );
+
+        healthSnapshotStore.save(statuses);
+        List<ServerHealthStatus> restored = healthSnapshotStore.load();
+
+        assertThat(restored).hasSize(2);
+        assertThat(restored.get(0).getServerInstance().getName()).isEqualTo("Server A");
+        assertThat(restored.get(0).isHealthy()).isTrue();
+        assertThat(restored.get(0).getLastCheckedTimestamp()).isEqualTo(1000L);
+        assertThat(restored.get(1).getServerInstance().isActive()).isFalse();
+        assertThat(restored.get(1).isHealthy()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 없거나 손상된 경우 빈 목록을 반환하는지 테스트")
+    void loadReturnsEmptyListForMissingOrCorruptFile() throws IOException {
+        assertThat(healthSnapshotStore.load()).isEmpty();
+
+        Files.write(snapshotFile, new byte[]{1, 2, 3});
+        assertThat(healthSnapshotStore.load()).isEmpty();
+    }
+}
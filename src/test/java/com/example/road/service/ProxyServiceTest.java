@@ -0,0 +1,190 @@
+package com.example.road.service;
+
+import com.example.road.common.CircuitBreaker;
+import com.example.road.config.AdaptiveHealthCheckProperties;
+import com.example.road.config.AdmissionProperties;
+import com.example.road.config.CircuitBreakerProperties;
+import com.example.road.config.DrainProperties;
+import com.example.road.config.ProxyProperties;
+import com.example.road.config.WebClientConfig;
+import com.example.road.data.DispatchPriority;
+import com.example.road.data.ServerInstance;
+import com.example.road.exception.DispatchRejectedException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProxyServiceTest {
+
+    private MockWebServer backend1;
+    private MockWebServer backend2;
+    private ProxyProperties proxyProperties;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private AdmissionProperties admissionProperties;
+    private DispatchAdmissionService dispatchAdmissionService;
+    private ProxyService proxyService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        backend1 = new MockWebServer();
+        backend1.start();
+        backend2 = new MockWebServer();
+        backend2.start();
+        List<ServerInstance> servers = List.of(
+                new ServerInstance(1L, "Server A", backend1.url("/").toString(), true),
+                new ServerInstance(2L, "Server B", backend2.url("/").toString(), true));
+
+        CircuitBreakerProperties circuitBreakerProperties = new CircuitBreakerProperties();
+        circuitBreakerProperties.setFailureThreshold(1);
+        circuitBreakerProperties.setOpenDurationMs(2000);
+        circuitBreakerProperties.setHalfOpenTrialCalls(1);
+        circuitBreakerRegistry = new CircuitBreakerRegistry(circuitBreakerProperties,
+                new AdaptiveProbePolicy(new AdaptiveHealthCheckProperties(), 30000));
+
+        // 시도하지 않은 서버 중 서킷 브레이커가 허용하는 첫 번째 서버를 고르는 로드 밸런서
+        ServerLoadBalancer serverLoadBalancer = mock(ServerLoadBalancer.class);
+        when(serverLoadBalancer.getNextServerExcluding(eq("default"), any())).thenAnswer(invocation -> {
+            Set<Long> excluded = invocation.getArgument(1);
+            return servers.stream()
+                    .filter(server -> !excluded.contains(server.getId()) && circuitBreakerRegistry.tryAcquirePermission(server.getId()))
+                    .findFirst();
+        });
+        ClusterCoordinator clusterCoordinator = mock(ClusterCoordinator.class);
+        when(clusterCoordinator.getLiveNodeCount()).thenReturn(1);
+
+        proxyProperties = new ProxyProperties();
+        proxyProperties.getHedging().setEnabled(false);
+        proxyProperties.setMaxResponseBytes(1024);
+        admissionProperties = new AdmissionProperties();
+        dispatchAdmissionService = new DispatchAdmissionService(admissionProperties);
+        proxyService = new ProxyService(serverLoadBalancer, circuitBreakerRegistry, clusterCoordinator,
+                new WebClientConfig().proxyWebClient(proxyProperties), proxyProperties, new ServerDrainRegistry(new DrainProperties()),
+                dispatchAdmissionService);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        backend1.shutdown();
+        backend2.shutdown();
+    }
+
+    @Test
+    @DisplayName("멱등 메서드 요청이 5xx로 실패하면 다른 서버로 재시도하는지 테스트")
+    void retriesIdempotentRequestOnDifferentServer() throws InterruptedException {
+        backend1.enqueue(new MockResponse().setResponseCode(503));
+        backend2.enqueue(new MockResponse().setResponseCode(200).setBody("from B"));
+
+        ResponseEntity<byte[]> response = proxyService.forward("default", HttpMethod.GET, "/items?page=1", new HttpHeaders(), null, DispatchPriority.NORMAL).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo("from B");
+        assertThat(backend1.takeRequest().getPath()).isEqualTo("/items?page=1");
+        assertThat(backend2.takeRequest().getPath()).isEqualTo("/items?page=1");
+    }
+
+    @Test
+    @DisplayName("멱등이 아닌 메서드 요청은 재시도하지 않고 백엔드 응답을 그대로 반환하는지 테스트")
+    void doesNotRetryNonIdempotentRequest() {
+        backend1.enqueue(new MockResponse().setResponseCode(500));
+
+        ResponseEntity<byte[]> response = proxyService.forward("default", HttpMethod.POST, "/orders", new HttpHeaders(),
+                "{}".getBytes(StandardCharsets.UTF_8), DispatchPriority.NORMAL).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(500);
+        assertThat(backend1.getRequestCount()).isEqualTo(1);
+        assertThat(backend2.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 헤징 지연 안에 끝나지 않으면 다른 서버로 보낸 사본의 응답을 사용하는지 테스트")
+    void hedgedRequestUsesFasterServer() {
+        proxyProperties.getHedging().setEnabled(true);
+        proxyProperties.getHedging().setMinSamples(0);
+        proxyProperties.getHedging().setMinDelayMs(50);
+        backend1.enqueue(new MockResponse().setResponseCode(200).setBody("from A").setHeadersDelay(2, TimeUnit.SECONDS));
+        backend2.enqueue(new MockResponse().setResponseCode(200).setBody("from B"));
+
+        long startedAt = System.nanoTime();
+        ResponseEntity<byte[]> response = proxyService.forward("default", HttpMethod.GET, "/slow", new HttpHeaders(), null, DispatchPriority.NORMAL).block();
+
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo("from B");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(1500);
+    }
+
+    @Test
+    @DisplayName("응답 본문이 최대 크기를 넘으면 서버 실패로 기록하지 않고 재시도 없이 502를 반환하는지 테스트")
+    void oversizedResponseIsNotCountedAsServerFailure() {
+        backend1.enqueue(new MockResponse().setResponseCode(200).setBody("x".repeat(4096)));
+
+        ResponseEntity<byte[]> response = proxyService.forward("default", HttpMethod.GET, "/large", new HttpHeaders(), null,
+                DispatchPriority.NORMAL).block();
+
+        // 실패 한 번으로 서킷이 열리도록 설정했지만, road가 읽지 못한 응답은 서버 실패가 아니므로 닫힌 상태를 유지합니다.
+        assertThat(response.getStatusCode().value()).isEqualTo(502);
+        assertThat(circuitBreakerRegistry.stateOf(1L)).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(backend2.getRequestCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("프록시 요청도 수용 제어를 거치며, 서버를 고르면 허가를 반납하고 대기 요청 수 제한을 넘으면 거절되는지 테스트")
+    void proxyRequestsGoThroughAdmissionControl() {
+        backend1.enqueue(new MockResponse().setResponseCode(200).setBody("from A"));
+
+        ResponseEntity<byte[]> response = proxyService.forward("default", HttpMethod.GET, "/items", new HttpHeaders(), null,
+                DispatchPriority.NORMAL).block();
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        assertThat(dispatchAdmissionService.getStats().getAdmitted()).isEqualTo(1);
+        assertThat(dispatchAdmissionService.getStats().getWaiters()).isZero();
+
+        // LOW 요청이 쓸 수 있는 대기 자리가 없으면 백엔드로 보내지 않고 거절합니다.
+        admissionProperties.setLowShare(0.0);
+        assertThatThrownBy(() -> proxyService.forward("default", HttpMethod.GET, "/items", new HttpHeaders(), null, DispatchPriority.LOW))
+                .isInstanceOf(DispatchRejectedException.class);
+        assertThat(dispatchAdmissionService.getStats().getRejectedByLimit()).isEqualTo(1);
+        assertThat(backend1.getRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤징에서 져서 취소된 시험 요청은 HALF_OPEN 서킷의 시험 요청 허용을 반납하는지 테스트")
+    void cancelledHedgeLoserReleasesTrialPermit() throws InterruptedException {
+        proxyProperties.getHedging().setEnabled(true);
+        proxyProperties.getHedging().setMinSamples(0);
+        proxyProperties.getHedging().setMinDelayMs(50);
+        // Server A의 서킷을 열고 HALF_OPEN으로 전환될 때까지 기다립니다 (시험 요청 1개).
+        circuitBreakerRegistry.record(1L, false);
+        Thread.sleep(2100);
+        backend1.enqueue(new MockResponse().setResponseCode(200).setBody("from A").setHeadersDelay(2, TimeUnit.SECONDS));
+        backend2.enqueue(new MockResponse().setResponseCode(200).setBody("from B"));
+
+        ResponseEntity<byte[]> response = proxyService.forward("default", HttpMethod.GET, "/slow", new HttpHeaders(), null, DispatchPriority.NORMAL).block();
+
+        // Server A로 보낸 시험 요청은 결과 없이 취소되었으므로, 허용이 반납되어 다음 시험 요청을 보낼 수 있습니다.
+        // (반납하지 않으면 시험 요청 허용이 만료되는 OPEN 유지 시간까지 다음 시험 요청을 보낼 수 없습니다.)
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).isEqualTo("from B");
+        assertThat(circuitBreakerRegistry.stateOf(1L)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        Awaitility.await().atMost(200, TimeUnit.MILLISECONDS)
+                .until(() -> circuitBreakerRegistry.tryAcquirePermission(1L));
+    }
+}
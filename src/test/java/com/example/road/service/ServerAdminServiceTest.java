@@ -0,0 +1,60 @@
+package com.example.road.service;
+
+import com.example.road.config.DrainProperties;
+import com.example.road.data.DrainAction;
+import com.example.road.data.DrainStatus;
+import com.example.road.data.ServerInstance;
+import com.example.road.repository.ServerRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServerAdminServiceTest {
+
+    @Test
+    @DisplayName("드레이닝 작업 적용이 실패해도 같은 주기의 다른 드레이닝은 적용하고, 실패한 드레이닝은 다음 주기에 다시 적용하는지 테스트")
+    void failedDrainActionIsRetriedOnNextTick() {
+        ServerRepository serverRepository = mock(ServerRepository.class);
+        DrainProperties drainProperties = new DrainProperties();
+        ServerDrainRegistry serverDrainRegistry = new ServerDrainRegistry(drainProperties);
+        ServerRegistryVersion serverRegistryVersion = new ServerRegistryVersion();
+        ServerAdminService service = new ServerAdminService(serverRepository, WebClient.create(), new DashboardEventService(),
+                serverDrainRegistry, drainProperties, serverRegistryVersion);
+        service.init();
+
+        ServerInstance first = new ServerInstance(1L, "Server A", "http://localhost:9001", true);
+        ServerInstance second = new ServerInstance(2L, "Server B", "http://localhost:9002", true);
+        when(serverRepository.findById(1L)).thenReturn(Mono.just(first));
+        when(serverRepository.findById(2L)).thenReturn(Mono.just(second));
+        // Server A의 삭제는 한 번 실패한 뒤 성공합니다.
+        when(serverRepository.deleteById(1L)).thenReturn(Mono.error(new IllegalStateException("connection reset")), Mono.just(1));
+        when(serverRepository.deleteById(2L)).thenReturn(Mono.just(1));
+
+        // 진행 중인 작업이 없으므로 두 드레이닝 모두 다음 주기에 끝납니다.
+        serverDrainRegistry.start(first, DrainAction.DELETE, 60_000);
+        serverDrainRegistry.start(second, DrainAction.DELETE, 60_000);
+        service.completeDrains();
+
+        // Server A의 실패는 Server B의 삭제를 막지 않고, Server A는 선택에서 계속 제외된 채 다시 완료를 기다립니다.
+        verify(serverRepository).deleteById(2L);
+        assertThat(serverRegistryVersion.current()).isEqualTo(1);
+        assertThat(serverDrainRegistry.isDraining(1L)).isTrue();
+        assertThat(serverDrainRegistry.getDrainStatuses())
+                .extracting(DrainStatus::getServerId, DrainStatus::isCompleted)
+                .containsExactly(tuple(1L, false), tuple(2L, true));
+
+        // 다음 주기에 Server A의 삭제를 다시 적용합니다.
+        service.completeDrains();
+        verify(serverRepository, times(2)).deleteById(1L);
+        verify(serverRepository, times(1)).deleteById(2L);
+        assertThat(serverRegistryVersion.current()).isEqualTo(2);
+    }
+}
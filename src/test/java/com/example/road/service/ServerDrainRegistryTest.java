@@ -0,0 +1,109 @@
+package com.example.road.service;
+
+import com.example.road.config.DrainProperties;
+import com.example.road.data.DrainAction;
+import com.example.road.data.DrainStatus;
+import com.example.road.data.ServerInstance;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ServerDrainRegistryTest {
+
+    private static final ServerInstance SERVER = new ServerInstance(1L, "server-1", "http://localhost:8081", true, "default", null);
+
+    @Test
+    @DisplayName("드레이닝 중인 서버는 진행 중인 프록시 요청과 임대가 모두 끝난 뒤에만 완료되고, 제거될 때까지 선택에서 제외되는지 테스트")
+    void finishesAfterInFlightWorkCompletes() {
+        ServerDrainRegistry registry = registry();
+        long now = System.nanoTime();
+        registry.onLeased(1L, now);
+        registry.onRequestStarted(1L);
+
+        DrainStatus started = registry.start(SERVER, DrainAction.DELETE, 60_000);
+        assertThat(registry.isDraining(1L)).isTrue();
+        assertThat(started.getInFlightRequests()).isEqualTo(1);
+        assertThat(started.getOutstandingLeases()).isEqualTo(1);
+        assertThat(registry.takeFinished(now)).isEmpty();
+
+        registry.onRequestFinished(1L);
+        assertThat(registry.takeFinished(now)).isEmpty();
+        registry.onLeaseReturned(1L);
+
+        List<DrainStatus> finished = registry.takeFinished(now);
+        assertThat(finished).extracting(DrainStatus::getServerId).containsExactly(1L);
+        assertThat(finished.get(0).isTimedOut()).isFalse();
+        // 작업이 적용된 뒤에도 로드 밸런서에서 빠질 때까지 선택하지 않으며, 완료는 한 번만 반환됩니다.
+        assertThat(registry.isDraining(1L)).isTrue();
+        assertThat(registry.takeFinished(now)).isEmpty();
+        assertThat(registry.cancel(1L)).isEmpty();
+
+        registry.remove(1L);
+        assertThat(registry.isDraining(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과 보고가 없는 임대는 유효 시간이 지나면 끝난 것으로 보고, 프록시 요청이 남아 있으면 타임아웃으로 완료되는지 테스트")
+    void leaseTtlAndTimeout() {
+        ServerDrainRegistry registry = registry();
+        long now = System.nanoTime();
+        registry.onLeased(1L, now);
+        registry.start(SERVER, DrainAction.DEACTIVATE, 60_000);
+
+        assertThat(registry.takeFinished(now + TimeUnit.MILLISECONDS.toNanos(29_000))).isEmpty();
+        // 임대는 자신이 속한 구간(lease-ttl-ms / 10) 기준으로 만료되므로 유효 시간 뒤 한 구간 안에 끝납니다.
+        assertThat(registry.takeFinished(now + TimeUnit.MILLISECONDS.toNanos(33_000))).hasSize(1);
+
+        ServerInstance other = new ServerInstance(2L, "server-2", "http://localhost:8082", true, "default", null);
+        registry.onRequestStarted(2L);
+        registry.start(other, DrainAction.DELETE, 1_000);
+        List<DrainStatus> finished = registry.takeFinished(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1_000));
+        assertThat(finished).extracting(DrainStatus::getServerId).containsExactly(2L);
+        assertThat(finished.get(0).isTimedOut()).isTrue();
+        assertThat(finished.get(0).getInFlightRequests()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("결과 보고가 없는 오래된 임대는 이후 임대와 관계없이 각자 유효 시간이 지나면 만료되는지 테스트")
+    void unreportedLeasesExpireIndividually() {
+        ServerDrainRegistry registry = registry();
+        long now = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            registry.onLeased(1L, now); // 결과를 보고하지 않는 선택
+        }
+        long later = now + TimeUnit.MILLISECONDS.toNanos(20_000);
+        registry.onLeased(1L, later);
+        registry.onLeaseReturned(1L, later); // 바로 결과를 보고한 선택
+
+        DrainStatus started = registry.start(SERVER, DrainAction.DELETE, 120_000);
+        assertThat(started.getOutstandingLeases()).isEqualTo(100);
+
+        // 마지막 임대(20초)가 아니라 보고가 빠진 임대(0초)의 유효 시간 기준으로 끝납니다.
+        assertThat(registry.takeFinished(now + TimeUnit.MILLISECONDS.toNanos(29_000))).isEmpty();
+        assertThat(registry.takeFinished(now + TimeUnit.MILLISECONDS.toNanos(33_000)))
+                .extracting(DrainStatus::getServerId, DrainStatus::getOutstandingLeases, DrainStatus::isTimedOut)
+                .containsExactly(tuple(1L, 0, false));
+    }
+
+    @Test
+    @DisplayName("드레이닝을 취소하면 서버가 다시 선택 대상이 되는지 테스트")
+    void cancel() {
+        ServerDrainRegistry registry = registry();
+        registry.start(SERVER, DrainAction.DELETE, 60_000);
+
+        assertThat(registry.cancel(1L)).isPresent();
+        assertThat(registry.isDraining(1L)).isFalse();
+        assertThat(registry.getDrainStatuses()).isEmpty();
+    }
+
+    private ServerDrainRegistry registry() {
+        DrainProperties properties = new DrainProperties();
+        properties.setLeaseTtlMs(30_000);
+        return new ServerDrainRegistry(properties);
+    }
+}
@@ -1,7 +1,16 @@
 package com.example.road.service;
 
+import com.example.road.common.CircuitBreaker;
+import com.example.road.common.HeadroomWeightedStrategy;
+import com.example.road.common.LoadBalancingStrategy;
+import com.example.road.data.LoadReport;
+import com.example.road.data.PoolStrategyStatus;
+import com.example.road.data.RequestOutcome;
 import com.example.road.data.ServerHealthStatus;
+import com.example.road.data.ServerHealthSummary;
 import com.example.road.data.ServerInstance;
+import com.example.road.exception.PoolNotFoundException;
+import com.example.road.exception.ServerNotFoundException;
 import com.example.road.mapper.ServerMapper;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -9,27 +18,67 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.awaitility.Awaitility;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest
+// 서킷 브레이커의 HALF_OPEN 전환을 기다릴 수 있도록 OPEN 유지 시간을 줄입니다. 테스트 중에 예약된 헬스 체크나 요청 실패 보고로
+// 앞당겨진 헬스 체크가 서킷을 닫거나 서버 상태를 바꾸지 않도록, 헬스 체크는 테스트가 refreshServers()를 호출할 때만 실행합니다.
+@SpringBootTest(properties = {"road.circuit-breaker.open-duration-ms=100", "road.health-check.adaptive.enabled=false",
+        "server.healthcheck.interval-ms=600000"})
 class ServerLoadBalancerTest {
 
+    // 이전 실행이 남긴 스냅샷으로 웜 스타트하지 않고, 작업 디렉터리에 파일을 남기지 않도록 테스트마다 임시 디렉터리를 사용합니다.
+    @TempDir
+    static Path snapshotDir;
+
+    @DynamicPropertySource
+    static void snapshotPath(DynamicPropertyRegistry registry) {
+        registry.add("road.warm-start.snapshot-path", () -> snapshotDir.resolve("road-health.snapshot").toString());
+    }
+
+    @Autowired
+    private HealthSnapshotStore healthSnapshotStore;
+
     @Autowired
     private ServerLoadBalancer serverLoadBalancer;
 
+    @Autowired
+    private SlowStartRegistry slowStartRegistry;
+
+    @Autowired
+    private ServerRegistryVersion serverRegistryVersion;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private ServerRateLimiter serverRateLimiter;
+
     @MockBean
     private ServerMapper serverMapper;
 
@@ -92,6 +141,57 @@ class ServerLoadBalancerTest {
         });
     }
 
+    @Test
+    @DisplayName("새로고침에서 데이터베이스에 직접 추가/삭제된 서버를 발견하면 서버 목록 버전을 올리고, 헬스 상태 요약을 ID 순으로 반환하는지 테스트")
+    void refreshAdvancesRegistryVersionForOutOfBandChanges() {
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(500));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        long registryVersion = serverRegistryVersion.current();
+
+        serverLoadBalancer.refreshServers();
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(serverLoadBalancer.getServerHealthSummaries())
+                    .extracting(ServerHealthSummary::getId, ServerHealthSummary::isHealthy)
+                    .containsExactly(tuple(1L, true), tuple(2L, false), tuple(3L, true));
+            assertThat(serverRegistryVersion.current()).isGreaterThan(registryVersion);
+        });
+
+        // 서버 C가 데이터베이스에서 직접 삭제된 경우
+        long beforeRemoval = serverRegistryVersion.current();
+        long healthVersion = serverLoadBalancer.healthVersion();
+        when(serverMapper.findAllServers()).thenReturn(Arrays.asList(
+                new ServerInstance(1L, "Server A", mockWebServer1.url("/").toString(), true),
+                new ServerInstance(2L, "Server B", mockWebServer2.url("/").toString(), true)));
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(500));
+
+        serverLoadBalancer.refreshServers();
+
+        Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertThat(serverLoadBalancer.getServerHealthSummaries()).extracting(ServerHealthSummary::getId).containsExactly(1L, 2L);
+            assertThat(serverRegistryVersion.current()).isGreaterThan(beforeRemoval);
+            assertThat(serverLoadBalancer.healthVersion()).isGreaterThan(healthVersion);
+        });
+    }
+
+    @Test
+    @DisplayName("헬스 상태가 바뀐 새로고침이 끝나면 다음 기동을 위한 헬스 스냅샷이 설정한 경로에 저장되는지 테스트")
+    void refreshPersistsHealthSnapshot() {
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(500));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+
+        // refreshServers()는 헬스 체크 결과를 기다린 뒤 같은 스레드에서 스냅샷을 저장하고, 복원은 진행 중인 저장이 끝난 뒤에 읽습니다.
+        serverLoadBalancer.refreshServers();
+
+        assertThat(healthSnapshotStore.load())
+                .extracting(status -> status.getServerInstance().getId(), ServerHealthStatus::isHealthy)
+                .containsExactlyInAnyOrder(tuple(1L, true), tuple(2L, false), tuple(3L, true));
+        assertThat(snapshotDir.resolve("road-health.snapshot")).exists();
+    }
+
     @Test
     @DisplayName("활성 서버가 없는 경우 빈 Optional을 반환하는지 테스트")
     void getNextServerReturnsEmptyOptionalWhenNoActiveServers() throws InterruptedException {
@@ -105,4 +205,382 @@ class ServerLoadBalancerTest {
         // then: 빈 Optional이 반환되는지 확인합니다.
         assertThat(server).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("풀별로 독립된 로드 밸런서에서 서버를 선택하고, 없는 풀은 예외가 발생하는지 테스트")
+    void getNextServerSelectsWithinPool() throws InterruptedException {
+        // given: Server C만 payments 풀에 속하도록 설정
+        List<ServerInstance> servers = Arrays.asList(
+                new ServerInstance(1L, "Server A", mockWebServer1.url("/").toString(), true),
+                new ServerInstance(2L, "Server B", mockWebServer2.url("/").toString(), true),
+                new ServerInstance(3L, "Server C", mockWebServer3.url("/").toString(), true, "payments")
+        );
+        when(serverMapper.findAllServers()).thenReturn(servers);
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+
+        // when: 전체 풀을 새로고침합니다.
+        serverLoadBalancer.refreshServers();
+
+        // then: payments 풀에서는 Server C만, 기본 풀에서는 A와 B만 선택됩니다.
+        assertThat(serverLoadBalancer.getNextServers("payments", 3))
+                .extracting(ServerInstance::getName)
+                .containsExactly("Server C", "Server C", "Server C");
+        assertThat(serverLoadBalancer.getNextServers(4))
+                .extracting(ServerInstance::getName)
+                .containsOnly("Server A", "Server B");
+        assertThatThrownBy(() -> serverLoadBalancer.getNextServer("unknown"))
+                .isInstanceOf(PoolNotFoundException.class);
+
+        // 설정도 서버도 없는 풀 이름으로 새로고침하면 로드 밸런서를 만들지 않고 알 수 없는 풀로 처리합니다.
+        assertThatThrownBy(() -> serverLoadBalancer.refreshPool("paymnets"))
+                .isInstanceOf(PoolNotFoundException.class);
+        assertThatThrownBy(() -> serverLoadBalancer.getNextServer("paymnets"))
+                .isInstanceOf(PoolNotFoundException.class);
+        assertThat(serverLoadBalancer.getPoolStrategies()).extracting(PoolStrategyStatus::getPool).doesNotContain("paymnets");
+    }
+
+    @Test
+    @DisplayName("호출자의 영역에 정상 서버가 충분하면 같은 영역에서만 선택하고, 없으면 다른 영역으로 넘기는지 테스트")
+    void getNextServersPrefersCallerZone() throws InterruptedException {
+        // given: A와 C는 zone-a, B는 zone-b에 위치하며 C는 비정상
+        ServerInstance a = new ServerInstance(1L, "Server A", mockWebServer1.url("/").toString(), true);
+        ServerInstance b = new ServerInstance(2L, "Server B", mockWebServer2.url("/").toString(), true);
+        ServerInstance c = new ServerInstance(3L, "Server C", mockWebServer3.url("/").toString(), true);
+        a.setZone("zone-a");
+        b.setZone("zone-b");
+        c.setZone("zone-a");
+        when(serverMapper.findAllServers()).thenReturn(Arrays.asList(a, b, c));
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(500));
+
+        // when: 전체 풀을 새로고침합니다.
+        serverLoadBalancer.refreshServers();
+
+        // then: zone-b는 정상 비율이 1이므로 같은 영역에서만 선택합니다.
+        assertThat(serverLoadBalancer.getNextServers("default", 4, "zone-b"))
+                .extracting(ServerInstance::getName)
+                .containsOnly("Server B");
+        // zone-a는 정상 비율(0.5)이 임계값(0.7)보다 낮으므로 일부 요청이 다른 영역으로 넘어갑니다.
+        Set<String> picked = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            serverLoadBalancer.getNextServer("default", "zone-a").map(ServerInstance::getName).ifPresent(picked::add);
+        }
+        assertThat(picked).containsExactlyInAnyOrder("Server A", "Server B");
+        // 알 수 없는 영역은 풀 전체에서 선택합니다.
+        assertThat(serverLoadBalancer.getNextServers("default", 4, "zone-x"))
+                .extracting(ServerInstance::getName)
+                .containsOnly("Server A", "Server B");
+    }
+
+    @Test
+    @DisplayName("풀의 선택 전략을 실행 중에 바꾸고 되돌릴 수 있으며, 잘못된 전략이나 풀은 거부하는지 테스트")
+    void switchStrategyChangesPoolSelection() throws InterruptedException {
+        // given: 세 서버 모두 정상
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        serverLoadBalancer.refreshServers();
+        List.of(1L, 2L, 3L).forEach(slowStartRegistry::remove); // 슬로우 스타트의 확률적 건너뛰기 없이 전략의 선택만 확인합니다.
+
+        try {
+            // when: 기본 풀의 전략을 last-item으로 바꿉니다.
+            PoolStrategyStatus status = serverLoadBalancer.switchStrategy("default", "last-item");
+
+            // then: 이후 선택은 새 전략을 따르고, 설정된 전략은 그대로 보고됩니다.
+            assertThat(status.getStrategy()).isEqualTo("last-item");
+            assertThat(status.getConfiguredStrategy()).isEqualTo("round-robin");
+            assertThat(status.getAvailableStrategies()).contains("round-robin", "last-item");
+            assertThat(serverLoadBalancer.getNextServers(3))
+                    .extracting(ServerInstance::getName)
+                    .containsExactly("Server C", "Server C", "Server C");
+            assertThat(serverLoadBalancer.getPoolStrategies())
+                    .anyMatch(s -> s.getPool().equals("default") && s.getStrategy().equals("last-item"));
+
+            // 지원하지 않는 전략이나 없는 풀은 거부하고, 현재 전략을 바꾸지 않습니다.
+            assertThatThrownBy(() -> serverLoadBalancer.switchStrategy("default", "unknown"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> serverLoadBalancer.switchStrategy("unknown", "round-robin"))
+                    .isInstanceOf(PoolNotFoundException.class);
+            assertThat(serverLoadBalancer.strategyOf("default")).isEqualTo("last-item");
+        } finally {
+            // 설정된 전략으로 되돌립니다.
+            PoolStrategyStatus reset = serverLoadBalancer.switchStrategy("default", null);
+            assertThat(reset.getStrategy()).isEqualTo("round-robin");
+        }
+        assertThat(serverLoadBalancer.getNextServers(3))
+                .extracting(ServerInstance::getName)
+                .containsExactlyInAnyOrder("Server A", "Server B", "Server C");
+    }
+
+    @Test
+    @DisplayName("다른 풀로 옮겨진 서버는 이전 풀을 먼저 적용해도 제거했다가 새 서버로 다시 추가하지 않는지 테스트")
+    void serverMovedToAnotherPoolKeepsItsState() throws InterruptedException {
+        ServerInstance serverA = new ServerInstance(1L, "Server A", mockWebServer1.url("/").toString(), true);
+        ServerInstance serverC = new ServerInstance(3L, "Server C", mockWebServer3.url("/").toString(), true);
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        serverLoadBalancer.refreshServers();
+        List.of(1L, 2L, 3L).forEach(slowStartRegistry::remove);
+
+        // when: Server B가 payments 풀로 옮겨지고, 기본 풀이 먼저 적용되도록 B의 헬스 체크 응답이 늦습니다.
+        when(serverMapper.findAllServers()).thenReturn(List.of(serverA,
+                new ServerInstance(2L, "Server B", mockWebServer2.url("/").toString(), true, "payments"), serverC));
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        long registryVersion = serverRegistryVersion.current();
+        serverLoadBalancer.refreshServers();
+
+        // then: 정보가 바뀐 것으로 한 번만 기록되고, 새 서버로 보고 슬로우 스타트를 시작하지 않습니다.
+        assertThat(serverRegistryVersion.current()).isEqualTo(registryVersion + 1);
+        assertThat(slowStartRegistry.weightOf(2L)).isEqualTo(1.0);
+        assertThat(serverLoadBalancer.getNextServers("payments", 2)).extracting(ServerInstance::getName)
+                .containsExactly("Server B", "Server B");
+
+        // 풀 하나만 새로고침해도, 그 풀에서 옮겨 간 서버는 새 풀로 옮기고 제거하지 않습니다.
+        when(serverMapper.findServersByPool(ServerInstance.DEFAULT_POOL)).thenReturn(List.of(serverA));
+        when(serverMapper.findById(3L)).thenReturn(Optional.of(
+                new ServerInstance(3L, "Server C", mockWebServer3.url("/").toString(), true, "payments")));
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        registryVersion = serverRegistryVersion.current();
+        serverLoadBalancer.refreshPool(ServerInstance.DEFAULT_POOL);
+
+        assertThat(serverRegistryVersion.current()).isEqualTo(registryVersion + 1);
+        assertThat(slowStartRegistry.weightOf(3L)).isEqualTo(1.0);
+        assertThat(serverLoadBalancer.getNextServers("payments", 4)).extracting(ServerInstance::getName)
+                .containsOnly("Server B", "Server C");
+        assertThat(serverLoadBalancer.getNextServers(2)).extracting(ServerInstance::getName)
+                .containsOnly("Server A");
+    }
+
+    @Test
+    @DisplayName("새로고침이 진행 중이면 주기적인 새로고침은 헬스 체크를 다시 보내지 않고 건너뛰는지 테스트")
+    void scheduledRefreshSkipsWhileSweepInFlight() throws InterruptedException {
+        // given: Server A의 헬스 체크 응답이 늦어 기동 시 재검증 같은 새로고침이 진행 중입니다.
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200).setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        Thread sweep = Thread.ofVirtual().start(serverLoadBalancer::refreshServers);
+        assertThat(mockWebServer1.takeRequest(5, TimeUnit.SECONDS)).isNotNull();
+
+        // when: 그 사이에 주기적인 새로고침이 실행됩니다.
+        serverLoadBalancer.scheduledRefresh();
+        sweep.join();
+
+        // then: 서버마다 헬스 체크는 한 번만 보냈습니다.
+        assertThat(mockWebServer1.getRequestCount()).isEqualTo(1);
+        assertThat(mockWebServer2.getRequestCount()).isEqualTo(1);
+        assertThat(mockWebServer3.getRequestCount()).isEqualTo(1);
+        assertThat(serverLoadBalancer.getServerHealthSummaries()).extracting(ServerHealthSummary::isHealthy)
+                .containsExactly(true, true, true);
+    }
+
+    @Test
+    @DisplayName("headroom 전략은 보고된 부하가 낮은 서버를 더 자주 고르고, 헬스 상태에 부하 보고를 포함하는지 테스트")
+    void headroomStrategyFavoursReportedHeadroom() throws InterruptedException {
+        // given: 세 서버 모두 정상
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        serverLoadBalancer.refreshServers();
+        List.of(1L, 2L, 3L).forEach(slowStartRegistry::remove);
+
+        // when: Server A는 여유, Server B는 포화를 보고하고 Server C는 보고하지 않습니다 (중립값 0.5).
+        serverLoadBalancer.recordLoad(new LoadReport(1L, 0.0, 0, 0));
+        serverLoadBalancer.recordLoad(new LoadReport(2L, 1.0, 20, 10));
+        serverLoadBalancer.switchStrategy("default", HeadroomWeightedStrategy.NAME);
+
+        try {
+            // then: 결과를 바로 보고하면 처리 중인 요청이 쌓이지 않으므로 가중치 1.0 : 0.02(최소 가중치) : 0.5 에 가깝게 선택합니다.
+            Map<String, Integer> counts = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                ServerInstance server = serverLoadBalancer.getNextServer().orElseThrow();
+                serverLoadBalancer.reportOutcome(new RequestOutcome(server.getId(), true));
+                counts.merge(server.getName(), 1, Integer::sum);
+            }
+            assertThat(counts.getOrDefault("Server A", 0)).isGreaterThan(550);
+            assertThat(counts.getOrDefault("Server B", 0)).isLessThan(50);
+            assertThat(counts.getOrDefault("Server C", 0)).isBetween(250, 420);
+        } finally {
+            serverLoadBalancer.switchStrategy("default", null);
+        }
+
+        List<ServerHealthStatus> statuses = serverLoadBalancer.getAllServerHealthStatuses();
+        ServerHealthStatus b = statuses.stream().filter(s -> s.getServerInstance().getId() == 2L).findFirst().orElseThrow();
+        assertThat(b.getLoadCpuUtilization()).isEqualTo(1.0);
+        assertThat(b.getLoadQueueDepth()).isEqualTo(20);
+        assertThat(b.getLoadInFlight()).isEqualTo(10);
+        assertThat(b.getLoadReportedAt()).isPositive();
+        ServerHealthStatus c = statuses.stream().filter(s -> s.getServerInstance().getId() == 3L).findFirst().orElseThrow();
+        assertThat(c.getLoadCpuUtilization()).isNull();
+        assertThat(c.getLoadReportedAt()).isZero();
+        assertThat(c.getHeadroom()).isEqualTo(0.5);
+
+        // 추적 중이 아닌 서버의 보고는 거부합니다.
+        assertThatThrownBy(() -> serverLoadBalancer.recordLoad(new LoadReport(99L, 0.5, null, null)))
+                .isInstanceOf(ServerNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("부하 보고는 전체 헬스 상태 버전만 바꾸고 요약 버전은 바꾸지 않으며, 시간만 지나면 전체 버전도 그대로인지 테스트")
+    void healthVersionsAdvanceOnlyOnChanges() throws InterruptedException {
+        // given: 부하를 보고한 정상 서버와 슬로우 스타트 중인 서버
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        serverLoadBalancer.refreshServers();
+        List.of(1L, 2L).forEach(slowStartRegistry::remove);
+        serverLoadBalancer.recordLoad(new LoadReport(1L, 0.5, 2, 1));
+
+        // when/then: 감쇠하는 여유 용량과 진행 중인 슬로우 스타트 가중치는 시간이 지나도 버전을 바꾸지 않습니다.
+        long healthVersion = serverLoadBalancer.healthVersion();
+        String detailVersion = serverLoadBalancer.healthDetailVersion();
+        Thread.sleep(20);
+        assertThat(serverLoadBalancer.healthDetailVersion()).isEqualTo(detailVersion);
+
+        // 부하 보고는 전체 버전만 바꿉니다.
+        serverLoadBalancer.recordLoad(new LoadReport(1L, 0.9, 10, 5));
+        assertThat(serverLoadBalancer.healthVersion()).isEqualTo(healthVersion);
+        assertThat(serverLoadBalancer.healthDetailVersion()).isNotEqualTo(detailVersion);
+
+        // 서킷 브레이커 상태 전환도 전체 버전만 바꿉니다.
+        try {
+            detailVersion = serverLoadBalancer.healthDetailVersion();
+            for (int i = 0; i < 5; i++) {
+                circuitBreakerRegistry.record(2L, false);
+            }
+            assertThat(circuitBreakerRegistry.stateOf(2L)).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThat(serverLoadBalancer.healthVersion()).isEqualTo(healthVersion);
+            assertThat(serverLoadBalancer.healthDetailVersion()).isNotEqualTo(detailVersion);
+        } finally {
+            circuitBreakerRegistry.remove(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("maxRps를 초과한 서버는 건너뛰고 다음 서버를 선택하며, 건너뛸 때 서킷 브레이커의 시험 요청 허용을 반납하는지 테스트")
+    void rateLimitedServerFallsThroughAndReleasesTrialPermit() throws InterruptedException {
+        // given: Server A만 초당 1개로 제한되고 세 서버 모두 정상
+        ServerInstance a = new ServerInstance(1L, "Server A", mockWebServer1.url("/").toString(), true, ServerInstance.DEFAULT_POOL, 1);
+        ServerInstance b = new ServerInstance(2L, "Server B", mockWebServer2.url("/").toString(), true);
+        ServerInstance c = new ServerInstance(3L, "Server C", mockWebServer3.url("/").toString(), true);
+        when(serverMapper.findAllServers()).thenReturn(Arrays.asList(a, b, c));
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        serverLoadBalancer.refreshServers();
+        List.of(1L, 2L, 3L).forEach(slowStartRegistry::remove);
+
+        try {
+            // when/then: 토큰을 다 쓴 Server A는 건너뛰고, 선택은 실패하지 않고 다른 서버로 넘어갑니다.
+            List<ServerInstance> picked = serverLoadBalancer.getNextServers(6);
+            assertThat(picked).hasSize(6);
+            assertThat(picked).filteredOn(server -> server.getId() == 1L).hasSize(1);
+
+            // Server A의 서킷을 열고, OPEN 유지 시간과 토큰 재충전을 기다립니다.
+            for (int i = 0; i < 5; i++) {
+                circuitBreakerRegistry.record(1L, false);
+            }
+            Thread.sleep(1100);
+
+            // HALF_OPEN에서 첫 선택은 시험 요청 허용과 토큰을 모두 얻고, 이후 선택은 토큰이 없어 건너뜁니다.
+            // 건너뛴 선택이 허용을 반납하지 않으면 시험 요청 허용(3개)을 모두 써 버려 토큰이 다시 채워져도 선택되지 않습니다.
+            assertThat(serverLoadBalancer.getNextServers(9)).filteredOn(server -> server.getId() == 1L).hasSize(1);
+            assertThat(circuitBreakerRegistry.stateOf(1L)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            Thread.sleep(1100);
+            assertThat(serverLoadBalancer.getNextServers(3)).extracting(ServerInstance::getId).contains(1L);
+            assertThat(serverRateLimiter.getStats().getServers())
+                    .anyMatch(status -> status.getServerId() == 1L && status.getSkippedPicks() > 0);
+        } finally {
+            circuitBreakerRegistry.remove(1L);
+            serverRateLimiter.remove(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 영역에서 배치를 채우지 못하면 고른 서버는 유지하고 모자란 수만 풀 전체에서 채워, 토큰과 시험 요청 허용을 버리지 않는지 테스트")
+    void partialZoneBatchKeepsLocalPicks() throws InterruptedException {
+        // given: zone-a에는 초당 2개로 제한된 Server A만 있고, B와 C는 zone-b에 있습니다.
+        ServerInstance a = new ServerInstance(1L, "Server A", mockWebServer1.url("/").toString(), true, ServerInstance.DEFAULT_POOL, 2);
+        ServerInstance b = new ServerInstance(2L, "Server B", mockWebServer2.url("/").toString(), true);
+        ServerInstance c = new ServerInstance(3L, "Server C", mockWebServer3.url("/").toString(), true);
+        a.setZone("zone-a");
+        b.setZone("zone-b");
+        c.setZone("zone-b");
+        when(serverMapper.findAllServers()).thenReturn(Arrays.asList(a, b, c));
+        mockWebServer1.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer2.enqueue(new MockResponse().setResponseCode(200));
+        mockWebServer3.enqueue(new MockResponse().setResponseCode(200));
+        serverLoadBalancer.refreshServers();
+        List.of(1L, 2L, 3L).forEach(slowStartRegistry::remove);
+
+        try {
+            // Server A의 서킷을 열고, HALF_OPEN 전환과 토큰 재충전을 기다립니다.
+            for (int i = 0; i < 5; i++) {
+                circuitBreakerRegistry.record(1L, false);
+            }
+            Thread.sleep(1100);
+            long grantedBefore = serverRateLimiter.getStats().getGrantedPicks();
+
+            // when: zone-a에서 4개를 요청하면 Server A는 토큰 2개만큼만 고를 수 있습니다.
+            List<ServerInstance> picked = serverLoadBalancer.getNextServers("default", 4, "zone-a");
+
+            // then: 같은 영역에서 고른 A 두 개를 유지하고 나머지만 다른 영역에서 채우며, A의 토큰은 돌려준 선택에만 씁니다.
+            assertThat(picked).hasSize(4);
+            assertThat(picked).filteredOn(server -> server.getId() == 1L).hasSize(2);
+            assertThat(serverRateLimiter.getStats().getGrantedPicks() - grantedBefore).isEqualTo(2);
+
+            // 돌려준 두 시험 요청과 남은 시험 요청 하나가 성공하면 서킷이 닫힙니다. 버려진 선택이 허용을 붙잡고 있으면 HALF_OPEN에 머뭅니다.
+            picked.forEach(server -> serverLoadBalancer.reportOutcome(new RequestOutcome(server.getId(), true)));
+            assertThat(circuitBreakerRegistry.stateOf(1L)).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+            Thread.sleep(1100);
+            ServerInstance trial = serverLoadBalancer.getNextServer("default", "zone-a").orElseThrow();
+            assertThat(trial.getId()).isEqualTo(1L);
+            serverLoadBalancer.reportOutcome(new RequestOutcome(1L, true));
+            assertThat(circuitBreakerRegistry.stateOf(1L)).isEqualTo(CircuitBreaker.State.CLOSED);
+        } finally {
+            circuitBreakerRegistry.remove(1L);
+            serverRateLimiter.remove(1L);
+        }
+    }
+
+    @TestConfiguration
+    static class StrategyTestConfig {
+
+        // 선택 가능한 마지막 서버를 고르는 테스트용 전략
+        @Bean
+        LoadBalancingStrategyProvider lastItemStrategyProvider() {
+            return new LoadBalancingStrategyProvider() {
+                @Override
+                public String name() {
+                    return "last-item";
+                }
+
+                @Override
+                public LoadBalancingStrategy<ServerInstance> create() {
+                    return new LoadBalancingStrategy<>() {
+                        @Override
+                        public String name() {
+                            return "last-item";
+                        }
+
+                        @Override
+                        public Optional<ServerInstance> pick(List<ServerInstance> snapshot, Predicate<ServerInstance> eligible) {
+                            for (int i = snapshot.size() - 1; i >= 0; i--) {
+                                if (eligible.test(snapshot.get(i))) {
+                                    return Optional.of(snapshot.get(i));
+                                }
+                            }
+                            return Optional.empty();
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
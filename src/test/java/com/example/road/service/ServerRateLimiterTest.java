@@ -0,0 +1,104 @@
+package com.example.road.service;
+
+import com.example.road.data.RateLimitStats;
+import com.example.road.data.ServerInstance;
+import com.example.road.data.ServerRateLimitStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ServerRateLimiterTest {
+
+    private ClusterCoordinator clusterCoordinator;
+    private ServerRateLimiter serverRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        clusterCoordinator = mock(ClusterCoordinator.class);
+        when(clusterCoordinator.getLiveNodeCount()).thenReturn(1);
+        serverRateLimiter = new ServerRateLimiter(clusterCoordinator);
+    }
+
+    @Test
+    @DisplayName("최대 초당 요청 수가 없는 서버는 항상 선택 가능하고 버킷을 만들지 않는지 테스트")
+    void unlimitedServerIsAlwaysSelectable() {
+        ServerInstance server = new ServerInstance(1L, "Server A", "http://a", true);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(serverRateLimiter.tryAcquire(server)).isTrue();
+        }
+        assertThat(serverRateLimiter.getStats().getServers()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 초당 요청 수가 바뀌면 버킷을 새 한도로 다시 만드는지 테스트")
+    void maxRpsChangeRebuildsBucket() {
+        ServerInstance server = new ServerInstance(1L, "Server A", "http://a", true, "default", 2);
+        assertThat(serverRateLimiter.tryAcquire(server)).isTrue();
+        assertThat(serverRateLimiter.tryAcquire(server)).isTrue();
+        assertThat(serverRateLimiter.tryAcquire(server)).isFalse();
+
+        // 한도를 올리면 가득 찬 새 버킷으로 바로 선택할 수 있습니다.
+        server.setMaxRps(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(serverRateLimiter.tryAcquire(server)).isTrue();
+        }
+        assertThat(serverRateLimiter.tryAcquire(server)).isFalse();
+        assertThat(serverRateLimiter.getStats().getServers())
+                .extracting(ServerRateLimitStatus::getServerId, ServerRateLimitStatus::getMaxRps, ServerRateLimitStatus::getNodeMaxRps)
+                .containsExactly(tuple(1L, 5, 5));
+    }
+
+    @Test
+    @DisplayName("클러스터 모드에서는 최대 초당 요청 수를 살아 있는 노드 수로 나누어 적용하는지 테스트")
+    void capIsDividedByLiveNodeCount() {
+        ServerInstance server = new ServerInstance(1L, "Server A", "http://a", true, "default", 5);
+        when(clusterCoordinator.getLiveNodeCount()).thenReturn(2);
+
+        // 5 / 2를 올림한 3개만 허용합니다.
+        for (int i = 0; i < 3; i++) {
+            assertThat(serverRateLimiter.tryAcquire(server)).isTrue();
+        }
+        assertThat(serverRateLimiter.tryAcquire(server)).isFalse();
+        assertThat(serverRateLimiter.getStats().getServers())
+                .extracting(ServerRateLimitStatus::getMaxRps, ServerRateLimitStatus::getNodeMaxRps)
+                .containsExactly(tuple(5, 3));
+
+        // 피어가 빠지면 다음 선택에서 이 노드가 전체 한도를 사용합니다.
+        when(clusterCoordinator.getLiveNodeCount()).thenReturn(1);
+        for (int i = 0; i < 5; i++) {
+            assertThat(serverRateLimiter.tryAcquire(server)).isTrue();
+        }
+        assertThat(serverRateLimiter.tryAcquire(server)).isFalse();
+    }
+
+    @Test
+    @DisplayName("허용/건너뛴 선택 수와 비율, 서버별 건너뛴 선택 수를 집계하고 삭제된 서버는 제외하는지 테스트")
+    void statsCountGrantedAndSkippedPicks() {
+        ServerInstance limited = new ServerInstance(1L, "Server A", "http://a", true, "default", 1);
+        ServerInstance other = new ServerInstance(2L, "Server B", "http://b", true, "default", 3);
+
+        serverRateLimiter.tryAcquire(limited); // 허용
+        serverRateLimiter.tryAcquire(limited); // 건너뜀
+        serverRateLimiter.tryAcquire(limited); // 건너뜀
+        serverRateLimiter.tryAcquire(other); // 허용
+
+        RateLimitStats stats = serverRateLimiter.getStats();
+        assertThat(stats.getGrantedPicks()).isEqualTo(2);
+        assertThat(stats.getSkippedPicks()).isEqualTo(2);
+        assertThat(stats.getSkipRatio()).isEqualTo(0.5);
+        assertThat(stats.getServers())
+                .extracting(ServerRateLimitStatus::getServerId, ServerRateLimitStatus::getSkippedPicks)
+                .containsExactly(tuple(1L, 2L), tuple(2L, 0L));
+
+        serverRateLimiter.remove(1L);
+        assertThat(serverRateLimiter.getStats().getServers())
+                .extracting(ServerRateLimitStatus::getServerId)
+                .containsExactly(2L);
+    }
+}
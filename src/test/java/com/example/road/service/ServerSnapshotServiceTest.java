@@ -0,0 +1,78 @@
+package com.example.road.service;
+
+import com.example.road.data.ServerInstance;
+import com.example.road.data.ServerSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerSnapshotServiceTest {
+
+    private ServerSnapshotService serverSnapshotService;
+
+    private final ServerInstance serverA = new ServerInstance(1L, "Server A", "http://localhost:9001", true);
+    private final ServerInstance serverB = new ServerInstance(2L, "Server B", "http://localhost:9002", true);
+
+    @BeforeEach
+    void setUp() {
+        serverSnapshotService = new ServerSnapshotService();
+    }
+
+    @Test
+    @DisplayName("멤버십이 바뀔 때만 스냅샷 버전이 증가하는지 테스트")
+    void publishBumpsVersionOnlyOnMembershipChange() {
+        assertThat(serverSnapshotService.publish(List.of(serverA, serverB))).isTrue();
+        assertThat(serverSnapshotService.getSnapshot().getVersion()).isEqualTo(1L);
+
+        // 같은 멤버십을 다시 발행하면 버전이 유지됩니다.
+        assertThat(serverSnapshotService.publish(List.of(serverA, serverB))).isFalse();
+        assertThat(serverSnapshotService.getSnapshot().getVersion()).isEqualTo(1L);
+
+        // 서버 B가 빠지면 새 버전이 발행됩니다.
+        assertThat(serverSnapshotService.publish(List.of(serverA))).isTrue();
+        ServerSnapshot snapshot = serverSnapshotService.getSnapshot();
+        assertThat(snapshot.getVersion()).isEqualTo(2L);
+        assertThat(snapshot.getServers()).extracting(ServerInstance::getName).containsExactly("Server A");
+    }
+
+    @Test
+    @DisplayName("롱 폴링이 변경 발생 시 새 스냅샷을 반환하고, 변경이 없으면 빈 결과를 반환하는지 테스트")
+    void awaitChangeCompletesOnPublishOrTimesOut() {
+        serverSnapshotService.publish(List.of(serverA));
+
+        // 이미 더 새로운 버전이 있으면 즉시 반환합니다.
+        assertThat(serverSnapshotService.awaitChange(serverSnapshotService.getEpoch(), 0L, Duration.ofMillis(10)).block()).isNotNull();
+
+        // 변경이 없으면 타임아웃 후 빈 결과를 반환합니다.
+        assertThat(serverSnapshotService.awaitChange(serverSnapshotService.getEpoch(), 1L, Duration.ofMillis(50)).block()).isNull();
+
+        // 대기 중에 변경이 발생하면 새 스냅샷을 받습니다.
+        CompletableFuture<ServerSnapshot> pending = serverSnapshotService.awaitChange(serverSnapshotService.getEpoch(), 1L, Duration.ofSeconds(5)).toFuture();
+        serverSnapshotService.publish(List.of(serverA, serverB));
+        assertThat(pending.join().getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("재시작 전의 에포크나 현재보다 큰 버전으로 롱 폴링하면 기다리지 않고 전체 스냅샷을 반환하는지 테스트")
+    void awaitChangeReturnsSnapshotForOtherEpoch() {
+        serverSnapshotService.publish(List.of(serverA));
+
+        // 재시작 전 프로세스에서 받은 버전 5는 에포크가 달라 바로 현재 스냅샷(버전 1)을 받습니다.
+        ServerSnapshot resynced = serverSnapshotService.awaitChange("previous-epoch", 5L, Duration.ofSeconds(5)).block(Duration.ofSeconds(1));
+        assertThat(resynced).isNotNull();
+        assertThat(resynced.getEpoch()).isEqualTo(serverSnapshotService.getEpoch());
+        assertThat(resynced.getVersion()).isEqualTo(1L);
+
+        // 에포크를 보내지 않는 클라이언트도 현재보다 큰 버전이면 바로 현재 스냅샷을 받습니다.
+        assertThat(serverSnapshotService.awaitChange(null, 5L, Duration.ofSeconds(5)).block(Duration.ofSeconds(1))).isNotNull();
+
+        // 에포크가 다른 프로세스마다 새로 만들어집니다.
+        assertThat(new ServerSnapshotService().getEpoch()).isNotEqualTo(serverSnapshotService.getEpoch());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.road.service;
+
+import com.example.road.config.SlowStartProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SlowStartRegistryTest {
+
+    private static final long WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(10_000);
+
+    @Test
+    @DisplayName("선형 곡선에서 가중치가 최소 가중치부터 1까지 일정하게 증가하고, 기간이 끝나면 1이 되는지 테스트")
+    void linearRamp() {
+        SlowStartRegistry registry = registry(SlowStartProperties.Curve.LINEAR);
+        registry.start(1L);
+        long startedAt = System.nanoTime();
+
+        assertThat(registry.weightOf(1L, startedAt + WINDOW_NANOS / 2)).isCloseTo(0.55, within(0.01));
+        assertThat(registry.weightOf(1L, startedAt + WINDOW_NANOS)).isEqualTo(1.0);
+        // 기간이 끝난 서버는 더 이상 슬로우 스타트 중이 아닙니다.
+        assertThat(registry.weightOf(1L, startedAt)).isEqualTo(1.0);
+        assertThat(registry.weightOf(2L)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("지수 곡선에서 가중치가 초반에는 천천히 증가하는지 테스트")
+    void exponentialRamp() {
+        SlowStartRegistry registry = registry(SlowStartProperties.Curve.EXPONENTIAL);
+        registry.start(1L);
+        long startedAt = System.nanoTime();
+
+        double half = registry.weightOf(1L, startedAt + WINDOW_NANOS / 2);
+        assertThat(half).isCloseTo(Math.sqrt(0.1), within(0.01));
+        assertThat(half).isLessThan(0.55);
+    }
+
+    private SlowStartRegistry registry(SlowStartProperties.Curve curve) {
+        SlowStartProperties properties = new SlowStartProperties();
+        properties.setWindowMs(10_000);
+        properties.setCurve(curve);
+        properties.setMinWeight(0.1);
+        return new SlowStartRegistry(properties);
+    }
+}